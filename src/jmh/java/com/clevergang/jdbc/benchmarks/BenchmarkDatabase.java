@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.benchmarks;
+
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import com.clevergang.jdbc.tests.TestSpringContext;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Embedded HSQL database shared by all benchmarks. It is the database of the JUnit tests (see {@link TestSpringContext}),
+ * filled with {@link #USER_COUNT} users, so that the benchmarks measure the same code paths as the tests.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+
+    /**
+     * Number of rows in the users table.
+     */
+    public static final int USER_COUNT = 1000;
+
+    private AnnotationConfigApplicationContext context;
+    private FluentNamedParameterJdbcTemplate jdbc;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(TestSpringContext.class);
+        jdbc = context.getBean(FluentNamedParameterJdbcTemplate.class);
+        // data.sql inserts the first three users
+        jdbc.update("INSERT INTO users (name, email, birth_date, time_of_death) " +
+                "SELECT 'user' || n, 'user' || n || '@example.com', DATE '1980-01-01', NULL FROM UNNEST(SEQUENCE_ARRAY(4, :count, 1)) AS t(n)")
+                .bind("count", USER_COUNT)
+                .execute();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    public FluentNamedParameterJdbcTemplate getJdbc() {
+        return jdbc;
+    }
+}
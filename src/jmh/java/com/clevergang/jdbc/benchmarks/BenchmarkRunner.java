@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.benchmarks;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Runs the benchmarks and compares their results with the baseline, so that regressions are visible. Compared are the
+ * throughput of each benchmark (lower is worse) and, when the GC profiler is enabled, the number of bytes allocated
+ * per operation (higher is worse). A result is reported as regression if it is worse than the baseline by more than
+ * the tolerance, in which case the runner exits with status 1. Allocations are much more stable than throughput, so
+ * they have their own, tighter tolerance.
+ *
+ * <p>Configured by system properties (the {@code benchmarks} Maven profile passes them through):
+ * <ul>
+ * <li>{@code benchmark.include} - regular expression selecting the benchmarks to run</li>
+ * <li>{@code benchmark.baseline} - properties file with the baseline results</li>
+ * <li>{@code benchmark.tolerance} - allowed relative drop of the throughput, e.g. 0.20</li>
+ * <li>{@code benchmark.allocationTolerance} - allowed relative increase of the allocated bytes per operation, e.g. 0.05</li>
+ * <li>{@code benchmark.updateBaseline} - if true, the results replace the baseline instead of being compared to it</li>
+ * <li>{@code benchmark.gc} - if true, the GC profiler measures the allocations</li>
+ * <li>{@code benchmark.result} - file for the JSON results of JMH</li>
+ * </ul>
+ */
+public final class BenchmarkRunner {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        Path baselineFile = Paths.get(System.getProperty("benchmark.baseline", "src/jmh/baseline.properties"));
+        double tolerance = Double.parseDouble(System.getProperty("benchmark.tolerance", "0.20"));
+        double allocationTolerance = Double.parseDouble(System.getProperty("benchmark.allocationTolerance", "0.05"));
+        boolean gc = Boolean.parseBoolean(System.getProperty("benchmark.gc", "true"));
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(System.getProperty("benchmark.include", BenchmarkRunner.class.getPackage().getName() + ".*"))
+                .jvmArgsAppend("-Dlogback.configurationFile=logback-benchmark.xml")
+                .resultFormat(ResultFormatType.JSON)
+                .result(System.getProperty("benchmark.result", "target/jmh-result.json"));
+        if (gc) {
+            options.addProfiler(GCProfiler.class);
+        }
+        Map<String, Score> scores = collectScores(new Runner(options.build()).run());
+
+        if (Boolean.parseBoolean(System.getProperty("benchmark.updateBaseline", "false"))) {
+            writeBaseline(baselineFile, scores);
+            System.out.println("Baseline " + baselineFile + " updated");
+            return;
+        }
+        if (!Files.exists(baselineFile)) {
+            System.out.println("No baseline " + baselineFile + " to compare with, run with -Dbenchmark.updateBaseline=true to create it");
+            return;
+        }
+        List<String> regressions = compare(readBaseline(baselineFile), scores, tolerance, allocationTolerance);
+        if (!regressions.isEmpty()) {
+            System.out.println();
+            System.out.println("REGRESSIONS against baseline " + baselineFile + ":");
+            regressions.forEach(regression -> System.out.println("  " + regression));
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Score> collectScores(Collection<RunResult> results) {
+        Map<String, Score> scores = new TreeMap<>();
+        for (RunResult result : results) {
+            String name = benchmarkName(result.getParams());
+            Result primary = result.getPrimaryResult();
+            scores.put(name, new Score(primary.getScore(), primary.getScoreUnit(), true));
+            for (Map.Entry<String, Result> secondary : result.getSecondaryResults().entrySet()) {
+                // older JMH versions prefix the profiler metrics with a middle dot
+                String metric = secondary.getKey().startsWith("·") ? secondary.getKey().substring(1) : secondary.getKey();
+                if (metric.equals(ALLOCATION_METRIC)) {
+                    scores.put(name + ":" + metric, new Score(secondary.getValue().getScore(), secondary.getValue().getScoreUnit(), false));
+                }
+            }
+        }
+        return scores;
+    }
+
+    private static String benchmarkName(BenchmarkParams params) {
+        String name = params.getBenchmark().substring(BenchmarkRunner.class.getPackage().getName().length() + 1);
+        if (params.getParamsKeys().isEmpty()) {
+            return name;
+        }
+        List<String> values = new ArrayList<>();
+        for (String key : params.getParamsKeys()) {
+            values.add(key + "=" + params.getParam(key));
+        }
+        return name + "[" + String.join(",", values) + "]";
+    }
+
+    private static List<String> compare(Map<String, Score> baseline, Map<String, Score> scores, double tolerance,
+                                        double allocationTolerance) {
+        List<String> regressions = new ArrayList<>();
+        System.out.println();
+        System.out.println(String.format(Locale.ROOT, "%-60s %15s %15s %9s", "Benchmark", "Baseline", "Current", "Change"));
+        for (Map.Entry<String, Score> entry : scores.entrySet()) {
+            Score current = entry.getValue();
+            Score base = baseline.get(entry.getKey());
+            if (base == null || !base.unit.equals(current.unit)) {
+                System.out.println(String.format(Locale.ROOT, "%-60s %15s %15.1f %9s  %s", entry.getKey(), "-", current.value, "", current.unit));
+                continue;
+            }
+            double change = base.value != 0 ? (current.value - base.value) / base.value : 0;
+            boolean regression = current.higherIsBetter ? change < -tolerance : change > allocationTolerance;
+            System.out.println(String.format(Locale.ROOT, "%-60s %15.1f %15.1f %9s  %s%s", entry.getKey(), base.value,
+                    current.value, percent(change), current.unit, regression ? "  <-- REGRESSION" : ""));
+            if (regression) {
+                regressions.add(entry.getKey() + ": " + percent(change) + " (" + String.format(Locale.ROOT, "%.1f", base.value)
+                        + " -> " + String.format(Locale.ROOT, "%.1f", current.value) + " " + current.unit + ")");
+            }
+        }
+        return regressions;
+    }
+
+    private static String percent(double ratio) {
+        return String.format(Locale.ROOT, "%+.1f%%", ratio * 100);
+    }
+
+    private static Map<String, Score> readBaseline(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        Map<String, Score> baseline = new TreeMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            String[] valueAndUnit = properties.getProperty(name).trim().split("\\s+", 2);
+            baseline.put(name, new Score(Double.parseDouble(valueAndUnit[0]), valueAndUnit.length > 1 ? valueAndUnit[1] : "",
+                    !name.endsWith(":" + ALLOCATION_METRIC)));
+        }
+        return baseline;
+    }
+
+    private static void writeBaseline(Path file, Map<String, Score> scores) throws IOException {
+        // written by hand, Properties.store() would escape the colons and not keep the order
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("# Baseline results of the benchmarks, compared by BenchmarkRunner. Regenerate with:\n");
+            writer.write("#   mvn -P benchmarks -DskipTests -Dbenchmark.updateBaseline=true verify\n");
+            writer.write("# Java " + System.getProperty("java.version") + ", " + System.getProperty("os.name") + " "
+                    + System.getProperty("os.arch") + ", " + Runtime.getRuntime().availableProcessors() + " CPUs\n");
+            for (Map.Entry<String, Score> entry : scores.entrySet()) {
+                writer.write(entry.getKey().replace(":", "\\:").replace("=", "\\=") + " = "
+                        + String.format(Locale.ROOT, "%.1f", entry.getValue().value) + " " + entry.getValue().unit + "\n");
+            }
+        }
+    }
+
+    private static final class Score {
+        private final double value;
+        private final String unit;
+        private final boolean higherIsBetter;
+
+        private Score(double value, String unit, boolean higherIsBetter) {
+            this.value = value;
+            this.unit = unit;
+            this.higherIsBetter = higherIsBetter;
+        }
+    }
+}
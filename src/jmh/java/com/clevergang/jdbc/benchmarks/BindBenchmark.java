@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@code bind(Object)} (parameters read from bean properties) with {@code bind(String, Object)}. The
+ * {@code resolve*} benchmarks measure just the binding - resolving the values of all parameters of the statement the
+ * same way the template does before execution, the {@code fetch*} benchmarks the whole query.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BindBenchmark {
+
+    private static final String USER_ID = "SELECT id FROM users WHERE name = :name AND email = :email";
+    private static final ParsedSql PARSED_USER_ID = NamedParameterUtils.parseSqlStatement(USER_ID);
+
+    private final UserCriteria criteria = new UserCriteria("user500", "user500@example.com");
+
+    @Benchmark
+    public Object[] resolveNamedParameters(BenchmarkDatabase db) {
+        SqlParameterSource parameters = db.getJdbc().query(USER_ID)
+                .bind("name", criteria.getName())
+                .bind("email", criteria.getEmail())
+                .getBoundParameters();
+        return NamedParameterUtils.buildValueArray(PARSED_USER_ID, parameters, null);
+    }
+
+    @Benchmark
+    public Object[] resolveBeanParameters(BenchmarkDatabase db) {
+        SqlParameterSource parameters = db.getJdbc().query(USER_ID)
+                .bind(criteria)
+                .getBoundParameters();
+        return NamedParameterUtils.buildValueArray(PARSED_USER_ID, parameters, null);
+    }
+
+    @Benchmark
+    public Integer fetchWithNamedParameters(BenchmarkDatabase db) {
+        return db.getJdbc().query(USER_ID)
+                .bind("name", criteria.getName())
+                .bind("email", criteria.getEmail())
+                .fetchOne(Integer.class);
+    }
+
+    @Benchmark
+    public Integer fetchWithBeanParameters(BenchmarkDatabase db) {
+        return db.getJdbc().query(USER_ID)
+                .bind(criteria)
+                .fetchOne(Integer.class);
+    }
+
+    /**
+     * Parameter object bound by {@code bind(Object)}.
+     */
+    public static class UserCriteria {
+        private final String name;
+        private final String email;
+
+        UserCriteria(String name, String email) {
+            this.name = name;
+            this.email = email;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.benchmarks;
+
+import com.clevergang.jdbc.tests.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the result mapping terminals of FluentQueryBuilder: {@code fetch(Class)} (BeanPropertyRowMapper for POJOs,
+ * SingleColumnRowMapper for simple types) against {@code fetch(RowMapper)} with a hand written mapper, and the plain
+ * NamedParameterJdbcTemplate as the cost of the fluent layer itself.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FetchBenchmark {
+
+    private static final String USERS = "SELECT id, name, email, birth_date, time_of_death FROM users WHERE id <= :maxId";
+    private static final String NAMES = "SELECT name FROM users WHERE id <= :maxId";
+
+    private static final RowMapper<User> USER_MAPPER = (rs, rowNum) -> {
+        User user = new User();
+        user.setId(rs.getInt("id"));
+        user.setName(rs.getString("name"));
+        user.setEmail(rs.getString("email"));
+        user.setBirthDate(rs.getDate("birth_date").toLocalDate());
+        Timestamp timeOfDeath = rs.getTimestamp("time_of_death");
+        user.setTimeOfDeath(timeOfDeath != null ? timeOfDeath.toLocalDateTime() : null);
+        return user;
+    };
+
+    /**
+     * Number of fetched rows.
+     */
+    @Param("100")
+    public int rows;
+
+    @Benchmark
+    public List<User> fetchClass(BenchmarkDatabase db) {
+        return db.getJdbc().query(USERS)
+                .bind("maxId", rows)
+                .fetch(User.class);
+    }
+
+    @Benchmark
+    public List<User> fetchRowMapper(BenchmarkDatabase db) {
+        return db.getJdbc().query(USERS)
+                .bind("maxId", rows)
+                .fetch(USER_MAPPER);
+    }
+
+    @Benchmark
+    public List<User> plainTemplateRowMapper(BenchmarkDatabase db) {
+        return db.getJdbc().query(USERS, new MapSqlParameterSource("maxId", rows), USER_MAPPER);
+    }
+
+    @Benchmark
+    public List<String> fetchSingleColumnClass(BenchmarkDatabase db) {
+        return db.getJdbc().query(NAMES)
+                .bind("maxId", rows)
+                .fetch(String.class);
+    }
+
+    @Benchmark
+    public List<String> fetchSingleColumnRowMapper(BenchmarkDatabase db) {
+        return db.getJdbc().query(NAMES)
+                .bind("maxId", rows)
+                .fetch((rs, rowNum) -> rs.getString(1));
+    }
+
+    @Benchmark
+    public String fetchOneSingleColumn(BenchmarkDatabase db) {
+        return db.getJdbc().query("SELECT name FROM users WHERE id = :id")
+                .bind("id", 500)
+                .fetchOne(String.class);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@value #STATEMENTS} updates executed one by one through FluentUpdateBuilder with the same updates sent
+ * as one JDBC batch. Scores are per updated row.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UpdateBenchmark {
+
+    static final int STATEMENTS = 100;
+
+    private static final String UPDATE_EMAIL = "UPDATE users SET email = :email WHERE id = :id";
+
+    private String[] emails;
+    private SqlParameterSource[] batch;
+
+    @Setup
+    public void setUp() {
+        emails = new String[STATEMENTS];
+        batch = new SqlParameterSource[STATEMENTS];
+        for (int i = 0; i < STATEMENTS; i++) {
+            emails[i] = "user" + (i + 1) + "@example.org";
+            batch[i] = new MapSqlParameterSource("id", i + 1).addValue("email", emails[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STATEMENTS)
+    public int singleUpdates(BenchmarkDatabase db) {
+        int updated = 0;
+        for (int i = 0; i < STATEMENTS; i++) {
+            updated += db.getJdbc().update(UPDATE_EMAIL)
+                    .bind("id", i + 1)
+                    .bind("email", emails[i])
+                    .execute();
+        }
+        return updated;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STATEMENTS)
+    public int[] batchedUpdates(BenchmarkDatabase db) {
+        return db.getJdbc().batchUpdate(UPDATE_EMAIL, batch);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.loadtest;
+
+import com.clevergang.jdbc.monitoring.LatencyHistogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Results of one concurrency level of the load test. Operations are recorded only between {@link #startMeasuring()}
+ * and {@link #stopMeasuring()}, i.e. not during the warmup.
+ */
+class LoadStep {
+
+    private final int concurrency;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LatencyHistogram connectionWait = new LatencyHistogram();
+    private final LongAdder operations = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final Map<String, LongAdder> errorTypes = new ConcurrentHashMap<>();
+    private volatile boolean measuring;
+    private long startNanos;
+    private long endNanos;
+
+    LoadStep(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    void startMeasuring() {
+        startNanos = System.nanoTime();
+        measuring = true;
+    }
+
+    void stopMeasuring() {
+        measuring = false;
+        endNanos = System.nanoTime();
+    }
+
+    /**
+     * @return true if operations started now should be recorded
+     */
+    boolean isMeasuring() {
+        return measuring;
+    }
+
+    void recordSuccess(long nanos) {
+        operations.increment();
+        latency.recordNanos(nanos);
+    }
+
+    void recordFailure(long nanos, Throwable failure) {
+        operations.increment();
+        errors.increment();
+        latency.recordNanos(nanos);
+        errorTypes.computeIfAbsent(failure.getClass().getSimpleName(), type -> new LongAdder()).increment();
+    }
+
+    int getConcurrency() {
+        return concurrency;
+    }
+
+    LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    LatencyHistogram getConnectionWait() {
+        return connectionWait;
+    }
+
+    long getOperations() {
+        return operations.sum();
+    }
+
+    long getErrors() {
+        return errors.sum();
+    }
+
+    Map<String, Long> getErrorTypes() {
+        Map<String, Long> types = new TreeMap<>();
+        errorTypes.forEach((type, count) -> types.put(type, count.sum()));
+        return types;
+    }
+
+    double getThroughput() {
+        double seconds = (endNanos - startNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+        return seconds > 0 ? getOperations() / seconds : 0;
+    }
+
+    double getErrorRate() {
+        long total = getOperations();
+        return total > 0 ? getErrors() / (double) total : 0;
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.loadtest;
+
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of the fluent builders. Drives a mix of queries and updates against an embedded HSQL database behind
+ * a HikariCP pool from a growing number of threads (platform or virtual), and reports for each concurrency level the
+ * throughput, latency percentiles, time spent waiting for a connection and the error rate. With more threads than
+ * pooled connections the added threads only queue for the connections: throughput stops growing and the latency
+ * grows with the connection wait, until the waits exceed the pool's connection timeout and operations start to fail.
+ *
+ * <p>Configured by system properties (the {@code load-test} Maven profile passes them through):
+ * <ul>
+ * <li>{@code loadtest.concurrency} - comma separated numbers of threads, one step of the test for each</li>
+ * <li>{@code loadtest.poolSize} - number of pooled connections</li>
+ * <li>{@code loadtest.warmup} - seconds of each step which are not measured</li>
+ * <li>{@code loadtest.duration} - measured seconds of each step</li>
+ * <li>{@code loadtest.writeRatio} - ratio of updates among the operations, the rest are queries</li>
+ * <li>{@code loadtest.connectionTimeout} - milliseconds the pool waits for a connection before failing, at least 250</li>
+ * <li>{@code loadtest.virtualThreads} - if true, the load is driven by virtual threads (requires Java 21+)</li>
+ * <li>{@code loadtest.result} - CSV file for the results</li>
+ * </ul>
+ */
+public final class LoadTestRunner {
+
+    private static final int USER_COUNT = 1000;
+    private static final int RANGE_SIZE = 20;
+
+    private static final RowMapper<String> EMAIL_MAPPER = (rs, rowNum) -> rs.getString("email");
+
+    private final int poolSize;
+    private final double writeRatio;
+    private final TimedDataSource dataSource;
+    private final FluentNamedParameterJdbcTemplate jdbc;
+
+    private LoadTestRunner(HikariDataSource pool, double writeRatio) {
+        this.poolSize = pool.getMaximumPoolSize();
+        this.writeRatio = writeRatio;
+        this.dataSource = new TimedDataSource(pool);
+        this.jdbc = new FluentNamedParameterJdbcTemplate(dataSource);
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<Integer> concurrencyLevels = new ArrayList<>();
+        for (String level : System.getProperty("loadtest.concurrency", "10,20,50,100,200").split(",")) {
+            concurrencyLevels.add(Integer.parseInt(level.trim()));
+        }
+        long warmupSeconds = Long.getLong("loadtest.warmup", 2);
+        long durationSeconds = Long.getLong("loadtest.duration", 10);
+        boolean virtualThreads = Boolean.parseBoolean(System.getProperty("loadtest.virtualThreads", "false"));
+        if (virtualThreads && !supportsVirtualThreads()) {
+            throw new IllegalStateException("Virtual threads require Java 21+, running on " + System.getProperty("java.version"));
+        }
+
+        HikariConfig config = new HikariConfig();
+        // MVCC, so that readers are not blocked by the table locks of writers
+        config.setJdbcUrl("jdbc:hsqldb:mem:loadtest;hsqldb.tx=mvcc");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(Integer.getInteger("loadtest.poolSize", 20));
+        config.setMinimumIdle(config.getMaximumPoolSize());
+        config.setConnectionTimeout(Long.getLong("loadtest.connectionTimeout", 1000));
+
+        List<LoadStep> steps = new ArrayList<>();
+        try (HikariDataSource pool = new HikariDataSource(config)) {
+            LoadTestRunner runner = new LoadTestRunner(pool, Double.parseDouble(System.getProperty("loadtest.writeRatio", "0.2")));
+            runner.createDatabase();
+            System.out.println(String.format(Locale.ROOT, "Load test: %d connections, %s threads, %d s warmup + %d s per step, write ratio %s",
+                    runner.poolSize, virtualThreads ? "virtual" : "platform", warmupSeconds, durationSeconds, runner.writeRatio));
+            printHeader();
+            for (int concurrency : concurrencyLevels) {
+                LoadStep step = runner.run(concurrency, virtualThreads, warmupSeconds, durationSeconds);
+                printStep(step);
+                steps.add(step);
+            }
+        }
+        writeCsv(Paths.get(System.getProperty("loadtest.result", "target/load-test-result.csv")), steps);
+    }
+
+    private void createDatabase() {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource("schema.sql"));
+        DatabasePopulatorUtils.execute(populator, dataSource);
+        jdbc.update("INSERT INTO users (name, email, birth_date) " +
+                "SELECT 'user' || n, 'user' || n || '@example.com', DATE '1980-01-01' FROM UNNEST(SEQUENCE_ARRAY(1, :count, 1)) AS t(n)")
+                .bind("count", USER_COUNT)
+                .execute();
+    }
+
+    private LoadStep run(int concurrency, boolean virtualThreads, long warmupSeconds, long durationSeconds) throws Exception {
+        LoadStep step = new LoadStep(concurrency);
+        Running running = new Running();
+        List<Thread> workers = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Runnable worker = () -> {
+                while (running.value) {
+                    execute(step);
+                }
+            };
+            workers.add(virtualThreads ? newVirtualThread(worker) : new Thread(worker, "load-test-" + i));
+        }
+        workers.forEach(Thread::start);
+
+        TimeUnit.SECONDS.sleep(warmupSeconds);
+        dataSource.recordTo(step.getConnectionWait());
+        step.startMeasuring();
+        TimeUnit.SECONDS.sleep(durationSeconds);
+        step.stopMeasuring();
+        dataSource.recordTo(null);
+
+        running.value = false;
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return step;
+    }
+
+    private void execute(LoadStep step) {
+        boolean measured = step.isMeasuring();
+        long start = System.nanoTime();
+        try {
+            executeOperation(ThreadLocalRandom.current());
+            if (measured) {
+                step.recordSuccess(System.nanoTime() - start);
+            }
+        } catch (RuntimeException e) {
+            if (measured) {
+                step.recordFailure(System.nanoTime() - start, e);
+            }
+        }
+    }
+
+    private void executeOperation(ThreadLocalRandom random) {
+        int id = random.nextInt(USER_COUNT) + 1;
+        double operation = random.nextDouble();
+        if (operation < writeRatio) {
+            jdbc.update("UPDATE users SET email = :email WHERE id = :id")
+                    .bind("email", "user" + id + "@example.org")
+                    .bind("id", id)
+                    .execute();
+        } else if (operation < writeRatio + (1 - writeRatio) / 2) {
+            jdbc.query("SELECT name FROM users WHERE id = :id")
+                    .bind("id", id)
+                    .fetchOne(String.class);
+        } else {
+            jdbc.query("SELECT id, email FROM users WHERE id BETWEEN :from AND :to ORDER BY id")
+                    .bind("from", id)
+                    .bind("to", id + RANGE_SIZE - 1)
+                    .fetch(EMAIL_MAPPER);
+        }
+    }
+
+    private static void printHeader() {
+        System.out.println(String.format(Locale.ROOT, "%8s %10s %9s %9s %9s %9s %10s %10s %10s %8s  %s",
+                "threads", "ops/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "wait p50", "wait p99", "wait max", "errors", ""));
+    }
+
+    private static void printStep(LoadStep step) {
+        System.out.println(String.format(Locale.ROOT, "%8d %10.0f %9.2f %9.2f %9.2f %9.2f %10.2f %10.2f %10.2f %7.2f%%  %s",
+                step.getConcurrency(), step.getThroughput(),
+                millis(step.getLatency().getPercentileMicros(50)), millis(step.getLatency().getPercentileMicros(95)),
+                millis(step.getLatency().getPercentileMicros(99)), millis(step.getLatency().getMaxMicros()),
+                millis(step.getConnectionWait().getPercentileMicros(50)), millis(step.getConnectionWait().getPercentileMicros(99)),
+                millis(step.getConnectionWait().getMaxMicros()), step.getErrorRate() * 100,
+                step.getErrors() > 0 ? step.getErrorTypes() : ""));
+    }
+
+    private static void writeCsv(Path file, List<LoadStep> steps) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            writer.println("threads,operations,ops_per_second,latency_p50_ms,latency_p95_ms,latency_p99_ms,latency_max_ms," +
+                    "connection_wait_p50_ms,connection_wait_p99_ms,connection_wait_max_ms,errors,error_rate");
+            for (LoadStep step : steps) {
+                writer.println(String.format(Locale.ROOT, "%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%d,%.5f",
+                        step.getConcurrency(), step.getOperations(), step.getThroughput(),
+                        millis(step.getLatency().getPercentileMicros(50)), millis(step.getLatency().getPercentileMicros(95)),
+                        millis(step.getLatency().getPercentileMicros(99)), millis(step.getLatency().getMaxMicros()),
+                        millis(step.getConnectionWait().getPercentileMicros(50)), millis(step.getConnectionWait().getPercentileMicros(99)),
+                        millis(step.getConnectionWait().getMaxMicros()), step.getErrors(), step.getErrorRate()));
+            }
+        }
+        System.out.println("Results written to " + file);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static boolean supportsVirtualThreads() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static Thread newVirtualThread(Runnable task) throws ReflectiveOperationException {
+        // Thread.ofVirtual().unstarted(task), called reflectively - the project is compiled for Java 8
+        Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        Method unstarted = Class.forName("java.lang.Thread$Builder").getMethod("unstarted", Runnable.class);
+        return (Thread) unstarted.invoke(builder, task);
+    }
+
+    private static final class Running {
+        private volatile boolean value = true;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.loadtest;
+
+import com.clevergang.jdbc.monitoring.LatencyHistogram;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * DataSource measuring how long the callers wait for a connection from the pool.
+ */
+class TimedDataSource extends DelegatingDataSource {
+
+    private volatile LatencyHistogram connectionWait;
+
+    TimedDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    /**
+     * @param connectionWait histogram to record the waits to, null to stop recording
+     */
+    void recordTo(LatencyHistogram connectionWait) {
+        this.connectionWait = connectionWait;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        LatencyHistogram histogram = connectionWait;
+        if (histogram == null) {
+            return super.getConnection();
+        }
+        long start = System.nanoTime();
+        try {
+            return super.getConnection();
+        } finally {
+            histogram.recordNanos(System.nanoTime() - start);
+        }
+    }
+}
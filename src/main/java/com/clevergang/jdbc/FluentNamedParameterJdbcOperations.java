@@ -16,6 +16,9 @@
 
 package com.clevergang.jdbc;
 
+import com.clevergang.jdbc.fluent.FluentAsyncExecutor;
+import com.clevergang.jdbc.fluent.FluentParallelQueries;
+import com.clevergang.jdbc.fluent.FluentQueryBatch;
 import com.clevergang.jdbc.fluent.FluentQueryBuilder;
 import com.clevergang.jdbc.fluent.FluentUpdateBuilder;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
@@ -65,4 +68,42 @@ public interface FluentNamedParameterJdbcOperations extends NamedParameterJdbcOp
      */
     FluentUpdateBuilder update(String sql);
 
+    /**
+     * Creates a container for several independent queries, which are executed concurrently (each of them on its own
+     * connection) once {@link FluentParallelQueries#execute()} is called. Example usage:
+     * <pre>{@code
+     * FluentParallelQueries parallel = jdbc.parallel();
+     * ParallelQuery<List<User>> users = parallel.fetch(jdbc.query("SELECT * FROM users"), User.class);
+     * ParallelQuery<Integer> count = parallel.fetchOne(jdbc.query("SELECT count(*) FROM orders"), Integer.class);
+     * FluentParallelResults results = parallel.execute();
+     * }</pre>
+     *
+     * The default implementation executes the queries by the {@link FluentAsyncExecutor#getSharedDefault() shared
+     * default executor}.
+     *
+     * @return Returns container for queries to be executed concurrently
+     * @see FluentParallelQueries
+     */
+    default FluentParallelQueries parallel() {
+        return new FluentParallelQueries(FluentAsyncExecutor.getSharedDefault());
+    }
+
+    /**
+     * Creates a container for several queries, which are sent to the database in a single statement (one network
+     * round-trip) once {@link FluentQueryBatch#execute()} is called. Drivers not supporting multiple result sets
+     * execute the queries one by one. Example usage:
+     * <pre>{@code
+     * FluentQueryBatch batch = jdbc.queryBatch();
+     * BatchedQuery<User> user = batch.fetchOne(jdbc.query("SELECT * FROM users WHERE id = :id").bind("id", 1), User.class);
+     * BatchedQuery<List<Country>> countries = batch.fetch(jdbc.query("SELECT * FROM countries"), Country.class);
+     * FluentQueryBatchResults results = batch.execute();
+     * }</pre>
+     *
+     * @return Returns container for queries to be executed in one round-trip
+     * @see FluentQueryBatch
+     */
+    default FluentQueryBatch queryBatch() {
+        return new FluentQueryBatch(this);
+    }
+
 }
@@ -16,12 +16,30 @@
 
 package com.clevergang.jdbc;
 
+import com.clevergang.jdbc.fluent.AdaptiveFetchSize;
+import com.clevergang.jdbc.fluent.ConcurrencyLimiter;
+import com.clevergang.jdbc.fluent.ExecutionListener;
+import com.clevergang.jdbc.fluent.ExecutionOptions;
+import com.clevergang.jdbc.fluent.FluentAsyncExecutor;
+import com.clevergang.jdbc.fluent.FluentParallelQueries;
+import com.clevergang.jdbc.fluent.FluentQueryBatch;
 import com.clevergang.jdbc.fluent.FluentQueryBuilder;
 import com.clevergang.jdbc.fluent.FluentUpdateBuilder;
+import com.clevergang.jdbc.fluent.SqlDialect;
 import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.support.JdbcAccessor;
+import org.springframework.util.Assert;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * JDBC template class with a basic set of JDBC operations, allowing the use
@@ -47,6 +65,22 @@ import javax.sql.DataSource;
  */
 public class FluentNamedParameterJdbcTemplate extends NamedParameterJdbcTemplate implements FluentNamedParameterJdbcOperations {
 
+    /**
+     * Default maximum number of values of one IN list bound by {@code bindInList()}. Matches the limit of Oracle.
+     */
+    public static final int DEFAULT_IN_LIST_CHUNK_SIZE = 1000;
+
+    private volatile FluentAsyncExecutor asyncExecutor;
+    private volatile FluentAsyncExecutor publisherExecutor;
+    private volatile ForkJoinPool mappingPool;
+    private volatile SqlDialect dialect;
+    private volatile int inListChunkSize = DEFAULT_IN_LIST_CHUNK_SIZE;
+    private volatile List<ExecutionListener> executionListeners = Collections.emptyList();
+    private volatile AdaptiveFetchSize adaptiveFetchSize;
+    private volatile ConcurrencyLimiter concurrencyLimiter;
+    private volatile boolean combinedQueryBatches = true;
+    private volatile Map<String, ExecutionOptions> executionProfiles = Collections.emptyMap();
+
     /**
      * Create a new FluentNamedParameterJdbcTemplate for the given {@link DataSource}.
      * <p>Creates a classic Spring {@link org.springframework.jdbc.core.JdbcTemplate} and wraps it.
@@ -75,5 +109,227 @@ public class FluentNamedParameterJdbcTemplate extends NamedParameterJdbcTemplate
         return new FluentUpdateBuilder(sql, this);
     }
 
+    @Override
+    public FluentParallelQueries parallel() {
+        return new FluentParallelQueries(getAsyncExecutor());
+    }
+
+    @Override
+    public FluentQueryBatch queryBatch() {
+        return new FluentQueryBatch(this);
+    }
+
+    /**
+     * Return the parsed representation of given SQL, cached by this template. Public, so that the fluent builders
+     * creating their statements by themselves use the same cache as the template.
+     */
+    @Override
+    public ParsedSql getParsedSql(String sql) {
+        return super.getParsedSql(sql);
+    }
+
+    /**
+     * Return the operations which execute the fluent queries ({@link FluentQueryBuilder}). Called each time
+     * a query is executed. By default the queries are executed by this template, subclasses may route
+     * them elsewhere (see {@link RoutingFluentNamedParameterJdbcTemplate}).
+     */
+    public NamedParameterJdbcOperations getQueryOperations() {
+        return this;
+    }
+
+    /**
+     * Set the executor used by the asynchronous terminals of the fluent builders ({@code fetchAsync()},
+     * {@code fetchOneAsync()}, {@code executeAsync()}).
+     * @param asyncExecutor the executor to use
+     */
+    public void setAsyncExecutor(FluentAsyncExecutor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Return the executor used by the asynchronous terminals of the fluent builders. If no executor
+     * was set, then the shared {@link FluentAsyncExecutor#createDefault() default executor} is returned.
+     */
+    public FluentAsyncExecutor getAsyncExecutor() {
+        FluentAsyncExecutor executor = this.asyncExecutor;
+        return executor != null ? executor : FluentAsyncExecutor.getSharedDefault();
+    }
+
+    /**
+     * Set the executor which reads the rows for publishers created by {@code fetchPublisher()}. Each open
+     * subscription holds its own connection and takes one slot of the concurrency limit of this executor
+     * until it finishes, so the limit should leave enough room in the connection pool for the rest of the
+     * application.
+     * @param publisherExecutor the executor to use
+     */
+    public void setPublisherExecutor(FluentAsyncExecutor publisherExecutor) {
+        this.publisherExecutor = publisherExecutor;
+    }
+
+    /**
+     * Return the executor which reads the rows for publishers created by {@code fetchPublisher()}. If no
+     * executor was set, then the shared {@link FluentAsyncExecutor#getSharedPublisherDefault() publisher executor}
+     * is returned, so open subscriptions do not take the slots of the asynchronous statements.
+     */
+    public FluentAsyncExecutor getPublisherExecutor() {
+        FluentAsyncExecutor executor = this.publisherExecutor;
+        return executor != null ? executor : FluentAsyncExecutor.getSharedPublisherDefault();
+    }
+
+    /**
+     * Set the pool which runs the RowMappers of {@code fetchParallel()}.
+     * @param mappingPool the pool to use
+     */
+    public void setMappingPool(ForkJoinPool mappingPool) {
+        this.mappingPool = mappingPool;
+    }
+
+    /**
+     * Return the pool which runs the RowMappers of {@code fetchParallel()}. If no pool was set, then
+     * the {@link ForkJoinPool#commonPool() common pool} is returned.
+     */
+    public ForkJoinPool getMappingPool() {
+        ForkJoinPool pool = this.mappingPool;
+        return pool != null ? pool : ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Set the SQL dialect used when the fluent builders rewrite queries (e.g. {@code fetchPage()}).
+     * @param dialect the dialect of the database
+     */
+    public void setDialect(SqlDialect dialect) {
+        this.dialect = dialect;
+    }
+
+    /**
+     * Return the SQL dialect used when the fluent builders rewrite queries. If no dialect was set, then it's
+     * {@link SqlDialect#detect(javax.sql.DataSource) detected} from the database on first use.
+     */
+    public SqlDialect getDialect() {
+        SqlDialect current = this.dialect;
+        if (current == null) {
+            JdbcOperations operations = getJdbcOperations();
+            DataSource dataSource = operations instanceof JdbcAccessor ? ((JdbcAccessor) operations).getDataSource() : null;
+            current = dataSource != null ? SqlDialect.detect(dataSource) : SqlDialect.GENERIC;
+            this.dialect = current;
+        }
+        return current;
+    }
+
+    /**
+     * Set the maximum number of values of one IN list bound by {@code bindInList()}. Longer lists are split into
+     * chunks and the statement is executed once per chunk.
+     * @param inListChunkSize the maximum number of values in one execution
+     */
+    public void setInListChunkSize(int inListChunkSize) {
+        Assert.isTrue(inListChunkSize > 0, "IN list chunk size must be positive");
+        this.inListChunkSize = inListChunkSize;
+    }
+
+    /**
+     * Return the maximum number of values of one IN list bound by {@code bindInList()}.
+     */
+    public int getInListChunkSize() {
+        return inListChunkSize;
+    }
+
+    /**
+     * Set the statistics which adapt the fetch size and the capacity of result lists of {@code fetch()} to the
+     * previous executions of the same query. Not set by default.
+     * @param adaptiveFetchSize the statistics to use, null to stop adapting
+     */
+    public void setAdaptiveFetchSize(AdaptiveFetchSize adaptiveFetchSize) {
+        this.adaptiveFetchSize = adaptiveFetchSize;
+    }
+
+    /**
+     * Return the statistics adapting the fetch size of {@code fetch()}, null if the fetch size is not adapted.
+     */
+    public AdaptiveFetchSize getAdaptiveFetchSize() {
+        return adaptiveFetchSize;
+    }
+
+    /**
+     * Set the limiter admitting the statements of the query and update builders for execution, which adapts the number
+     * of concurrently executing statements to their latency and lets them wait by priority. Not set by default.
+     * @param concurrencyLimiter the limiter to use, null to stop limiting
+     */
+    public void setConcurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    /**
+     * Return the limiter admitting the statements for execution, null if the statements are not limited.
+     */
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    /**
+     * Set whether query batches execute their queries in a single combined statement. Enabled by default, switched off
+     * automatically when the driver refuses to prepare a combined statement.
+     * @param combinedQueryBatches false to execute the queries of batches one by one
+     */
+    public void setCombinedQueryBatches(boolean combinedQueryBatches) {
+        this.combinedQueryBatches = combinedQueryBatches;
+    }
+
+    /**
+     * Return whether query batches execute their queries in a single combined statement.
+     */
+    public boolean isCombinedQueryBatches() {
+        return combinedQueryBatches;
+    }
+
+    /**
+     * Register named JDBC options of statements, which the query and update builders of this template use by
+     * {@code profile(name)}. The options are applied to the statements only, the settings of the wrapped JdbcTemplate
+     * are not modified. Registering options under an existing name replaces them.
+     * @param name the name of the profile
+     * @param options the options
+     */
+    public synchronized void registerExecutionProfile(String name, ExecutionOptions options) {
+        Assert.notNull(name, "You HAVE TO provide profile name");
+        Assert.notNull(options, "You HAVE TO provide options");
+        Map<String, ExecutionOptions> profiles = new HashMap<>(executionProfiles);
+        profiles.put(name, options);
+        this.executionProfiles = Collections.unmodifiableMap(profiles);
+    }
+
+    /**
+     * Return the options registered under given name, null if there are none.
+     */
+    public ExecutionOptions getExecutionProfile(String name) {
+        return executionProfiles.get(name);
+    }
+
+    /**
+     * Register a listener notified about every statement executed by the query and update builders of this template.
+     * Without any listener, the builders do not measure the statements at all.
+     * @param listener the listener to add
+     */
+    public synchronized void addExecutionListener(ExecutionListener listener) {
+        Assert.notNull(listener, "You HAVE TO provide a listener");
+        List<ExecutionListener> listeners = new ArrayList<>(executionListeners);
+        listeners.add(listener);
+        this.executionListeners = Collections.unmodifiableList(listeners);
+    }
+
+    /**
+     * Unregister a listener registered by {@link #addExecutionListener(ExecutionListener)}.
+     * @param listener the listener to remove
+     */
+    public synchronized void removeExecutionListener(ExecutionListener listener) {
+        List<ExecutionListener> listeners = new ArrayList<>(executionListeners);
+        listeners.remove(listener);
+        this.executionListeners = listeners.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(listeners);
+    }
+
+    /**
+     * Return the registered execution listeners, in the order they are notified.
+     */
+    public List<ExecutionListener> getExecutionListeners() {
+        return executionListeners;
+    }
 
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc;
+
+import com.clevergang.jdbc.routing.Replica;
+import com.clevergang.jdbc.routing.ReplicaRoutingDataSource;
+import com.clevergang.jdbc.routing.ReplicaSelectionPolicy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * FluentNamedParameterJdbcTemplate which sends the fluent queries ({@link com.clevergang.jdbc.fluent.FluentQueryBuilder})
+ * to a set of read replicas, while the fluent updates ({@link com.clevergang.jdbc.fluent.FluentUpdateBuilder}) and all
+ * the classic NamedParameterJdbcTemplate methods use the primary DataSource. The replica serving each query is chosen
+ * by a {@link ReplicaSelectionPolicy} (round robin by default).
+ *
+ * <p>Queries executed inside a read-write transaction stay on the primary DataSource, so they see the data written
+ * earlier in the same transaction. Queries inside read-only transactions and outside of transactions go to replicas.
+ * Example:
+ * <pre>{@code
+ * FluentNamedParameterJdbcTemplate jdbc = new RoutingFluentNamedParameterJdbcTemplate(primary,
+ *         Arrays.asList(replica1, replica2), ReplicaSelectionPolicy.leastOutstandingRequests());
+ * }</pre>
+ *
+ * <p><b>NOTE: An instance of this class is thread-safe once configured.</b>
+ *
+ * @see ReplicaRoutingDataSource
+ */
+public class RoutingFluentNamedParameterJdbcTemplate extends FluentNamedParameterJdbcTemplate {
+
+    private final ReplicaRoutingDataSource replicaDataSource;
+    private final NamedParameterJdbcTemplate replicaTemplate;
+
+    /**
+     * Create a new RoutingFluentNamedParameterJdbcTemplate using round robin among the replicas.
+     * @param primaryDataSource the DataSource of the primary database
+     * @param replicaDataSources the DataSources of the read replicas
+     */
+    public RoutingFluentNamedParameterJdbcTemplate(DataSource primaryDataSource, List<DataSource> replicaDataSources) {
+        this(primaryDataSource, replicaDataSources, ReplicaSelectionPolicy.roundRobin());
+    }
+
+    /**
+     * Create a new RoutingFluentNamedParameterJdbcTemplate.
+     * @param primaryDataSource the DataSource of the primary database
+     * @param replicaDataSources the DataSources of the read replicas
+     * @param policy the policy choosing the replica for each query
+     */
+    public RoutingFluentNamedParameterJdbcTemplate(DataSource primaryDataSource, List<DataSource> replicaDataSources, ReplicaSelectionPolicy policy) {
+        super(primaryDataSource);
+        Assert.notEmpty(replicaDataSources, "You HAVE TO provide at least one replica");
+        List<Replica> replicas = new ArrayList<>(replicaDataSources.size());
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            replicas.add(new Replica("replica-" + i, replicaDataSources.get(i)));
+        }
+        this.replicaDataSource = new ReplicaRoutingDataSource(replicas, policy);
+        this.replicaTemplate = new NamedParameterJdbcTemplate(new ReplicaJdbcTemplate(replicaDataSource, (JdbcTemplate) getJdbcOperations()));
+    }
+
+    /**
+     * Returns the template of the replicas, unless there is a read-write transaction active on the current thread.
+     */
+    @Override
+    public NamedParameterJdbcOperations getQueryOperations() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return this;
+        }
+        return replicaTemplate;
+    }
+
+    /**
+     * Return the DataSource balancing the load among the replicas, giving access to the replica statistics.
+     */
+    public ReplicaRoutingDataSource getReplicaDataSource() {
+        return replicaDataSource;
+    }
+
+    /**
+     * JdbcTemplate of the replicas, which uses the current statement settings (fetch size, max rows and query timeout)
+     * and the exception translator of the primary JdbcTemplate, so that configuring {@link #getJdbcOperations()}
+     * applies to the queries on the replicas too.
+     */
+    private static class ReplicaJdbcTemplate extends JdbcTemplate {
+
+        private final JdbcTemplate primary;
+
+        ReplicaJdbcTemplate(DataSource replicaDataSource, JdbcTemplate primary) {
+            this.primary = primary;
+            setDataSource(replicaDataSource);
+        }
+
+        @Override
+        public int getFetchSize() {
+            return primary.getFetchSize();
+        }
+
+        @Override
+        public int getMaxRows() {
+            return primary.getMaxRows();
+        }
+
+        @Override
+        public int getQueryTimeout() {
+            return primary.getQueryTimeout();
+        }
+
+        @Override
+        public SQLExceptionTranslator getExceptionTranslator() {
+            return primary.getExceptionTranslator();
+        }
+    }
+
+}
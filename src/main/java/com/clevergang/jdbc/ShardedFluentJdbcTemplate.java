@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc;
+
+import com.clevergang.jdbc.fluent.FluentAsyncExecutor;
+import com.clevergang.jdbc.fluent.FluentShardedQueryBuilder;
+import com.clevergang.jdbc.fluent.ShardResolver;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Template for data split horizontally across several databases (shards). Each shard has its own
+ * {@link FluentNamedParameterJdbcTemplate}; a row belongs to the shard chosen by a {@link ShardResolver} from the value
+ * of the shard key. Queries are built by {@link #query(String)} and executed either on the single shard of the bound
+ * shard key parameter, or on all shards concurrently. Example:
+ * <pre>{@code
+ * ShardedFluentJdbcTemplate sharded = new ShardedFluentJdbcTemplate(Arrays.asList(shard0, shard1), "customerId");
+ *
+ * List<Order> orders = sharded.query("SELECT * FROM orders WHERE customer_id = :customerId")
+ *                             .bind("customerId", 42L)
+ *                             .fetch(Order.class);
+ *
+ * ShardedResult<List<Order>> all = sharded.query("SELECT * FROM orders WHERE created > :since")
+ *                                         .bind("since", yesterday)
+ *                                         .onAllShards()
+ *                                         .fetch(Order.class);
+ *
+ * sharded.getShardFor(42L).update("INSERT INTO orders ...").bind(...).execute();
+ * }</pre>
+ *
+ * <p><b>NOTE: An instance of this class is thread-safe once configured.</b>
+ *
+ * @see FluentShardedQueryBuilder
+ */
+public class ShardedFluentJdbcTemplate {
+
+    private final List<FluentNamedParameterJdbcTemplate> shards;
+    private final String shardKeyParameter;
+    private final ShardResolver shardResolver;
+    private volatile FluentAsyncExecutor asyncExecutor;
+
+    /**
+     * Create a new ShardedFluentJdbcTemplate choosing the shards by {@link ShardResolver#hashModulo() hash modulo}.
+     * @param shardDataSources the DataSources of the shards, the position in the list is the shard index
+     * @param shardKeyParameter the name of the query parameter holding the shard key
+     */
+    public ShardedFluentJdbcTemplate(List<DataSource> shardDataSources, String shardKeyParameter) {
+        this(shardDataSources, shardKeyParameter, ShardResolver.hashModulo());
+    }
+
+    /**
+     * Create a new ShardedFluentJdbcTemplate.
+     * @param shardDataSources the DataSources of the shards, the position in the list is the shard index
+     * @param shardKeyParameter the name of the query parameter holding the shard key
+     * @param shardResolver the function choosing the shard for a shard key
+     */
+    public ShardedFluentJdbcTemplate(List<DataSource> shardDataSources, String shardKeyParameter, ShardResolver shardResolver) {
+        Assert.notEmpty(shardDataSources, "You HAVE TO provide at least one shard");
+        Assert.notNull(shardKeyParameter, "You HAVE TO provide name of the shard key parameter");
+        Assert.notNull(shardResolver, "You HAVE TO provide shard resolver");
+        List<FluentNamedParameterJdbcTemplate> templates = new ArrayList<>(shardDataSources.size());
+        for (DataSource dataSource : shardDataSources) {
+            templates.add(new FluentNamedParameterJdbcTemplate(dataSource));
+        }
+        this.shards = Collections.unmodifiableList(templates);
+        this.shardKeyParameter = shardKeyParameter;
+        this.shardResolver = shardResolver;
+    }
+
+    /**
+     * Creates "fluent" style builder of a query executed on one or all shards.
+     * @param sql SQL query to execute
+     * @return Returns builder, which provides methods for binding parameters and for execution of the query
+     * @see FluentShardedQueryBuilder
+     */
+    public FluentShardedQueryBuilder query(String sql) {
+        return new FluentShardedQueryBuilder(sql, shards, shardKeyParameter, shardResolver, getAsyncExecutor());
+    }
+
+    /**
+     * Return the template of the shard which holds the data of given shard key. Use it for updates.
+     * @param shardKey the value of the shard key
+     */
+    public FluentNamedParameterJdbcTemplate getShardFor(Object shardKey) {
+        Assert.notNull(shardKey, "You HAVE TO provide shard key");
+        return shards.get(FluentShardedQueryBuilder.resolveShard(shardResolver, shardKey, shards.size()));
+    }
+
+    /**
+     * Return the template of the shard with given index.
+     */
+    public FluentNamedParameterJdbcTemplate getShard(int shardIndex) {
+        return shards.get(shardIndex);
+    }
+
+    /**
+     * Return the templates of all shards, in the order of the shard indexes.
+     */
+    public List<FluentNamedParameterJdbcTemplate> getShards() {
+        return shards;
+    }
+
+    /**
+     * Set the executor running the queries on all shards. Its concurrency limit bounds the number of shards
+     * queried at the same time.
+     * @param asyncExecutor the executor to use
+     */
+    public void setAsyncExecutor(FluentAsyncExecutor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Return the executor running the queries on all shards. If no executor was set, then the shared
+     * {@link FluentAsyncExecutor#createDefault() default executor} is returned.
+     */
+    public FluentAsyncExecutor getAsyncExecutor() {
+        FluentAsyncExecutor executor = this.asyncExecutor;
+        return executor != null ? executor : FluentAsyncExecutor.getSharedDefault();
+    }
+}
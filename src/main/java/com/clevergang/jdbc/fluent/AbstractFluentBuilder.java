@@ -16,9 +16,30 @@
 
 package com.clevergang.jdbc.fluent;
 
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.SqlParameterValue;
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Abstract class aggregating what all fluent builders have in common.
@@ -29,7 +50,13 @@ import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 abstract class AbstractFluentBuilder<T> {
 
     private MapSqlParameterSource mapParameterSource;
-    private BeanPropertySqlParameterSource beanParameterSource;
+    private SqlParameterSource beanParameterSource;
+    private List<StatementHook> statementHooks;
+    private ExecutionOptions executionOptions;
+    private Deadline deadline;
+    private Priority priority;
+    private String chunkedParameterName;
+    private List<Object> chunkedValues;
 
     /**
      * Bind a parameter of this query/statement builder.
@@ -43,10 +70,86 @@ abstract class AbstractFluentBuilder<T> {
     	if (beanParameterSource != null) {
     		throw new UnsupportedOperationException("Cannot set both bind(Object object) and bind(String parameterName, Object parameterValue).");
     	}
+    	if (parameterName.equals(chunkedParameterName)) {
+    		clearInListChunks();
+    	}
     	getMapBoundParameters().addValue(parameterName, parameterValue);
         return (T) this;
     }
 
+    /**
+     * Bind a collection used in an IN list ({@code WHERE id IN (:ids)}). Unlike {@link #bind(String, Object)}, the number
+     * of placeholders the collection expands to is rounded up to the next power of two (the last value is repeated),
+     * so lists of different sizes produce just a few distinct SQL statements and the statement and plan caches stay warm.
+     * Duplicate values are removed first.
+     * <p>Lists longer than the chunk size of the template (see
+     * {@link FluentNamedParameterJdbcTemplate#setInListChunkSize(int)}) are split into chunks and the statement is
+     * executed once per chunk: {@code fetch()} concatenates the results, {@code exists()} checks the chunks until
+     * a row is found and {@code execute()} of the update builder sums the update counts. Other terminals reject such
+     * lists. Only one parameter of a statement may exceed the chunk size.
+     * @param parameterName the name of the parameter
+     * @param values the values of the IN list
+     * @return a reference to the same query/statement builder,
+     * so it's possible to chain several calls together
+     */
+    @SuppressWarnings("unchecked")
+    public T bindInList(String parameterName, Collection<?> values) {
+        if (beanParameterSource != null) {
+            throw new UnsupportedOperationException("Cannot set both bind(Object object) and bind(String parameterName, Object parameterValue).");
+        }
+        Assert.notNull(values, "You HAVE TO provide values of the IN list");
+        List<Object> distinctValues = new ArrayList<>(new LinkedHashSet<>(values));
+        int chunkSize = inListChunkSize();
+        if (distinctValues.size() > chunkSize) {
+            if (chunkedParameterName != null && !chunkedParameterName.equals(parameterName)) {
+                throw new InvalidDataAccessApiUsageException("Only one IN list can exceed the chunk size of " + chunkSize
+                        + ", but both " + chunkedParameterName + " and " + parameterName + " do");
+            }
+            chunkedParameterName = parameterName;
+            chunkedValues = distinctValues;
+            getMapBoundParameters().addValue(parameterName, padInList(distinctValues.subList(0, chunkSize), chunkSize));
+        } else {
+            if (parameterName.equals(chunkedParameterName)) {
+                clearInListChunks();
+            }
+            getMapBoundParameters().addValue(parameterName, padInList(distinctValues, chunkSize));
+        }
+        return (T) this;
+    }
+
+    /**
+     * Bind a Java array or collection as a single SQL {@code ARRAY} parameter. Unlike collections bound by
+     * {@link #bind(String, Object)}, the statement text does not depend on the number of values. Use it with
+     * {@code WHERE id = ANY(:ids)} or {@code WHERE id IN (UNNEST(:ids))}, depending on the database. Arrays of primitives
+     * are supported. The SQL type of the elements is inferred from their Java type (numbers, strings, booleans,
+     * UUIDs, dates and timestamps). Example:
+     * <pre>{@code
+     * List<User> users = jdbc.query("SELECT * FROM users WHERE id = ANY(:ids)")
+     *                        .bindArray("ids", new long[]{1, 2, 3})
+     *                        .fetch(User.class);
+     * }</pre>
+     * @param parameterName the name of the parameter
+     * @param values Java array or Collection
+     * @return a reference to the same query/statement builder,
+     * so it's possible to chain several calls together
+     */
+    public T bindArray(String parameterName, Object values) {
+        return bindArray(parameterName, values, null);
+    }
+
+    /**
+     * Bind a Java array or collection as a single SQL {@code ARRAY} parameter with elements of given SQL type, see
+     * {@link #bindArray(String, Object)}. Needed for empty collections and element types which cannot be inferred.
+     * @param parameterName the name of the parameter
+     * @param values Java array or Collection
+     * @param elementTypeName SQL type name of the elements, as understood by {@link java.sql.Connection#createArrayOf(String, Object[])}
+     * @return a reference to the same query/statement builder,
+     * so it's possible to chain several calls together
+     */
+    public T bindArray(String parameterName, Object values, String elementTypeName) {
+        return bind(parameterName, new SqlParameterValue(Types.ARRAY, new SqlArrayValue(values, elementTypeName)));
+    }
+
     /**
      * Bind a parameter object of this query/statement builder.
      * @param object the object of the parameter
@@ -62,6 +165,17 @@ abstract class AbstractFluentBuilder<T> {
         return (T) this;
     }
 
+    /**
+     * Binds all parameters from given parameter source at once. Used when builders derive new statements from
+     * existing ones.
+     */
+    void bindParameterSource(SqlParameterSource parameterSource) {
+        if (mapParameterSource != null) {
+            throw new UnsupportedOperationException("Cannot set both bind(Object object) and bind(String parameterName, Object parameterValue).");
+        }
+        beanParameterSource = parameterSource;
+    }
+
     /**
      * @return Returns a SqlParameterSource representing parameters which were already bound to this query/statement builder.
      * If no parameters were bound, then empty SqlParameterSource will be returned.
@@ -84,4 +198,375 @@ abstract class AbstractFluentBuilder<T> {
         return mapParameterSource;
     }
 
+    /**
+     * @return Returns maximum number of values of one IN list bound by {@link #bindInList(String, Collection)}
+     */
+    int inListChunkSize() {
+        return FluentNamedParameterJdbcTemplate.DEFAULT_IN_LIST_CHUNK_SIZE;
+    }
+
+    /**
+     * @return Returns true if an IN list exceeding the chunk size was bound, so the statement has to be executed in chunks
+     */
+    boolean hasInListChunks() {
+        return chunkedParameterName != null;
+    }
+
+    /**
+     * @return Returns the padded values of the chunked IN list parameter for each execution
+     */
+    List<Map<String, Object>> getInListChunks() {
+        int chunkSize = inListChunkSize();
+        List<Map<String, Object>> chunks = new ArrayList<>();
+        for (int from = 0; from < chunkedValues.size(); from += chunkSize) {
+            List<Object> chunk = chunkedValues.subList(from, Math.min(from + chunkSize, chunkedValues.size()));
+            chunks.add(Collections.singletonMap(chunkedParameterName, padInList(chunk, chunkSize)));
+        }
+        return chunks;
+    }
+
+    private void clearInListChunks() {
+        chunkedParameterName = null;
+        chunkedValues = null;
+    }
+
+    /**
+     * Pads given values to the next power of two (but not over given maximum) by repeating the last value.
+     */
+    static List<Object> padInList(List<Object> values, int maxSize) {
+        int size = values.size();
+        if (size == 0) {
+            return values;
+        }
+        int paddedSize = Math.min(Integer.highestOneBit(size - 1) << 1, maxSize);
+        if (paddedSize <= size) {
+            return new ArrayList<>(values);
+        }
+        List<Object> padded = new ArrayList<>(paddedSize);
+        padded.addAll(values);
+        Object last = values.get(size - 1);
+        while (padded.size() < paddedSize) {
+            padded.add(last);
+        }
+        return padded;
+    }
+
+    /**
+     * Sets JDBC options of the statement (query timeout, maximum number of rows, fetch size...). Options set in given
+     * instance override the options set on this builder before. Example:
+     * <pre>{@code
+     * jdbc.query("SELECT * FROM orders")
+     *     .options(ExecutionOptions.create().withTimeout(30, TimeUnit.SECONDS).withFetchSize(1000))
+     *     .fetch(Order.class);
+     * }</pre>
+     *
+     * @param options the options
+     * @return a reference to the same query/statement builder,
+     * so it's possible to chain several calls together
+     */
+    @SuppressWarnings("unchecked")
+    public T options(ExecutionOptions options) {
+        Assert.notNull(options, "You HAVE TO provide options");
+        executionOptions = executionOptions != null ? executionOptions.with(options) : options;
+        return (T) this;
+    }
+
+    /**
+     * Sets the query timeout of the statement, see {@link ExecutionOptions#withTimeout(long, TimeUnit)}.
+     *
+     * @param timeout query timeout, 0 for no timeout
+     * @param unit the time unit of the timeout
+     * @return a reference to the same query/statement builder,
+     * so it's possible to chain several calls together
+     */
+    public T timeout(long timeout, TimeUnit unit) {
+        return options(ExecutionOptions.create().withTimeout(timeout, unit));
+    }
+
+    /**
+     * @return Returns options set on this builder, null if none were set
+     */
+    ExecutionOptions getExecutionOptions() {
+        return executionOptions;
+    }
+
+    /**
+     * Sets the deadline of the statement: the query timeout is lowered to the time remaining to the deadline and once
+     * the deadline passes, the statement fails with {@link DeadlineExceededException} without being executed. If
+     * a deadline is already set or {@link Deadline#activate() active} on the current thread, the earlier one applies.
+     *
+     * @param deadline the deadline
+     * @return a reference to the same query/statement builder,
+     * so it's possible to chain several calls together
+     */
+    @SuppressWarnings("unchecked")
+    public T deadline(Deadline deadline) {
+        Assert.notNull(deadline, "You HAVE TO provide a deadline");
+        this.deadline = Deadline.earlier(this.deadline, deadline);
+        return (T) this;
+    }
+
+    /**
+     * @return Returns the deadline of the statement - the earlier of the deadline set on this builder and the one
+     * active on the current thread, null if there is none
+     */
+    Deadline getDeadline() {
+        return Deadline.earlier(deadline, Deadline.current());
+    }
+
+    /**
+     * Sets the priority of the statement, used when the template limits the number of concurrently executing
+     * statements (see {@link ConcurrencyLimiter}). Default is {@link Priority#NORMAL}.
+     *
+     * @param priority the priority
+     * @return a reference to the same query/statement builder,
+     * so it's possible to chain several calls together
+     */
+    @SuppressWarnings("unchecked")
+    public T priority(Priority priority) {
+        Assert.notNull(priority, "You HAVE TO provide priority");
+        this.priority = priority;
+        return (T) this;
+    }
+
+    /**
+     * @return Returns priority set on this builder, null if none was set
+     */
+    Priority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Passes the execution options, the deadline and the priority of this builder to a builder derived from it.
+     */
+    void copyOptionsTo(AbstractFluentBuilder<?> derived) {
+        if (getExecutionOptions() != null) {
+            derived.options(getExecutionOptions());
+        }
+        Deadline deadline = getDeadline();
+        if (deadline != null) {
+            derived.deadline(deadline);
+        }
+        if (getPriority() != null) {
+            derived.priority(getPriority());
+        }
+    }
+
+    /**
+     * Fixes the deadline active on the current thread to this builder, so it applies also when the statement is executed
+     * by another thread.
+     */
+    void captureDeadline() {
+        deadline = getDeadline();
+    }
+
+    /**
+     * Fails fast - before a connection is acquired - if the deadline of the statement has passed.
+     *
+     * @throws DeadlineExceededException if the deadline has passed
+     */
+    void checkDeadline(String sql) {
+        Deadline effectiveDeadline = getDeadline();
+        if (effectiveDeadline != null) {
+            effectiveDeadline.check(sql);
+        }
+    }
+
+    /**
+     * Registers a hook called around execution of the JDBC statement created by this builder.
+     */
+    void addStatementHook(StatementHook hook) {
+        if (statementHooks == null) {
+            statementHooks = new ArrayList<>(2);
+        }
+        statementHooks.add(hook);
+    }
+
+    /**
+     * Runs given terminal of this builder with the hook registered just for this execution.
+     */
+    <R> R withStatementHook(StatementHook hook, Supplier<R> terminal) {
+        addStatementHook(hook);
+        try {
+            return terminal.get();
+        } finally {
+            statementHooks.remove(hook);
+        }
+    }
+
+    /**
+     * Applies the execution options and the deadline and calls {@link StatementHook#beforeExecute(Statement)} of all
+     * registered hooks.
+     *
+     * @param dataSource DataSource the statement belongs to, or null if not known
+     */
+    void beforeExecute(Statement statement, DataSource dataSource) throws SQLException {
+        if (executionOptions != null) {
+            executionOptions.applyTo(statement, dataSource);
+        }
+        Deadline effectiveDeadline = getDeadline();
+        if (effectiveDeadline != null) {
+            effectiveDeadline.applyTo(statement);
+        }
+        if (statementHooks != null) {
+            for (StatementHook hook : statementHooks) {
+                hook.beforeExecute(statement);
+            }
+        }
+    }
+
+    /**
+     * Calls {@link StatementHook#afterExecute(Statement)} of all registered hooks.
+     */
+    void afterExecute(Statement statement) {
+        if (statementHooks != null) {
+            for (StatementHook hook : statementHooks) {
+                hook.afterExecute(statement);
+            }
+        }
+    }
+
+    /**
+     * @return Returns operations which execute queries - the one provided by the template if the template is
+     * a FluentNamedParameterJdbcTemplate, the template itself otherwise.
+     */
+    static NamedParameterJdbcOperations getQueryOperations(NamedParameterJdbcOperations template) {
+        if (template instanceof FluentNamedParameterJdbcTemplate) {
+            return ((FluentNamedParameterJdbcTemplate) template).getQueryOperations();
+        }
+        return template;
+    }
+
+    /**
+     * @return Returns the IN list chunk size - the one configured on the template if the template is
+     * a FluentNamedParameterJdbcTemplate, the default otherwise.
+     */
+    static int getInListChunkSize(NamedParameterJdbcOperations template) {
+        if (template instanceof FluentNamedParameterJdbcTemplate) {
+            return ((FluentNamedParameterJdbcTemplate) template).getInListChunkSize();
+        }
+        return FluentNamedParameterJdbcTemplate.DEFAULT_IN_LIST_CHUNK_SIZE;
+    }
+
+    /**
+     * @return Returns executor for the asynchronous terminals - the one configured on the template if the template is
+     * a FluentNamedParameterJdbcTemplate, the shared default executor otherwise.
+     */
+    static FluentAsyncExecutor getAsyncExecutor(NamedParameterJdbcOperations template) {
+        if (template instanceof FluentNamedParameterJdbcTemplate) {
+            return ((FluentNamedParameterJdbcTemplate) template).getAsyncExecutor();
+        }
+        return FluentAsyncExecutor.getSharedDefault();
+    }
+
+    /**
+     * @return Returns executor for reactive publishers - the one configured on the template if the template is
+     * a FluentNamedParameterJdbcTemplate, the shared default publisher executor otherwise.
+     */
+    static FluentAsyncExecutor getPublisherExecutor(NamedParameterJdbcOperations template) {
+        if (template instanceof FluentNamedParameterJdbcTemplate) {
+            return ((FluentNamedParameterJdbcTemplate) template).getPublisherExecutor();
+        }
+        return FluentAsyncExecutor.getSharedPublisherDefault();
+    }
+
+    /**
+     * @return Returns pool for parallel row mapping - the one configured on the template if the template is
+     * a FluentNamedParameterJdbcTemplate, the common ForkJoinPool otherwise.
+     */
+    static ForkJoinPool getMappingPool(NamedParameterJdbcOperations template) {
+        if (template instanceof FluentNamedParameterJdbcTemplate) {
+            return ((FluentNamedParameterJdbcTemplate) template).getMappingPool();
+        }
+        return ForkJoinPool.commonPool();
+    }
+
+    /**
+     * @return Returns SQL dialect - the one of the template if the template is a FluentNamedParameterJdbcTemplate,
+     * {@link SqlDialect#GENERIC} otherwise.
+     */
+    static SqlDialect getDialect(NamedParameterJdbcOperations template) {
+        if (template instanceof FluentNamedParameterJdbcTemplate) {
+            return ((FluentNamedParameterJdbcTemplate) template).getDialect();
+        }
+        return SqlDialect.GENERIC;
+    }
+
+    /**
+     * @return Returns adaptive fetch size - the one configured on the template if the template is
+     * a FluentNamedParameterJdbcTemplate, null (fetch size is not adapted) otherwise.
+     */
+    static AdaptiveFetchSize getAdaptiveFetchSize(NamedParameterJdbcOperations template) {
+        if (template instanceof FluentNamedParameterJdbcTemplate) {
+            return ((FluentNamedParameterJdbcTemplate) template).getAdaptiveFetchSize();
+        }
+        return null;
+    }
+
+    /**
+     * @return Returns concurrency limiter - the one configured on the template if the template is
+     * a FluentNamedParameterJdbcTemplate, null (statements are not limited) otherwise.
+     */
+    static ConcurrencyLimiter getConcurrencyLimiter(NamedParameterJdbcOperations template) {
+        if (template instanceof FluentNamedParameterJdbcTemplate) {
+            return ((FluentNamedParameterJdbcTemplate) template).getConcurrencyLimiter();
+        }
+        return null;
+    }
+
+    /**
+     * @return Returns execution profile registered to the template under given name
+     * @throws InvalidDataAccessApiUsageException if the template is not a FluentNamedParameterJdbcTemplate or does not
+     *                                            know the profile
+     */
+    static ExecutionOptions getExecutionProfile(NamedParameterJdbcOperations template, String profileName) {
+        ExecutionOptions profile = null;
+        if (template instanceof FluentNamedParameterJdbcTemplate) {
+            profile = ((FluentNamedParameterJdbcTemplate) template).getExecutionProfile(profileName);
+        }
+        if (profile == null) {
+            throw new InvalidDataAccessApiUsageException("Unknown execution profile: " + profileName);
+        }
+        return profile;
+    }
+
+    /**
+     * @return Returns execution listeners - the ones registered to the template if the template is
+     * a FluentNamedParameterJdbcTemplate, no listeners otherwise.
+     */
+    static List<ExecutionListener> getExecutionListeners(NamedParameterJdbcOperations template) {
+        if (template instanceof FluentNamedParameterJdbcTemplate) {
+            return ((FluentNamedParameterJdbcTemplate) template).getExecutionListeners();
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Wraps given task submitted to an executor, so the execution listeners of the template see the state of the
+     * submitting thread (see {@link ExecutionListener#captureContext()}) while the task runs.
+     */
+    static <R> Supplier<R> withListenerContexts(NamedParameterJdbcOperations template, Supplier<R> task) {
+        List<ExecutionListener.Context> contexts = new ArrayList<>();
+        for (ExecutionListener listener : getExecutionListeners(template)) {
+            ExecutionListener.Context context = listener.captureContext();
+            if (context != null) {
+                contexts.add(context);
+            }
+        }
+        if (contexts.isEmpty()) {
+            return task;
+        }
+        return () -> {
+            Deque<Runnable> restores = new ArrayDeque<>(contexts.size());
+            try {
+                for (ExecutionListener.Context context : contexts) {
+                    restores.push(context.attach());
+                }
+                return task.get();
+            } finally {
+                restores.forEach(Runnable::run);
+            }
+        };
+    }
+
 }
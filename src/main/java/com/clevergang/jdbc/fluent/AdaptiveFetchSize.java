@@ -0,0 +1,257 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import org.springframework.util.Assert;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adapts the JDBC fetch size and the initial capacity of result lists of {@code fetch()} to the queries. For each SQL
+ * it tracks the number of returned rows (moving average and deviation) and the width of a row (estimated from the
+ * result set metadata). The next execution of the same SQL then gets a fetch size big enough to read the expected rows
+ * in one round-trip, but not so big that the rows would take more than the fetch buffer, and its result list is
+ * presized to the expected number of rows. Without statistics (the first execution) nothing is changed.
+ *
+ * <p>The fetch size is kept within configured bounds and replaces the fetch size configured on the JdbcTemplate, but
+ * not the fetch size set on the query itself (see {@link FluentQueryBuilder#fetchSize(int)}).
+ * Only the list returning {@code fetch()} terminals are adapted. One instance is meant to be shared by all queries
+ * of a template, see {@link com.clevergang.jdbc.FluentNamedParameterJdbcTemplate#setAdaptiveFetchSize(AdaptiveFetchSize)}.
+ *
+ * <p><b>NOTE: An instance of this class is thread-safe (once configured).</b>
+ */
+public class AdaptiveFetchSize {
+
+    public static final int DEFAULT_MIN_FETCH_SIZE = 10;
+    public static final int DEFAULT_MAX_FETCH_SIZE = 5000;
+    public static final int DEFAULT_FETCH_BUFFER_BYTES = 512 * 1024;
+    public static final int DEFAULT_MAX_PRESIZE = 10_000;
+
+    private static final int MAX_TRACKED_STATEMENTS = 512;
+    private static final int MAX_COLUMN_WIDTH = 1024;
+    private static final double SMOOTHING = 0.25;
+
+    private final Map<String, RowStatistics> statistics = new ConcurrentHashMap<>();
+    private volatile int minFetchSize = DEFAULT_MIN_FETCH_SIZE;
+    private volatile int maxFetchSize = DEFAULT_MAX_FETCH_SIZE;
+    private volatile int fetchBufferBytes = DEFAULT_FETCH_BUFFER_BYTES;
+    private volatile int maxPresize = DEFAULT_MAX_PRESIZE;
+
+    /**
+     * Sets bounds of the fetch size. Defaults are {@value #DEFAULT_MIN_FETCH_SIZE} and {@value #DEFAULT_MAX_FETCH_SIZE}.
+     *
+     * @param minFetchSize minimal fetch size
+     * @param maxFetchSize maximal fetch size
+     */
+    public void setFetchSizeBounds(int minFetchSize, int maxFetchSize) {
+        Assert.isTrue(minFetchSize > 0 && minFetchSize <= maxFetchSize, "Invalid fetch size bounds");
+        this.minFetchSize = minFetchSize;
+        this.maxFetchSize = maxFetchSize;
+    }
+
+    /**
+     * Sets the memory one fetch of rows may take, which limits the fetch size of queries returning wide rows. Default
+     * is {@value #DEFAULT_FETCH_BUFFER_BYTES} bytes.
+     *
+     * @param fetchBufferBytes approximate size of the rows of one fetch in bytes
+     */
+    public void setFetchBufferBytes(int fetchBufferBytes) {
+        Assert.isTrue(fetchBufferBytes > 0, "Fetch buffer size must be positive");
+        this.fetchBufferBytes = fetchBufferBytes;
+    }
+
+    /**
+     * Sets the maximal initial capacity of result lists. Default is {@value #DEFAULT_MAX_PRESIZE}.
+     *
+     * @param maxPresize maximal initial capacity, 0 disables presizing
+     */
+    public void setMaxPresize(int maxPresize) {
+        Assert.isTrue(maxPresize >= 0, "Maximal presize must not be negative");
+        this.maxPresize = maxPresize;
+    }
+
+    /**
+     * @param sql the query
+     * @return fetch size for the next execution of given query, 0 if there are no statistics of the query yet
+     */
+    public int getFetchSize(String sql) {
+        RowStatistics rows = statistics.get(sql);
+        if (rows == null || rows.getRowWidth() <= 0) {
+            return 0;
+        }
+        long forExpectedRows = rows.getExpectedRows() + 1;   // +1 lets the driver see the end of the results in the same fetch
+        long forBuffer = Math.max(1, fetchBufferBytes / rows.getRowWidth());
+        return (int) Math.max(minFetchSize, Math.min(maxFetchSize, Math.min(forExpectedRows, forBuffer)));
+    }
+
+    /**
+     * @param sql the query
+     * @return initial capacity of the result list for the next execution of given query, 0 if there are no statistics
+     * of the query yet
+     */
+    public int getPresize(String sql) {
+        RowStatistics rows = statistics.get(sql);
+        return rows != null ? (int) Math.min(maxPresize, rows.getExpectedRows()) : 0;
+    }
+
+    /**
+     * @param sql the query
+     * @return moving average of the number of rows returned by given query, -1 if there are no statistics of the query
+     */
+    public double getAverageRows(String sql) {
+        RowStatistics rows = statistics.get(sql);
+        return rows != null ? rows.getAverageRows() : -1;
+    }
+
+    /**
+     * @param sql the query
+     * @return estimated width of one row of given query in bytes, -1 if there are no statistics of the query
+     */
+    public int getRowWidth(String sql) {
+        RowStatistics rows = statistics.get(sql);
+        return rows != null ? rows.getRowWidth() : -1;
+    }
+
+    /**
+     * Forgets all statistics.
+     */
+    public void reset() {
+        statistics.clear();
+    }
+
+    /**
+     * @return true if the row width of given query is known, i.e. the metadata need not be examined again
+     */
+    boolean hasRowWidth(String sql) {
+        RowStatistics rows = statistics.get(sql);
+        return rows != null && rows.getRowWidth() > 0;
+    }
+
+    /**
+     * Records one execution of given query.
+     *
+     * @param sql      the query
+     * @param rowCount number of returned rows
+     * @param metaData metadata of the result, null if the row width is already known
+     */
+    void record(String sql, int rowCount, ResultSetMetaData metaData) throws SQLException {
+        RowStatistics rows = statistics.get(sql);
+        if (rows == null) {
+            if (statistics.size() >= MAX_TRACKED_STATEMENTS) {
+                // statistics of other statements would be meaningless, they are not adapted
+                return;
+            }
+            rows = statistics.computeIfAbsent(sql, key -> new RowStatistics());
+        }
+        if (metaData != null) {
+            rows.setRowWidth(estimateRowWidth(metaData));
+        }
+        rows.add(rowCount);
+    }
+
+    /**
+     * Estimates the width of a row from the declared types of the columns: fixed sizes for numbers and temporal types,
+     * the declared precision (at most {@value #MAX_COLUMN_WIDTH}) for character and binary columns.
+     */
+    static int estimateRowWidth(ResultSetMetaData metaData) throws SQLException {
+        int width = 0;
+        for (int column = 1; column <= metaData.getColumnCount(); column++) {
+            width += estimateColumnWidth(metaData.getColumnType(column), metaData.getPrecision(column));
+        }
+        return Math.max(1, width);
+    }
+
+    private static int estimateColumnWidth(int type, int precision) {
+        switch (type) {
+            case Types.BIT:
+            case Types.BOOLEAN:
+            case Types.TINYINT:
+                return 1;
+            case Types.SMALLINT:
+                return 2;
+            case Types.INTEGER:
+            case Types.REAL:
+            case Types.DATE:
+                return 4;
+            case Types.BIGINT:
+            case Types.DOUBLE:
+            case Types.FLOAT:
+            case Types.TIME:
+                return 8;
+            case Types.TIMESTAMP:
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+            case Types.TIME_WITH_TIMEZONE:
+                return 12;
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return precision > 0 ? Math.min(MAX_COLUMN_WIDTH, precision / 2 + 2) : 16;
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return precision > 0 ? Math.min(MAX_COLUMN_WIDTH, precision) : MAX_COLUMN_WIDTH;
+            default:
+                // LOBs (read through locators), arrays, structures and unknown types
+                return MAX_COLUMN_WIDTH;
+        }
+    }
+
+    /**
+     * Exponentially weighted moving average and mean deviation of the row count (in the way TCP estimates round-trip
+     * times), the expected row count is the average plus twice the deviation.
+     */
+    private static class RowStatistics {
+        private double averageRows = -1;
+        private double deviation;
+        private volatile int rowWidth;
+
+        synchronized void add(int rowCount) {
+            if (averageRows < 0) {
+                averageRows = rowCount;
+                deviation = rowCount / 2.0;
+            } else {
+                deviation += SMOOTHING * (Math.abs(rowCount - averageRows) - deviation);
+                averageRows += SMOOTHING * (rowCount - averageRows);
+            }
+        }
+
+        synchronized double getAverageRows() {
+            return averageRows;
+        }
+
+        synchronized long getExpectedRows() {
+            return averageRows < 0 ? 0 : (long) Math.ceil(averageRows + 2 * deviation);
+        }
+
+        int getRowWidth() {
+            return rowWidth;
+        }
+
+        void setRowWidth(int rowWidth) {
+            this.rowWidth = rowWidth;
+        }
+    }
+}
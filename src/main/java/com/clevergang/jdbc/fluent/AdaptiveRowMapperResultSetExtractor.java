@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ResultSetExtractor of {@code fetch()} adapting the fetch size and the capacity of the result list to the statistics
+ * of the query, see {@link AdaptiveFetchSize}. It is also a StatementHook, which sets the fetch size.
+ */
+class AdaptiveRowMapperResultSetExtractor<T> implements ResultSetExtractor<List<T>>, StatementHook {
+
+    private final AdaptiveFetchSize adaptiveFetchSize;
+    private final String sql;
+    private final RowMapper<T> rowMapper;
+
+    AdaptiveRowMapperResultSetExtractor(AdaptiveFetchSize adaptiveFetchSize, String sql, RowMapper<T> rowMapper) {
+        this.adaptiveFetchSize = adaptiveFetchSize;
+        this.sql = sql;
+        this.rowMapper = rowMapper;
+    }
+
+    @Override
+    public void beforeExecute(Statement statement) throws SQLException {
+        int fetchSize = adaptiveFetchSize.getFetchSize(sql);
+        if (fetchSize > 0) {
+            statement.setFetchSize(fetchSize);
+        }
+    }
+
+    @Override
+    public List<T> extractData(ResultSet rs) throws SQLException {
+        int presize = adaptiveFetchSize.getPresize(sql);
+        List<T> results = presize > 0 ? new ArrayList<>(presize) : new ArrayList<>();
+        int rowNum = 0;
+        while (rs.next()) {
+            results.add(rowMapper.mapRow(rs, rowNum++));
+        }
+        adaptiveFetchSize.record(sql, rowNum, adaptiveFetchSize.hasRowWidth(sql) ? null : rs.getMetaData());
+        return results;
+    }
+}
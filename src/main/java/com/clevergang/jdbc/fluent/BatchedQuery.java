@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Handle of a single query registered in {@link FluentQueryBatch}. It is used as a typed key to obtain the result
+ * of the query from {@link FluentQueryBatchResults} once the batch was executed.
+ *
+ * @param <T> type of the query result
+ */
+public final class BatchedQuery<T> {
+
+    private final FluentQueryBuilder query;
+    private final ResultSetExtractor<T> extractor;
+    private T result;
+
+    BatchedQuery(FluentQueryBuilder query, ResultSetExtractor<T> extractor) {
+        this.query = query;
+        this.extractor = extractor;
+    }
+
+    FluentQueryBuilder getQuery() {
+        return query;
+    }
+
+    void extract(ResultSet rs) throws SQLException {
+        result = extractor.extractData(rs);
+    }
+
+    void executeAlone() {
+        result = query.executeQuery(extractor);
+    }
+
+    T getResult() {
+        return result;
+    }
+
+}
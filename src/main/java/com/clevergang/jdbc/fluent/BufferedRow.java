@@ -0,0 +1,371 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.util.ClassUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Values of a single row copied out of a ResultSet, so the row can be mapped after the ResultSet moved on (or was closed)
+ * and on another thread. {@link BufferedResultSet} exposes the rows to RowMappers. LOBs are read eagerly while
+ * buffering.
+ */
+final class BufferedRow {
+
+    private static final ConversionService conversionService = new DefaultConversionService();
+
+    private final Columns columns;
+    private final Object[] values;
+    private final int rowNum;
+
+    private BufferedRow(Columns columns, Object[] values, int rowNum) {
+        this.columns = columns;
+        this.values = values;
+        this.rowNum = rowNum;
+    }
+
+    /**
+     * Snapshot of the column metadata, shared by all rows of one ResultSet.
+     */
+    static Columns readColumns(ResultSet rs) throws SQLException {
+        return new Columns(rs.getMetaData());
+    }
+
+    /**
+     * Copies the values of the current row of the ResultSet.
+     */
+    static BufferedRow read(ResultSet rs, Columns columns, int rowNum) throws SQLException {
+        Object[] values = new Object[columns.count];
+        for (int i = 0; i < values.length; i++) {
+            Object value = rs.getObject(i + 1);
+            if (value instanceof Clob) {
+                Clob clob = (Clob) value;
+                value = clob.getSubString(1, (int) clob.length());
+            } else if (value instanceof Blob) {
+                Blob blob = (Blob) value;
+                value = blob.getBytes(1, (int) blob.length());
+            }
+            values[i] = value;
+        }
+        return new BufferedRow(columns, values, rowNum);
+    }
+
+    int getRowNum() {
+        return rowNum;
+    }
+
+    Columns getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return Returns the buffered value of given column (1-based, as in ResultSet)
+     */
+    Object getValue(int columnIndex) throws SQLException {
+        if (columnIndex < 1 || columnIndex > values.length) {
+            throw new SQLException("Invalid column index " + columnIndex);
+        }
+        return values[columnIndex - 1];
+    }
+
+    /**
+     * Converts buffered value to the type requested by a ResultSet getter. Primitive types return the default value
+     * for null.
+     */
+    static Object convert(Object value, Class<?> targetType) throws SQLException {
+        if (targetType.isPrimitive()) {
+            if (value == null) {
+                return targetType == boolean.class ? Boolean.FALSE : conversionService.convert(0, ClassUtils.resolvePrimitiveIfNecessary(targetType));
+            }
+            targetType = ClassUtils.resolvePrimitiveIfNecessary(targetType);
+        }
+        if (value == null || targetType.isInstance(value)) {
+            return value;
+        }
+        if (targetType == String.class) {
+            return value instanceof byte[] ? new String((byte[]) value, StandardCharsets.UTF_8) : value.toString();
+        }
+        if (targetType == Boolean.class && value instanceof Number) {
+            return ((Number) value).intValue() != 0;
+        }
+        if (value instanceof java.util.Date) {
+            long time = ((java.util.Date) value).getTime();
+            if (targetType == java.sql.Timestamp.class) {
+                return new java.sql.Timestamp(time);
+            } else if (targetType == java.sql.Date.class) {
+                return new java.sql.Date(time);
+            } else if (targetType == java.sql.Time.class) {
+                return new java.sql.Time(time);
+            }
+        }
+        if (targetType == java.io.Reader.class) {
+            return new StringReader(value.toString());
+        }
+        if (targetType == java.io.InputStream.class && value instanceof byte[]) {
+            return new ByteArrayInputStream((byte[]) value);
+        }
+        if (targetType == BigDecimal.class && value instanceof Number) {
+            return new BigDecimal(value.toString());
+        }
+        try {
+            return conversionService.convert(value, targetType);
+        } catch (RuntimeException e) {
+            throw new SQLException("Cannot convert buffered value of type " + value.getClass().getName() + " to " + targetType.getName(), e);
+        }
+    }
+
+    /**
+     * Column metadata of a ResultSet, copied so it stays available after the ResultSet is closed. Failures to read
+     * a property are kept and rethrown when the property is asked for.
+     */
+    static final class Columns implements ResultSetMetaData {
+
+        private static final int CATALOG_NAME = 0;
+        private static final int SCHEMA_NAME = 1;
+        private static final int TABLE_NAME = 2;
+        private static final int COLUMN_NAME = 3;
+        private static final int COLUMN_LABEL = 4;
+        private static final int COLUMN_TYPE = 5;
+        private static final int COLUMN_TYPE_NAME = 6;
+        private static final int COLUMN_CLASS_NAME = 7;
+        private static final int DISPLAY_SIZE = 8;
+        private static final int PRECISION = 9;
+        private static final int SCALE = 10;
+        private static final int NULLABLE = 11;
+        private static final int AUTO_INCREMENT = 12;
+        private static final int CASE_SENSITIVE = 13;
+        private static final int SEARCHABLE = 14;
+        private static final int CURRENCY = 15;
+        private static final int SIGNED = 16;
+        private static final int READ_ONLY = 17;
+        private static final int WRITABLE = 18;
+        private static final int DEFINITELY_WRITABLE = 19;
+
+        private static final PropertyReader[] READERS = {
+                ResultSetMetaData::getCatalogName,
+                ResultSetMetaData::getSchemaName,
+                ResultSetMetaData::getTableName,
+                ResultSetMetaData::getColumnName,
+                ResultSetMetaData::getColumnLabel,
+                ResultSetMetaData::getColumnType,
+                ResultSetMetaData::getColumnTypeName,
+                ResultSetMetaData::getColumnClassName,
+                ResultSetMetaData::getColumnDisplaySize,
+                ResultSetMetaData::getPrecision,
+                ResultSetMetaData::getScale,
+                ResultSetMetaData::isNullable,
+                ResultSetMetaData::isAutoIncrement,
+                ResultSetMetaData::isCaseSensitive,
+                ResultSetMetaData::isSearchable,
+                ResultSetMetaData::isCurrency,
+                ResultSetMetaData::isSigned,
+                ResultSetMetaData::isReadOnly,
+                ResultSetMetaData::isWritable,
+                ResultSetMetaData::isDefinitelyWritable
+        };
+
+        private final int count;
+        private final Map<String, Integer> indexByLabel = new HashMap<>();
+        private final Object[][] properties;
+
+        private Columns(ResultSetMetaData original) throws SQLException {
+            this.count = original.getColumnCount();
+            this.properties = new Object[READERS.length][count];
+            for (int property = 0; property < READERS.length; property++) {
+                for (int i = 0; i < count; i++) {
+                    try {
+                        properties[property][i] = READERS[property].read(original, i + 1);
+                    } catch (SQLException e) {
+                        properties[property][i] = e;
+                    }
+                }
+            }
+            for (int i = count; i >= 1; i--) {
+                // the first column of the given name wins, same as in ResultSet.findColumn()
+                indexByLabel.put(original.getColumnLabel(i).toLowerCase(Locale.ROOT), i);
+            }
+        }
+
+        int indexOf(String label) throws SQLException {
+            Integer index = indexByLabel.get(label.toLowerCase(Locale.ROOT));
+            if (index == null) {
+                throw new SQLException("Column '" + label + "' not found");
+            }
+            return index;
+        }
+
+        private Object property(int property, int column) throws SQLException {
+            if (column < 1 || column > count) {
+                throw new SQLException("Invalid column index " + column);
+            }
+            Object value = properties[property][column - 1];
+            if (value instanceof SQLException) {
+                throw (SQLException) value;
+            }
+            return value;
+        }
+
+        private String stringProperty(int property, int column) throws SQLException {
+            return (String) property(property, column);
+        }
+
+        private int intProperty(int property, int column) throws SQLException {
+            return (Integer) property(property, column);
+        }
+
+        private boolean booleanProperty(int property, int column) throws SQLException {
+            return (Boolean) property(property, column);
+        }
+
+        @Override
+        public int getColumnCount() {
+            return count;
+        }
+
+        @Override
+        public String getCatalogName(int column) throws SQLException {
+            return stringProperty(CATALOG_NAME, column);
+        }
+
+        @Override
+        public String getSchemaName(int column) throws SQLException {
+            return stringProperty(SCHEMA_NAME, column);
+        }
+
+        @Override
+        public String getTableName(int column) throws SQLException {
+            return stringProperty(TABLE_NAME, column);
+        }
+
+        @Override
+        public String getColumnName(int column) throws SQLException {
+            return stringProperty(COLUMN_NAME, column);
+        }
+
+        @Override
+        public String getColumnLabel(int column) throws SQLException {
+            return stringProperty(COLUMN_LABEL, column);
+        }
+
+        @Override
+        public int getColumnType(int column) throws SQLException {
+            return intProperty(COLUMN_TYPE, column);
+        }
+
+        @Override
+        public String getColumnTypeName(int column) throws SQLException {
+            return stringProperty(COLUMN_TYPE_NAME, column);
+        }
+
+        @Override
+        public String getColumnClassName(int column) throws SQLException {
+            return stringProperty(COLUMN_CLASS_NAME, column);
+        }
+
+        @Override
+        public int getColumnDisplaySize(int column) throws SQLException {
+            return intProperty(DISPLAY_SIZE, column);
+        }
+
+        @Override
+        public int getPrecision(int column) throws SQLException {
+            return intProperty(PRECISION, column);
+        }
+
+        @Override
+        public int getScale(int column) throws SQLException {
+            return intProperty(SCALE, column);
+        }
+
+        @Override
+        public int isNullable(int column) throws SQLException {
+            return intProperty(NULLABLE, column);
+        }
+
+        @Override
+        public boolean isAutoIncrement(int column) throws SQLException {
+            return booleanProperty(AUTO_INCREMENT, column);
+        }
+
+        @Override
+        public boolean isCaseSensitive(int column) throws SQLException {
+            return booleanProperty(CASE_SENSITIVE, column);
+        }
+
+        @Override
+        public boolean isSearchable(int column) throws SQLException {
+            return booleanProperty(SEARCHABLE, column);
+        }
+
+        @Override
+        public boolean isCurrency(int column) throws SQLException {
+            return booleanProperty(CURRENCY, column);
+        }
+
+        @Override
+        public boolean isSigned(int column) throws SQLException {
+            return booleanProperty(SIGNED, column);
+        }
+
+        @Override
+        public boolean isReadOnly(int column) throws SQLException {
+            return booleanProperty(READ_ONLY, column);
+        }
+
+        @Override
+        public boolean isWritable(int column) throws SQLException {
+            return booleanProperty(WRITABLE, column);
+        }
+
+        @Override
+        public boolean isDefinitelyWritable(int column) throws SQLException {
+            return booleanProperty(DEFINITELY_WRITABLE, column);
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> iface) throws SQLException {
+            if (iface.isInstance(this)) {
+                return iface.cast(this);
+            }
+            throw new SQLException("Buffered metadata is not a wrapper for " + iface.getName());
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) {
+            return iface.isInstance(this);
+        }
+
+        @FunctionalInterface
+        private interface PropertyReader {
+            Object read(ResultSetMetaData metaData, int column) throws SQLException;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.util.Map;
+
+/**
+ * SqlParameterSource adding a few values on top of another SqlParameterSource. Used when the fluent builders derive
+ * new statements (with some extra parameters) from the statement configured by the user.
+ */
+class CompositeSqlParameterSource implements SqlParameterSource {
+
+    private final MapSqlParameterSource extra;
+    private final SqlParameterSource base;
+
+    CompositeSqlParameterSource(SqlParameterSource base, Map<String, ?> extraValues) {
+        this.base = base;
+        this.extra = new MapSqlParameterSource(extraValues);
+    }
+
+    @Override
+    public boolean hasValue(String paramName) {
+        return extra.hasValue(paramName) || base.hasValue(paramName);
+    }
+
+    @Override
+    public Object getValue(String paramName) throws IllegalArgumentException {
+        return extra.hasValue(paramName) ? extra.getValue(paramName) : base.getValue(paramName);
+    }
+
+    @Override
+    public int getSqlType(String paramName) {
+        return extra.hasValue(paramName) ? extra.getSqlType(paramName) : base.getSqlType(paramName);
+    }
+
+    @Override
+    public String getTypeName(String paramName) {
+        return extra.hasValue(paramName) ? extra.getTypeName(paramName) : base.getTypeName(paramName);
+    }
+}
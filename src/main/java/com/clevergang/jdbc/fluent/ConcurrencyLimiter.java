@@ -0,0 +1,444 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Admission control in front of the connection pool. It limits the number of statements of the query and update
+ * builders executing at the same time and lets the statements over the limit wait in queues per {@link Priority} -
+ * when a statement finishes, the longest waiting statement of the highest priority is executed next. When the queue of
+ * a priority is full, new statements of that priority are rejected with {@link StatementRejectedException} (load
+ * shedding), and statements with a {@link Deadline} stop waiting once the deadline passes.
+ *
+ * <p>The limit adapts to the observed latency (AIMD): for each SQL the limiter tracks the lowest latency seen so far
+ * (slowly drifting towards recent latencies). An execution taking more than {@link #setLatencyTolerance(double) tolerance}
+ * times that latency, or timing out, means the database or the pool is overloaded, and the limit is multiplied by 0.9
+ * (at most once per round of executions in flight). Otherwise, if at least half of the limit is in use, the limit grows
+ * by one per round. So under overload the statements queue here, where interactive statements overtake batch ones,
+ * instead of queueing in the pool or in the database. Example:
+ * <pre>{@code
+ * ConcurrencyLimiter limiter = new ConcurrencyLimiter();
+ * limiter.setLimitBounds(2, 20);
+ * limiter.setMaxQueueLength(Priority.BATCH, 10);
+ * jdbc.setConcurrencyLimiter(limiter);
+ *
+ * User user = jdbc.query("SELECT * FROM users WHERE id = :id").bind("id", id).priority(Priority.INTERACTIVE).fetchOne(User.class);
+ * }</pre>
+ *
+ * <p>Statements executed by a thread which already executes an admitted statement (e.g. by a row mapper) are part of
+ * that statement and are not limited. A subscription of a reactive publisher ({@code fetchPublisher()}) is admitted
+ * when it opens its statement and counts as executing until it completes, fails or is cancelled; its latency depends on
+ * the subscriber, so it does not adjust the limit. The statements are admitted before they take a connection from the pool, except the statements of a thread which
+ * already holds a connection of the DataSource (in a Spring managed transaction): such statements do not wait, they
+ * are admitted even over the limit, because a waiting statement would keep its connection away from the admitted
+ * ones. They still count as executing statements.
+ *
+ * <p><b>NOTE: An instance of this class is thread-safe (once configured).</b>
+ */
+public class ConcurrencyLimiter {
+
+    /**
+     * Default initial limit of statements executing at the same time.
+     */
+    public static final int DEFAULT_INITIAL_LIMIT = 10;
+
+    /**
+     * Default lower bound of the adaptive limit.
+     */
+    public static final int DEFAULT_MIN_LIMIT = 1;
+
+    /**
+     * Default upper bound of the adaptive limit.
+     */
+    public static final int DEFAULT_MAX_LIMIT = 100;
+
+    /**
+     * Default maximal number of waiting statements of each priority.
+     */
+    public static final int DEFAULT_MAX_QUEUE_LENGTH = 100;
+
+    /**
+     * Default ratio of the latency of a statement to its usual latency which is a sign of overload.
+     */
+    public static final double DEFAULT_LATENCY_TOLERANCE = 2.0;
+
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double BASELINE_DRIFT = 0.01;
+    // latency increases below this are noise, not a sign of overload
+    private static final long MIN_LATENCY_INCREASE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int MAX_TRACKED_STATEMENTS = 512;
+
+    private final ThreadLocal<Boolean> admitted = new ThreadLocal<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Priority, Deque<Waiter>> queues = new EnumMap<>(Priority.class);
+    private final Map<Priority, Integer> maxQueueLengths = new EnumMap<>(Priority.class);
+    private final Map<String, Long> baselines = new HashMap<>();
+    private double limit = DEFAULT_INITIAL_LIMIT;
+    private int minLimit = DEFAULT_MIN_LIMIT;
+    private int maxLimit = DEFAULT_MAX_LIMIT;
+    private double latencyTolerance = DEFAULT_LATENCY_TOLERANCE;
+    private int inFlight;
+    private int completionsToSkip;
+    private long rejectedCount;
+
+    public ConcurrencyLimiter() {
+        for (Priority priority : Priority.values()) {
+            queues.put(priority, new ArrayDeque<>());
+            maxQueueLengths.put(priority, DEFAULT_MAX_QUEUE_LENGTH);
+        }
+    }
+
+    /**
+     * Sets bounds of the adaptive limit. Defaults are {@value #DEFAULT_MIN_LIMIT} and {@value #DEFAULT_MAX_LIMIT},
+     * the maximum should not be greater than the size of the connection pool.
+     *
+     * @param minLimit minimal number of statements executing at the same time
+     * @param maxLimit maximal number of statements executing at the same time
+     */
+    public void setLimitBounds(int minLimit, int maxLimit) {
+        Assert.isTrue(minLimit > 0 && minLimit <= maxLimit, "Invalid limit bounds");
+        lock.lock();
+        try {
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            setLimit(limit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sets the current limit, e.g. the initial one, which is {@value #DEFAULT_INITIAL_LIMIT} by default. The limit is
+     * kept within the bounds.
+     *
+     * @param limit number of statements executing at the same time
+     */
+    public void setLimit(int limit) {
+        lock.lock();
+        try {
+            setLimit((double) limit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sets how many times longer than usual an execution of a statement has to take to be a sign of overload.
+     * Default is {@value #DEFAULT_LATENCY_TOLERANCE}.
+     *
+     * @param latencyTolerance ratio of the latency to the usual latency of the statement, greater than 1
+     */
+    public void setLatencyTolerance(double latencyTolerance) {
+        Assert.isTrue(latencyTolerance > 1, "Latency tolerance must be greater than 1");
+        lock.lock();
+        try {
+            this.latencyTolerance = latencyTolerance;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sets the maximal number of waiting statements of given priority, statements over it are rejected. Default is
+     * {@value #DEFAULT_MAX_QUEUE_LENGTH} for all priorities.
+     *
+     * @param priority       the priority
+     * @param maxQueueLength maximal number of waiting statements, 0 rejects statements of the priority whenever the limit is reached
+     */
+    public void setMaxQueueLength(Priority priority, int maxQueueLength) {
+        Assert.notNull(priority, "You HAVE TO provide priority");
+        Assert.isTrue(maxQueueLength >= 0, "Maximal queue length must not be negative");
+        lock.lock();
+        try {
+            maxQueueLengths.put(priority, maxQueueLength);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return current limit of statements executing at the same time
+     */
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return number of statements executing now
+     */
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return number of statements of given priority waiting for execution
+     */
+    public int getQueueLength(Priority priority) {
+        lock.lock();
+        try {
+            return queues.get(priority).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return number of statements rejected because the queue of their priority was full
+     */
+    public long getRejectedCount() {
+        lock.lock();
+        try {
+            return rejectedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Executes given statement once it is admitted.
+     *
+     * @param priority   priority of the statement, null for {@link Priority#NORMAL}
+     * @param deadline   deadline of the statement, null if there is none
+     * @param sql        SQL of the statement, the latency is tracked per SQL
+     * @param dataSource DataSource the statement is executed on, or null if not known
+     * @param statement  execution of the statement
+     * @throws StatementRejectedException if the queue of the priority is full
+     * @throws DeadlineExceededException  if the deadline passed while the statement was waiting
+     */
+    <R> R execute(Priority priority, Deadline deadline, String sql, DataSource dataSource, Supplier<R> statement) {
+        if (admitted.get() != null) {
+            // executed as a part of another admitted statement, which could never finish if this one had to wait
+            return statement.get();
+        }
+        if (dataSource != null && TransactionSynchronizationManager.hasResource(dataSource)) {
+            // the thread holds a connection already, waiting would keep it from the admitted statements
+            admitNow();
+        } else {
+            acquire(priority != null ? priority : Priority.NORMAL, deadline, sql);
+        }
+        admitted.set(Boolean.TRUE);
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            return statement.get();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            admitted.remove();
+            release(sql, System.nanoTime() - start, failure);
+        }
+    }
+
+    /**
+     * Admits a statement which is not executed by a single call on the current thread - a subscription of a reactive
+     * publisher, which opens the statement on one thread and reads it on others. The statement has to be released by
+     * {@link #leave()} once it completes, fails or is cancelled.
+     *
+     * @param priority   priority of the statement, null for {@link Priority#NORMAL}
+     * @param deadline   deadline of the statement, null if there is none
+     * @param sql        SQL of the statement
+     * @param dataSource DataSource the statement is executed on, or null if not known
+     * @throws StatementRejectedException if the queue of the priority is full
+     * @throws DeadlineExceededException  if the deadline passed while the statement was waiting
+     */
+    void admit(Priority priority, Deadline deadline, String sql, DataSource dataSource) {
+        if (dataSource != null && TransactionSynchronizationManager.hasResource(dataSource)) {
+            admitNow();
+        } else {
+            acquire(priority != null ? priority : Priority.NORMAL, deadline, sql);
+        }
+    }
+
+    /**
+     * Releases a statement admitted by {@link #admit(Priority, Deadline, String, DataSource)}. Its latency depends on
+     * the consumer of the rows, so it does not adjust the limit.
+     */
+    void leave() {
+        lock.lock();
+        try {
+            inFlight--;
+            admitWaiting();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marks the current thread as executing an admitted statement, so the statements it executes meanwhile (e.g. by
+     * a row mapper) are part of that statement and are not limited.
+     *
+     * @return Returns callback restoring the previous state of the thread
+     */
+    Runnable enterAdmitted() {
+        Boolean previous = admitted.get();
+        admitted.set(Boolean.TRUE);
+        return () -> {
+            if (previous == null) {
+                admitted.remove();
+            }
+        };
+    }
+
+    private void admitNow() {
+        lock.lock();
+        try {
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void acquire(Priority priority, Deadline deadline, String sql) {
+        lock.lock();
+        try {
+            if (inFlight < (int) limit) {
+                // nobody waits while there is a free slot, see admitWaiting()
+                inFlight++;
+                return;
+            }
+            Deque<Waiter> queue = queues.get(priority);
+            if (queue.size() >= maxQueueLengths.get(priority)) {
+                rejectedCount++;
+                throw new StatementRejectedException("Too many " + priority + " statements wait for execution ("
+                        + queue.size() + "), statement rejected: " + sql);
+            }
+            Waiter waiter = new Waiter(lock.newCondition());
+            queue.addLast(waiter);
+            try {
+                while (!waiter.admitted) {
+                    if (deadline == null) {
+                        waiter.condition.await();
+                    } else {
+                        long remainingNanos = deadline.remaining(TimeUnit.NANOSECONDS);
+                        if (remainingNanos <= 0) {
+                            queue.remove(waiter);
+                            deadline.check(sql);
+                        }
+                        waiter.condition.awaitNanos(remainingNanos);
+                    }
+                }
+            } catch (InterruptedException e) {
+                if (waiter.admitted) {
+                    inFlight--;
+                    admitWaiting();
+                } else {
+                    queue.remove(waiter);
+                }
+                Thread.currentThread().interrupt();
+                throw new DataAccessResourceFailureException("Interrupted while waiting for execution of the statement", e);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(String sql, long latencyNanos, Throwable failure) {
+        lock.lock();
+        try {
+            boolean utilized = inFlight >= limit / 2;
+            inFlight--;
+            boolean timedOut = failure instanceof QueryTimeoutException && !(failure instanceof DeadlineExceededException);
+            adjustLimit(sql, latencyNanos, timedOut, utilized);
+            admitWaiting();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void adjustLimit(String sql, long latencyNanos, boolean timedOut, boolean utilized) {
+        Long baseline = baselines.get(sql);
+        if (baseline == null) {
+            if (baselines.size() < MAX_TRACKED_STATEMENTS) {
+                baselines.put(sql, latencyNanos);
+            }
+        } else if (latencyNanos < baseline) {
+            baselines.put(sql, latencyNanos);
+        } else {
+            // follows lasting changes of the latency, e.g. growing tables
+            baselines.put(sql, baseline + (long) ((latencyNanos - baseline) * BASELINE_DRIFT));
+        }
+
+        if (completionsToSkip > 0) {
+            // the statement was admitted before the last decrease, its latency does not reflect the current limit
+            completionsToSkip--;
+            return;
+        }
+        boolean overloaded = timedOut || (baseline != null && latencyNanos > baseline * latencyTolerance
+                && latencyNanos - baseline > MIN_LATENCY_INCREASE_NANOS);
+        if (overloaded) {
+            setLimit(limit * BACKOFF_RATIO);
+            completionsToSkip = inFlight;
+        } else if (utilized) {
+            setLimit(limit + 1 / limit);
+        }
+    }
+
+    private void setLimit(double newLimit) {
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        admitWaiting();
+    }
+
+    /**
+     * Admits waiting statements, highest priority first, while there are free slots.
+     */
+    private void admitWaiting() {
+        for (Priority priority : Priority.values()) {
+            Deque<Waiter> queue = queues.get(priority);
+            while (inFlight < (int) limit && !queue.isEmpty()) {
+                Waiter waiter = queue.pollFirst();
+                waiter.admitted = true;
+                inFlight++;
+                waiter.condition.signal();
+            }
+        }
+    }
+
+    private static class Waiter {
+        private final Condition condition;
+        private boolean admitted;
+
+        Waiter(Condition condition) {
+            this.condition = condition;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import org.springframework.util.Assert;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point in time by which the statements of a unit of work (e.g. handling of one request) have to finish. Statements
+ * of the fluent builders executed under a deadline get the remaining time as their JDBC query timeout, and once the
+ * deadline passes, they fail with {@link DeadlineExceededException} before a connection is even acquired.
+ *
+ * <p>A deadline is either set explicitly on a builder ({@code deadline()}), or activated for the current thread:
+ * <pre>{@code
+ * try (Deadline.Scope scope = Deadline.after(2, TimeUnit.SECONDS).activate()) {
+ *     User user = jdbc.query("SELECT * FROM users WHERE id = :id").bind("id", id).fetchOne(User.class);
+ *     List<Order> orders = jdbc.query("SELECT * FROM orders WHERE user_id = :id").bind("id", id).fetch(Order.class);
+ * }
+ * }</pre>
+ *
+ * When both are present, the earlier one applies - a deadline can be shortened, never extended. Asynchronous and
+ * parallel terminals pass the deadline of the calling thread to the threads executing the statements.
+ *
+ * <p>Note that JDBC query timeouts have a granularity of seconds, the remaining time is rounded up.
+ *
+ * <p><b>NOTE: An instance of this class is immutable and thread-safe.</b>
+ */
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> current = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * @param timeout time budget from now
+     * @param unit    the time unit of the budget
+     * @return Returns deadline after given time from now
+     */
+    public static Deadline after(long timeout, TimeUnit unit) {
+        Assert.isTrue(timeout >= 0, "timeout must not be negative");
+        Assert.notNull(unit, "You HAVE TO provide a time unit");
+        return new Deadline(System.nanoTime() + unit.toNanos(timeout));
+    }
+
+    /**
+     * @return Returns the deadline activated for the current thread, or null if there is none
+     */
+    public static Deadline current() {
+        return current.get();
+    }
+
+    /**
+     * Makes this deadline current for the current thread, until the returned scope is closed. If a deadline is
+     * already active and it is earlier than this one, it stays in force.
+     *
+     * @return scope which restores the previously active deadline when closed
+     */
+    public Scope activate() {
+        Deadline previous = current.get();
+        current.set(earlier(previous, this));
+        return new Scope(previous);
+    }
+
+    /**
+     * @param unit the time unit of the result
+     * @return Returns time remaining to the deadline, 0 if the deadline has passed
+     */
+    public long remaining(TimeUnit unit) {
+        return unit.convert(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return Returns true if the deadline has passed
+     */
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * @return Returns the earlier of given deadlines, either of them may be null
+     */
+    static Deadline earlier(Deadline first, Deadline second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        return second.deadlineNanos - first.deadlineNanos < 0 ? second : first;
+    }
+
+    /**
+     * @param sql statement about to be executed
+     * @throws DeadlineExceededException if the deadline has passed
+     */
+    void check(String sql) {
+        long overdueNanos = System.nanoTime() - deadlineNanos;
+        if (overdueNanos >= 0) {
+            throw new DeadlineExceededException("Deadline exceeded by " + TimeUnit.NANOSECONDS.toMillis(overdueNanos)
+                    + " ms, statement not executed: " + sql);
+        }
+    }
+
+    /**
+     * Lowers the query timeout of given statement to the time remaining to the deadline (rounded up to seconds).
+     *
+     * @throws DeadlineExceededException if the deadline has passed
+     */
+    void applyTo(Statement statement) throws SQLException {
+        long remainingMillis = remaining(TimeUnit.MILLISECONDS);
+        if (remainingMillis <= 0) {
+            throw new DeadlineExceededException("Deadline exceeded, statement not executed");
+        }
+        int remainingSeconds = (int) Math.min(Integer.MAX_VALUE, (remainingMillis + 999) / 1000);
+        int queryTimeout = statement.getQueryTimeout();
+        if (queryTimeout == 0 || remainingSeconds < queryTimeout) {
+            statement.setQueryTimeout(remainingSeconds);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline{remaining=" + remaining(TimeUnit.MILLISECONDS) + " ms}";
+    }
+
+    /**
+     * Scope of a deadline activated by {@link #activate()}. Has to be closed by the thread which activated it.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Deadline previous;
+        private boolean closed;
+
+        private Scope(Deadline previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (previous != null) {
+                current.set(previous);
+            } else {
+                current.remove();
+            }
+        }
+    }
+}
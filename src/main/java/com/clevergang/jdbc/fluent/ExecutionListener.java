@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.clevergang.jdbc.fluent;
+
+/**
+ * Listener notified about every statement executed by the terminals of {@link FluentQueryBuilder} and
+ * {@link FluentUpdateBuilder} created by a {@link com.clevergang.jdbc.FluentNamedParameterJdbcTemplate} the listener
+ * is {@link com.clevergang.jdbc.FluentNamedParameterJdbcTemplate#addExecutionListener(ExecutionListener) registered} to.
+ * Listeners are called synchronously on the thread which executes the statement (which is not the caller's thread
+ * for asynchronous terminals), so they should be fast and thread-safe. Example:
+ * <pre>{@code
+ * jdbc.addExecutionListener(execution -> {
+ *     if (execution.getTotalNanos() > slowThreshold) {
+ *         log.warn("Slow statement: {}", execution);
+ *     }
+ * });
+ * }</pre>
+ * An exception thrown by a listener is propagated to the caller of the terminal (after all listeners were notified),
+ * unless the statement itself failed - then it is added to the statement's exception as suppressed. Listeners keeping
+ * state of the calling thread (e.g. a thread local) can carry it over to the executor threads by
+ * {@link #captureContext()}.
+ */
+@FunctionalInterface
+public interface ExecutionListener {
+
+    /**
+     * Called right before the connection for the statement is obtained.
+     *
+     * @param sql SQL of the statement, with named parameters
+     */
+    default void beforeExecution(String sql) {
+    }
+
+    /**
+     * Called after the statement finished (successfully or not) and its JDBC resources were released.
+     *
+     * @param execution description of the execution
+     */
+    void afterExecution(StatementExecution execution);
+
+    /**
+     * Called on the thread submitting statements to be executed on another thread - by the asynchronous terminals,
+     * {@link FluentParallelQueries}, hedged attempts and shards of {@link FluentScatterGather}. The returned context
+     * is attached to the executor thread while the statements run.
+     *
+     * @return Returns state of the current thread the listener needs on the executor thread, null if there is none
+     */
+    default Context captureContext() {
+        return null;
+    }
+
+    /**
+     * State of a thread captured by {@link #captureContext()}.
+     */
+    @FunctionalInterface
+    interface Context {
+
+        /**
+         * Makes the captured state current on the executor thread.
+         *
+         * @return Returns action restoring the previous state of the executor thread
+         */
+        Runnable attach();
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JDBC settings of one statement: query timeout, maximum number of rows, fetch size, fetch direction and result set
+ * hints. Options are set on a builder ({@code options()}, or shortcuts like {@code timeout()}) or registered on the
+ * template as a named profile and used by {@code profile()}:
+ * <pre>{@code
+ * jdbc.registerExecutionProfile("report", ExecutionOptions.create()
+ *         .withTimeout(5, TimeUnit.MINUTES)
+ *         .withFetchSize(5000)
+ *         .withForwardOnly(true)
+ *         .withReadOnly(true));
+ *
+ * List<Order> orders = jdbc.query("SELECT * FROM orders WHERE created > :since")
+ *                          .bind("since", since)
+ *                          .profile("report")
+ *                          .fetch(Order.class);
+ * }</pre>
+ * The options are applied to the statement only - the shared JdbcTemplate and its settings stay untouched. Options which
+ * are not set keep the settings of the JdbcTemplate. The query timeout never exceeds the remaining time of the current
+ * Spring managed transaction, if that has a timeout.
+ *
+ * <p>Instances are immutable, the {@code with*} methods return new instances.
+ */
+public final class ExecutionOptions {
+
+    private static final ExecutionOptions NONE = new ExecutionOptions(null, null, null, null, null, null);
+
+    private final Integer queryTimeoutSeconds;
+    private final Integer maxRows;
+    private final Integer fetchSize;
+    private final Integer fetchDirection;
+    private final Boolean forwardOnly;
+    private final Boolean readOnly;
+
+    private ExecutionOptions(Integer queryTimeoutSeconds, Integer maxRows, Integer fetchSize, Integer fetchDirection,
+                             Boolean forwardOnly, Boolean readOnly) {
+        this.queryTimeoutSeconds = queryTimeoutSeconds;
+        this.maxRows = maxRows;
+        this.fetchSize = fetchSize;
+        this.fetchDirection = fetchDirection;
+        this.forwardOnly = forwardOnly;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * @return options with nothing set
+     */
+    public static ExecutionOptions create() {
+        return NONE;
+    }
+
+    /**
+     * @param timeout query timeout, 0 for no timeout. JDBC timeouts have the granularity of seconds, the timeout is
+     *                rounded up to whole seconds.
+     * @param unit    the time unit of the timeout
+     * @return new options with the query timeout set
+     */
+    public ExecutionOptions withTimeout(long timeout, TimeUnit unit) {
+        Assert.isTrue(timeout >= 0, "Timeout must not be negative");
+        Assert.notNull(unit, "You HAVE TO provide time unit");
+        long seconds = (unit.toMillis(timeout) + 999) / 1000;
+        return new ExecutionOptions((int) Math.min(Integer.MAX_VALUE, seconds), maxRows, fetchSize, fetchDirection, forwardOnly, readOnly);
+    }
+
+    /**
+     * @param maxRows maximum number of rows the query returns, rows over the limit are silently dropped (0 for no limit)
+     * @return new options with the maximum number of rows set
+     */
+    public ExecutionOptions withMaxRows(int maxRows) {
+        Assert.isTrue(maxRows >= 0, "Maximum number of rows must not be negative");
+        return new ExecutionOptions(queryTimeoutSeconds, maxRows, fetchSize, fetchDirection, forwardOnly, readOnly);
+    }
+
+    /**
+     * @param fetchSize number of rows fetched from the database in one round-trip (0 for the driver's default)
+     * @return new options with the fetch size set
+     */
+    public ExecutionOptions withFetchSize(int fetchSize) {
+        Assert.isTrue(fetchSize >= 0, "Fetch size must not be negative");
+        return new ExecutionOptions(queryTimeoutSeconds, maxRows, fetchSize, fetchDirection, forwardOnly, readOnly);
+    }
+
+    /**
+     * @param fetchDirection {@link ResultSet#FETCH_FORWARD}, {@link ResultSet#FETCH_REVERSE} (requires scrollable result
+     *                       set, see {@link #withForwardOnly(boolean)}) or {@link ResultSet#FETCH_UNKNOWN}
+     * @return new options with the fetch direction hint set
+     */
+    public ExecutionOptions withFetchDirection(int fetchDirection) {
+        Assert.isTrue(fetchDirection == ResultSet.FETCH_FORWARD || fetchDirection == ResultSet.FETCH_REVERSE
+                || fetchDirection == ResultSet.FETCH_UNKNOWN, "Invalid fetch direction: " + fetchDirection);
+        return new ExecutionOptions(queryTimeoutSeconds, maxRows, fetchSize, fetchDirection, forwardOnly, readOnly);
+    }
+
+    /**
+     * @param forwardOnly true for {@link ResultSet#TYPE_FORWARD_ONLY} result set (lets drivers stream the rows), false
+     *                    for {@link ResultSet#TYPE_SCROLL_INSENSITIVE}
+     * @return new options with the result set type set
+     */
+    public ExecutionOptions withForwardOnly(boolean forwardOnly) {
+        return new ExecutionOptions(queryTimeoutSeconds, maxRows, fetchSize, fetchDirection, forwardOnly, readOnly);
+    }
+
+    /**
+     * @param readOnly true for {@link ResultSet#CONCUR_READ_ONLY} result set, false for {@link ResultSet#CONCUR_UPDATABLE}
+     * @return new options with the result set concurrency set
+     */
+    public ExecutionOptions withReadOnly(boolean readOnly) {
+        return new ExecutionOptions(queryTimeoutSeconds, maxRows, fetchSize, fetchDirection, forwardOnly, readOnly);
+    }
+
+    /**
+     * @param other options to add
+     * @return new options with all options of this instance and all options set in the other instance, the latter
+     * taking precedence
+     */
+    public ExecutionOptions with(ExecutionOptions other) {
+        Assert.notNull(other, "You HAVE TO provide options");
+        return new ExecutionOptions(
+                other.queryTimeoutSeconds != null ? other.queryTimeoutSeconds : queryTimeoutSeconds,
+                other.maxRows != null ? other.maxRows : maxRows,
+                other.fetchSize != null ? other.fetchSize : fetchSize,
+                other.fetchDirection != null ? other.fetchDirection : fetchDirection,
+                other.forwardOnly != null ? other.forwardOnly : forwardOnly,
+                other.readOnly != null ? other.readOnly : readOnly);
+    }
+
+    /**
+     * @return query timeout in seconds, null if not set
+     */
+    public Integer getQueryTimeoutSeconds() {
+        return queryTimeoutSeconds;
+    }
+
+    /**
+     * @return maximum number of rows, null if not set
+     */
+    public Integer getMaxRows() {
+        return maxRows;
+    }
+
+    /**
+     * @return fetch size, null if not set
+     */
+    public Integer getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * @return fetch direction hint, null if not set
+     */
+    public Integer getFetchDirection() {
+        return fetchDirection;
+    }
+
+    /**
+     * @return true for forward only result set, false for scrollable one, null if not set
+     */
+    public Boolean getForwardOnly() {
+        return forwardOnly;
+    }
+
+    /**
+     * @return true for read only result set, false for updatable one, null if not set
+     */
+    public Boolean getReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * @return true if the statement has to be prepared with non-default result set type or concurrency
+     */
+    boolean hasResultSetHints() {
+        return forwardOnly != null || readOnly != null;
+    }
+
+    /**
+     * @return result set type for preparing the statement
+     */
+    int getResultSetType() {
+        return Boolean.FALSE.equals(forwardOnly) ? ResultSet.TYPE_SCROLL_INSENSITIVE : ResultSet.TYPE_FORWARD_ONLY;
+    }
+
+    /**
+     * Applies the options to the statement, after the template applied its own settings.
+     *
+     * @param statement  statement to configure
+     * @param dataSource DataSource the statement belongs to (to find the transaction timeout), or null if not known
+     */
+    void applyTo(Statement statement, DataSource dataSource) throws SQLException {
+        if (fetchSize != null) {
+            statement.setFetchSize(fetchSize);
+        }
+        if (maxRows != null) {
+            statement.setMaxRows(maxRows);
+        }
+        if (fetchDirection != null) {
+            statement.setFetchDirection(fetchDirection);
+        }
+        if (queryTimeoutSeconds != null) {
+            statement.setQueryTimeout(capByTransaction(queryTimeoutSeconds, dataSource));
+        }
+    }
+
+    private static int capByTransaction(int timeoutSeconds, DataSource dataSource) {
+        Object resource = dataSource != null ? TransactionSynchronizationManager.getResource(dataSource) : null;
+        if (resource instanceof ConnectionHolder && ((ConnectionHolder) resource).hasTimeout()) {
+            int remaining = ((ConnectionHolder) resource).getTimeToLiveInSeconds();
+            return timeoutSeconds > 0 ? Math.min(timeoutSeconds, remaining) : remaining;
+        }
+        return timeoutSeconds;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "ExecutionOptions[", "]");
+        if (queryTimeoutSeconds != null) {
+            joiner.add("timeout=" + queryTimeoutSeconds + "s");
+        }
+        if (maxRows != null) {
+            joiner.add("maxRows=" + maxRows);
+        }
+        if (fetchSize != null) {
+            joiner.add("fetchSize=" + fetchSize);
+        }
+        if (fetchDirection != null) {
+            joiner.add("fetchDirection=" + fetchDirection);
+        }
+        if (forwardOnly != null) {
+            joiner.add("forwardOnly=" + forwardOnly);
+        }
+        if (readOnly != null) {
+            joiner.add("readOnly=" + readOnly);
+        }
+        return joiner.toString();
+    }
+}
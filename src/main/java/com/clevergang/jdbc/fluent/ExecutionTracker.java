@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.clevergang.jdbc.fluent;
+
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.util.List;
+
+/**
+ * Measures one statement execution of a fluent builder and notifies the {@link ExecutionListener}s about it. The
+ * builders create a tracker only if there are any listeners, so the execution path without listeners stays the same.
+ * Used by the thread which executes the statement only.
+ */
+final class ExecutionTracker {
+
+    private final List<ExecutionListener> listeners;
+    private final StatementExecution.Kind kind;
+    private final String sql;
+    private final SqlParameterSource parameters;
+    private final long startTimeMillis = System.currentTimeMillis();
+    private final long start = System.nanoTime();
+    private long ready;
+    private long executed;
+    private long mapped;
+    private int rowCount = -1;
+
+    private ExecutionTracker(List<ExecutionListener> listeners, StatementExecution.Kind kind, String sql, SqlParameterSource parameters) {
+        this.listeners = listeners;
+        this.kind = kind;
+        this.sql = sql;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Notifies the listeners that the statement is about to be executed and starts measuring it.
+     *
+     * @return Returns the tracker of the execution, or null if there are no listeners
+     */
+    static ExecutionTracker start(List<ExecutionListener> listeners, StatementExecution.Kind kind, String sql, SqlParameterSource parameters) {
+        if (listeners.isEmpty()) {
+            return null;
+        }
+        for (ExecutionListener listener : listeners) {
+            listener.beforeExecution(sql);
+        }
+        return new ExecutionTracker(listeners, kind, sql, parameters);
+    }
+
+    /**
+     * Marks the end of connection acquisition and statement preparation.
+     */
+    void statementReady() {
+        ready = System.nanoTime();
+    }
+
+    /**
+     * Marks the end of the statement execution.
+     */
+    void statementExecuted() {
+        executed = System.nanoTime();
+    }
+
+    /**
+     * Marks the end of the result mapping.
+     */
+    void resultMapped() {
+        mapped = System.nanoTime();
+    }
+
+    /**
+     * Sets number of rows affected by an update or read by a query (unless they are counted by {@link #countRows(ResultSet)}).
+     */
+    void setRowCount(int rowCount) {
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * Sets number of rows read by a query from the result of its extractor. Only the extractors of the library mapping
+     * each row to one element of a list tell the number, for other extractors the number stays unknown (-1), so the
+     * ResultSet does not have to be wrapped.
+     */
+    void setRowCount(ResultSetExtractor<?> extractor, Object result) {
+        if (result instanceof List && (extractor instanceof RowMapperResultSetExtractor
+                || extractor instanceof AdaptiveRowMapperResultSetExtractor || extractor instanceof ParallelMappingResultSetExtractor)) {
+            rowCount = ((List<?>) result).size();
+        }
+    }
+
+    /**
+     * Notifies the listeners about the finished execution.
+     *
+     * @param failure exception thrown by the statement, or null if it succeeded
+     * @throws RuntimeException thrown by a listener, if the statement succeeded
+     */
+    void finished(Throwable failure) {
+        long end = System.nanoTime();
+        // a failed statement did not reach all the phases, the phase in progress ends with the failure
+        long acquisitionNanos = (ready != 0 ? ready : end) - start;
+        long executionNanos = ready != 0 ? (executed != 0 ? executed : end) - ready : 0;
+        long mappingNanos = executed != 0 ? (mapped != 0 ? mapped : end) - executed : 0;
+        StatementExecution execution = new StatementExecution(kind, sql, parameters, startTimeMillis,
+                acquisitionNanos, executionNanos, mappingNanos, end - start, rowCount, failure);
+
+        RuntimeException listenerFailure = null;
+        for (ExecutionListener listener : listeners) {
+            try {
+                listener.afterExecution(execution);
+            } catch (RuntimeException e) {
+                if (listenerFailure == null) {
+                    listenerFailure = e;
+                } else {
+                    listenerFailure.addSuppressed(e);
+                }
+            }
+        }
+        if (listenerFailure != null) {
+            if (failure != null) {
+                failure.addSuppressed(listenerFailure);
+            } else {
+                throw listenerFailure;
+            }
+        }
+    }
+}
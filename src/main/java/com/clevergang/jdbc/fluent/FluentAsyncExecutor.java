@@ -0,0 +1,270 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import org.springframework.util.Assert;
+
+import java.lang.reflect.Method;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Executor used by the asynchronous terminals of the fluent builders ({@code fetchAsync()}, {@code fetchOneAsync()},
+ * {@code executeAsync()}). It wraps any {@link Executor} and bounds the number of statements which can run concurrently,
+ * so asynchronous calls cannot take more connections from the pool than configured. Tasks over the limit wait for
+ * a free slot on the executor thread, not on the caller thread.
+ *
+ * <p>The {@link #createDefault() default} instance runs each statement on a new virtual thread when the runtime
+ * supports them (Java 21+) and on a fixed pool of daemon threads otherwise.
+ *
+ * <p>The same limit bounds the number of open subscriptions of publishers created by {@code fetchPublisher()}, which
+ * hold their connection also between the tasks reading their rows. A subscription over the limit opens its statement
+ * once another subscription finishes.
+ *
+ * <p>Note that asynchronous statements run on a different thread than the caller and therefore do NOT participate
+ * in the caller's Spring managed transaction.
+ *
+ * <p><b>NOTE: An instance of this class is thread-safe.</b>
+ */
+public class FluentAsyncExecutor implements Executor {
+
+    /**
+     * Default maximum of concurrently running asynchronous statements. Matches the default size of common connection pools.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 10;
+
+    private static volatile FluentAsyncExecutor sharedDefault;
+    private static volatile FluentAsyncExecutor sharedPublisherDefault;
+    private static final ThreadLocal<Boolean> runningTask = new ThreadLocal<>();
+
+    private final Executor delegate;
+    private final Semaphore permits;
+    private final Semaphore streamPermits;
+    private final Queue<Runnable> waitingStreams = new ConcurrentLinkedQueue<>();
+    private final int maxConcurrency;
+
+    /**
+     * Creates new FluentAsyncExecutor.
+     *
+     * @param delegate       executor which runs the statements
+     * @param maxConcurrency maximum number of statements running at the same time, should not be greater than size
+     *                       of the connection pool
+     */
+    public FluentAsyncExecutor(Executor delegate, int maxConcurrency) {
+        Assert.notNull(delegate, "You HAVE TO provide an executor");
+        Assert.isTrue(maxConcurrency > 0, "maxConcurrency must be positive");
+        this.delegate = delegate;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.streamPermits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * Creates executor with {@link #DEFAULT_MAX_CONCURRENCY} limit, using virtual-thread-per-task executor when the
+     * runtime supports it and fixed pool of daemon threads otherwise.
+     *
+     * @return new FluentAsyncExecutor instance
+     */
+    public static FluentAsyncExecutor createDefault() {
+        return createDefault(DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Creates executor with given concurrency limit, using virtual-thread-per-task executor when the
+     * runtime supports it and fixed pool of daemon threads otherwise.
+     *
+     * @param maxConcurrency maximum number of statements running at the same time
+     * @return new FluentAsyncExecutor instance
+     */
+    public static FluentAsyncExecutor createDefault(int maxConcurrency) {
+        ExecutorService virtualThreads = newVirtualThreadPerTaskExecutor();
+        if (virtualThreads != null) {
+            return new FluentAsyncExecutor(virtualThreads, maxConcurrency);
+        }
+        return new FluentAsyncExecutor(Executors.newFixedThreadPool(maxConcurrency, daemonThreadFactory("fluent-jdbc-async-")), maxConcurrency);
+    }
+
+    /**
+     * @return lazily created default executor shared by templates which were not configured with their own executor
+     */
+    public static FluentAsyncExecutor getSharedDefault() {
+        if (sharedDefault == null) {
+            synchronized (FluentAsyncExecutor.class) {
+                if (sharedDefault == null) {
+                    sharedDefault = createDefault();
+                }
+            }
+        }
+        return sharedDefault;
+    }
+
+    /**
+     * @return lazily created default executor of the publishers of templates which were not configured with their own
+     * publisher executor. Separate from {@link #getSharedDefault()}, so open subscriptions do not take the slots of
+     * the asynchronous statements.
+     */
+    public static FluentAsyncExecutor getSharedPublisherDefault() {
+        if (sharedPublisherDefault == null) {
+            synchronized (FluentAsyncExecutor.class) {
+                if (sharedPublisherDefault == null) {
+                    sharedPublisherDefault = createDefault();
+                }
+            }
+        }
+        return sharedPublisherDefault;
+    }
+
+    /**
+     * Runs given task asynchronously, respecting the concurrency limit.
+     *
+     * @param task task to run
+     * @param <T>  Return type
+     * @return future completed with the result of the task, or exceptionally if the task fails or cannot be scheduled
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        Assert.notNull(task, "You HAVE TO provide a task");
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            delegate.execute(() -> runWithPermit(task, future));
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        submit(() -> {
+            command.run();
+            return null;
+        });
+    }
+
+    /**
+     * @return maximum number of statements running at the same time
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * @return number of currently running statements
+     */
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * Requests a slot for a stream, which holds a connection between its tasks. The callback is called once the slot
+     * is taken - right away if there is a free one, otherwise by the thread which releases a slot. The callback must
+     * not block and the slot must be released by {@link #releaseStreamSlot()}.
+     */
+    void requestStreamSlot(Runnable onSlotTaken) {
+        waitingStreams.add(onSlotTaken);
+        dispatchStreamSlots();
+    }
+
+    /**
+     * Releases a slot taken by {@link #requestStreamSlot(Runnable)}, giving it to the longest waiting stream.
+     */
+    void releaseStreamSlot() {
+        streamPermits.release();
+        dispatchStreamSlots();
+    }
+
+    private void dispatchStreamSlots() {
+        while (!waitingStreams.isEmpty() && streamPermits.tryAcquire()) {
+            Runnable next = waitingStreams.poll();
+            if (next == null) {
+                // taken by another thread meanwhile, check the queue once more
+                streamPermits.release();
+            } else {
+                next.run();
+            }
+        }
+    }
+
+    /**
+     * @return true if the current thread is running a task of any FluentAsyncExecutor. Such task must not wait for
+     * other tasks of a bounded executor, it could wait forever if all slots are taken by such waiting tasks.
+     */
+    static boolean isRunningTask() {
+        return runningTask.get() != null;
+    }
+
+    private <T> void runWithPermit(Supplier<T> task, CompletableFuture<T> future) {
+        if (future.isDone()) {
+            // cancelled before it had a chance to run
+            return;
+        }
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(e);
+            return;
+        }
+        if (future.isDone()) {
+            // cancelled while waiting for the slot
+            permits.release();
+            return;
+        }
+        T result;
+        runningTask.set(Boolean.TRUE);
+        try {
+            result = task.get();
+        } catch (Throwable t) {
+            permits.release();
+            future.completeExceptionally(t);
+            return;
+        } finally {
+            runningTask.remove();
+        }
+        // release before completion, so the stages depending on the future already see the slot free
+        permits.release();
+        future.complete(result);
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // virtual threads are not available on this runtime
+            return null;
+        }
+    }
+
+    static ThreadFactory daemonThreadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.util.Assert;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Builder of a keyset ("seek") pagination of a query. Instead of skipping rows with {@code OFFSET}, each page continues
+ * right after the key of the last row of the previous page, so every page costs the same no matter how deep it is
+ * (given an index on the key columns). Example:
+ * <pre>{@code
+ * jdbc.query("SELECT * FROM orders WHERE status = :status")
+ *     .bind("status", "NEW")
+ *     .keysetPages(500, "created", "id")
+ *     .stream(Order.class)
+ *     .forEach(page -> export(page));
+ * }</pre>
+ *
+ * <p>Each page is a query wrapping the original one:
+ * {@code SELECT * FROM (<query>) fluent_page WHERE (<key columns>) > (<last key>) ORDER BY <key columns>}, limited
+ * to the page size by the row limit clause of the {@link SqlDialect} (or {@link java.sql.Statement#setMaxRows(int)}
+ * if the dialect has none). Databases not supporting comparison of row values get the equivalent
+ * {@code k1 > :k1 OR (k1 = :k1 AND k2 > :k2)} instead. The combination of the key columns has to be unique and non-null,
+ * typically the last key column is the primary key. The pages are fetched lazily on the calling thread, the next page
+ * is queried when the previous one was consumed.
+ *
+ * NOT THREAD SAFE
+ */
+public class FluentKeysetPages {
+
+    private static final String KEY_PARAM = "fluentPageKey";
+
+    private final FluentQueryBuilder query;
+    private final SqlDialect dialect;
+    private final int pageSize;
+    private final String[] keyColumns;
+    private boolean descending;
+
+    FluentKeysetPages(FluentQueryBuilder query, SqlDialect dialect, int pageSize, String[] keyColumns) {
+        Assert.isTrue(pageSize > 0, "Page size must be positive");
+        Assert.notEmpty(keyColumns, "You HAVE TO provide at least one key column");
+        for (String keyColumn : keyColumns) {
+            if (keyColumn == null || !FluentPartitionedScan.COLUMN_NAME.matcher(keyColumn).matches()) {
+                throw new InvalidDataAccessApiUsageException("Invalid key column name: " + keyColumn);
+            }
+        }
+        this.query = query;
+        this.dialect = dialect;
+        this.pageSize = pageSize;
+        this.keyColumns = keyColumns.clone();
+    }
+
+    /**
+     * Pages through the rows in descending order of the key columns. By default the order is ascending.
+     *
+     * @return a reference to the same builder, so it's possible to chain several calls together
+     */
+    public FluentKeysetPages descending() {
+        this.descending = true;
+        return this;
+    }
+
+    /**
+     * Returns lazy iterator of pages, mapping the rows the same way as {@link FluentQueryBuilder#fetch(Class)}.
+     */
+    public <T> Iterator<List<T>> iterator(Class<T> resultType) {
+        Assert.notNull(resultType, "You HAVE TO provide type to map the result to");
+        return iterator(FluentQueryBuilder.getRowMapper(resultType));
+    }
+
+    /**
+     * Returns lazy iterator of pages. No page is fetched before {@code hasNext()} or {@code next()} is called.
+     *
+     * @param rowMapper RowMapper to use for JDBC ResultSet mapping to java object
+     * @param <T>       Type of the mapped rows
+     * @return iterator of non-empty pages
+     */
+    public <T> Iterator<List<T>> iterator(RowMapper<T> rowMapper) {
+        Assert.notNull(rowMapper, "You HAVE TO provide row mapper");
+        return new PageIterator<>(rowMapper);
+    }
+
+    /**
+     * Returns lazy stream of pages, mapping the rows the same way as {@link FluentQueryBuilder#fetch(Class)}.
+     */
+    public <T> Stream<List<T>> stream(Class<T> resultType) {
+        return toStream(iterator(resultType));
+    }
+
+    /**
+     * Returns lazy stream of pages, see {@link #iterator(RowMapper)}.
+     */
+    public <T> Stream<List<T>> stream(RowMapper<T> rowMapper) {
+        return toStream(iterator(rowMapper));
+    }
+
+    private static <T> Stream<List<T>> toStream(Iterator<List<T>> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * @return SQL of the first page (withLastKey == false) or of the following pages
+     */
+    String pageSql(boolean withLastKey) {
+        StringBuilder sql = new StringBuilder("SELECT * FROM (").append(SqlDialect.withoutOrderBy(query.getSql())).append(") fluent_page");
+        if (withLastKey) {
+            String comparison = descending ? " < " : " > ";
+            sql.append(" WHERE ");
+            if (keyColumns.length == 1 || dialect.supportsRowValueComparison()) {
+                StringBuilder columns = new StringBuilder();
+                StringBuilder keys = new StringBuilder();
+                for (int i = 0; i < keyColumns.length; i++) {
+                    columns.append(i > 0 ? ", " : "").append("fluent_page.").append(keyColumns[i]);
+                    keys.append(i > 0 ? ", :" : ":").append(KEY_PARAM).append(i);
+                }
+                if (keyColumns.length == 1) {
+                    sql.append(columns).append(comparison).append(keys);
+                } else {
+                    sql.append('(').append(columns).append(')').append(comparison).append('(').append(keys).append(')');
+                }
+            } else {
+                // (k1, k2) > (:k1, :k2) written as k1 > :k1 OR (k1 = :k1 AND k2 > :k2)
+                for (int i = 0; i < keyColumns.length; i++) {
+                    if (i > 0) {
+                        sql.append(" OR ");
+                    }
+                    sql.append('(');
+                    for (int j = 0; j < i; j++) {
+                        sql.append("fluent_page.").append(keyColumns[j]).append(" = :").append(KEY_PARAM).append(j).append(" AND ");
+                    }
+                    sql.append("fluent_page.").append(keyColumns[i]).append(comparison).append(':').append(KEY_PARAM).append(i).append(')');
+                }
+            }
+        }
+        sql.append(" ORDER BY ");
+        for (int i = 0; i < keyColumns.length; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("fluent_page.").append(keyColumns[i]).append(descending ? " DESC" : "");
+        }
+        return dialect.supportsLimit() ? dialect.limit(sql.toString(), false) : sql.toString();
+    }
+
+    private class PageIterator<T> implements Iterator<List<T>> {
+
+        private final RowMapper<T> rowMapper;
+        private final String firstPageSql = pageSql(false);
+        private final String nextPageSql = pageSql(true);
+        private Object[] lastKey;
+        private List<T> nextPage;
+        private boolean finished;
+
+        PageIterator(RowMapper<T> rowMapper) {
+            this.rowMapper = rowMapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextPage == null && !finished) {
+                nextPage = fetchPage();
+                if (nextPage.isEmpty()) {
+                    finished = true;
+                    nextPage = null;
+                }
+            }
+            return nextPage != null;
+        }
+
+        @Override
+        public List<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<T> page = nextPage;
+            nextPage = null;
+            if (page.size() < pageSize) {
+                // a short page is the last one, no need to ask the database again
+                finished = true;
+            }
+            return page;
+        }
+
+        private List<T> fetchPage() {
+            Map<String, Object> pageParameters = new HashMap<>();
+            if (dialect.supportsLimit()) {
+                pageParameters.put(SqlDialect.LIMIT_PARAMETER, pageSize);
+            }
+            if (lastKey != null) {
+                for (int i = 0; i < lastKey.length; i++) {
+                    pageParameters.put(KEY_PARAM + i, lastKey[i]);
+                }
+            }
+            FluentQueryBuilder pageQuery = query.derive(lastKey == null ? firstPageSql : nextPageSql, pageParameters);
+            if (!dialect.supportsLimit()) {
+                pageQuery.addStatementHook(new StatementHook() {
+                    @Override
+                    public void beforeExecute(Statement statement) throws SQLException {
+                        statement.setMaxRows(pageSize);
+                    }
+                });
+            }
+
+            return pageQuery.executeQuery(rs -> {
+                List<T> page = new ArrayList<>(pageSize);
+                Object[] key = new Object[keyColumns.length];
+                while (page.size() < pageSize && rs.next()) {
+                    page.add(rowMapper.mapRow(rs, page.size()));
+                    for (int i = 0; i < keyColumns.length; i++) {
+                        key[i] = rs.getObject(keyColumns[i]);
+                    }
+                }
+                if (!page.isEmpty()) {
+                    for (int i = 0; i < key.length; i++) {
+                        if (key[i] == null) {
+                            throw new InvalidDataAccessApiUsageException("Key column " + keyColumns[i] + " of keyset pagination must not be null");
+                        }
+                    }
+                    lastKey = key;
+                }
+                return page;
+            });
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import java.util.List;
+
+/**
+ * One page of query results returned by
+ * {@link FluentQueryBuilder#fetchPage(long, int, org.springframework.jdbc.core.RowMapper, PageTotal) fetchPage()},
+ * together with the total number of rows of the query.
+ *
+ * @param <T> type of the rows
+ */
+public class FluentPage<T> {
+
+    private final List<T> content;
+    private final long offset;
+    private final int limit;
+    private final long total;
+    private final boolean totalExact;
+    private final boolean hasNext;
+
+    FluentPage(List<T> content, long offset, int limit, long total, boolean totalExact, boolean hasNext) {
+        this.content = content;
+        this.offset = offset;
+        this.limit = limit;
+        this.total = total;
+        this.totalExact = totalExact;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * @return rows of this page
+     */
+    public List<T> getContent() {
+        return content;
+    }
+
+    /**
+     * @return number of rows skipped before this page
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return maximum number of rows of the page
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return total number of rows of the query, or -1 if not known ({@link PageTotal#NONE})
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * @return true if {@link #getTotal()} is the exact number of rows, false if it's an estimate or unknown
+     */
+    public boolean isTotalExact() {
+        return totalExact;
+    }
+
+    /**
+     * @return true if there are more rows after this page
+     */
+    public boolean hasNext() {
+        return hasNext;
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.util.Assert;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Executes several independent fluent queries concurrently, each of them on its own pooled connection, and
+ * collects their results. The total latency is then the latency of the slowest query instead of the sum of all
+ * of them. Example:
+ * <pre>{@code
+ * FluentParallelQueries parallel = jdbc.parallel().timeout(2, TimeUnit.SECONDS);
+ * ParallelQuery<List<User>> users = parallel.fetch(jdbc.query("SELECT * FROM users"), User.class);
+ * ParallelQuery<Integer> orders = parallel.fetchOne(jdbc.query("SELECT count(*) FROM orders WHERE day = :day")
+ *                                                       .bind("day", today), Integer.class);
+ * FluentParallelResults results = parallel.execute();
+ * render(results.get(users), results.get(orders));
+ * }</pre>
+ *
+ * <p>The queries are executed by the template's {@link FluentAsyncExecutor} and therefore do NOT participate in the
+ * caller's transaction. The execution fails fast: the first failing query cancels all other queries (including
+ * the statements already running on the database) and its exception is rethrown. When executed by a task of
+ * a FluentAsyncExecutor (e.g. from a query of another parallel execution), the queries run one by one on the current
+ * thread instead - the task must not wait for other tasks of the bounded executor.
+ *
+ * <p>The {@link #timeout(long, TimeUnit) timeout} is also set as the {@link Deadline} of each query, so the JDBC query
+ * timeout of every statement is the time remaining to it - in both the concurrent and the inline execution.
+ *
+ * NOT THREAD SAFE
+ */
+public class FluentParallelQueries {
+
+    private final FluentAsyncExecutor executor;
+    private final Set<ParallelQuery<?>> queries = new LinkedHashSet<>();
+    private long timeoutNanos = -1;
+    private boolean partialResultsOnTimeout;
+    private boolean executed;
+
+    /**
+     * Creates new FluentParallelQueries executing the queries on given executor.
+     *
+     * @param executor executor to run the queries on
+     */
+    public FluentParallelQueries(FluentAsyncExecutor executor) {
+        Assert.notNull(executor, "You HAVE TO provide an executor");
+        this.executor = executor;
+    }
+
+    /**
+     * Registers a query whose result will be mapped the same way as by {@link FluentQueryBuilder#fetch(Class)}.
+     *
+     * @param query      query to execute, with parameters already bound
+     * @param resultType the type that the result objects are expected to match
+     * @param <T>        Return type
+     * @return handle to obtain the result from {@link FluentParallelResults}
+     */
+    public <T> ParallelQuery<List<T>> fetch(FluentQueryBuilder query, Class<T> resultType) {
+        Assert.notNull(resultType, "You HAVE TO provide type to map the result to");
+        return register(query, () -> query.fetch(resultType));
+    }
+
+    /**
+     * Registers a query whose result will be mapped the same way as by {@link FluentQueryBuilder#fetch(RowMapper)}.
+     *
+     * @param query     query to execute, with parameters already bound
+     * @param rowMapper RowMapper to use for JDBC ResultSet mapping to java object
+     * @param <T>       Return type
+     * @return handle to obtain the result from {@link FluentParallelResults}
+     */
+    public <T> ParallelQuery<List<T>> fetch(FluentQueryBuilder query, RowMapper<T> rowMapper) {
+        Assert.notNull(rowMapper, "You HAVE TO provide row mapper");
+        return register(query, () -> query.fetch(rowMapper));
+    }
+
+    /**
+     * Registers a query whose result will be mapped the same way as by {@link FluentQueryBuilder#fetchOne(Class)}.
+     *
+     * @param query      query to execute, with parameters already bound
+     * @param resultType the type that the result object is expected to match
+     * @param <T>        Return type
+     * @return handle to obtain the result from {@link FluentParallelResults}
+     */
+    public <T> ParallelQuery<T> fetchOne(FluentQueryBuilder query, Class<T> resultType) {
+        Assert.notNull(resultType, "You HAVE TO provide type to map the result to");
+        return register(query, () -> query.fetchOne(resultType));
+    }
+
+    /**
+     * Registers a query whose result will be mapped the same way as by {@link FluentQueryBuilder#fetchOne(RowMapper)}.
+     *
+     * @param query     query to execute, with parameters already bound
+     * @param rowMapper RowMapper to use for JDBC ResultSet mapping to java object
+     * @param <T>       Return type
+     * @return handle to obtain the result from {@link FluentParallelResults}
+     */
+    public <T> ParallelQuery<T> fetchOne(FluentQueryBuilder query, RowMapper<T> rowMapper) {
+        Assert.notNull(rowMapper, "You HAVE TO provide row mapper");
+        return register(query, () -> query.fetchOne(rowMapper));
+    }
+
+    /**
+     * Sets overall deadline for all queries. If they do not finish within this time, all running statements are
+     * cancelled and {@link QueryTimeoutException} is thrown from {@link #execute()}.
+     *
+     * @param timeout maximum time to wait for all queries
+     * @param unit    the time unit of the timeout argument
+     * @return a reference to the same instance, so it's possible to chain several calls together
+     */
+    public FluentParallelQueries timeout(long timeout, TimeUnit unit) {
+        Assert.isTrue(timeout > 0, "Timeout must be positive");
+        Assert.notNull(unit, "You HAVE TO provide time unit");
+        this.timeoutNanos = unit.toNanos(timeout);
+        return this;
+    }
+
+    /**
+     * On timeout, the unfinished queries are cancelled and {@link #execute()} returns the results of the finished ones
+     * instead of throwing {@link QueryTimeoutException} - see {@link ParallelQuery#hasResult()}.
+     */
+    FluentParallelQueries partialResultsOnTimeout() {
+        this.partialResultsOnTimeout = true;
+        return this;
+    }
+
+    /**
+     * Executes all registered queries concurrently and waits until all of them finish.
+     *
+     * @return results of all queries
+     * @throws QueryTimeoutException                       if the queries did not finish within the timeout
+     * @throws org.springframework.dao.DataAccessException if any of the queries fails (the first failure is rethrown)
+     */
+    public FluentParallelResults execute() {
+        Assert.state(!executed, "Parallel queries can be executed just once");
+        executed = true;
+
+        if (timeoutNanos > 0) {
+            Deadline deadline = Deadline.after(timeoutNanos, TimeUnit.NANOSECONDS);
+            queries.forEach(query -> query.deadline(deadline));
+        }
+        if (FluentAsyncExecutor.isRunningTask()) {
+            executeInline();
+            return new FluentParallelResults(queries);
+        }
+
+        CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[queries.size()];
+        int i = 0;
+        for (ParallelQuery<?> query : queries) {
+            futures[i++] = query.start(executor).whenComplete((result, ex) -> {
+                if (ex != null) {
+                    firstFailure.completeExceptionally(ex);
+                }
+            });
+        }
+
+        CompletableFuture<Object> done = CompletableFuture.anyOf(CompletableFuture.allOf(futures), firstFailure);
+        try {
+            if (timeoutNanos > 0) {
+                done.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            } else {
+                done.get();
+            }
+        } catch (TimeoutException e) {
+            cancelAll();
+            if (partialResultsOnTimeout) {
+                return new FluentParallelResults(queries);
+            }
+            throw new QueryTimeoutException("Parallel queries did not finish within " + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms");
+        } catch (ExecutionException e) {
+            cancelAll();
+            RuntimeException failure = rethrow(e.getCause());
+            if (failure instanceof QueryTimeoutException && timeoutNanos > 0 && partialResultsOnTimeout) {
+                // a query ran out of the deadline of the parallel execution
+                return new FluentParallelResults(queries);
+            }
+            throw failure;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelAll();
+            throw new DataAccessResourceFailureException("Interrupted while waiting for parallel queries", e);
+        }
+
+        return new FluentParallelResults(queries);
+    }
+
+    private void executeInline() {
+        for (ParallelQuery<?> query : queries) {
+            try {
+                // a statement running past the deadline fails with its query timeout
+                query.runInline();
+            } catch (QueryTimeoutException e) {
+                if (timeoutNanos <= 0) {
+                    throw e;
+                }
+                if (partialResultsOnTimeout) {
+                    return;
+                }
+                throw new QueryTimeoutException("Parallel queries did not finish within " + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms", e);
+            }
+        }
+    }
+
+    <T> ParallelQuery<T> register(FluentQueryBuilder query, Supplier<T> terminal) {
+        Assert.notNull(query, "You HAVE TO provide a query");
+        Assert.state(!executed, "Parallel queries were already executed");
+        ParallelQuery<T> parallelQuery = new ParallelQuery<>(query, terminal);
+        queries.add(parallelQuery);
+        return parallelQuery;
+    }
+
+    private void cancelAll() {
+        queries.forEach(ParallelQuery::cancel);
+    }
+
+    static RuntimeException rethrow(Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new DataAccessResourceFailureException("Parallel query failed", cause);
+    }
+
+}
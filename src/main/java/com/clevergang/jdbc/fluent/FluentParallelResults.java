@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import org.springframework.util.Assert;
+
+import java.util.Set;
+
+/**
+ * Combined results of queries executed by {@link FluentParallelQueries#execute()}. Example:
+ * <pre>{@code
+ * FluentParallelResults results = parallel.execute();
+ * List<User> users = results.get(usersQuery);
+ * Integer orderCount = results.get(orderCountQuery);
+ * }</pre>
+ */
+public class FluentParallelResults {
+
+    private final Set<ParallelQuery<?>> queries;
+
+    FluentParallelResults(Set<ParallelQuery<?>> queries) {
+        this.queries = queries;
+    }
+
+    /**
+     * Returns result of given query.
+     *
+     * @param query handle returned when the query was registered in {@link FluentParallelQueries}
+     * @param <T> Return type
+     * @return result of the query
+     * @throws IllegalArgumentException if the query was not part of the executed parallel queries
+     */
+    public <T> T get(ParallelQuery<T> query) {
+        Assert.isTrue(queries.contains(query), "The query was not executed as part of these parallel queries");
+        return query.getResult();
+    }
+
+    /**
+     * @return number of executed queries
+     */
+    public int size() {
+        return queries.size();
+    }
+
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.util.Assert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * Builder of a range partitioned scan of a query. The scan splits the query into N ranges of a numeric or timestamp
+ * key column, executes the partial queries concurrently (each on its own connection) and merges their results.
+ * The bounds of the key are either given explicitly or discovered using {@code MIN()/MAX()} of the key over the query.
+ * Example:
+ * <pre>{@code
+ * Map<String, Long> ordersPerCountry = jdbc.query("SELECT id, country FROM orders")
+ *     .partitionedScan("id")
+ *     .bounds(1, 10_000_000)
+ *     .partitions(16)
+ *     .ordered(false)
+ *     .collect((rs, rowNum) -> rs.getString("country"), Collectors.groupingBy(c -> c, Collectors.counting()));
+ * }</pre>
+ *
+ * <p>Partial queries wrap the original query: {@code SELECT * FROM (<query>) fluent_scan WHERE <key> >= :from AND <key> < :to}.
+ * The partitions are executed by {@link FluentParallelQueries}, so they do NOT participate in the caller's transaction,
+ * fail fast and respect the {@link #timeout(long, TimeUnit) timeout}. The number of partitions executed at the same
+ * time is bounded by the template's {@link FluentAsyncExecutor}.
+ *
+ * NOT THREAD SAFE
+ */
+public class FluentPartitionedScan {
+
+    static final Pattern COLUMN_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_$]*");
+    private static final String FROM_PARAM = "fluentScanFrom";
+    private static final String TO_PARAM = "fluentScanTo";
+
+    private final FluentQueryBuilder query;
+    private final String keyColumn;
+    private final FluentAsyncExecutor executor;
+    private int partitions;
+    private Object lowerBound;
+    private Object upperBound;
+    private boolean ordered = true;
+    private long timeout = -1;
+    private TimeUnit timeoutUnit;
+
+    FluentPartitionedScan(FluentQueryBuilder query, String keyColumn, FluentAsyncExecutor executor) {
+        Assert.notNull(keyColumn, "You HAVE TO provide key column");
+        if (!COLUMN_NAME.matcher(keyColumn).matches()) {
+            throw new InvalidDataAccessApiUsageException("Invalid key column name: " + keyColumn);
+        }
+        this.query = query;
+        this.keyColumn = keyColumn;
+        this.executor = executor;
+        this.partitions = executor.getMaxConcurrency();
+    }
+
+    /**
+     * Sets number of ranges the query is split to. Defaults to the concurrency limit of the template's async executor.
+     *
+     * @param partitions number of partitions
+     * @return a reference to the same builder, so it's possible to chain several calls together
+     */
+    public FluentPartitionedScan partitions(int partitions) {
+        Assert.isTrue(partitions > 0, "Number of partitions must be positive");
+        this.partitions = partitions;
+        return this;
+    }
+
+    /**
+     * Sets inclusive bounds of a numeric key. Rows with the key outside of the bounds are not returned.
+     * If no bounds are set, they are discovered using {@code MIN()/MAX()} of the key.
+     *
+     * @param min lowest value of the key
+     * @param max highest value of the key
+     * @return a reference to the same builder, so it's possible to chain several calls together
+     */
+    public FluentPartitionedScan bounds(long min, long max) {
+        Assert.isTrue(min <= max, "min must not be greater than max");
+        this.lowerBound = min;
+        this.upperBound = max;
+        return this;
+    }
+
+    /**
+     * Sets inclusive bounds of a timestamp key. Rows with the key outside of the bounds are not returned.
+     * If no bounds are set, they are discovered using {@code MIN()/MAX()} of the key.
+     *
+     * @param min lowest value of the key
+     * @param max highest value of the key
+     * @return a reference to the same builder, so it's possible to chain several calls together
+     */
+    public FluentPartitionedScan bounds(Timestamp min, Timestamp max) {
+        Assert.notNull(min, "min must not be null");
+        Assert.notNull(max, "max must not be null");
+        Assert.isTrue(!min.after(max), "min must not be greater than max");
+        this.lowerBound = min;
+        this.upperBound = max;
+        return this;
+    }
+
+    /**
+     * Sets whether the merged result follows the order of the key (default). Each partition is then sorted by the key
+     * and results of the partitions are merged in the order of their ranges. Unordered scans do not sort the partitions
+     * and merge the results in the order in which the partitions finished.
+     *
+     * @param ordered true if the result has to be ordered by the key
+     * @return a reference to the same builder, so it's possible to chain several calls together
+     */
+    public FluentPartitionedScan ordered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * Sets overall deadline for the whole scan.
+     *
+     * @param timeout maximum time to wait for all partitions
+     * @param unit    the time unit of the timeout argument
+     * @return a reference to the same builder, so it's possible to chain several calls together
+     * @see FluentParallelQueries#timeout(long, TimeUnit)
+     */
+    public FluentPartitionedScan timeout(long timeout, TimeUnit unit) {
+        Assert.isTrue(timeout > 0, "Timeout must be positive");
+        Assert.notNull(unit, "You HAVE TO provide time unit");
+        this.timeout = timeout;
+        this.timeoutUnit = unit;
+        return this;
+    }
+
+    /**
+     * Executes the scan and maps the rows the same way as {@link FluentQueryBuilder#fetch(Class)}.
+     *
+     * @param resultType the type that the result objects are expected to match
+     * @param <T> Return type
+     * @return merged results of all partitions
+     * @throws org.springframework.dao.DataAccessException if any of the partitions fails
+     */
+    public <T> List<T> fetch(Class<T> resultType) {
+        Assert.notNull(resultType, "You HAVE TO provide type to map the result to");
+        return fetch(FluentQueryBuilder.getRowMapper(resultType));
+    }
+
+    /**
+     * Executes the scan and maps the rows using given RowMapper.
+     *
+     * @param rowMapper thread safe RowMapper to use for JDBC ResultSet mapping to java object
+     * @param <T> Return type
+     * @return merged results of all partitions
+     * @throws org.springframework.dao.DataAccessException if any of the partitions fails
+     */
+    public <T> List<T> fetch(RowMapper<T> rowMapper) {
+        return collect(rowMapper, Collectors.toList());
+    }
+
+    /**
+     * Executes the scan and reduces the mapped rows using given Collector. Each partition accumulates its rows into
+     * its own container; the containers are then combined using the collector's combiner.
+     *
+     * @param rowMapper thread safe RowMapper to use for JDBC ResultSet mapping to java object
+     * @param collector collector reducing the mapped rows
+     * @param <T> type of the mapped rows
+     * @param <A> intermediate accumulation type of the collector
+     * @param <R> Return type
+     * @return the reduced result
+     * @throws org.springframework.dao.DataAccessException if any of the partitions fails
+     */
+    public <T, A, R> R collect(RowMapper<T> rowMapper, Collector<T, A, R> collector) {
+        Assert.notNull(rowMapper, "You HAVE TO provide row mapper");
+        Assert.notNull(collector, "You HAVE TO provide collector");
+
+        List<Map<String, Object>> ranges = splitRanges();
+        if (ranges.isEmpty()) {
+            return collector.finisher().apply(collector.supplier().get());
+        }
+
+        FluentParallelQueries parallel = new FluentParallelQueries(executor);
+        if (timeout > 0) {
+            parallel.timeout(timeout, timeoutUnit);
+        }
+        Queue<A> finishedInOrderOfCompletion = new ConcurrentLinkedQueue<>();
+        List<ParallelQuery<A>> partialQueries = new ArrayList<>(ranges.size());
+        for (int i = 0; i < ranges.size(); i++) {
+            FluentQueryBuilder partialQuery = query.derive(partitionSql(i == ranges.size() - 1), ranges.get(i));
+            Supplier<A> terminal = () -> {
+                A container = partialQuery.executeQuery(rs -> {
+                    A accumulated = collector.supplier().get();
+                    int rowNum = 0;
+                    while (rs.next()) {
+                        collector.accumulator().accept(accumulated, rowMapper.mapRow(rs, rowNum++));
+                    }
+                    return accumulated;
+                });
+                finishedInOrderOfCompletion.add(container);
+                return container;
+            };
+            partialQueries.add(parallel.register(partialQuery, terminal));
+        }
+
+        FluentParallelResults results = parallel.execute();
+
+        List<A> containers = new ArrayList<>(partialQueries.size());
+        if (ordered) {
+            partialQueries.forEach(partialQuery -> containers.add(results.get(partialQuery)));
+        } else {
+            containers.addAll(finishedInOrderOfCompletion);
+        }
+        A combined = containers.get(0);
+        for (int i = 1; i < containers.size(); i++) {
+            combined = collector.combiner().apply(combined, containers.get(i));
+        }
+        return collector.finisher().apply(combined);
+    }
+
+    private String partitionSql(boolean last) {
+        StringBuilder sql = new StringBuilder("SELECT * FROM (")
+                .append(SqlDialect.withoutOrderBy(query.getSql()))
+                .append(") fluent_scan WHERE fluent_scan.").append(keyColumn).append(" >= :").append(FROM_PARAM)
+                .append(" AND fluent_scan.").append(keyColumn).append(last ? " <= :" : " < :").append(TO_PARAM);
+        if (ordered) {
+            sql.append(" ORDER BY fluent_scan.").append(keyColumn);
+        }
+        return sql.toString();
+    }
+
+    /**
+     * @return Returns values of the from/to parameters of all partitions. Empty if the query returns no rows.
+     */
+    private List<Map<String, Object>> splitRanges() {
+        if (lowerBound == null) {
+            discoverBounds();
+            if (lowerBound == null) {
+                return Collections.emptyList();
+            }
+        }
+
+        boolean timestamps = lowerBound instanceof java.util.Date;
+        long min = timestamps ? ((java.util.Date) lowerBound).getTime() : toLong((Number) lowerBound, RoundingMode.FLOOR);
+        long max = timestamps ? ((java.util.Date) upperBound).getTime() : toLong((Number) upperBound, RoundingMode.CEILING);
+        BigInteger span = BigInteger.valueOf(max).subtract(BigInteger.valueOf(min)).add(BigInteger.ONE);
+        long step = span.add(BigInteger.valueOf(partitions - 1)).divide(BigInteger.valueOf(partitions)).max(BigInteger.ONE).longValue();
+
+        List<Map<String, Object>> ranges = new ArrayList<>(partitions);
+        Object from = lowerBound;
+        for (long start = min; ranges.size() < partitions; ) {
+            long end = start + step;
+            boolean last = ranges.size() == partitions - 1 || end > max || end <= start;
+            Map<String, Object> range = new HashMap<>(4);
+            range.put(FROM_PARAM, from);
+            range.put(TO_PARAM, last ? upperBound : (timestamps ? new Timestamp(end) : (Object) end));
+            ranges.add(range);
+            if (last) {
+                break;
+            }
+            from = range.get(TO_PARAM);
+            start = end;
+        }
+        return ranges;
+    }
+
+    private void discoverBounds() {
+        String sql = "SELECT MIN(fluent_scan." + keyColumn + "), MAX(fluent_scan." + keyColumn + ") FROM (" + SqlDialect.withoutOrderBy(query.getSql()) + ") fluent_scan";
+        Object[] bounds = query.derive(sql, Collections.emptyMap())
+                .fetchOne((rs, rowNum) -> new Object[]{rs.getObject(1), rs.getObject(2)});
+        if (bounds[0] == null) {
+            return;
+        }
+        if (!(bounds[0] instanceof Number || bounds[0] instanceof java.util.Date)) {
+            throw new InvalidDataAccessApiUsageException("Key column " + keyColumn + " must be numeric or timestamp, but is " + bounds[0].getClass().getName());
+        }
+        lowerBound = bounds[0];
+        upperBound = bounds[1];
+    }
+
+    private static long toLong(Number number, RoundingMode roundingMode) {
+        if (number instanceof BigDecimal) {
+            return ((BigDecimal) number).setScale(0, roundingMode).longValueExact();
+        }
+        if (number instanceof Double || number instanceof Float) {
+            return (long) (roundingMode == RoundingMode.FLOOR ? Math.floor(number.doubleValue()) : Math.ceil(number.doubleValue()));
+        }
+        if (number instanceof BigInteger) {
+            return ((BigInteger) number).longValueExact();
+        }
+        return number.longValue();
+    }
+
+}
@@ -0,0 +1,380 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.namedparam.AbstractSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.Assert;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLSyntaxErrorException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Executes several fluent queries in a single JDBC statement, so all of them cost just one network round-trip.
+ * The SQL of the queries is joined by {@code ;} and the result sets are read one after another using
+ * {@link java.sql.Statement#getMoreResults()}, each mapped by the mapper of its query. Example:
+ * <pre>{@code
+ * FluentQueryBatch batch = jdbc.queryBatch();
+ * BatchedQuery<User> user = batch.fetchOne(jdbc.query("SELECT * FROM users WHERE id = :id").bind("id", 1), User.class);
+ * BatchedQuery<List<Country>> countries = batch.fetch(jdbc.query("SELECT * FROM countries"), Country.class);
+ * FluentQueryBatchResults results = batch.execute();
+ * render(results.get(user), results.get(countries));
+ * }</pre>
+ *
+ * <p>Not all drivers can execute several statements at once (e.g. MySQL requires {@code allowMultiQueries=true}, Oracle
+ * and HSQLDB do not support it at all). If the driver reports it does not support multiple result sets (or throws
+ * {@link SQLFeatureNotSupportedException}), the queries are executed one by one on the current thread and the combined
+ * execution is switched off on the template (see
+ * {@link FluentNamedParameterJdbcTemplate#setCombinedQueryBatches(boolean)}), so next batches go straight to the
+ * sequential execution. If the database refuses to prepare the combined statement as invalid SQL, the queries are
+ * executed one by one too - an invalid query then fails with its own error and the template is left as it is; only
+ * if all queries succeed alone, the combined statement itself was not understood and the combined execution is
+ * switched off. Other failures, including failures of the executed combined statement, are rethrown.
+ *
+ * <p>The combined statement is executed with the earliest deadline and the highest priority of the queries and is
+ * reported to the execution listeners as one {@link StatementExecution.Kind#BATCH} execution. Queries with execution
+ * options, IN lists exceeding the chunk size or key tables cannot be combined, batches containing them are executed
+ * one by one.
+ *
+ * <p>The queries should be created by the same template as this batch; the combined statement is executed by it.
+ *
+ * NOT THREAD SAFE
+ */
+public class FluentQueryBatch {
+
+    private static final Log logger = LogFactory.getLog(FluentQueryBatch.class);
+
+    private final NamedParameterJdbcOperations baseTemplate;
+    private final List<BatchedQuery<?>> queries = new ArrayList<>();
+    private boolean executed;
+
+    /**
+     * Creates new FluentQueryBatch executing the combined statement using given template.
+     *
+     * @param namedParameterTemplate Template to be used for execution of the combined statement
+     */
+    public FluentQueryBatch(NamedParameterJdbcOperations namedParameterTemplate) {
+        Assert.notNull(namedParameterTemplate, "You HAVE TO provide a template");
+        this.baseTemplate = namedParameterTemplate;
+    }
+
+    /**
+     * Registers a query whose result will be mapped the same way as by {@link FluentQueryBuilder#fetch(Class)}.
+     *
+     * @param query      query to execute, with parameters already bound
+     * @param resultType the type that the result objects are expected to match
+     * @param <T>        Return type
+     * @return handle to obtain the result from {@link FluentQueryBatchResults}
+     */
+    public <T> BatchedQuery<List<T>> fetch(FluentQueryBuilder query, Class<T> resultType) {
+        Assert.notNull(resultType, "You HAVE TO provide type to map the result to");
+        return fetch(query, FluentQueryBuilder.getRowMapper(resultType));
+    }
+
+    /**
+     * Registers a query whose result will be mapped the same way as by {@link FluentQueryBuilder#fetch(RowMapper)}.
+     *
+     * @param query     query to execute, with parameters already bound
+     * @param rowMapper RowMapper to use for JDBC ResultSet mapping to java object
+     * @param <T>       Return type
+     * @return handle to obtain the result from {@link FluentQueryBatchResults}
+     */
+    public <T> BatchedQuery<List<T>> fetch(FluentQueryBuilder query, RowMapper<T> rowMapper) {
+        Assert.notNull(rowMapper, "You HAVE TO provide row mapper");
+        return register(query, new BatchedQuery<>(query, new RowMapperResultSetExtractor<>(rowMapper)));
+    }
+
+    /**
+     * Registers a query whose result will be mapped the same way as by {@link FluentQueryBuilder#fetchOne(Class)}.
+     *
+     * @param query      query to execute, with parameters already bound
+     * @param resultType the type that the result object is expected to match
+     * @param <T>        Return type
+     * @return handle to obtain the result from {@link FluentQueryBatchResults}
+     */
+    public <T> BatchedQuery<T> fetchOne(FluentQueryBuilder query, Class<T> resultType) {
+        Assert.notNull(resultType, "You HAVE TO provide type to map the result to");
+        return fetchOne(query, FluentQueryBuilder.getRowMapper(resultType));
+    }
+
+    /**
+     * Registers a query whose result will be mapped the same way as by {@link FluentQueryBuilder#fetchOne(RowMapper)}.
+     *
+     * @param query     query to execute, with parameters already bound
+     * @param rowMapper RowMapper to use for JDBC ResultSet mapping to java object
+     * @param <T>       Return type
+     * @return handle to obtain the result from {@link FluentQueryBatchResults}
+     */
+    public <T> BatchedQuery<T> fetchOne(FluentQueryBuilder query, RowMapper<T> rowMapper) {
+        Assert.notNull(rowMapper, "You HAVE TO provide row mapper");
+        RowMapperResultSetExtractor<T> rows = new RowMapperResultSetExtractor<>(rowMapper, 1);
+        return register(query, new BatchedQuery<>(query, rs -> DataAccessUtils.requiredSingleResult(rows.extractData(rs))));
+    }
+
+    /**
+     * Executes all registered queries, in a single statement if possible.
+     *
+     * @return results of all queries
+     * @throws DataAccessException if any of the queries fails
+     */
+    public FluentQueryBatchResults execute() {
+        Assert.state(!executed, "Query batch can be executed just once");
+        executed = true;
+
+        CombinedOutcome outcome = null;
+        if (queries.size() > 1 && isCombinedExecutionEnabled() && isCombinable()) {
+            outcome = executeCombined(AbstractFluentBuilder.getQueryOperations(baseTemplate));
+            if (outcome == CombinedOutcome.EXECUTED) {
+                return new FluentQueryBatchResults(queries, true);
+            }
+            if (outcome == CombinedOutcome.UNSUPPORTED) {
+                disableCombinedExecution();
+            }
+        }
+
+        for (BatchedQuery<?> query : queries) {
+            query.executeAlone();
+        }
+        if (outcome == CombinedOutcome.REFUSED) {
+            // all queries are valid on their own, so the database does not understand the combined statement
+            disableCombinedExecution();
+        }
+        return new FluentQueryBatchResults(queries, false);
+    }
+
+    private <T> BatchedQuery<T> register(FluentQueryBuilder query, BatchedQuery<T> batchedQuery) {
+        Assert.notNull(query, "You HAVE TO provide a query");
+        Assert.state(!executed, "Query batch was already executed");
+        queries.add(batchedQuery);
+        return batchedQuery;
+    }
+
+    /**
+     * @return Returns true if all queries can be executed by the combined statement - queries with execution options,
+     * chunked IN lists or key tables are executed one by one, by their own execution paths
+     */
+    private boolean isCombinable() {
+        for (BatchedQuery<?> query : queries) {
+            FluentQueryBuilder builder = query.getQuery();
+            if (builder.getExecutionOptions() != null || builder.hasInListChunks() || builder.hasKeyTables()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Executes the combined statement, with the deadline, priority and listeners of the single queries.
+     *
+     * @return Returns the outcome of the attempt to execute the combined statement
+     */
+    private CombinedOutcome executeCombined(NamedParameterJdbcOperations operations) {
+        StringBuilder sql = new StringBuilder();
+        StringBuilder namedSql = new StringBuilder();
+        List<SqlParameterSource> parameters = new ArrayList<>();
+        List<SqlParameter> declaredParameters = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        Deadline deadline = null;
+        Priority priority = null;
+        for (BatchedQuery<?> query : queries) {
+            FluentQueryBuilder builder = query.getQuery();
+            SqlParameterSource params = builder.getBoundParameters();
+            ParsedSql parsedSql = NamedStatements.getParsedSql(operations, builder.getSql());
+            if (sql.length() > 0) {
+                sql.append(";\n");
+                namedSql.append(";\n");
+            }
+            sql.append(NamedParameterUtils.substituteNamedParameters(parsedSql, params));
+            namedSql.append(builder.getSql());
+            declaredParameters.addAll(NamedParameterUtils.buildSqlParameterList(parsedSql, params));
+            values.addAll(Arrays.asList(NamedParameterUtils.buildValueArray(parsedSql, params, null)));
+            parameters.add(params);
+            deadline = Deadline.earlier(deadline, builder.getDeadline());
+            if (builder.getPriority() != null && (priority == null || builder.getPriority().compareTo(priority) < 0)) {
+                priority = builder.getPriority();
+            }
+        }
+        if (deadline != null) {
+            deadline.check(namedSql.toString());
+        }
+        PreparedStatementCreator statementCreator = new PreparedStatementCreatorFactory(sql.toString(), declaredParameters)
+                .newPreparedStatementCreator(values);
+        ConcurrencyLimiter limiter = AbstractFluentBuilder.getConcurrencyLimiter(baseTemplate);
+        if (limiter != null) {
+            return limiter.execute(priority, deadline, namedSql.toString(), NamedStatements.findDataSource(operations.getJdbcOperations()),
+                    () -> executeCombinedStatement(operations, statementCreator, namedSql.toString(), new BatchParameterSource(parameters)));
+        }
+        return executeCombinedStatement(operations, statementCreator, namedSql.toString(), new BatchParameterSource(parameters));
+    }
+
+    private CombinedOutcome executeCombinedStatement(NamedParameterJdbcOperations operations, PreparedStatementCreator statementCreator,
+                                                     String sql, SqlParameterSource parameters) {
+        ExecutionTracker tracker = ExecutionTracker.start(AbstractFluentBuilder.getExecutionListeners(baseTemplate),
+                StatementExecution.Kind.BATCH, sql, parameters);
+        boolean[] prepared = new boolean[1];
+        try {
+            operations.getJdbcOperations().execute((Connection con) -> {
+                if (!con.getMetaData().supportsMultipleResultSets()) {
+                    throw new SQLFeatureNotSupportedException("The driver does not support multiple result sets");
+                }
+                PreparedStatement ps = statementCreator.createPreparedStatement(con);
+                prepared[0] = true;
+                return ps;
+            }, (PreparedStatement ps) -> {
+                for (BatchedQuery<?> query : queries) {
+                    query.getQuery().beforeExecute(ps, null);
+                }
+                try {
+                    if (tracker != null) {
+                        tracker.statementReady();
+                    }
+                    readResultSets(ps, tracker);
+                    return null;
+                } finally {
+                    for (BatchedQuery<?> query : queries) {
+                        query.getQuery().afterExecute(ps);
+                    }
+                }
+            });
+        } catch (DataAccessException e) {
+            if (tracker != null) {
+                tracker.finished(e);
+            }
+            if (!prepared[0] && e.getCause() instanceof SQLFeatureNotSupportedException) {
+                logger.debug("The driver does not support combined statements, executing " + queries.size() + " queries one by one", e);
+                return CombinedOutcome.UNSUPPORTED;
+            }
+            if (!prepared[0] && (e instanceof BadSqlGrammarException || e.getCause() instanceof SQLSyntaxErrorException)) {
+                logger.debug("The database refused to prepare combined statement of " + queries.size() + " queries, executing them one by one", e);
+                return CombinedOutcome.REFUSED;
+            }
+            throw e;
+        }
+        if (tracker != null) {
+            tracker.finished(null);
+        }
+        return CombinedOutcome.EXECUTED;
+    }
+
+    private void readResultSets(PreparedStatement ps, ExecutionTracker tracker) throws SQLException {
+        boolean isResultSet = ps.execute();
+        if (tracker != null) {
+            tracker.statementExecuted();
+        }
+        for (int i = 0; i < queries.size(); i++) {
+            while (!isResultSet) {
+                if (ps.getUpdateCount() == -1) {
+                    throw new InvalidDataAccessResourceUsageException("Expected " + queries.size() + " result sets, but the statement returned " + i);
+                }
+                isResultSet = ps.getMoreResults();
+            }
+            ResultSet rs = ps.getResultSet();
+            try {
+                queries.get(i).extract(rs);
+            } finally {
+                JdbcUtils.closeResultSet(rs);
+            }
+            isResultSet = ps.getMoreResults();
+        }
+        if (tracker != null) {
+            tracker.resultMapped();
+        }
+    }
+
+    private boolean isCombinedExecutionEnabled() {
+        return !(baseTemplate instanceof FluentNamedParameterJdbcTemplate) || ((FluentNamedParameterJdbcTemplate) baseTemplate).isCombinedQueryBatches();
+    }
+
+    private void disableCombinedExecution() {
+        if (baseTemplate instanceof FluentNamedParameterJdbcTemplate) {
+            ((FluentNamedParameterJdbcTemplate) baseTemplate).setCombinedQueryBatches(false);
+        }
+    }
+
+    private enum CombinedOutcome {
+        /**
+         * The combined statement was executed and the results extracted.
+         */
+        EXECUTED,
+        /**
+         * The driver does not support several statements at once.
+         */
+        UNSUPPORTED,
+        /**
+         * The database refused to prepare the combined statement as invalid SQL - either it does not understand
+         * the combined statement, or one of the queries is invalid.
+         */
+        REFUSED
+    }
+
+    /**
+     * Parameters of the combined statement reported to the execution listeners - a parameter of several queries has
+     * the value bound to the first of them.
+     */
+    private static class BatchParameterSource extends AbstractSqlParameterSource {
+
+        private final List<SqlParameterSource> sources;
+
+        BatchParameterSource(List<SqlParameterSource> sources) {
+            this.sources = sources;
+        }
+
+        @Override
+        public boolean hasValue(String paramName) {
+            for (SqlParameterSource source : sources) {
+                if (source.hasValue(paramName)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Object getValue(String paramName) {
+            for (SqlParameterSource source : sources) {
+                if (source.hasValue(paramName)) {
+                    return source.getValue(paramName);
+                }
+            }
+            throw new IllegalArgumentException("No value registered for key '" + paramName + "'");
+        }
+    }
+
+}
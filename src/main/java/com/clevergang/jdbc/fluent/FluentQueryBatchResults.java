@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import org.springframework.util.Assert;
+
+import java.util.List;
+
+/**
+ * Results of queries executed by {@link FluentQueryBatch#execute()}. Example:
+ * <pre>{@code
+ * FluentQueryBatchResults results = batch.execute();
+ * List<Country> countries = results.get(countriesQuery);
+ * User user = results.get(userQuery);
+ * }</pre>
+ */
+public class FluentQueryBatchResults {
+
+    private final List<BatchedQuery<?>> queries;
+    private final boolean combined;
+
+    FluentQueryBatchResults(List<BatchedQuery<?>> queries, boolean combined) {
+        this.queries = queries;
+        this.combined = combined;
+    }
+
+    /**
+     * Returns result of given query.
+     *
+     * @param query handle returned when the query was registered in {@link FluentQueryBatch}
+     * @param <T> Return type
+     * @return result of the query
+     * @throws IllegalArgumentException if the query was not part of the executed batch
+     */
+    public <T> T get(BatchedQuery<T> query) {
+        Assert.isTrue(queries.contains(query), "The query was not executed as part of this batch");
+        return query.getResult();
+    }
+
+    /**
+     * @return true if all queries were sent to the database in a single statement, false if they were executed
+     * one by one (the driver does not support multiple result sets or the batch contained just one query)
+     */
+    public boolean isCombined() {
+        return combined;
+    }
+
+    /**
+     * @return number of executed queries
+     */
+    public int size() {
+        return queries.size();
+    }
+
+}
@@ -16,14 +16,43 @@
 
 package com.clevergang.jdbc.fluent;
 
+import com.clevergang.jdbc.routing.ReplicaAttempt;
+import org.reactivestreams.Publisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+import org.springframework.jdbc.core.SingleColumnRowMapper;
 import org.springframework.jdbc.core.SqlTypeValue;
 import org.springframework.jdbc.core.StatementCreatorUtils;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Fluent style builder for execution of the SQL queries (SQL SELECT statements). This builder is initialized with the given
@@ -41,8 +70,15 @@ import java.util.List;
  */
 public class FluentQueryBuilder extends AbstractFluentBuilder<FluentQueryBuilder> {
 
+    /**
+     * Name of the only column of the temporary tables created for keys bound by {@link #bindKeyTable(String, Collection)}.
+     */
+    public static final String KEY_COLUMN = "key_value";
+
     private final String query;
     private final NamedParameterJdbcOperations baseTemplate;
+    private HedgePolicy hedgePolicy;
+    private Map<String, KeyTable> keyTables;
 
     /**
      * Creates new FluentQueryBuilder using given "query" and namedParameterTemplate.
@@ -57,6 +93,124 @@ public class FluentQueryBuilder extends AbstractFluentBuilder<FluentQueryBuilder
         this.baseTemplate = namedParameterTemplate;
     }
 
+    /**
+     * Enables hedging of this query. If the query does not complete within the delay given by the policy (a percentile
+     * of recent latencies of this SQL), the same query is issued once more (through a template's query operations, so
+     * with replica routing it goes to another replica than the original attempt, see {@link ReplicaAttempt}) and
+     * whichever attempt answers first wins. Only the latencies of the original attempts feed the delay percentile.
+     * The statement of the losing attempt is cancelled using {@link java.sql.Statement#cancel()}. The policy's budget
+     * limits the extra load. Example:
+     * <pre>{@code
+     * User user = jdbc.query("SELECT * FROM users WHERE id = :id")
+     *                 .bind("id", 1)
+     *                 .hedge(hedgePolicy)
+     *                 .fetchOne(User.class);
+     * }</pre>
+     * Both attempts are executed on the template's {@link FluentAsyncExecutor}. Hedging is therefore not applied
+     * when a transaction is active on the current thread or when the query itself runs on the FluentAsyncExecutor
+     * (e.g. {@code fetchAsync()}) - such query is executed normally.
+     *
+     * @param hedgePolicy policy shared by the hedged queries
+     * @return a reference to the same builder, so it's possible to chain several calls together
+     */
+    public FluentQueryBuilder hedge(HedgePolicy hedgePolicy) {
+        Assert.notNull(hedgePolicy, "You HAVE TO provide hedge policy");
+        this.hedgePolicy = hedgePolicy;
+        return this;
+    }
+
+    /**
+     * Uses the options registered to the template under given name, see
+     * {@link com.clevergang.jdbc.FluentNamedParameterJdbcTemplate#registerExecutionProfile(String, ExecutionOptions)}.
+     * Options set on this builder later override the options of the profile. Example:
+     * <pre>{@code
+     * List<Order> orders = jdbc.query("SELECT * FROM orders WHERE created > :since")
+     *                          .bind("since", since)
+     *                          .profile("report")
+     *                          .fetch(Order.class);
+     * }</pre>
+     *
+     * @param profileName name of the profile
+     * @return a reference to the same builder, so it's possible to chain several calls together
+     * @throws org.springframework.dao.InvalidDataAccessApiUsageException if the template does not know the profile
+     */
+    public FluentQueryBuilder profile(String profileName) {
+        Assert.notNull(profileName, "You HAVE TO provide profile name");
+        return options(getExecutionProfile(baseTemplate, profileName));
+    }
+
+    /**
+     * Limits the number of rows the query returns, rows over the limit are silently dropped by the driver. See
+     * {@link java.sql.Statement#setMaxRows(int)}.
+     *
+     * @param maxRows maximum number of rows, 0 for no limit
+     * @return a reference to the same builder, so it's possible to chain several calls together
+     */
+    public FluentQueryBuilder maxRows(int maxRows) {
+        return options(ExecutionOptions.create().withMaxRows(maxRows));
+    }
+
+    /**
+     * Sets the number of rows fetched from the database in one round-trip. See {@link java.sql.Statement#setFetchSize(int)}.
+     *
+     * @param fetchSize the fetch size, 0 for the driver's default
+     * @return a reference to the same builder, so it's possible to chain several calls together
+     */
+    public FluentQueryBuilder fetchSize(int fetchSize) {
+        return options(ExecutionOptions.create().withFetchSize(fetchSize));
+    }
+
+    /**
+     * Sets the hint of the direction in which the rows are processed, see {@link ExecutionOptions#withFetchDirection(int)}.
+     *
+     * @param fetchDirection {@link ResultSet#FETCH_FORWARD}, {@link ResultSet#FETCH_REVERSE} or {@link ResultSet#FETCH_UNKNOWN}
+     * @return a reference to the same builder, so it's possible to chain several calls together
+     */
+    public FluentQueryBuilder fetchDirection(int fetchDirection) {
+        return options(ExecutionOptions.create().withFetchDirection(fetchDirection));
+    }
+
+    /**
+     * Binds a (typically large) collection of keys as a table. Right before the query is executed, the keys are inserted
+     * in JDBC batches to a session temporary table with single column {@link #KEY_COLUMN}, the query is executed with
+     * every {@code :parameterName} replaced by the name of that table, and the table is dropped afterwards. All of that
+     * happens on one connection - the one of the current transaction if there is any. Use it instead of IN lists
+     * for key sets of thousands of keys, where the database can join the keys instead of parsing huge statements. Example:
+     * <pre>{@code
+     * List<Order> orders = jdbc.query("SELECT o.* FROM orders o JOIN :customerIds k ON k.key_value = o.customer_id")
+     *                          .bindKeyTable("customerIds", customerIds)
+     *                          .fetch(Order.class);
+     * }</pre>
+     * Duplicate and null keys are ignored. The column type is inferred from the type of the keys (integers, strings,
+     * UUIDs, dates and timestamps). Creating the table requires a dialect which supports temporary tables
+     * (see {@link SqlDialect#supportsTemporaryTables()}); with replica routing, the replicas must allow temporary tables.
+     * Such query cannot be hedged nor published by {@code fetchPublisher()}.
+     *
+     * @param parameterName name which stands for the table in the query, must be a valid SQL identifier
+     * @param keys the keys
+     * @return a reference to the same builder, so it's possible to chain several calls together
+     */
+    public FluentQueryBuilder bindKeyTable(String parameterName, Collection<?> keys) {
+        return bindKeyTable(parameterName, keys, null);
+    }
+
+    /**
+     * Binds a collection of keys as a table with column of given SQL type, see {@link #bindKeyTable(String, Collection)}.
+     * Needed for empty collections and key types which cannot be inferred.
+     *
+     * @param parameterName name which stands for the table in the query, must be a valid SQL identifier
+     * @param keys the keys
+     * @param columnType SQL type of the key column, e.g. {@code "NUMERIC(20)"}
+     * @return a reference to the same builder, so it's possible to chain several calls together
+     */
+    public FluentQueryBuilder bindKeyTable(String parameterName, Collection<?> keys, String columnType) {
+        if (keyTables == null) {
+            keyTables = new LinkedHashMap<>();
+        }
+        keyTables.put(parameterName, new KeyTable(parameterName, keys, columnType));
+        return this;
+    }
+
     /**
      * Executes prepared SQL query, returning single result object. The query is expected to be a single row query; the SQL ResultSet will be mapped
      * to Java class using provided RowMapper. Example:
@@ -80,7 +234,7 @@ public class FluentQueryBuilder extends AbstractFluentBuilder<FluentQueryBuilder
     public <T> T fetchOne(RowMapper<T> rowMapper) {
         Assert.notNull(rowMapper, "You HAVE TO provide row mapper");
 
-        return baseTemplate.queryForObject(query, getBoundParameters(), rowMapper);
+        return DataAccessUtils.requiredSingleResult(executeQuery(new RowMapperResultSetExtractor<>(rowMapper, 1)));
     }
 
     /**
@@ -116,14 +270,104 @@ public class FluentQueryBuilder extends AbstractFluentBuilder<FluentQueryBuilder
     public <T> T fetchOne(Class<T> resultType) {
         Assert.notNull(resultType, "You HAVE TO provide type to map the result to");
 
+        return fetchOne(getRowMapper(resultType));
+    }
+
+    /**
+     * Executes the query and maps just its first row using given RowMapper. Unlike {@link #fetchOne(RowMapper)} the query
+     * may return any number of rows, but the statement is limited to one row ({@link java.sql.Statement#setMaxRows(int)}
+     * and fetch size 1) and nothing more is read. Example:
+     * <pre>{@code
+     * Optional<User> newest = jdbc.query("SELECT * FROM users ORDER BY created DESC")
+     *                             .fetchFirst(userMapper);
+     * }</pre>
+     *
+     * @param rowMapper RowMapper to use for JDBC ResultSet mapping to java object
+     * @param <T>       Return type
+     * @return Returns the mapped first row, or empty Optional if the query returned no rows (or the mapper returned null)
+     */
+    public <T> Optional<T> fetchFirst(RowMapper<T> rowMapper) {
+        Assert.notNull(rowMapper, "You HAVE TO provide row mapper");
+
+        return firstRowQuery(query, Collections.emptyMap())
+                .executeQuery(rs -> rs.next() ? Optional.ofNullable(rowMapper.mapRow(rs, 0)) : Optional.empty());
+    }
+
+    /**
+     * Executes the query and maps just its first row the same way as {@link #fetchOne(Class)}.
+     * See {@link #fetchFirst(RowMapper)} for details.
+     *
+     * @param resultType the type that the result object is expected to match
+     * @param <T>        Return type
+     * @return Returns the mapped first row, or empty Optional if the query returned no rows (or the value was null)
+     */
+    public <T> Optional<T> fetchFirst(Class<T> resultType) {
+        Assert.notNull(resultType, "You HAVE TO provide type to map the result to");
+
+        return fetchFirst(getRowMapper(resultType));
+    }
+
+    /**
+     * Checks whether the query returns at least one row. The query is wrapped to {@code SELECT 1 FROM (<query>)} limited
+     * to one row by the dialect's row limit clause, so the database can stop after the first matching row (see
+     * {@link SqlDialect#exists(String)}). Example:
+     * <pre>{@code
+     * boolean taken = jdbc.query("SELECT * FROM users WHERE email = :email")
+     *                     .bind("email", email)
+     *                     .exists();
+     * }</pre>
+     *
+     * @return Returns true if the query returns any row
+     */
+    public boolean exists() {
+        if (hasInListChunks()) {
+            return getInListChunks().stream().anyMatch(chunk -> chunkQuery(chunk).exists());
+        }
+        SqlDialect dialect = getDialect(baseTemplate);
+        Map<String, ?> limitParameters = dialect.supportsLimit() ? Collections.singletonMap(SqlDialect.LIMIT_PARAMETER, 1) : Collections.emptyMap();
+        return firstRowQuery(dialect.exists(query), limitParameters).executeQuery(ResultSet::next);
+    }
+
+    /**
+     * @return Returns builder of this query for one chunk of the IN list bound by {@link #bindInList(String, java.util.Collection)}
+     */
+    private FluentQueryBuilder chunkQuery(Map<String, Object> chunk) {
+        FluentQueryBuilder chunkQuery = new FluentQueryBuilder(query, baseTemplate);
+        chunkQuery.bindParameterSource(new CompositeSqlParameterSource(getBoundParameters(), chunk));
+        chunkQuery.hedgePolicy = hedgePolicy;
+        chunkQuery.keyTables = keyTables;
+        copyOptionsTo(chunkQuery);
+        return chunkQuery;
+    }
+
+    /**
+     * @return Returns builder of given SQL with parameters of this builder, whose statement is limited to one row
+     */
+    private FluentQueryBuilder firstRowQuery(String sql, Map<String, ?> extraParameters) {
+        FluentQueryBuilder firstRow = derive(sql, extraParameters);
+        firstRow.hedgePolicy = hedgePolicy;
+        firstRow.addStatementHook(new StatementHook() {
+            @Override
+            public void beforeExecute(Statement statement) throws SQLException {
+                statement.setMaxRows(1);
+                statement.setFetchSize(1);
+            }
+        });
+        return firstRow;
+    }
+
+    /**
+     * @return Returns SingleColumnRowMapper for primitive/simple types and BeanPropertyRowMapper for POJO classes
+     */
+    static <T> RowMapper<T> getRowMapper(Class<T> resultType) {
         if (isSingleColumnMapperType(resultType)) {
-            return baseTemplate.queryForObject(query, getBoundParameters(), resultType);
+            return SingleColumnRowMapper.newInstance(resultType);
         } else {
-            return baseTemplate.queryForObject(query, getBoundParameters(), BeanPropertyRowMapper.newInstance(resultType));
+            return BeanPropertyRowMapper.newInstance(resultType);
         }
     }
 
-    private <T> boolean isSingleColumnMapperType(Class<T> resultType) {
+    private static <T> boolean isSingleColumnMapperType(Class<T> resultType) {
         /*
          * We rely on javaTypeToSqlParameterType because it's internally used by Spring for converting between
          * SQL types and java primitive/simple types. Therefore if java type is convertible to sql type (in other words that
@@ -166,11 +410,7 @@ public class FluentQueryBuilder extends AbstractFluentBuilder<FluentQueryBuilder
     public <T> List<T> fetch(Class<T> resultType) {
         Assert.notNull(resultType, "You HAVE TO provide type to map the result to");
 
-        if (isSingleColumnMapperType(resultType)) {
-            return baseTemplate.queryForList(query, getBoundParameters(), resultType);
-        } else {
-            return baseTemplate.query(query, getBoundParameters(), BeanPropertyRowMapper.newInstance(resultType));
-        }
+        return fetch(getRowMapper(resultType));
     }
 
     /**
@@ -195,8 +435,519 @@ public class FluentQueryBuilder extends AbstractFluentBuilder<FluentQueryBuilder
     public <T> List<T> fetch(RowMapper<T> rowMapper) {
         Assert.notNull(rowMapper, "You HAVE TO provide row mapper");
 
-        return baseTemplate.query(query, getBoundParameters(), rowMapper);
+        if (hasInListChunks()) {
+            List<T> result = new ArrayList<>();
+            for (Map<String, Object> chunk : getInListChunks()) {
+                result.addAll(chunkQuery(chunk).fetch(rowMapper));
+            }
+            return result;
+        }
+        AdaptiveFetchSize adaptiveFetchSize = getAdaptiveFetchSize(baseTemplate);
+        if (adaptiveFetchSize != null) {
+            return executeQuery(new AdaptiveRowMapperResultSetExtractor<>(adaptiveFetchSize, query, rowMapper));
+        }
+        return executeQuery(new RowMapperResultSetExtractor<>(rowMapper));
+    }
+
+    /**
+     * Executes the query and returns one page of its results together with the exact total number of rows. Where the
+     * dialect supports window functions, the page and the total are read in one round-trip using
+     * {@code COUNT(*) OVER()}. Example:
+     * <pre>{@code
+     * FluentPage<User> page = jdbc.query("SELECT * FROM users WHERE email LIKE :domain ORDER BY name")
+     *                             .bind("domain", "%gmail.com")
+     *                             .fetchPage(40, 20, User.class);
+     * render(page.getContent(), page.getTotal());
+     * }</pre>
+     * The row limit clause of the dialect is appended to the query itself (and {@code COUNT(*) OVER()} is added to its
+     * select list), so the ORDER BY of the query decides which rows form the page. Queries which cannot be rewritten
+     * this way (e.g. SELECT DISTINCT or UNION for the window total) are read by separate page and count queries.
+     *
+     * @param offset     number of rows to skip
+     * @param limit      maximum number of rows of the page
+     * @param resultType the type that the result objects are expected to match
+     * @param <T>        Return type
+     * @return page of the results
+     */
+    public <T> FluentPage<T> fetchPage(long offset, int limit, Class<T> resultType) {
+        return fetchPage(offset, limit, resultType, PageTotal.EXACT);
     }
 
+    /**
+     * Same as {@link #fetchPage(long, int, Class)}, the rows are mapped using given RowMapper.
+     */
+    public <T> FluentPage<T> fetchPage(long offset, int limit, RowMapper<T> rowMapper) {
+        return fetchPage(offset, limit, rowMapper, PageTotal.EXACT);
+    }
+
+    /**
+     * Same as {@link #fetchPage(long, int, Class)}, with given way of determining the total number of rows.
+     */
+    public <T> FluentPage<T> fetchPage(long offset, int limit, Class<T> resultType, PageTotal pageTotal) {
+        Assert.notNull(resultType, "You HAVE TO provide type to map the result to");
+
+        return fetchPage(offset, limit, getRowMapper(resultType), pageTotal);
+    }
+
+    /**
+     * Executes the query and returns one page of its results. The total number of rows is determined according to
+     * given {@link PageTotal}: exact, estimated (cheap for very large results) or none at all. Example:
+     * <pre>{@code
+     * FluentPage<Order> page = jdbc.query("SELECT * FROM orders ORDER BY created DESC")
+     *                              .fetchPage(0, 50, orderMapper, PageTotal.NONE);
+     * renderWithNextButton(page.getContent(), page.hasNext());
+     * }</pre>
+     *
+     * @param offset    number of rows to skip
+     * @param limit     maximum number of rows of the page
+     * @param rowMapper RowMapper to use for JDBC ResultSet mapping to java object
+     * @param pageTotal how to determine the total number of rows
+     * @param <T>       Return type
+     * @return page of the results
+     */
+    public <T> FluentPage<T> fetchPage(long offset, int limit, RowMapper<T> rowMapper, PageTotal pageTotal) {
+        Assert.isTrue(offset >= 0, "Offset must not be negative");
+        Assert.isTrue(limit > 0 && limit < Integer.MAX_VALUE, "Limit must be positive");
+        Assert.notNull(rowMapper, "You HAVE TO provide row mapper");
+        Assert.notNull(pageTotal, "You HAVE TO provide page total mode");
+
+        return PagedQuery.fetchPage(this, getDialect(baseTemplate), offset, limit, rowMapper, pageTotal);
+    }
+
+    /**
+     * Executes prepared SQL query, returning list of objects, like {@link #fetch(RowMapper)} does, but runs the RowMapper
+     * in parallel. The thread executing the query only copies the column values of each row into a lightweight buffer;
+     * the buffered rows are mapped in batches on the template's mapping ForkJoinPool. Worth it for CPU heavy mappers
+     * (JSON parsing, decompression, ...) and large result sets only. The order of the result List matches the order of
+     * the rows. Example:
+     * <pre>{@code
+     * List<Document> documents = jdbc.query("SELECT id, payload FROM documents")
+     *                                .fetchParallel((rs, rowNum) -> parseJson(rs.getString("payload")));
+     * }</pre>
+     * Note that the ResultSet passed to the RowMapper supports only the column getters, wasNull(), findColumn() and
+     * getMetaData(), and that the RowMapper must be thread safe.
+     *
+     * @param rowMapper thread safe RowMapper to use for JDBC ResultSet mapping to java object
+     * @param <T> Return type
+     * @return the result List, containing mapped objects in the order of the rows
+     * @throws org.springframework.dao.DataAccessException  if the query fails
+     */
+    public <T> List<T> fetchParallel(RowMapper<T> rowMapper) {
+        return fetchParallel(rowMapper, true);
+    }
+
+    /**
+     * Same as {@link #fetchParallel(RowMapper)}, but allows to relax the ordering of the result List. When the order
+     * does not have to be preserved, mapped objects are collected as soon as their batch is mapped.
+     *
+     * @param rowMapper thread safe RowMapper to use for JDBC ResultSet mapping to java object
+     * @param preserveOrder true if the result List has to follow the order of the rows
+     * @param <T> Return type
+     * @return the result List, containing mapped objects
+     * @throws org.springframework.dao.DataAccessException  if the query fails
+     */
+    public <T> List<T> fetchParallel(RowMapper<T> rowMapper, boolean preserveOrder) {
+        Assert.notNull(rowMapper, "You HAVE TO provide row mapper");
+
+        return executeQuery(new ParallelMappingResultSetExtractor<>(rowMapper, getMappingPool(baseTemplate), preserveOrder));
+    }
+
+    /**
+     * Asynchronous variant of {@link #fetchOne(RowMapper)}. The query is executed on the template's
+     * {@link FluentAsyncExecutor}, outside of the caller's transaction. Do not modify this builder after the call. Example:
+     * <pre>{@code
+     * CompletableFuture<User> user = jdbc.query("SELECT * FROM users WHERE id = :id")
+     *                                    .bind("id", 1)
+     *                                    .fetchOneAsync(userMapper);
+     * }</pre>
+     *
+     * @param rowMapper RowMapper to use for JDBC ResultSet mapping to java object
+     * @param <T> Return type
+     * @return future completed with the single mapped object, or exceptionally if the query fails
+     * @see #fetchOne(RowMapper)
+     */
+    public <T> CompletableFuture<T> fetchOneAsync(RowMapper<T> rowMapper) {
+        Assert.notNull(rowMapper, "You HAVE TO provide row mapper");
+
+        return getAsyncExecutor(baseTemplate).submit(onExecutorThread(() -> fetchOne(rowMapper)));
+    }
+
+    /**
+     * Asynchronous variant of {@link #fetchOne(Class)}. The query is executed on the template's
+     * {@link FluentAsyncExecutor}, outside of the caller's transaction. Do not modify this builder after the call.
+     *
+     * @param resultType the type that the result object is expected to match
+     * @param <T> Return type
+     * @return future completed with the single mapped object, or exceptionally if the query fails
+     * @see #fetchOne(Class)
+     */
+    public <T> CompletableFuture<T> fetchOneAsync(Class<T> resultType) {
+        Assert.notNull(resultType, "You HAVE TO provide type to map the result to");
+
+        return getAsyncExecutor(baseTemplate).submit(onExecutorThread(() -> fetchOne(resultType)));
+    }
+
+    /**
+     * Asynchronous variant of {@link #fetch(Class)}. The query is executed on the template's
+     * {@link FluentAsyncExecutor}, outside of the caller's transaction. Do not modify this builder after the call. Example:
+     * <pre>{@code
+     * CompletableFuture<List<User>> users = jdbc.query("SELECT * FROM users").fetchAsync(User.class);
+     * CompletableFuture<Integer> count = jdbc.query("SELECT count(*) FROM orders").fetchOneAsync(Integer.class);
+     * render(users.join(), count.join());
+     * }</pre>
+     *
+     * @param resultType the type that the result object is expected to match
+     * @param <T> Return type
+     * @return future completed with the result List, or exceptionally if the query fails
+     * @see #fetch(Class)
+     */
+    public <T> CompletableFuture<List<T>> fetchAsync(Class<T> resultType) {
+        Assert.notNull(resultType, "You HAVE TO provide type to map the result to");
+
+        return getAsyncExecutor(baseTemplate).submit(onExecutorThread(() -> fetch(resultType)));
+    }
+
+    /**
+     * Asynchronous variant of {@link #fetch(RowMapper)}. The query is executed on the template's
+     * {@link FluentAsyncExecutor}, outside of the caller's transaction. Do not modify this builder after the call.
+     *
+     * @param rowMapper RowMapper to use for JDBC ResultSet mapping to java object
+     * @param <T> Return type
+     * @return future completed with the result List, or exceptionally if the query fails
+     * @see #fetch(RowMapper)
+     */
+    public <T> CompletableFuture<List<T>> fetchAsync(RowMapper<T> rowMapper) {
+        Assert.notNull(rowMapper, "You HAVE TO provide row mapper");
+
+        return getAsyncExecutor(baseTemplate).submit(onExecutorThread(() -> fetch(rowMapper)));
+    }
+
+    /**
+     * Returns Reactive Streams publisher of the query results. Each subscription executes the query on its own
+     * connection (outside of the caller's transaction) and reads rows from the ResultSet only as the subscriber requests
+     * them. The rows are read on the template's publisher executor, the statement and connection are closed once all rows
+     * are read, the query fails or the subscription is cancelled. The number of open subscriptions is bounded by the
+     * concurrency limit of the publisher executor, a subscription over the limit executes the query once another one
+     * finishes. Example:
+     * <pre>{@code
+     * Publisher<User> users = jdbc.query("SELECT * FROM users").fetchPublisher(userMapper);
+     * Flux.from(users).limitRate(100).subscribe(this::export);
+     * }</pre>
+     *
+     * @param rowMapper RowMapper to use for JDBC ResultSet mapping to java object, must not return null
+     * @param <T> Return type
+     * @return cold publisher of mapped rows
+     * @throws org.springframework.dao.InvalidDataAccessApiUsageException if the template does not wrap a JdbcTemplate with a DataSource
+     */
+    public <T> Publisher<T> fetchPublisher(RowMapper<T> rowMapper) {
+        Assert.notNull(rowMapper, "You HAVE TO provide row mapper");
+
+        assertNotChunked();
+        if (keyTables != null) {
+            throw new InvalidDataAccessApiUsageException("Query with key tables cannot be published, use fetch() instead");
+        }
+        captureDeadline();
+        return new ResultSetPublisher<>(query, this, rowMapper, NamedStatements.getJdbcAccessor(getQueryOperations(baseTemplate)),
+                getPublisherExecutor(baseTemplate), getExecutionListeners(baseTemplate), getConcurrencyLimiter(baseTemplate));
+    }
+
+    /**
+     * Returns Reactive Streams publisher of the query results, mapping the rows the same way as {@link #fetch(Class)}.
+     * See {@link #fetchPublisher(RowMapper)} for details.
+     *
+     * @param resultType the type that the result objects are expected to match
+     * @param <T> Return type
+     * @return cold publisher of mapped rows
+     */
+    public <T> Publisher<T> fetchPublisher(Class<T> resultType) {
+        Assert.notNull(resultType, "You HAVE TO provide type to map the result to");
+
+        return fetchPublisher(getRowMapper(resultType));
+    }
+
+    /**
+     * Starts configuration of a range partitioned scan of this query. The query is split into several queries,
+     * each of them reading one range of the given key column, which are executed concurrently on separate connections.
+     * Example:
+     * <pre>{@code
+     * List<Order> orders = jdbc.query("SELECT * FROM orders WHERE status = :status")
+     *                          .bind("status", "NEW")
+     *                          .partitionedScan("id")
+     *                          .partitions(8)
+     *                          .fetch(Order.class);
+     * }</pre>
+     *
+     * @param keyColumn name of a numeric or timestamp column returned by this query, used to split the query
+     * @return Returns builder of the partitioned scan
+     * @see FluentPartitionedScan
+     */
+    public FluentPartitionedScan partitionedScan(String keyColumn) {
+        return new FluentPartitionedScan(this, keyColumn, getAsyncExecutor(baseTemplate));
+    }
+
+    /**
+     * Starts configuration of a keyset pagination of this query. The rows are read in pages ordered by the given key
+     * columns; each page seeks right after the key of the last row of the previous page instead of using OFFSET, so deep
+     * pages are as cheap as the first one. The pages are fetched lazily. Example:
+     * <pre>{@code
+     * Iterator<List<Order>> pages = jdbc.query("SELECT * FROM orders WHERE status = :status")
+     *                                   .bind("status", "NEW")
+     *                                   .keysetPages(500, "created", "id")
+     *                                   .iterator(Order.class);
+     * }</pre>
+     *
+     * @param pageSize   maximum number of rows of each page
+     * @param keyColumns columns returned by this query whose combination is unique and non-null, in the order of sorting
+     * @return Returns builder of the keyset pagination
+     * @see FluentKeysetPages
+     */
+    public FluentKeysetPages keysetPages(int pageSize, String... keyColumns) {
+        return new FluentKeysetPages(this, getDialect(baseTemplate), pageSize, keyColumns);
+    }
+
+    @Override
+    int inListChunkSize() {
+        return getInListChunkSize(baseTemplate);
+    }
+
+    private void assertNotChunked() {
+        if (hasInListChunks()) {
+            throw new InvalidDataAccessApiUsageException("The IN list exceeds the chunk size of " + inListChunkSize()
+                    + ", such query can be executed only by fetch() or exists()");
+        }
+    }
+
+    /**
+     * Creates new builder for given SQL, executed by the same template, with all parameters of this builder
+     * plus the given extra parameters bound.
+     */
+    FluentQueryBuilder derive(String sql, Map<String, ?> extraParameters) {
+        assertNotChunked();
+        FluentQueryBuilder derived = new FluentQueryBuilder(sql, baseTemplate);
+        derived.bindParameterSource(new CompositeSqlParameterSource(getBoundParameters(), extraParameters));
+        derived.keyTables = keyTables;
+        copyOptionsTo(derived);
+        return derived;
+    }
+
+    /**
+     * @return Returns true if keys are bound to temporary tables by {@link #bindKeyTable(String, Collection)}
+     */
+    boolean hasKeyTables() {
+        return keyTables != null;
+    }
+
+    /**
+     * @return Returns SQL of this query
+     */
+    String getSql() {
+        return query;
+    }
+
+    /**
+     * Executes the query, letting registered statement hooks see the statement before and after the execution, and
+     * extracts the result using given extractor. All terminal methods end up here.
+     */
+    <R> R executeQuery(ResultSetExtractor<R> extractor) {
+        assertNotChunked();
+        if (keyTables != null) {
+            return executeWithKeyTables(extractor);
+        }
+        if (hedgePolicy != null && !TransactionSynchronizationManager.isActualTransactionActive() && !FluentAsyncExecutor.isRunningTask()) {
+            return executeHedged(extractor);
+        }
+        return executeQuery(query, extractor, null);
+    }
+
+    /**
+     * Creates the key tables, executes the query joined with them and drops the tables, all on one connection.
+     * Hedging is not applied, the other attempt would run on another connection, which does not see the tables.
+     */
+    private <R> R executeWithKeyTables(ResultSetExtractor<R> extractor) {
+        checkDeadline(query);
+        NamedParameterJdbcOperations operations = getQueryOperations(baseTemplate);
+        DataSource dataSource = NamedStatements.getDataSource(operations);
+        ConcurrencyLimiter limiter = getConcurrencyLimiter(baseTemplate);
+        if (limiter != null) {
+            // admitted before the connection is taken, the query itself then runs as a part of this admission
+            return limiter.execute(getPriority(), getDeadline(), query, dataSource, () -> executeWithKeyTables(dataSource, operations, extractor));
+        }
+        return executeWithKeyTables(dataSource, operations, extractor);
+    }
+
+    private <R> R executeWithKeyTables(DataSource dataSource, NamedParameterJdbcOperations operations, ResultSetExtractor<R> extractor) {
+        SqlDialect dialect = getDialect(baseTemplate);
+        return NamedStatements.withSingleConnection(dataSource, () -> {
+            String sql = query;
+            Map<KeyTable, String> created = new LinkedHashMap<>();
+            try {
+                for (KeyTable keyTable : keyTables.values()) {
+                    String tableName = keyTable.newTableName();
+                    keyTable.create(operations.getJdbcOperations(), tableName, dialect);
+                    created.put(keyTable, tableName);
+                    sql = keyTable.replacePlaceholder(sql, tableName, dialect);
+                }
+                return executeQuery(sql, extractor, null);
+            } finally {
+                created.forEach((keyTable, tableName) -> keyTable.drop(operations.getJdbcOperations(), tableName, dialect));
+            }
+        });
+    }
+
+    private <R> R executeQuery(String sql, ResultSetExtractor<R> extractor, StatementHook attemptHook) {
+        checkDeadline(sql);
+        ConcurrencyLimiter limiter = getConcurrencyLimiter(baseTemplate);
+        if (limiter != null) {
+            return limiter.execute(getPriority(), getDeadline(), sql, NamedStatements.findDataSource(getQueryOperations(baseTemplate).getJdbcOperations()),
+                    () -> executeStatement(sql, extractor, attemptHook));
+        }
+        return executeStatement(sql, extractor, attemptHook);
+    }
+
+    private <R> R executeStatement(String sql, ResultSetExtractor<R> extractor, StatementHook attemptHook) {
+        SqlParameterSource parameters = getBoundParameters();
+        ExecutionTracker tracker = ExecutionTracker.start(getExecutionListeners(baseTemplate), StatementExecution.Kind.QUERY, sql, parameters);
+        NamedParameterJdbcOperations operations = getQueryOperations(baseTemplate);
+        ExecutionOptions options = getExecutionOptions();
+        PreparedStatementCallback<R> callback = ps -> {
+            ResultSet rs = null;
+            try {
+                if (extractor instanceof StatementHook) {
+                    // extractors adapting the statement to the expected results, before the hooks of the builder
+                    ((StatementHook) extractor).beforeExecute(ps);
+                }
+                beforeExecute(ps, options != null ? NamedStatements.findDataSource(operations.getJdbcOperations()) : null);
+                if (attemptHook != null) {
+                    attemptHook.beforeExecute(ps);
+                }
+                if (tracker == null) {
+                    rs = ps.executeQuery();
+                    return extractor.extractData(rs);
+                }
+                tracker.statementReady();
+                rs = ps.executeQuery();
+                tracker.statementExecuted();
+                R extracted = extractor.extractData(rs);
+                tracker.resultMapped();
+                tracker.setRowCount(extractor, extracted);
+                return extracted;
+            } finally {
+                JdbcUtils.closeResultSet(rs);
+                if (attemptHook != null) {
+                    attemptHook.afterExecute(ps);
+                }
+                afterExecute(ps);
+            }
+        };
+        R result;
+        try {
+            if (options != null && options.hasResultSetHints()) {
+                result = operations.getJdbcOperations().execute(NamedStatements.newPreparedStatementCreator(operations, sql, parameters, null, options), callback);
+            } else {
+                result = operations.execute(sql, parameters, callback);
+            }
+        } catch (RuntimeException e) {
+            if (tracker != null) {
+                tracker.finished(e);
+            }
+            throw e;
+        }
+        if (tracker != null) {
+            tracker.finished(null);
+        }
+        return result;
+    }
+
+    /**
+     * Prepares given task to run on an executor thread: fixes the deadline of the current thread to this builder and
+     * carries the state the execution listeners captured on the current thread over to the executor thread.
+     */
+    <R> Supplier<R> onExecutorThread(Supplier<R> task) {
+        captureDeadline();
+        return withListenerContexts(baseTemplate, task);
+    }
+
+    private <R> R executeHedged(ResultSetExtractor<R> extractor) {
+        // both attempts run on the executor threads
+        StatementCanceller originalCanceller = new StatementCanceller();
+        Supplier<R> originalTask = onExecutorThread(() -> executeQuery(query, extractor, originalCanceller));
+        FluentAsyncExecutor executor = getAsyncExecutor(baseTemplate);
+        hedgePolicy.queryStarted();
+
+        long start = System.nanoTime();
+        ReplicaAttempt originalAttempt = new ReplicaAttempt(null);
+        CompletableFuture<R> original = executor.submit(() -> originalAttempt.run(originalTask));
+        try {
+            R result = original.get(hedgePolicy.getDelayNanos(query), TimeUnit.NANOSECONDS);
+            hedgePolicy.recordLatency(query, System.nanoTime() - start);
+            return result;
+        } catch (TimeoutException e) {
+            // the original attempt is slow, hedge it (if the budget allows)
+        } catch (ExecutionException e) {
+            throw FluentParallelQueries.rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            throw interrupted(e, originalCanceller);
+        }
+
+        if (!hedgePolicy.tryHedge()) {
+            try {
+                R result = original.get();
+                hedgePolicy.recordLatency(query, System.nanoTime() - start);
+                return result;
+            } catch (ExecutionException e) {
+                throw FluentParallelQueries.rethrow(e.getCause());
+            } catch (InterruptedException e) {
+                throw interrupted(e, originalCanceller);
+            }
+        }
+
+        StatementCanceller hedgeCanceller = new StatementCanceller();
+        // with replica routing, the hedge avoids the replica which is slow to answer the original attempt
+        ReplicaAttempt hedgeAttempt = new ReplicaAttempt(originalAttempt);
+        Supplier<R> hedgeTask = onExecutorThread(() -> executeQuery(query, extractor, hedgeCanceller));
+        CompletableFuture<R> hedge = executor.submit(() -> hedgeAttempt.run(hedgeTask));
+
+        // the first successful attempt wins and cancels the other one, failure is reported only if both attempts fail;
+        // the statistics are recorded before the winner completes, so the caller already sees them
+        CompletableFuture<R> winner = new CompletableFuture<>();
+        AtomicBoolean decided = new AtomicBoolean();
+        AtomicInteger failures = new AtomicInteger();
+        original.whenComplete((result, ex) -> {
+            if (ex == null && decided.compareAndSet(false, true)) {
+                hedgeCanceller.cancel();
+                hedge.cancel(false);
+                hedgePolicy.recordLatency(query, System.nanoTime() - start);
+                winner.complete(result);
+            } else if (ex != null && failures.incrementAndGet() == 2) {
+                winner.completeExceptionally(ex);
+            }
+        });
+        hedge.whenComplete((result, ex) -> {
+            if (ex == null && decided.compareAndSet(false, true)) {
+                originalCanceller.cancel();
+                original.cancel(false);
+                // the latency of the original attempt is unknown (only its lower bound is), so no sample is recorded
+                hedgePolicy.hedgeWon();
+                winner.complete(result);
+            } else if (ex != null && failures.incrementAndGet() == 2) {
+                winner.completeExceptionally(ex);
+            }
+        });
+
+        try {
+            return winner.get();
+        } catch (ExecutionException e) {
+            throw FluentParallelQueries.rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            hedgeCanceller.cancel();
+            throw interrupted(e, originalCanceller);
+        }
+    }
+
+    private static DataAccessResourceFailureException interrupted(InterruptedException e, StatementCanceller canceller) {
+        canceller.cancel();
+        Thread.currentThread().interrupt();
+        return new DataAccessResourceFailureException("Interrupted while waiting for the query", e);
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collector;
+
+/**
+ * Builder of a scatter-gather execution of a query: the query is executed on all shards concurrently (each shard on
+ * its own connection) and the partial results are merged. Example:
+ * <pre>{@code
+ * ShardedResult<Map<String, Long>> perCountry = sharded.query("SELECT country FROM customers")
+ *     .onAllShards()
+ *     .allowPartialResults()
+ *     .collect((rs, rowNum) -> rs.getString("country"), Collectors.groupingBy(c -> c, Collectors.counting()));
+ * perCountry.getShardResults().stream().filter(ShardResult::isFailed).forEach(this::reportUnavailableShard);
+ * }</pre>
+ *
+ * <p>The shard queries are executed by {@link FluentParallelQueries}, so they do NOT participate in the caller's
+ * transaction and respect the {@link #timeout(long, TimeUnit) timeout}. By default the execution fails fast: the first
+ * failing shard cancels the queries on other shards and its exception is rethrown. With {@link #allowPartialResults()}
+ * the failures are only recorded in the {@link ShardResult}s and the results of the remaining shards are merged;
+ * the shards which did not finish within the timeout are cancelled and recorded as failed with
+ * {@link org.springframework.dao.QueryTimeoutException}.
+ *
+ * NOT THREAD SAFE
+ */
+public class FluentScatterGather {
+
+    private final List<FluentQueryBuilder> shardQueries;
+    private final FluentAsyncExecutor executor;
+    private int limit = -1;
+    private boolean allowPartialResults;
+    private long timeout = -1;
+    private TimeUnit timeoutUnit;
+
+    FluentScatterGather(List<FluentQueryBuilder> shardQueries, FluentAsyncExecutor executor) {
+        this.shardQueries = shardQueries;
+        this.executor = executor;
+    }
+
+    /**
+     * Limits the number of returned rows. No more than {@code limit} rows are read from each shard, and the merged
+     * result is truncated to {@code limit} rows (after sorting, if a comparator is used). To get correct top-N results
+     * with a comparator, the query has to order the rows the same way as the comparator. The limit does not apply
+     * to {@link #collect(RowMapper, Collector)}.
+     *
+     * @param limit maximum number of rows
+     * @return a reference to the same builder, so it's possible to chain several calls together
+     */
+    public FluentScatterGather limit(int limit) {
+        Assert.isTrue(limit > 0, "Limit must be positive");
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * Failures of individual shards will not fail the whole execution. They are available in
+     * {@link ShardedResult#getShardResults()} and the result is merged from the shards which succeeded.
+     *
+     * @return a reference to the same builder, so it's possible to chain several calls together
+     */
+    public FluentScatterGather allowPartialResults() {
+        this.allowPartialResults = true;
+        return this;
+    }
+
+    /**
+     * Sets overall deadline for the queries on all shards, see {@link FluentParallelQueries#timeout(long, TimeUnit)}.
+     * With {@link #allowPartialResults()}, the shards not finished in time are reported as failed instead.
+     *
+     * @param timeout maximum time to wait for all shards
+     * @param unit    the time unit of the timeout argument
+     * @return a reference to the same builder, so it's possible to chain several calls together
+     */
+    public FluentScatterGather timeout(long timeout, TimeUnit unit) {
+        Assert.isTrue(timeout > 0, "Timeout must be positive");
+        Assert.notNull(unit, "You HAVE TO provide time unit");
+        this.timeout = timeout;
+        this.timeoutUnit = unit;
+        return this;
+    }
+
+    /**
+     * Executes the query on all shards, mapping the rows the same way as {@link FluentQueryBuilder#fetch(Class)}.
+     * The rows are concatenated in the order of the shards.
+     */
+    public <T> ShardedResult<List<T>> fetch(Class<T> resultType) {
+        Assert.notNull(resultType, "You HAVE TO provide type to map the result to");
+        return fetch(FluentQueryBuilder.getRowMapper(resultType));
+    }
+
+    /**
+     * Executes the query on all shards, mapping the rows with given RowMapper. The rows are concatenated in the order
+     * of the shards.
+     */
+    public <T> ShardedResult<List<T>> fetch(RowMapper<T> rowMapper) {
+        return fetch(rowMapper, null);
+    }
+
+    /**
+     * Executes the query on all shards, mapping the rows the same way as {@link FluentQueryBuilder#fetch(Class)}
+     * and sorting the merged rows by given comparator.
+     */
+    public <T> ShardedResult<List<T>> fetch(Class<T> resultType, Comparator<? super T> order) {
+        Assert.notNull(resultType, "You HAVE TO provide type to map the result to");
+        return fetch(FluentQueryBuilder.getRowMapper(resultType), order);
+    }
+
+    /**
+     * Executes the query on all shards, mapping the rows with given RowMapper and sorting the merged rows by given
+     * comparator. If the query orders the rows the same way, the sort merely merges the already sorted runs of the
+     * shards.
+     *
+     * @param rowMapper RowMapper to use for JDBC ResultSet mapping to java object
+     * @param order     order of the merged rows, or null to keep the rows in the order of the shards
+     * @param <T>       Return type
+     * @return merged rows together with the outcome on each shard
+     */
+    public <T> ShardedResult<List<T>> fetch(RowMapper<T> rowMapper, Comparator<? super T> order) {
+        Assert.notNull(rowMapper, "You HAVE TO provide row mapper");
+        int maxRows = limit;
+        List<ShardPart<List<T>>> parts = scatter(rs -> {
+            List<T> rows = new ArrayList<>();
+            while ((maxRows < 0 || rows.size() < maxRows) && rs.next()) {
+                rows.add(rowMapper.mapRow(rs, rows.size()));
+            }
+            return new ShardPart<>(rows, rows.size());
+        });
+
+        List<T> merged = new ArrayList<>();
+        List<ShardResult> shardResults = new ArrayList<>(parts.size());
+        for (ShardPart<List<T>> part : parts) {
+            shardResults.add(part.shardResult);
+            if (part.value != null) {
+                merged.addAll(part.value);
+            }
+        }
+        if (order != null) {
+            merged.sort(order);
+        }
+        if (maxRows >= 0 && merged.size() > maxRows) {
+            merged = new ArrayList<>(merged.subList(0, maxRows));
+        }
+        return new ShardedResult<>(merged, shardResults);
+    }
+
+    /**
+     * Executes the query on all shards and reduces all rows using given collector. Each shard accumulates its rows
+     * into its own container, the containers are then merged using the collector's combiner.
+     *
+     * @param rowMapper RowMapper to use for JDBC ResultSet mapping to java object
+     * @param collector collector reducing the mapped rows
+     * @param <T>       Type of the mapped rows
+     * @param <A>       Intermediate accumulation type of the collector
+     * @param <R>       Result type of the collector
+     * @return collected result together with the outcome on each shard
+     */
+    public <T, A, R> ShardedResult<R> collect(RowMapper<T> rowMapper, Collector<T, A, R> collector) {
+        Assert.notNull(rowMapper, "You HAVE TO provide row mapper");
+        Assert.notNull(collector, "You HAVE TO provide collector");
+        List<ShardPart<A>> parts = scatter(rs -> {
+            A container = collector.supplier().get();
+            int rowNum = 0;
+            while (rs.next()) {
+                collector.accumulator().accept(container, rowMapper.mapRow(rs, rowNum++));
+            }
+            return new ShardPart<>(container, rowNum);
+        });
+
+        A merged = null;
+        List<ShardResult> shardResults = new ArrayList<>(parts.size());
+        for (ShardPart<A> part : parts) {
+            shardResults.add(part.shardResult);
+            if (part.value != null) {
+                merged = merged == null ? part.value : collector.combiner().apply(merged, part.value);
+            }
+        }
+        if (merged == null) {
+            merged = collector.supplier().get();
+        }
+        return new ShardedResult<>(collector.finisher().apply(merged), shardResults);
+    }
+
+    private <P> List<ShardPart<P>> scatter(ResultSetExtractor<ShardPart<P>> extractor) {
+        FluentParallelQueries parallel = new FluentParallelQueries(executor);
+        if (timeout > 0) {
+            parallel.timeout(timeout, timeoutUnit);
+        }
+        if (allowPartialResults) {
+            parallel.partialResultsOnTimeout();
+        }
+        List<ParallelQuery<ShardPart<P>>> handles = new ArrayList<>(shardQueries.size());
+        for (int i = 0; i < shardQueries.size(); i++) {
+            int shardIndex = i;
+            FluentQueryBuilder shardQuery = shardQueries.get(i);
+            handles.add(parallel.register(shardQuery, () -> executeOnShard(shardIndex, shardQuery, extractor)));
+        }
+        FluentParallelResults results = parallel.execute();
+
+        List<ShardPart<P>> parts = new ArrayList<>(handles.size());
+        for (int i = 0; i < handles.size(); i++) {
+            ParallelQuery<ShardPart<P>> handle = handles.get(i);
+            if (handle.hasResult()) {
+                parts.add(results.get(handle));
+            } else {
+                // only possible with partial results, when the shard did not finish within the timeout
+                ShardPart<P> timedOut = new ShardPart<>(null, 0);
+                timedOut.shardResult = new ShardResult(i, timeoutUnit.toNanos(timeout), 0,
+                        new QueryTimeoutException("Shard " + i + " did not finish within " + timeoutUnit.toMillis(timeout) + " ms"));
+                parts.add(timedOut);
+            }
+        }
+        return parts;
+    }
+
+    private <P> ShardPart<P> executeOnShard(int shardIndex, FluentQueryBuilder shardQuery, ResultSetExtractor<ShardPart<P>> extractor) {
+        long start = System.nanoTime();
+        try {
+            ShardPart<P> part = shardQuery.executeQuery(extractor);
+            part.shardResult = new ShardResult(shardIndex, System.nanoTime() - start, part.rowCount, null);
+            return part;
+        } catch (RuntimeException e) {
+            if (!allowPartialResults) {
+                throw e;
+            }
+            ShardPart<P> failed = new ShardPart<>(null, 0);
+            failed.shardResult = new ShardResult(shardIndex, System.nanoTime() - start, 0, e);
+            return failed;
+        }
+    }
+
+    private static class ShardPart<P> {
+        private final P value;
+        private final int rowCount;
+        private ShardResult shardResult;
+
+        ShardPart(P value, int rowCount) {
+            this.value = value;
+            this.rowCount = rowCount;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fluent style builder of a query against a set of shards. The query is executed either on the single shard holding
+ * the data of the bound shard key, or on all shards at once (scatter-gather). Example:
+ * <pre>{@code
+ * // single shard, chosen by the value of the shard key parameter
+ * List<Order> orders = sharded.query("SELECT * FROM orders WHERE customer_id = :customerId")
+ *                             .bind("customerId", 42)
+ *                             .fetch(Order.class);
+ *
+ * // all shards
+ * ShardedResult<List<Order>> latest = sharded.query("SELECT * FROM orders ORDER BY created DESC")
+ *                                            .onAllShards()
+ *                                            .limit(100)
+ *                                            .fetch(Order.class, comparing(Order::getCreated).reversed());
+ * }</pre>
+ *
+ * NOT THREAD SAFE
+ */
+public class FluentShardedQueryBuilder extends AbstractFluentBuilder<FluentShardedQueryBuilder> {
+
+    private final String query;
+    private final List<NamedParameterJdbcOperations> shards;
+    private final String shardKeyParameter;
+    private final ShardResolver shardResolver;
+    private final FluentAsyncExecutor executor;
+
+    /**
+     * Creates new FluentShardedQueryBuilder.
+     *
+     * @param query             Query to be executed
+     * @param shards            Templates of the individual shards, the position in the list is the shard index
+     * @param shardKeyParameter Name of the parameter holding the shard key
+     * @param shardResolver     Function choosing the shard for a shard key
+     * @param executor          Executor running the queries of scatter-gather execution
+     */
+    public FluentShardedQueryBuilder(String query, List<? extends NamedParameterJdbcOperations> shards, String shardKeyParameter,
+                                     ShardResolver shardResolver, FluentAsyncExecutor executor) {
+        Assert.notEmpty(shards, "You HAVE TO provide at least one shard");
+        Assert.notNull(shardKeyParameter, "You HAVE TO provide name of the shard key parameter");
+        Assert.notNull(shardResolver, "You HAVE TO provide shard resolver");
+        Assert.notNull(executor, "You HAVE TO provide an executor");
+        this.query = query;
+        this.shards = new ArrayList<>(shards);
+        this.shardKeyParameter = shardKeyParameter;
+        this.shardResolver = shardResolver;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns query builder targeting the shard chosen by the value of the shard key parameter. The parameters bound
+     * so far are passed to the returned builder, so all the usual terminals (including asynchronous ones) can be used.
+     *
+     * @return query builder executing the query on the single shard
+     * @throws InvalidDataAccessApiUsageException if the shard key parameter is not bound or is null
+     */
+    public FluentQueryBuilder onShardKey() {
+        SqlParameterSource parameters = getBoundParameters();
+        Object shardKey = parameters.hasValue(shardKeyParameter) ? parameters.getValue(shardKeyParameter) : null;
+        if (shardKey == null) {
+            throw new InvalidDataAccessApiUsageException("Shard key parameter '" + shardKeyParameter + "' has to be bound to a non-null value");
+        }
+        return onShard(resolveShard(shardResolver, shardKey, shards.size()));
+    }
+
+    /**
+     * Returns query builder targeting the shard with given index. The parameters bound so far are passed to the
+     * returned builder.
+     *
+     * @param shardIndex index of the shard
+     * @return query builder executing the query on the single shard
+     */
+    public FluentQueryBuilder onShard(int shardIndex) {
+        Assert.isTrue(shardIndex >= 0 && shardIndex < shards.size(), "Shard index out of range: " + shardIndex);
+        if (hasInListChunks()) {
+            throw new InvalidDataAccessApiUsageException("IN lists exceeding the chunk size are not supported by sharded queries");
+        }
+        FluentQueryBuilder shardQuery = new FluentQueryBuilder(query, shards.get(shardIndex));
+        shardQuery.bindParameterSource(getBoundParameters());
+        copyOptionsTo(shardQuery);
+        return shardQuery;
+    }
+
+    /**
+     * Returns builder of scatter-gather execution, which runs the query on all shards concurrently and merges the results.
+     *
+     * @return scatter-gather builder
+     */
+    public FluentScatterGather onAllShards() {
+        List<FluentQueryBuilder> shardQueries = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            shardQueries.add(onShard(i));
+        }
+        return new FluentScatterGather(shardQueries, executor);
+    }
+
+    /**
+     * Executes the query on the shard chosen by the shard key, see {@link FluentQueryBuilder#fetch(Class)}.
+     */
+    public <T> List<T> fetch(Class<T> resultType) {
+        return onShardKey().fetch(resultType);
+    }
+
+    /**
+     * Executes the query on the shard chosen by the shard key, see {@link FluentQueryBuilder#fetch(RowMapper)}.
+     */
+    public <T> List<T> fetch(RowMapper<T> rowMapper) {
+        return onShardKey().fetch(rowMapper);
+    }
+
+    /**
+     * Executes the query on the shard chosen by the shard key, see {@link FluentQueryBuilder#fetchOne(Class)}.
+     */
+    public <T> T fetchOne(Class<T> resultType) {
+        return onShardKey().fetchOne(resultType);
+    }
+
+    /**
+     * Executes the query on the shard chosen by the shard key, see {@link FluentQueryBuilder#fetchOne(RowMapper)}.
+     */
+    public <T> T fetchOne(RowMapper<T> rowMapper) {
+        return onShardKey().fetchOne(rowMapper);
+    }
+
+    /**
+     * Resolves the shard of given key, checking the resolver returned a valid index.
+     */
+    public static int resolveShard(ShardResolver shardResolver, Object shardKey, int shardCount) {
+        int shardIndex = shardResolver.resolveShard(shardKey, shardCount);
+        if (shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalStateException("Shard resolver returned index " + shardIndex + " for key " + shardKey
+                    + ", but there are " + shardCount + " shards");
+        }
+        return shardIndex;
+    }
+}
@@ -17,11 +17,23 @@
 package com.clevergang.jdbc.fluent;
 
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.util.Assert;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Fluent style builder for execution of  statements which update the database state (INSERT, UPDATE, DELETE operations).
@@ -56,6 +68,26 @@ public class FluentUpdateBuilder extends AbstractFluentBuilder<FluentUpdateBuild
         this.baseTemplate = namedParameterTemplate;
     }
 
+    /**
+     * Uses the options registered to the template under given name, see
+     * {@link com.clevergang.jdbc.FluentNamedParameterJdbcTemplate#registerExecutionProfile(String, ExecutionOptions)}.
+     * Options set on this builder later override the options of the profile. Example:
+     * <pre>{@code
+     * int deleted = jdbc.update("DELETE FROM audit_log WHERE created < :before")
+     *                   .bind("before", before)
+     *                   .profile("maintenance")
+     *                   .execute();
+     * }</pre>
+     *
+     * @param profileName name of the profile
+     * @return a reference to the same builder, so it's possible to chain several calls together
+     * @throws org.springframework.dao.InvalidDataAccessApiUsageException if the template does not know the profile
+     */
+    public FluentUpdateBuilder profile(String profileName) {
+        Assert.notNull(profileName, "You HAVE TO provide profile name");
+        return options(getExecutionProfile(baseTemplate, profileName));
+    }
+
     /**
      * Executes prepared update statement (with parameters bound using the bind() methods) and returns number of updated rows.
      * Example usage:
@@ -69,7 +101,30 @@ public class FluentUpdateBuilder extends AbstractFluentBuilder<FluentUpdateBuild
      * @throws org.springframework.dao.DataAccessException if there is any problem issuing the update
      */
     public int execute() {
-        return baseTemplate.update(statement, getBoundParameters());
+        if (hasInListChunks()) {
+            int updated = 0;
+            for (Map<String, Object> chunk : getInListChunks()) {
+                updated += executeUpdate(new CompositeSqlParameterSource(getBoundParameters(), chunk), null, null);
+            }
+            return updated;
+        }
+        return executeUpdate(getBoundParameters(), null, null);
+    }
+
+    /**
+     * Asynchronous variant of {@link #execute()}. The statement is executed on the template's {@link FluentAsyncExecutor},
+     * outside of the caller's transaction (and therefore in its own auto-committed transaction). Do not modify this
+     * builder after the call. Example usage:
+     * <pre>{@code
+     * CompletableFuture<Integer> updatedRowsCount = jdbc.update("UPDATE users SET last_seen = now() WHERE id = :id")
+     *                                                   .bind("id", 2)
+     *                                                   .executeAsync();
+     * }</pre>
+     * @return future completed with the number of rows affected, or exceptionally if there is any problem issuing the update
+     */
+    public CompletableFuture<Integer> executeAsync() {
+        captureDeadline();
+        return getAsyncExecutor(baseTemplate).submit(withListenerContexts(baseTemplate, this::execute));
     }
 
     /**
@@ -93,8 +148,9 @@ public class FluentUpdateBuilder extends AbstractFluentBuilder<FluentUpdateBuild
     public <T extends Number> T executeAndReturnKey(String keyName) {
         Assert.notNull(keyName);
 
+        assertNotChunked();
         GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
-        baseTemplate.update(statement, getBoundParameters(), keyHolder, new String[] {keyName});
+        executeUpdate(getBoundParameters(), keyHolder, new String[] {keyName});
 
         return (T) keyHolder.getKey();
     }
@@ -119,9 +175,97 @@ public class FluentUpdateBuilder extends AbstractFluentBuilder<FluentUpdateBuild
     public Map<String, Object> executeAndReturnKeys(String... keys) {
         Assert.notNull(keys);
 
+        assertNotChunked();
         GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
-        baseTemplate.update(statement, getBoundParameters(), keyHolder, keys);
+        executeUpdate(getBoundParameters(), keyHolder, keys);
 
         return keyHolder.getKeys();
     }
+
+    /**
+     * Executes the statement the same way {@link NamedParameterJdbcOperations#update(String, SqlParameterSource, KeyHolder, String[])}
+     * does, letting registered statement hooks see the statement before and after the execution. All terminal methods end up here.
+     *
+     * @param keyHolder  holder of the generated keys, or null if keys are not to be returned
+     * @param keyColumns names of the columns with generated keys, or null if keys are not to be returned
+     */
+    private int executeUpdate(SqlParameterSource parameters, KeyHolder keyHolder, String[] keyColumns) {
+        checkDeadline(statement);
+        ConcurrencyLimiter limiter = getConcurrencyLimiter(baseTemplate);
+        if (limiter != null) {
+            return limiter.execute(getPriority(), getDeadline(), statement, NamedStatements.findDataSource(baseTemplate.getJdbcOperations()),
+                    () -> executeStatement(parameters, keyHolder, keyColumns));
+        }
+        return executeStatement(parameters, keyHolder, keyColumns);
+    }
+
+    private int executeStatement(SqlParameterSource parameters, KeyHolder keyHolder, String[] keyColumns) {
+        ExecutionTracker tracker = ExecutionTracker.start(getExecutionListeners(baseTemplate), StatementExecution.Kind.UPDATE, statement, parameters);
+        JdbcOperations operations = baseTemplate.getJdbcOperations();
+        PreparedStatementCallback<Integer> callback = ps -> {
+            try {
+                beforeExecute(ps, getExecutionOptions() != null ? NamedStatements.findDataSource(operations) : null);
+                if (tracker != null) {
+                    tracker.statementReady();
+                }
+                int rows = ps.executeUpdate();
+                if (tracker != null) {
+                    tracker.statementExecuted();
+                    tracker.setRowCount(rows);
+                }
+                if (keyHolder != null) {
+                    extractGeneratedKeys(ps, keyHolder);
+                }
+                if (tracker != null) {
+                    tracker.resultMapped();
+                }
+                return rows;
+            } finally {
+                afterExecute(ps);
+            }
+        };
+        Integer updated;
+        try {
+            if (keyHolder == null) {
+                updated = baseTemplate.execute(statement, parameters, callback);
+            } else {
+                // the generated key columns cannot be passed through the template, the statement is created here
+                updated = operations.execute(NamedStatements.newPreparedStatementCreator(baseTemplate, statement, parameters, keyColumns, null), callback);
+            }
+        } catch (RuntimeException e) {
+            if (tracker != null) {
+                tracker.finished(e);
+            }
+            throw e;
+        }
+        if (tracker != null) {
+            tracker.finished(null);
+        }
+        return updated;
+    }
+
+    private static void extractGeneratedKeys(PreparedStatement ps, KeyHolder keyHolder) throws SQLException {
+        List<Map<String, Object>> generatedKeys = keyHolder.getKeyList();
+        generatedKeys.clear();
+        ResultSet keys = ps.getGeneratedKeys();
+        if (keys != null) {
+            try {
+                generatedKeys.addAll(new RowMapperResultSetExtractor<>(new ColumnMapRowMapper(), 1).extractData(keys));
+            } finally {
+                JdbcUtils.closeResultSet(keys);
+            }
+        }
+    }
+
+    @Override
+    int inListChunkSize() {
+        return getInListChunkSize(baseTemplate);
+    }
+
+    private void assertNotChunked() {
+        if (hasInListChunks()) {
+            throw new InvalidDataAccessApiUsageException("The IN list exceeds the chunk size of " + inListChunkSize()
+                    + ", such statement can be executed only by execute()");
+        }
+    }
 }
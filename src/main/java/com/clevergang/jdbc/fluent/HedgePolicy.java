@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Policy of hedged reads (see {@link FluentQueryBuilder#hedge(HedgePolicy)}). If a query does not complete within the
+ * hedge delay, the same query is issued once more and whichever attempt answers first wins. The delay is the configured
+ * percentile of recently observed latencies of the same SQL, bounded by min/max delay. The extra load is limited by
+ * a budget: each query earns {@code budget} tokens (e.g. 0.05 = at most 5% of queries are hedged in the long run), each
+ * hedge costs one token and at most {@link #MAX_TOKENS} tokens can be saved for bursts.
+ *
+ * <p>One instance is meant to be shared by all queries using the same DataSources, typically as a Spring bean.
+ *
+ * <p><b>NOTE: An instance of this class is thread-safe.</b>
+ */
+public class HedgePolicy {
+
+    /**
+     * Maximum number of budget tokens which can be accumulated.
+     */
+    public static final double MAX_TOKENS = 10;
+
+    private static final int WINDOW_SIZE = 256;
+    private static final int MIN_SAMPLES = 16;
+    private static final int MAX_TRACKED_STATEMENTS = 512;
+
+    private final double percentile;
+    private final double budget;
+    private volatile long minDelayNanos = TimeUnit.MILLISECONDS.toNanos(5);
+    private volatile long maxDelayNanos = TimeUnit.SECONDS.toNanos(1);
+
+    private final Map<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+    private final LatencyWindow overflowWindow = new LatencyWindow();
+    private double tokens = MAX_TOKENS;
+    private final AtomicLong hedgedCount = new AtomicLong();
+    private final AtomicLong hedgeWinCount = new AtomicLong();
+    private final AtomicLong budgetExhaustedCount = new AtomicLong();
+
+    /**
+     * Creates new HedgePolicy.
+     *
+     * @param percentile percentile of observed latencies used as the hedge delay, e.g. 0.95
+     * @param budget     maximum ratio of hedged queries to all queries, e.g. 0.05
+     */
+    public HedgePolicy(double percentile, double budget) {
+        Assert.isTrue(percentile > 0 && percentile < 1, "Percentile must be between 0 and 1");
+        Assert.isTrue(budget >= 0 && budget <= 1, "Budget must be between 0 and 1");
+        this.percentile = percentile;
+        this.budget = budget;
+    }
+
+    /**
+     * Sets bounds of the hedge delay. Until enough latencies of a statement are observed, the maximal delay is used.
+     * Defaults are 5 ms and 1 s.
+     *
+     * @param minDelay minimal delay
+     * @param maxDelay maximal delay
+     * @param unit     the time unit of the delays
+     */
+    public void setDelayBounds(long minDelay, long maxDelay, TimeUnit unit) {
+        Assert.isTrue(minDelay >= 0 && minDelay <= maxDelay, "Invalid delay bounds");
+        this.minDelayNanos = unit.toNanos(minDelay);
+        this.maxDelayNanos = unit.toNanos(maxDelay);
+    }
+
+    /**
+     * @return number of queries for which the hedge request was issued
+     */
+    public long getHedgedCount() {
+        return hedgedCount.get();
+    }
+
+    /**
+     * @return number of hedge requests which answered before the original request. The latency of the original
+     * request is not known then, so such queries are counted here and do not contribute to the hedge delay.
+     */
+    public long getHedgeWinCount() {
+        return hedgeWinCount.get();
+    }
+
+    /**
+     * @return number of queries which would be hedged, but the budget did not allow it
+     */
+    public long getBudgetExhaustedCount() {
+        return budgetExhaustedCount.get();
+    }
+
+    /**
+     * @return current hedge delay for given SQL in nanoseconds
+     */
+    public long getDelayNanos(String sql) {
+        long observed = window(sql).percentile(percentile);
+        if (observed < 0) {
+            return maxDelayNanos;
+        }
+        return Math.max(minDelayNanos, Math.min(maxDelayNanos, observed));
+    }
+
+    /**
+     * Called for each query, earns budget tokens.
+     */
+    synchronized void queryStarted() {
+        tokens = Math.min(MAX_TOKENS, tokens + budget);
+    }
+
+    /**
+     * @return true if the budget allows to hedge one more query, the hedge is then counted
+     */
+    boolean tryHedge() {
+        synchronized (this) {
+            if (tokens >= 1) {
+                tokens -= 1;
+                hedgedCount.incrementAndGet();
+                return true;
+            }
+        }
+        budgetExhaustedCount.incrementAndGet();
+        return false;
+    }
+
+    void hedgeWon() {
+        hedgeWinCount.incrementAndGet();
+    }
+
+    void recordLatency(String sql, long latencyNanos) {
+        window(sql).add(latencyNanos);
+    }
+
+    private LatencyWindow window(String sql) {
+        LatencyWindow window = windows.get(sql);
+        if (window == null) {
+            if (windows.size() >= MAX_TRACKED_STATEMENTS) {
+                return overflowWindow;
+            }
+            window = windows.computeIfAbsent(sql, key -> new LatencyWindow());
+        }
+        return window;
+    }
+
+    /**
+     * Ring buffer of the latest latencies. The percentile is recomputed once in a while, not on each call.
+     */
+    private static class LatencyWindow {
+        private final long[] samples = new long[WINDOW_SIZE];
+        private int count;
+        private int next;
+        private int samplesSinceComputed;
+        private double computedFor = -1;
+        private long computed = -1;
+
+        synchronized void add(long latencyNanos) {
+            samples[next] = latencyNanos;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+            samplesSinceComputed++;
+        }
+
+        synchronized long percentile(double percentile) {
+            if (count < MIN_SAMPLES) {
+                return -1;
+            }
+            if (computed < 0 || computedFor != percentile || samplesSinceComputed >= MIN_SAMPLES) {
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                computed = sorted[Math.min(count - 1, (int) Math.ceil(percentile * count) - 1)];
+                computedFor = percentile;
+                samplesSinceComputed = 0;
+            }
+            return computed;
+        }
+    }
+}
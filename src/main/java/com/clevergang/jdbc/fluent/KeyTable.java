@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.clevergang.jdbc.fluent;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Keys bound by {@link FluentQueryBuilder#bindKeyTable(String, Collection)}. The keys are inserted to a session
+ * temporary table with single column {@link FluentQueryBuilder#KEY_COLUMN} right before the query is executed and
+ * the table is dropped right after it, all on the connection which executes the query. Every execution uses a table
+ * of its own name, so a table left behind by a failed drop does not break next executions in the same session.
+ */
+class KeyTable {
+
+    private static final Log logger = LogFactory.getLog(KeyTable.class);
+
+    /**
+     * Number of keys sent to the database in one JDBC batch.
+     */
+    static final int INSERT_BATCH_SIZE = 1000;
+
+    private static final Pattern PARAMETER_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+    private static final AtomicLong tableSequence = new AtomicLong();
+    private static final Map<Class<?>, String> COLUMN_TYPES = new HashMap<>();
+
+    static {
+        COLUMN_TYPES.put(Integer.class, "INTEGER");
+        COLUMN_TYPES.put(Long.class, "BIGINT");
+        COLUMN_TYPES.put(Short.class, "SMALLINT");
+        COLUMN_TYPES.put(String.class, "VARCHAR(4000)");
+        COLUMN_TYPES.put(UUID.class, "UUID");
+        COLUMN_TYPES.put(java.sql.Date.class, "DATE");
+        COLUMN_TYPES.put(java.sql.Timestamp.class, "TIMESTAMP");
+    }
+
+    private final String parameterName;
+    private final List<Object> keys;
+    private final String columnType;
+
+    KeyTable(String parameterName, Collection<?> keys, String columnType) {
+        Assert.notNull(parameterName, "You HAVE TO provide parameter name");
+        Assert.notNull(keys, "You HAVE TO provide keys");
+        if (!PARAMETER_NAME.matcher(parameterName).matches()) {
+            throw new InvalidDataAccessApiUsageException("Parameter name " + parameterName + " of a key table is not a valid SQL identifier");
+        }
+        this.parameterName = parameterName;
+        this.keys = new ArrayList<>(new LinkedHashSet<>(keys));
+        this.keys.removeIf(Objects::isNull);
+        this.columnType = columnType != null ? columnType : inferColumnType(this.keys);
+    }
+
+    /**
+     * @return Returns the name of the parameter which stands for the table in the query
+     */
+    String getParameterName() {
+        return parameterName;
+    }
+
+    /**
+     * @return Returns new name of the temporary table (as used in its DDL) for one execution of the query
+     */
+    String newTableName() {
+        return "fluent_keys_" + Long.toString(tableSequence.incrementAndGet(), Character.MAX_RADIX) + "_" + parameterName;
+    }
+
+    /**
+     * Replaces all occurrences of the parameter by the reference to the temporary table. The SQL is scanned the same
+     * way NamedParameterUtils parses it, so occurrences in string literals, quoted identifiers and comments and
+     * PostgreSQL casts ({@code ::type}) are left untouched.
+     *
+     * @return Returns given SQL with the parameter replaced
+     */
+    String replacePlaceholder(String sql, String tableName, SqlDialect dialect) {
+        String table = dialect.temporaryTable(tableName);
+        StringBuilder result = new StringBuilder(sql.length());
+        int i = 0;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            int end = i + 1;
+            if (c == '\'' || c == '"') {
+                int close = sql.indexOf(c, i + 1);
+                end = close < 0 ? sql.length() : close + 1;
+            } else if (sql.startsWith("--", i)) {
+                int close = sql.indexOf('\n', i);
+                end = close < 0 ? sql.length() : close + 1;
+            } else if (sql.startsWith("/*", i)) {
+                int close = sql.indexOf("*/", i + 2);
+                end = close < 0 ? sql.length() : close + 2;
+            } else if (sql.startsWith("::", i)) {
+                end = i + 2;
+            } else if (c == ':') {
+                while (end < sql.length() && isIdentifierPart(sql.charAt(end))) {
+                    end++;
+                }
+                if (sql.substring(i + 1, end).equals(parameterName)) {
+                    result.append(table);
+                    i = end;
+                    continue;
+                }
+            }
+            result.append(sql, i, end);
+            i = end;
+        }
+        return result.toString();
+    }
+
+    /**
+     * Creates the temporary table and inserts the keys in batches of {@link #INSERT_BATCH_SIZE}. The table is dropped if the keys cannot
+     * be inserted.
+     */
+    void create(JdbcOperations operations, String tableName, SqlDialect dialect) {
+        if (!dialect.supportsTemporaryTables()) {
+            throw new InvalidDataAccessApiUsageException("Key tables require temporary tables, which are not supported by dialect " + dialect);
+        }
+        operations.execute(dialect.createTemporaryTable(tableName, FluentQueryBuilder.KEY_COLUMN + " " + columnType));
+        if (!keys.isEmpty()) {
+            String insertSql = "INSERT INTO " + dialect.temporaryTable(tableName) + " (" + FluentQueryBuilder.KEY_COLUMN + ") VALUES (?)";
+            try {
+                operations.batchUpdate(insertSql, keys, INSERT_BATCH_SIZE,
+                        (ps, key) -> StatementCreatorUtils.setParameterValue(ps, 1, SqlTypeValue.TYPE_UNKNOWN, key));
+            } catch (RuntimeException e) {
+                drop(operations, tableName, dialect);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Drops the temporary table. Failures are only logged, so they do not hide the result (or the failure) of the query.
+     */
+    void drop(JdbcOperations operations, String tableName, SqlDialect dialect) {
+        String dropSql = dialect.dropTemporaryTable(tableName);
+        if (dropSql == null) {
+            return;
+        }
+        try {
+            operations.execute(dropSql);
+        } catch (DataAccessException e) {
+            logger.warn("Failed to drop temporary table " + tableName + ", it stays in the session until it is closed", e);
+        }
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    private static String inferColumnType(List<Object> keys) {
+        Class<?> type = keys.isEmpty() ? null : keys.get(0).getClass();
+        String columnType = type != null ? COLUMN_TYPES.get(type) : null;
+        if (columnType == null) {
+            throw new InvalidDataAccessApiUsageException("Cannot infer SQL type of the keys"
+                    + (type != null ? " of type " + type.getName() : "") + ", provide the column type explicitly");
+        }
+        return columnType;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.JdbcAccessor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Helper methods for the execution paths where the fluent builders have to manage the JDBC resources themselves
+ * instead of delegating to the template.
+ */
+final class NamedStatements {
+
+    private NamedStatements() {
+    }
+
+    /**
+     * Creates PreparedStatementCreator for given SQL with named parameters, the same way NamedParameterJdbcTemplate
+     * does it (including the expansion of collections to the appropriate number of placeholders).
+     *
+     * @param template   template executing the statement, its cache of parsed SQL is used if it has one
+     * @param sql        SQL with named parameters
+     * @param params     values of the named parameters
+     * @param keyColumns names of the columns with generated keys, or null if keys are not to be returned
+     * @param options    options with the result set hints, or null
+     */
+    static PreparedStatementCreator newPreparedStatementCreator(NamedParameterJdbcOperations template, String sql,
+                                                                SqlParameterSource params, String[] keyColumns,
+                                                                ExecutionOptions options) {
+        ParsedSql parsedSql = getParsedSql(template, sql);
+        String sqlToUse = NamedParameterUtils.substituteNamedParameters(parsedSql, params);
+        Object[] values = NamedParameterUtils.buildValueArray(parsedSql, params, null);
+        List<SqlParameter> declaredParameters = NamedParameterUtils.buildSqlParameterList(parsedSql, params);
+        PreparedStatementCreatorFactory factory = new PreparedStatementCreatorFactory(sqlToUse, declaredParameters);
+        if (keyColumns != null) {
+            factory.setGeneratedKeysColumnNames(keyColumns);
+        }
+        if (options != null && options.hasResultSetHints()) {
+            factory.setResultSetType(options.getResultSetType());
+            factory.setUpdatableResults(Boolean.FALSE.equals(options.getReadOnly()));
+        }
+        return factory.newPreparedStatementCreator(values);
+    }
+
+    /**
+     * @return Returns parsed SQL - cached by the template if the template is a FluentNamedParameterJdbcTemplate,
+     * parsed now otherwise
+     */
+    static ParsedSql getParsedSql(NamedParameterJdbcOperations template, String sql) {
+        if (template instanceof FluentNamedParameterJdbcTemplate) {
+            return ((FluentNamedParameterJdbcTemplate) template).getParsedSql(sql);
+        }
+        return NamedParameterUtils.parseSqlStatement(sql);
+    }
+
+    /**
+     * @return Returns the JdbcAccessor (typically JdbcTemplate) behind given named template
+     * @throws InvalidDataAccessApiUsageException if the template does not wrap a JdbcAccessor with a DataSource
+     */
+    static JdbcAccessor getJdbcAccessor(NamedParameterJdbcOperations template) {
+        JdbcOperations operations = template.getJdbcOperations();
+        if (!(operations instanceof JdbcAccessor) || ((JdbcAccessor) operations).getDataSource() == null) {
+            throw new InvalidDataAccessApiUsageException("This operation requires the template to wrap a JdbcTemplate with a DataSource");
+        }
+        return (JdbcAccessor) operations;
+    }
+
+    /**
+     * @return Returns the DataSource used by given operations, or null if the operations do not tell
+     */
+    static DataSource findDataSource(JdbcOperations operations) {
+        return operations instanceof JdbcAccessor ? ((JdbcAccessor) operations).getDataSource() : null;
+    }
+
+    /**
+     * @return Returns the DataSource used by given named template
+     */
+    static DataSource getDataSource(NamedParameterJdbcOperations template) {
+        return getJdbcAccessor(template).getDataSource();
+    }
+
+    /**
+     * Runs given action so that all statements it executes through templates using given DataSource share one connection.
+     * If the current thread already holds a connection of the DataSource (typically in a Spring managed transaction),
+     * that connection is used. Otherwise a connection is obtained and bound to the thread for the duration of the action.
+     *
+     * @param dataSource DataSource whose connection is to be shared
+     * @param action     action to run
+     * @return Returns the result of the action
+     */
+    static <R> R withSingleConnection(DataSource dataSource, Supplier<R> action) {
+        if (TransactionSynchronizationManager.hasResource(dataSource)) {
+            return action.get();
+        }
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        // with transaction synchronization active (but no transaction) the connection may have been bound already
+        boolean bind = !TransactionSynchronizationManager.hasResource(dataSource);
+        if (bind) {
+            TransactionSynchronizationManager.bindResource(dataSource, new ConnectionHolder(connection));
+        }
+        try {
+            return action.get();
+        } finally {
+            if (bind) {
+                TransactionSynchronizationManager.unbindResource(dataSource);
+            }
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+}
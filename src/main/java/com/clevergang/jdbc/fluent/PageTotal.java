@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+/**
+ * How {@link FluentQueryBuilder#fetchPage(long, int, org.springframework.jdbc.core.RowMapper, PageTotal) fetchPage()}
+ * determines the total number of rows.
+ */
+public enum PageTotal {
+
+    /**
+     * Exact total, counted by {@code COUNT(*) OVER()} in the page query itself if the dialect supports window functions,
+     * otherwise by a separate {@code COUNT(*)} query. No count is needed when the page is the last one.
+     */
+    EXACT,
+
+    /**
+     * Estimated total for very large results: exact when the page is the last one, otherwise the optimizer's estimate
+     * (where the dialect provides it) but never less than the number of rows known to exist.
+     */
+    ESTIMATED,
+
+    /**
+     * No total, just the information whether there is a next page.
+     */
+    NONE
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Execution of {@link FluentQueryBuilder#fetchPage(long, int, RowMapper, PageTotal)}. The dialect's row limit clause is
+ * appended to the original query, so the query's ORDER BY decides which rows form the page. If the dialect has no row
+ * limit clause (or the query limits its rows itself), the rows are limited using {@link Statement#setMaxRows(int)} and
+ * the offset rows are skipped on the client.
+ */
+final class PagedQuery {
+
+    private static final String TOTAL_COLUMN = "fluent_total";
+    private static final Pattern ROWS_ESTIMATE = Pattern.compile("rows=(\\d+)");
+
+    private PagedQuery() {
+    }
+
+    static <T> FluentPage<T> fetchPage(FluentQueryBuilder query, SqlDialect dialect, long offset, int limit, RowMapper<T> rowMapper, PageTotal pageTotal) {
+        String sql = query.getSql();
+
+        String totalSql = pageTotal == PageTotal.EXACT && dialect.supportsLimit() ? dialect.withTotalColumn(sql, TOTAL_COLUMN) : null;
+        if (totalSql != null) {
+            // page and total in one round-trip
+            long[] total = {-1};
+            List<T> rows = fetchRows(query, dialect, totalSql, offset, limit, rowMapper, total);
+            if (rows.isEmpty()) {
+                // beyond the last page, the window function had no row to report the total on
+                total[0] = offset == 0 ? 0 : count(query);
+            }
+            return new FluentPage<>(rows, offset, limit, total[0], true, offset + rows.size() < total[0]);
+        }
+
+        // read one row more than requested to find out whether there is a next page
+        boolean lookAhead = pageTotal != PageTotal.EXACT;
+        List<T> rows = fetchRows(query, dialect, sql, offset, lookAhead ? limit + 1 : limit, rowMapper, null);
+        boolean more = rows.size() > limit;
+        if (more) {
+            rows.remove(limit);
+        }
+        boolean lastPage = (lookAhead ? !more : rows.size() < limit) && (!rows.isEmpty() || offset == 0);
+
+        switch (pageTotal) {
+            case EXACT:
+                long total = lastPage ? offset + rows.size() : count(query);
+                return new FluentPage<>(rows, offset, limit, total, true, offset + rows.size() < total);
+            case ESTIMATED:
+                if (lastPage) {
+                    return new FluentPage<>(rows, offset, limit, offset + rows.size(), true, false);
+                }
+                long known = rows.isEmpty() ? 0 : offset + rows.size() + (more ? 1 : 0);
+                return new FluentPage<>(rows, offset, limit, Math.max(known, estimate(query, dialect)), false, more);
+            default:
+                return new FluentPage<>(rows, offset, limit, -1, false, more);
+        }
+    }
+
+    private static <T> List<T> fetchRows(FluentQueryBuilder query, SqlDialect dialect, String sql, long offset, int maxRows,
+                                         RowMapper<T> rowMapper, long[] windowTotal) {
+        FluentQueryBuilder pageQuery;
+        long skip;
+        String limitedSql = SqlDialect.hasRowLimit(sql) ? null : dialect.limit(sql, offset > 0);
+        if (limitedSql != null) {
+            Map<String, Object> limitParameters = new HashMap<>();
+            limitParameters.put(SqlDialect.LIMIT_PARAMETER, maxRows);
+            if (offset > 0) {
+                limitParameters.put(SqlDialect.OFFSET_PARAMETER, offset);
+            }
+            pageQuery = query.derive(limitedSql, limitParameters);
+            skip = 0;
+        } else {
+            pageQuery = query.derive(sql, Collections.emptyMap());
+            skip = offset;
+        }
+        long statementMaxRows = skip + maxRows;
+        pageQuery.addStatementHook(new StatementHook() {
+            @Override
+            public void beforeExecute(Statement statement) throws SQLException {
+                if (statementMaxRows <= Integer.MAX_VALUE) {
+                    statement.setMaxRows((int) statementMaxRows);
+                }
+            }
+        });
+
+        return pageQuery.executeQuery(rs -> {
+            List<T> rows = new ArrayList<>(Math.min(maxRows, 1024));
+            for (long i = 0; i < skip; i++) {
+                if (!rs.next()) {
+                    return rows;
+                }
+            }
+            ResultSet mappedRs = windowTotal != null ? withoutLastColumn(rs) : rs;
+            while (rows.size() < maxRows && rs.next()) {
+                if (windowTotal != null && rows.isEmpty()) {
+                    windowTotal[0] = rs.getLong(TOTAL_COLUMN);
+                }
+                rows.add(rowMapper.mapRow(mappedRs, rows.size()));
+            }
+            return rows;
+        });
+    }
+
+    private static long count(FluentQueryBuilder query) {
+        return query.derive("SELECT COUNT(*) FROM (" + SqlDialect.withoutOrderBy(query.getSql()) + ") fluent_count", Collections.emptyMap())
+                .executeQuery(rs -> rs.next() ? rs.getLong(1) : 0L);
+    }
+
+    private static long estimate(FluentQueryBuilder query, SqlDialect dialect) {
+        String estimateSql = dialect.estimateRows(query.getSql());
+        if (estimateSql == null) {
+            return -1;
+        }
+        String plan = query.derive(estimateSql, Collections.emptyMap()).executeQuery(rs -> rs.next() ? rs.getString(1) : null);
+        Matcher matcher = plan != null ? ROWS_ESTIMATE.matcher(plan) : null;
+        return matcher != null && matcher.find() ? Long.parseLong(matcher.group(1)) : -1;
+    }
+
+    /**
+     * @return ResultSet whose metadata do not report the last column, so the row mappers do not see the total column
+     */
+    private static ResultSet withoutLastColumn(ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        ResultSetMetaData reducedMetaData = (ResultSetMetaData) Proxy.newProxyInstance(PagedQuery.class.getClassLoader(),
+                new Class<?>[]{ResultSetMetaData.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("getColumnCount")) {
+                        return metaData.getColumnCount() - 1;
+                    }
+                    return invoke(method, metaData, args);
+                });
+        return (ResultSet) Proxy.newProxyInstance(PagedQuery.class.getClassLoader(), new Class<?>[]{ResultSet.class}, (proxy, method, args) -> {
+            if (method.getName().equals("getMetaData")) {
+                return reducedMetaData;
+            }
+            return invoke(method, rs, args);
+        });
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
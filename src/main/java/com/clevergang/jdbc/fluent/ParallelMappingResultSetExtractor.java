@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * ResultSetExtractor which maps the rows in parallel. The thread reading the ResultSet only copies the column values
+ * into {@link BufferedRow}s and hands batches of them to a ForkJoinPool, where the RowMapper runs. The number of batches
+ * waiting for the mapper is bounded, so the reading thread slows down when the mappers can't keep up.
+ *
+ * @param <T> type of the mapped rows
+ */
+class ParallelMappingResultSetExtractor<T> implements ResultSetExtractor<List<T>> {
+
+    static final int BATCH_SIZE = 64;
+
+    private final RowMapper<T> rowMapper;
+    private final ForkJoinPool pool;
+    private final boolean preserveOrder;
+    private final int maxBatchesInFlight;
+
+    ParallelMappingResultSetExtractor(RowMapper<T> rowMapper, ForkJoinPool pool, boolean preserveOrder) {
+        this.rowMapper = rowMapper;
+        this.pool = pool;
+        this.preserveOrder = preserveOrder;
+        this.maxBatchesInFlight = Math.max(2, pool.getParallelism() * 4);
+    }
+
+    @Override
+    public List<T> extractData(ResultSet rs) throws SQLException {
+        BufferedRow.Columns columns = BufferedRow.readColumns(rs);
+        List<List<T>> orderedBatches = new ArrayList<>();
+        List<T> unorderedResults = Collections.synchronizedList(new ArrayList<>());
+        Deque<CompletableFuture<List<T>>> inFlight = new ArrayDeque<>();
+
+        try {
+            int rowNum = 0;
+            List<BufferedRow> batch = new ArrayList<>(BATCH_SIZE);
+            while (rs.next()) {
+                batch.add(BufferedRow.read(rs, columns, rowNum++));
+                if (batch.size() == BATCH_SIZE) {
+                    submit(batch, inFlight, orderedBatches, unorderedResults);
+                    batch = new ArrayList<>(BATCH_SIZE);
+                }
+            }
+            if (!batch.isEmpty()) {
+                submit(batch, inFlight, orderedBatches, unorderedResults);
+            }
+            while (!inFlight.isEmpty()) {
+                join(inFlight.poll(), orderedBatches);
+            }
+        } finally {
+            // stop mapping batches nobody will collect
+            inFlight.forEach(future -> future.cancel(false));
+        }
+
+        if (!preserveOrder) {
+            return new ArrayList<>(unorderedResults);
+        }
+        List<T> results = new ArrayList<>(rowCount(orderedBatches));
+        orderedBatches.forEach(results::addAll);
+        return results;
+    }
+
+    private void submit(List<BufferedRow> batch, Deque<CompletableFuture<List<T>>> inFlight, List<List<T>> orderedBatches,
+                        List<T> unorderedResults) throws SQLException {
+        CompletableFuture<List<T>> future = CompletableFuture.supplyAsync(() -> mapBatch(batch), pool);
+        if (!preserveOrder) {
+            future = future.thenApply(mapped -> {
+                unorderedResults.addAll(mapped);
+                return mapped;
+            });
+        }
+        inFlight.add(future);
+        if (inFlight.size() > maxBatchesInFlight) {
+            join(inFlight.poll(), orderedBatches);
+        }
+    }
+
+    private void join(CompletableFuture<List<T>> future, List<List<T>> orderedBatches) throws SQLException {
+        try {
+            List<T> mapped = future.join();
+            if (preserveOrder) {
+                orderedBatches.add(mapped);
+            }
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof MappingException) {
+                throw ((MappingException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private List<T> mapBatch(List<BufferedRow> batch) {
+        List<T> mapped = new ArrayList<>(batch.size());
+        BufferedResultSet rs = new BufferedResultSet();
+        for (BufferedRow row : batch) {
+            try {
+                rs.setRow(row);
+                mapped.add(rowMapper.mapRow(rs, row.getRowNum()));
+            } catch (SQLException e) {
+                throw new MappingException(e);
+            }
+        }
+        return mapped;
+    }
+
+    private static int rowCount(List<? extends List<?>> batches) {
+        int count = 0;
+        for (List<?> batch : batches) {
+            count += batch.size();
+        }
+        return count;
+    }
+
+    /**
+     * Carries SQLException thrown by the RowMapper out of the pool thread.
+     */
+    private static class MappingException extends RuntimeException {
+        MappingException(SQLException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized SQLException getCause() {
+            return (SQLException) super.getCause();
+        }
+    }
+}
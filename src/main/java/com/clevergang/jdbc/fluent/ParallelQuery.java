@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Handle of a single query registered in {@link FluentParallelQueries}. It is used as a typed key to obtain the result
+ * of the query from {@link FluentParallelResults} once all queries finished.
+ *
+ * @param <T> type of the query result
+ */
+public final class ParallelQuery<T> {
+
+    private final FluentQueryBuilder query;
+    private final Supplier<T> terminal;
+    private final StatementCanceller canceller = new StatementCanceller();
+    private CompletableFuture<T> future;
+
+    ParallelQuery(FluentQueryBuilder query, Supplier<T> terminal) {
+        this.query = query;
+        // the query runs on an executor thread, the deadline of the thread registering it applies
+        this.terminal = query.onExecutorThread(() -> query.withStatementHook(canceller, terminal));
+    }
+
+    /**
+     * Sets the deadline of the parallel execution to the query; the earlier of it and the deadline of the query applies.
+     */
+    void deadline(Deadline deadline) {
+        query.deadline(deadline);
+    }
+
+    CompletableFuture<T> start(FluentAsyncExecutor executor) {
+        future = executor.submit(terminal);
+        return future;
+    }
+
+    void runInline() {
+        future = CompletableFuture.completedFuture(terminal.get());
+    }
+
+    void cancel() {
+        canceller.cancel();
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * @return Returns true if the query finished successfully, false if it failed, was cancelled or did not run
+     */
+    boolean hasResult() {
+        return future != null && future.isDone() && !future.isCompletedExceptionally();
+    }
+
+    T getResult() {
+        return future.join();
+    }
+
+}
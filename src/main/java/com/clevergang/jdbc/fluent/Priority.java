@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+/**
+ * Priority class of a statement, used by {@link ConcurrencyLimiter} to decide which of the waiting statements is
+ * executed first. Set on the builders by {@code priority()}, statements without priority are {@link #NORMAL}.
+ */
+public enum Priority {
+
+    /**
+     * Latency critical statements, e.g. lookups done while a user waits for a response.
+     */
+    INTERACTIVE,
+    NORMAL,
+    /**
+     * Statements which can wait, e.g. reports and bulk operations.
+     */
+    BATCH
+}
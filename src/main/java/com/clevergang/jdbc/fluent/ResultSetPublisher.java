@@ -0,0 +1,288 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ParameterDisposer;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.JdbcAccessor;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cold Reactive Streams publisher of query results. Each subscription executes the query on its own connection and
+ * reads rows from the ResultSet only as the subscriber requests them. All the JDBC work of a subscription is done
+ * serially by drain tasks scheduled on the given executor; no thread is blocked while there is no demand, but the
+ * connection stays open until the ResultSet is exhausted, fails or the subscription is cancelled. Therefore an open
+ * subscription takes a stream slot of the executor (see {@link FluentAsyncExecutor#requestStreamSlot(Runnable)}),
+ * a subscription over the concurrency limit opens its statement once another one finishes. If the template has
+ * a {@link ConcurrencyLimiter}, the subscription is admitted by it before it takes a connection and released when it
+ * finishes.
+ *
+ * @param <T> type of the mapped rows
+ */
+class ResultSetPublisher<T> implements Publisher<T> {
+
+    private final String sql;
+    private final FluentQueryBuilder query;
+    private final RowMapper<T> rowMapper;
+    private final JdbcAccessor jdbcAccessor;
+    private final FluentAsyncExecutor executor;
+    private final List<ExecutionListener> listeners;
+    private final ConcurrencyLimiter limiter;
+
+    ResultSetPublisher(String sql, FluentQueryBuilder query, RowMapper<T> rowMapper, JdbcAccessor jdbcAccessor, FluentAsyncExecutor executor,
+                       List<ExecutionListener> listeners, ConcurrencyLimiter limiter) {
+        this.sql = sql;
+        this.query = query;
+        this.rowMapper = rowMapper;
+        this.jdbcAccessor = jdbcAccessor;
+        this.executor = executor;
+        this.listeners = listeners;
+        this.limiter = limiter;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber must not be null");
+        }
+        ResultSetSubscription subscription = new ResultSetSubscription(subscriber,
+                NamedStatements.newPreparedStatementCreator(null, sql, query.getBoundParameters(), null, query.getExecutionOptions()));
+        subscriber.onSubscribe(subscription);
+    }
+
+    private static final int NO_SLOT = 0;
+    private static final int SLOT_REQUESTED = 1;
+    private static final int SLOT_TAKEN = 2;
+    private static final int SLOT_RELEASED = 3;
+
+    private class ResultSetSubscription implements Subscription {
+
+        private final Subscriber<? super T> subscriber;
+        private final PreparedStatementCreator statementCreator;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+
+        private volatile boolean finished;
+        private final AtomicInteger slot = new AtomicInteger(NO_SLOT);
+
+        // accessed by the drain tasks only, which never run concurrently
+        private Connection connection;
+        private PreparedStatement statement;
+        private ResultSet resultSet;
+        private int rowNum;
+        private ExecutionTracker tracker;
+        private boolean admitted;
+
+        ResultSetSubscription(Subscriber<? super T> subscriber, PreparedStatementCreator statementCreator) {
+            this.subscriber = subscriber;
+            this.statementCreator = statementCreator;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Reactive Streams rule 3.9: request must be positive, but was " + n);
+            } else {
+                requested.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                executor.submit(this::drain).whenComplete((ignored, ex) -> {
+                    if (ex != null) {
+                        // the executor rejected the task, nothing else will ever drain this subscription
+                        if (!finished) {
+                            finished = true;
+                            subscriber.onError(ex);
+                        }
+                    }
+                });
+            }
+        }
+
+        private Void drain() {
+            int missed = 1;
+            do {
+                if (!finished) {
+                    drainOnce();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+            return null;
+        }
+
+        private void drainOnce() {
+            if (cancelled) {
+                finish();
+                return;
+            }
+            if (invalidRequest != null) {
+                finish();
+                subscriber.onError(invalidRequest);
+                return;
+            }
+            try {
+                if (resultSet == null) {
+                    if (slot.get() != SLOT_TAKEN) {
+                        requestSlot();
+                        return;
+                    }
+                    open();
+                }
+                long demand = requested.get();
+                long emitted = 0;
+                while (emitted != demand && !cancelled) {
+                    if (!resultSet.next()) {
+                        finish();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    T item = mapRow();
+                    if (item == null) {
+                        throw new NullPointerException("Reactive Streams rule 2.13: RowMapper returned null for row " + (rowNum - 1));
+                    }
+                    subscriber.onNext(item);
+                    emitted++;
+                }
+                if (demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                if (cancelled) {
+                    finish();
+                }
+            } catch (SQLException ex) {
+                DataAccessException translated = jdbcAccessor.getExceptionTranslator().translate("fetchPublisher", sql, ex);
+                finish(translated);
+                subscriber.onError(translated);
+            } catch (Throwable ex) {
+                finish(ex);
+                subscriber.onError(ex);
+            }
+        }
+
+        private T mapRow() throws SQLException {
+            if (!admitted) {
+                return rowMapper.mapRow(resultSet, rowNum++);
+            }
+            // statements of the row mapper are part of the admitted subscription
+            Runnable restore = limiter.enterAdmitted();
+            try {
+                return rowMapper.mapRow(resultSet, rowNum++);
+            } finally {
+                restore.run();
+            }
+        }
+
+        /**
+         * Requests the stream slot (once), the subscription is drained again when it gets it.
+         */
+        private void requestSlot() {
+            if (slot.compareAndSet(NO_SLOT, SLOT_REQUESTED)) {
+                executor.requestStreamSlot(() -> {
+                    if (slot.compareAndSet(SLOT_REQUESTED, SLOT_TAKEN)) {
+                        schedule();
+                    } else {
+                        // finished while waiting for the slot
+                        executor.releaseStreamSlot();
+                    }
+                });
+            }
+        }
+
+        private void open() throws SQLException {
+            query.checkDeadline(sql);
+            DataSource dataSource = jdbcAccessor.getDataSource();
+            if (limiter != null) {
+                limiter.admit(query.getPriority(), query.getDeadline(), sql, dataSource);
+                admitted = true;
+            }
+            tracker = ExecutionTracker.start(listeners, StatementExecution.Kind.QUERY, sql, query.getBoundParameters());
+            connection = DataSourceUtils.getConnection(dataSource);
+            statement = statementCreator.createPreparedStatement(connection);
+            query.beforeExecute(statement, dataSource);
+            if (tracker != null) {
+                tracker.statementReady();
+            }
+            resultSet = statement.executeQuery();
+            if (tracker != null) {
+                tracker.statementExecuted();
+            }
+        }
+
+        private void finish() {
+            finish(null);
+        }
+
+        private void finish(Throwable failure) {
+            finished = true;
+            JdbcUtils.closeResultSet(resultSet);
+            if (statement != null) {
+                query.afterExecute(statement);
+            }
+            JdbcUtils.closeStatement(statement);
+            if (statementCreator instanceof ParameterDisposer) {
+                ((ParameterDisposer) statementCreator).cleanupParameters();
+            }
+            if (connection != null) {
+                DataSourceUtils.releaseConnection(connection, jdbcAccessor.getDataSource());
+            }
+            resultSet = null;
+            statement = null;
+            connection = null;
+            if (admitted) {
+                admitted = false;
+                limiter.leave();
+            }
+            if (slot.getAndSet(SLOT_RELEASED) == SLOT_TAKEN) {
+                executor.releaseStreamSlot();
+            }
+            if (tracker != null) {
+                // cleared first, a failing listener makes the stream fail and this method is called once more
+                ExecutionTracker finishedTracker = tracker;
+                tracker = null;
+                finishedTracker.resultMapped();
+                finishedTracker.setRowCount(rowNum);
+                finishedTracker.finished(failure);
+            }
+        }
+    }
+}
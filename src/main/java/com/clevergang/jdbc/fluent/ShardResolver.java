@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+/**
+ * Function choosing the shard which holds the data of given shard key. Implementations have to be thread safe.
+ */
+@FunctionalInterface
+public interface ShardResolver {
+
+    /**
+     * @param shardKey   value of the shard key parameter, never null
+     * @param shardCount number of shards
+     * @return index of the shard, from 0 to shardCount - 1
+     */
+    int resolveShard(Object shardKey, int shardCount);
+
+    /**
+     * @return resolver using the hash code of the shard key modulo number of shards. Note that numeric keys of different
+     * types (e.g. Integer and Long) may have different hash codes - always bind the key using the same type.
+     */
+    static ShardResolver hashModulo() {
+        return (shardKey, shardCount) -> Math.floorMod(shardKey.hashCode(), shardCount);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of a scatter-gather query on a single shard: how long it took, how many rows it read and whether it failed.
+ */
+public class ShardResult {
+
+    private final int shardIndex;
+    private final long durationNanos;
+    private final int rowCount;
+    private final RuntimeException failure;
+
+    ShardResult(int shardIndex, long durationNanos, int rowCount, RuntimeException failure) {
+        this.shardIndex = shardIndex;
+        this.durationNanos = durationNanos;
+        this.rowCount = rowCount;
+        this.failure = failure;
+    }
+
+    public int getShardIndex() {
+        return shardIndex;
+    }
+
+    public long getDuration(TimeUnit unit) {
+        return unit.convert(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * @return number of rows read from the shard
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return exception thrown by the query on this shard, or null if the query succeeded
+     */
+    public RuntimeException getFailure() {
+        return failure;
+    }
+
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    @Override
+    public String toString() {
+        return "ShardResult[shard=" + shardIndex + ", rows=" + rowCount + ", durationMs=" + getDuration(TimeUnit.MILLISECONDS)
+                + (failure != null ? ", failure=" + failure : "") + "]";
+    }
+}
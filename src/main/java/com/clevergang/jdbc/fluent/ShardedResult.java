@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import java.util.List;
+
+/**
+ * Merged result of a scatter-gather query together with the outcome of the query on each shard.
+ *
+ * @param <R> type of the merged result
+ */
+public class ShardedResult<R> {
+
+    private final R result;
+    private final List<ShardResult> shardResults;
+
+    ShardedResult(R result, List<ShardResult> shardResults) {
+        this.result = result;
+        this.shardResults = shardResults;
+    }
+
+    /**
+     * @return merged result of all (successful) shards
+     */
+    public R getResult() {
+        return result;
+    }
+
+    /**
+     * @return outcome of the query on each shard, in the order of the shards
+     */
+    public List<ShardResult> getShardResults() {
+        return shardResults;
+    }
+
+    /**
+     * @return true if the query failed on any of the shards (possible only if partial results are allowed)
+     */
+    public boolean hasFailures() {
+        return shardResults.stream().anyMatch(ShardResult::isFailed);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.support.AbstractSqlTypeValue;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Value of a parameter bound as a single SQL {@code ARRAY} by {@link AbstractFluentBuilder#bindArray(String, Object)}.
+ * The JDBC array is created when the statement is executed, using the statement's connection. Arrays of primitives
+ * are passed to PostgreSQL driver as they are (the driver encodes them without boxing), other drivers get
+ * {@link Connection#createArrayOf(String, Object[])} of boxed values.
+ */
+class SqlArrayValue extends AbstractSqlTypeValue {
+
+    private static final Map<Class<?>, String> ELEMENT_TYPES = new HashMap<>();
+
+    static {
+        ELEMENT_TYPES.put(Integer.class, "INTEGER");
+        ELEMENT_TYPES.put(int.class, "INTEGER");
+        ELEMENT_TYPES.put(Long.class, "BIGINT");
+        ELEMENT_TYPES.put(long.class, "BIGINT");
+        ELEMENT_TYPES.put(Short.class, "SMALLINT");
+        ELEMENT_TYPES.put(short.class, "SMALLINT");
+        ELEMENT_TYPES.put(Double.class, "FLOAT");
+        ELEMENT_TYPES.put(double.class, "FLOAT");
+        ELEMENT_TYPES.put(Float.class, "REAL");
+        ELEMENT_TYPES.put(float.class, "REAL");
+        ELEMENT_TYPES.put(Boolean.class, "BOOLEAN");
+        ELEMENT_TYPES.put(boolean.class, "BOOLEAN");
+        ELEMENT_TYPES.put(String.class, "VARCHAR");
+        ELEMENT_TYPES.put(BigDecimal.class, "DECIMAL");
+        ELEMENT_TYPES.put(UUID.class, "UUID");
+        ELEMENT_TYPES.put(java.sql.Date.class, "DATE");
+        ELEMENT_TYPES.put(java.sql.Timestamp.class, "TIMESTAMP");
+    }
+
+    private final Object elements;
+    private final String elementTypeName;
+
+    /**
+     * @param values          Java array (including arrays of primitives) or Collection
+     * @param elementTypeName SQL type name of the elements, or null to infer it from the Java type of the elements
+     */
+    SqlArrayValue(Object values, String elementTypeName) {
+        if (values instanceof Collection) {
+            this.elements = ((Collection<?>) values).toArray();
+        } else if (values != null && values.getClass().isArray()) {
+            this.elements = values;
+        } else {
+            throw new InvalidDataAccessApiUsageException("Only arrays and collections can be bound as SQL ARRAY, got " + values);
+        }
+        this.elementTypeName = elementTypeName != null ? elementTypeName : inferElementTypeName(elements);
+    }
+
+    @Override
+    protected Object createTypeValue(Connection con, int sqlType, String typeName) throws SQLException {
+        if (elements.getClass().getComponentType().isPrimitive()) {
+            if (SqlDialect.fromProductName(con.getMetaData().getDatabaseProductName()) == SqlDialect.POSTGRESQL) {
+                return elements;
+            }
+            return con.createArrayOf(elementTypeName, box(elements));
+        }
+        return con.createArrayOf(elementTypeName, (Object[]) elements);
+    }
+
+    private static String inferElementTypeName(Object elements) {
+        Class<?> type = elements.getClass().getComponentType();
+        if (type == Object.class) {
+            // collection or Object[] - look at the values
+            type = null;
+            for (int i = 0; i < Array.getLength(elements) && type == null; i++) {
+                Object element = Array.get(elements, i);
+                type = element != null ? element.getClass() : null;
+            }
+        }
+        String typeName = type != null ? ELEMENT_TYPES.get(type) : null;
+        if (typeName == null) {
+            throw new InvalidDataAccessApiUsageException("Cannot infer SQL type of the array elements"
+                    + (type != null ? " of type " + type.getName() : "") + ", provide the element type name explicitly");
+        }
+        return typeName;
+    }
+
+    private static Object[] box(Object primitiveArray) {
+        Object[] boxed = new Object[Array.getLength(primitiveArray)];
+        for (int i = 0; i < boxed.length; i++) {
+            boxed[i] = Array.get(primitiveArray, i);
+        }
+        return boxed;
+    }
+}
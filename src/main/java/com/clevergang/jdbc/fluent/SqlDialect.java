@@ -0,0 +1,379 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Database specific SQL features used by the fluent builders when they rewrite queries (page queries, row limits,
+ * query plans, temporary tables). The dialect of a {@link com.clevergang.jdbc.FluentNamedParameterJdbcTemplate}
+ * is detected from the database product name unless it was set explicitly.
+ */
+public enum SqlDialect {
+
+    /**
+     * PostgreSQL, also the only dialect whose query plans are used for row count estimates.
+     */
+    POSTGRESQL(true, true, LimitSyntax.LIMIT_OFFSET, "EXPLAIN "),
+    /**
+     * MySQL 8+ and MariaDB 10.2+ (older versions do not support window functions).
+     */
+    MYSQL(true, true, LimitSyntax.LIMIT_OFFSET, "EXPLAIN "),
+    H2(true, true, LimitSyntax.LIMIT_OFFSET, "EXPLAIN "),
+    /**
+     * HSQLDB 2.x, which cannot infer types of parameters in row value comparisons.
+     */
+    HSQLDB(false, false, LimitSyntax.LIMIT_OFFSET, "EXPLAIN PLAN FOR "),
+    /**
+     * Oracle 12c+.
+     */
+    ORACLE(true, false, LimitSyntax.OFFSET_FETCH, null),
+    /**
+     * SQL Server 2012+. OFFSET/FETCH requires the query to be ordered, {@link #limit(String, boolean)} orders unordered
+     * queries by {@code (SELECT NULL)}.
+     */
+    SQLSERVER(true, false, LimitSyntax.OFFSET_FETCH, null),
+    DB2(true, false, LimitSyntax.OFFSET_FETCH, "EXPLAIN PLAN FOR "),
+    /**
+     * Unknown database, no rewrites are used - the fluent builders fall back to plain JDBC means where possible.
+     */
+    GENERIC(false, false, LimitSyntax.NONE, null);
+
+    /**
+     * Name of the parameter holding the number of skipped rows in SQL produced by {@link #limit(String, boolean)}.
+     */
+    public static final String OFFSET_PARAMETER = "fluentOffset";
+
+    /**
+     * Name of the parameter holding the maximum number of rows in SQL produced by {@link #limit(String, boolean)}.
+     */
+    public static final String LIMIT_PARAMETER = "fluentLimit";
+
+    private enum LimitSyntax {LIMIT_OFFSET, OFFSET_FETCH, NONE}
+
+    private final boolean windowFunctions;
+    private final boolean rowValueComparison;
+    private final LimitSyntax limitSyntax;
+    private final String explainPrefix;
+
+    SqlDialect(boolean windowFunctions, boolean rowValueComparison, LimitSyntax limitSyntax, String explainPrefix) {
+        this.windowFunctions = windowFunctions;
+        this.rowValueComparison = rowValueComparison;
+        this.limitSyntax = limitSyntax;
+        this.explainPrefix = explainPrefix;
+    }
+
+    /**
+     * @return true if the database supports window functions like {@code COUNT(*) OVER()}
+     */
+    public boolean supportsWindowFunctions() {
+        return windowFunctions;
+    }
+
+    /**
+     * @return true if the database supports comparison of row values with parameters like {@code (a, b) > (?, ?)},
+     * which can use a composite index on {@code (a, b)}
+     */
+    public boolean supportsRowValueComparison() {
+        return rowValueComparison;
+    }
+
+    /**
+     * @return true if {@link #limit(String, boolean)} is supported
+     */
+    public boolean supportsLimit() {
+        return limitSyntax != LimitSyntax.NONE;
+    }
+
+    /**
+     * Appends row limit clause to given query. The clause uses named parameters {@link #LIMIT_PARAMETER} and
+     * (if requested) {@link #OFFSET_PARAMETER}.
+     *
+     * @param sql        query without any row limit
+     * @param withOffset true if the clause should also skip rows
+     * @return query with the row limit clause, or null if the dialect has no such clause
+     */
+    public String limit(String sql, boolean withOffset) {
+        switch (limitSyntax) {
+            case LIMIT_OFFSET:
+                return sql + " LIMIT :" + LIMIT_PARAMETER + (withOffset ? " OFFSET :" + OFFSET_PARAMETER : "");
+            case OFFSET_FETCH:
+                if (this == SQLSERVER && orderByStart(sql) < 0) {
+                    sql += " ORDER BY (SELECT NULL)";
+                }
+                return sql + " OFFSET " + (withOffset ? ":" + OFFSET_PARAMETER : "0") + " ROWS FETCH NEXT :" + LIMIT_PARAMETER + " ROWS ONLY";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Wraps given query to a query returning a row if and only if the query returns any row. The ORDER BY clause of
+     * the query is removed (it does not change the result, and SQL Server does not allow it in a derived table) and,
+     * if the dialect supports it, the wrapping query is limited by the row limit clause using named parameter
+     * {@link #LIMIT_PARAMETER}.
+     *
+     * @param sql query to check
+     * @return query returning at most one row if given query returns any row
+     */
+    public String exists(String sql) {
+        String existsSql = "SELECT 1 FROM (" + withoutOrderBy(sql) + ") fluent_exists";
+        return supportsLimit() ? limit(existsSql, false) : existsSql;
+    }
+
+    /**
+     * Adds column with the total number of rows ({@code COUNT(*) OVER()}) as the last column of given query, so a row
+     * limit clause appended to the query keeps the total of all the rows. The column is added to the select list of
+     * the query, the query is not wrapped, so its ORDER BY clause stays effective.
+     *
+     * @param sql    a query
+     * @param column name of the added column
+     * @return query with the total column, or null if the dialect does not support window functions or the column
+     * cannot be added to the query (it is not a single SELECT, it is a SELECT DISTINCT, it already limits its rows...)
+     */
+    public String withTotalColumn(String sql, String column) {
+        if (!windowFunctions) {
+            return null;
+        }
+        List<String> words = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        topLevelWords(sql, words, positions);
+        if (words.size() < 2 || !words.get(0).equals("SELECT") || words.get(1).equals("DISTINCT")
+                || words.contains("UNION") || words.contains("INTERSECT") || words.contains("EXCEPT") || words.contains("MINUS")
+                || hasRowLimit(words)) {
+            return null;
+        }
+        int from = words.indexOf("FROM");
+        if (from < 0) {
+            return null;
+        }
+        int fromPosition = positions.get(from);
+        String selectList = sql.substring(positions.get(0) + "SELECT".length(), fromPosition).trim();
+        if (selectList.equals("*") && (this == ORACLE || this == DB2)) {
+            // these databases do not allow unqualified * together with other columns
+            return null;
+        }
+        return sql.substring(0, fromPosition).trim() + ", COUNT(*) OVER() AS " + column + " " + sql.substring(fromPosition);
+    }
+
+    /**
+     * @return true if given query limits its rows itself, so a row limit clause cannot be appended to it
+     */
+    static boolean hasRowLimit(String sql) {
+        List<String> words = new ArrayList<>();
+        topLevelWords(sql, words, new ArrayList<>());
+        return hasRowLimit(words);
+    }
+
+    private static boolean hasRowLimit(List<String> words) {
+        return words.contains("LIMIT") || words.contains("OFFSET") || words.contains("FETCH") || words.contains("TOP");
+    }
+
+    /**
+     * @param sql a query
+     * @return given query without its trailing ORDER BY clause, the query itself if it has none or if the ORDER BY is
+     * followed by a row limit clause (which makes it significant)
+     */
+    public static String withoutOrderBy(String sql) {
+        int orderBy = orderByStart(sql);
+        return orderBy >= 0 ? sql.substring(0, orderBy).trim() : sql;
+    }
+
+    /**
+     * @return index of the trailing ORDER BY clause of given query, -1 if the query does not end with an ORDER BY clause
+     * (there is none or it is followed by a row limit or locking clause)
+     */
+    static int orderByStart(String sql) {
+        List<String> words = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        topLevelWords(sql, words, positions);
+        int orderBy = -1;
+        for (int i = 0; i < words.size(); i++) {
+            String word = words.get(i);
+            if (word.equals("ORDER") && i + 1 < words.size() && words.get(i + 1).equals("BY")) {
+                orderBy = positions.get(i);
+            } else if (orderBy >= 0 && (word.equals("LIMIT") || word.equals("OFFSET") || word.equals("FETCH") || word.equals("FOR"))) {
+                return -1;
+            }
+        }
+        return orderBy;
+    }
+
+    /**
+     * Collects the words (keywords and unquoted identifiers) of given SQL which are not enclosed in parentheses, string
+     * literals, quoted identifiers or comments, upper-cased, together with their positions in the SQL.
+     */
+    static void topLevelWords(String sql, List<String> words, List<Integer> positions) {
+        int depth = 0;
+        int i = 0;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (c == '\'' || c == '"' || c == '`' || c == '[') {
+                char end = c == '[' ? ']' : c;
+                int close = sql.indexOf(end, i + 1);
+                i = close < 0 ? sql.length() : close + 1;
+            } else if (c == '-' && sql.startsWith("--", i)) {
+                int close = sql.indexOf('\n', i);
+                i = close < 0 ? sql.length() : close + 1;
+            } else if (c == '/' && sql.startsWith("/*", i)) {
+                int close = sql.indexOf("*/", i + 2);
+                i = close < 0 ? sql.length() : close + 2;
+            } else if (c == '(') {
+                depth++;
+                i++;
+            } else if (c == ')') {
+                depth--;
+                i++;
+            } else if (Character.isLetter(c) || c == '_') {
+                int start = i;
+                while (i < sql.length() && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '_'
+                        || sql.charAt(i) == '$' || sql.charAt(i) == '#')) {
+                    i++;
+                }
+                // the words of parameter names (:name) are not SQL words
+                if (depth == 0 && (start == 0 || sql.charAt(start - 1) != ':')) {
+                    words.add(sql.substring(start, i).toUpperCase(Locale.ROOT));
+                    positions.add(start);
+                }
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * @param sql query to explain
+     * @return statement returning the execution plan of given query, or null if the dialect does not know how to
+     * obtain the plan using a query
+     */
+    public String explain(String sql) {
+        return explainPrefix != null ? explainPrefix + sql : null;
+    }
+
+    /**
+     * @param sql query to estimate
+     * @return statement whose result contains the optimizer's estimate of the number of rows of given query in the form
+     * {@code rows=N}, or null if the dialect cannot estimate row counts
+     */
+    public String estimateRows(String sql) {
+        return this == POSTGRESQL ? "EXPLAIN " + sql : null;
+    }
+
+    /**
+     * @return true if the database can create session temporary tables on the fly, see {@link #createTemporaryTable(String, String)}
+     */
+    public boolean supportsTemporaryTables() {
+        return this != ORACLE && this != GENERIC;
+    }
+
+    /**
+     * @param table   name of the table
+     * @param columns column definitions, e.g. {@code "id BIGINT"}
+     * @return statement creating a temporary table visible only to the current session, which keeps its rows on commit,
+     * or null if the dialect cannot create temporary tables on the fly
+     */
+    public String createTemporaryTable(String table, String columns) {
+        switch (this) {
+            case POSTGRESQL:
+            case MYSQL:
+                return "CREATE TEMPORARY TABLE " + table + " (" + columns + ")";
+            case H2:
+                return "CREATE LOCAL TEMPORARY TABLE " + table + " (" + columns + ") TRANSACTIONAL";
+            case HSQLDB:
+                return "DECLARE LOCAL TEMPORARY TABLE " + table + " (" + columns + ") ON COMMIT PRESERVE ROWS";
+            case SQLSERVER:
+                return "CREATE TABLE " + temporaryTable(table) + " (" + columns + ")";
+            case DB2:
+                return "DECLARE GLOBAL TEMPORARY TABLE " + table + " (" + columns + ") ON COMMIT PRESERVE ROWS NOT LOGGED";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @param table name of the table
+     * @return name under which statements refer to the temporary table created by {@link #createTemporaryTable(String, String)}
+     */
+    public String temporaryTable(String table) {
+        switch (this) {
+            case HSQLDB:
+            case DB2:
+                return "SESSION." + table;
+            case SQLSERVER:
+                return "#" + table;
+            default:
+                return table;
+        }
+    }
+
+    /**
+     * @param table name of the table
+     * @return statement dropping the temporary table created by {@link #createTemporaryTable(String, String)}, or null
+     * if the dialect cannot create temporary tables on the fly
+     */
+    public String dropTemporaryTable(String table) {
+        if (!supportsTemporaryTables()) {
+            return null;
+        }
+        return (this == MYSQL ? "DROP TEMPORARY TABLE " : "DROP TABLE ") + temporaryTable(table);
+    }
+
+    /**
+     * Detects the dialect from the product name of the database behind given DataSource.
+     *
+     * @param dataSource DataSource to detect the dialect for
+     * @return detected dialect, {@link #GENERIC} if the database is unknown or its metadata are not available
+     */
+    public static SqlDialect detect(DataSource dataSource) {
+        try {
+            String productName = (String) JdbcUtils.extractDatabaseMetaData(dataSource, "getDatabaseProductName");
+            return fromProductName(productName);
+        } catch (MetaDataAccessException e) {
+            return GENERIC;
+        }
+    }
+
+    /**
+     * @param productName database product name, as returned by {@link java.sql.DatabaseMetaData#getDatabaseProductName()}
+     * @return dialect of the database, {@link #GENERIC} if the database is unknown
+     */
+    public static SqlDialect fromProductName(String productName) {
+        String name = productName != null ? productName.toLowerCase(Locale.ROOT) : "";
+        if (name.contains("postgres")) {
+            return POSTGRESQL;
+        } else if (name.contains("mysql") || name.contains("mariadb")) {
+            return MYSQL;
+        } else if (name.equals("h2")) {
+            return H2;
+        } else if (name.contains("hsql")) {
+            return HSQLDB;
+        } else if (name.contains("oracle")) {
+            return ORACLE;
+        } else if (name.contains("microsoft sql server")) {
+            return SQLSERVER;
+        } else if (name.startsWith("db2")) {
+            return DB2;
+        }
+        return GENERIC;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Statement hook which remembers the currently running statement so that it can be cancelled from another
+ * thread using {@link Statement#cancel()}. Once cancelled, statements registered later are not executed at all.
+ */
+class StatementCanceller implements StatementHook {
+
+    private static final Log logger = LogFactory.getLog(StatementCanceller.class);
+
+    private Statement running;
+    private boolean cancelled;
+
+    @Override
+    public synchronized void beforeExecute(Statement statement) {
+        if (cancelled) {
+            throw new CancellationException("Statement was cancelled before its execution");
+        }
+        running = statement;
+    }
+
+    @Override
+    public synchronized void afterExecute(Statement statement) {
+        if (running == statement) {
+            running = null;
+        }
+    }
+
+    /**
+     * Cancels the currently running statement (if any) and all statements registered in the future.
+     */
+    public void cancel() {
+        Statement toCancel;
+        synchronized (this) {
+            cancelled = true;
+            toCancel = running;
+            running = null;
+        }
+        if (toCancel != null) {
+            try {
+                toCancel.cancel();
+            } catch (SQLException | RuntimeException e) {
+                logger.debug("Could not cancel running statement", e);
+            }
+        }
+    }
+
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+}
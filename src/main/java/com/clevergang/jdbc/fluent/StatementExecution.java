@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.clevergang.jdbc.fluent;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Description of one statement executed by a fluent builder, passed to {@link ExecutionListener}s. The total duration
+ * is split to the time needed to obtain the connection and prepare the statement, the time of the statement execution
+ * and the time of mapping the results (reading the rows for queries, reading generated keys for updates).
+ */
+public class StatementExecution {
+
+    /**
+     * Kind of the executed statement.
+     */
+    public enum Kind {
+        QUERY,
+        UPDATE,
+        /**
+         * Several queries of a {@link FluentQueryBatch} executed by one combined statement.
+         */
+        BATCH
+    }
+
+    private final Kind kind;
+    private final String sql;
+    private final SqlParameterSource parameters;
+    private final long startTimeMillis;
+    private final long acquisitionNanos;
+    private final long executionNanos;
+    private final long mappingNanos;
+    private final long totalNanos;
+    private final int rowCount;
+    private final Throwable failure;
+
+    StatementExecution(Kind kind, String sql, SqlParameterSource parameters, long startTimeMillis, long acquisitionNanos,
+                       long executionNanos, long mappingNanos, long totalNanos, int rowCount, Throwable failure) {
+        this.kind = kind;
+        this.sql = sql;
+        this.parameters = parameters;
+        this.startTimeMillis = startTimeMillis;
+        this.acquisitionNanos = acquisitionNanos;
+        this.executionNanos = executionNanos;
+        this.mappingNanos = mappingNanos;
+        this.totalNanos = totalNanos;
+        this.rowCount = rowCount;
+        this.failure = failure;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return SQL of the statement, with named parameters
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * @return values of the named parameters bound to the statement
+     */
+    public SqlParameterSource getParameters() {
+        return parameters;
+    }
+
+    /**
+     * @return number of parameter placeholders in the SQL (computed on demand)
+     */
+    public int getParameterCount() {
+        return NamedParameterUtils.buildSqlParameterList(NamedParameterUtils.parseSqlStatement(sql), parameters).size();
+    }
+
+    /**
+     * @return wall clock time when the execution started, in milliseconds since the epoch
+     */
+    public long getStartTimeMillis() {
+        return startTimeMillis;
+    }
+
+    /**
+     * @return time needed to obtain the connection, create the statement and bind its parameters
+     */
+    public long getAcquisitionNanos() {
+        return acquisitionNanos;
+    }
+
+    /**
+     * @return time of the statement execution ({@code executeQuery()} or {@code executeUpdate()})
+     */
+    public long getExecutionNanos() {
+        return executionNanos;
+    }
+
+    /**
+     * @return time of reading and mapping the rows of a query (for {@code fetchPublisher()} the time until the stream
+     * finished), or time of reading generated keys of an update
+     */
+    public long getMappingNanos() {
+        return mappingNanos;
+    }
+
+    /**
+     * @return time from the start of the execution until the JDBC resources were released
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getTotal(TimeUnit unit) {
+        return unit.convert(totalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return number of rows read by a query or affected by an update, -1 if the statement failed before the count was known
+     * or the query does not return a list of rows (e.g. {@code exists()}, {@code fetchFirst()})
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return exception thrown by the statement, or null if the statement succeeded
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    @Override
+    public String toString() {
+        return "StatementExecution[" + kind + " " + sql + ", rows=" + rowCount
+                + ", acquisitionUs=" + TimeUnit.NANOSECONDS.toMicros(acquisitionNanos)
+                + ", executionUs=" + TimeUnit.NANOSECONDS.toMicros(executionNanos)
+                + ", mappingUs=" + TimeUnit.NANOSECONDS.toMicros(mappingNanos)
+                + ", totalUs=" + TimeUnit.NANOSECONDS.toMicros(totalNanos)
+                + (failure != null ? ", failure=" + failure : "") + "]";
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.fluent;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Hook into the lifecycle of the JDBC statement created by a fluent builder. Hooks are called on the thread which
+ * executes the statement, right before the statement is executed and right after it finished (successfully or not).
+ */
+interface StatementHook {
+
+    /**
+     * Called right before the statement is executed. Template-wide statement settings are already applied.
+     *
+     * @param statement statement to be executed
+     * @throws SQLException if the statement cannot be configured
+     */
+    default void beforeExecute(Statement statement) throws SQLException {
+    }
+
+    /**
+     * Called after the statement finished (successfully or not), before it is closed.
+     *
+     * @param statement executed statement
+     */
+    default void afterExecute(Statement statement) {
+    }
+
+}
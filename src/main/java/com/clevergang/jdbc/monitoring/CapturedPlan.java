@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.clevergang.jdbc.monitoring;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Execution plan of a slow statement captured by {@link SlowQueryLog}.
+ */
+public class CapturedPlan {
+
+    private final String sql;
+    private final Map<String, String> parameters;
+    private final long durationNanos;
+    private final long capturedAtMillis;
+    private final String plan;
+
+    CapturedPlan(String sql, Map<String, String> parameters, long durationNanos, long capturedAtMillis, String plan) {
+        this.sql = sql;
+        this.parameters = parameters;
+        this.durationNanos = durationNanos;
+        this.capturedAtMillis = capturedAtMillis;
+        this.plan = plan;
+    }
+
+    /**
+     * @return SQL of the statement, with named parameters
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * @return parameters the statement was executed (and explained) with, rendered as strings, redacted values masked
+     */
+    public Map<String, String> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * @return duration of the slow execution
+     */
+    public long getDuration(TimeUnit unit) {
+        return unit.convert(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return wall clock time when the plan was captured, in milliseconds since the epoch
+     */
+    public long getCapturedAtMillis() {
+        return capturedAtMillis;
+    }
+
+    /**
+     * @return the plan as returned by the database, one row per line
+     */
+    public String getPlan() {
+        return plan;
+    }
+
+    @Override
+    public String toString() {
+        return "CapturedPlan[" + sql + ", parameters=" + parameters + ", durationMs=" + getDuration(TimeUnit.MILLISECONDS) + "]\n" + plan;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Java Flight Recorder event of a statement which finished on another thread than it started on (e.g. a subscription
+ * of {@code fetchPublisher()}), committed by {@link JfrExecutionListener}. Such statement cannot be timed by the event
+ * itself, so the event is an instant one and carries the total time of the statement in a field. It has no threshold
+ * and no stack trace - the stack of the finishing thread says nothing about the caller.
+ */
+@Name(DetachedStatementExecutionEvent.NAME)
+@Label("Fluent JDBC Detached Statement")
+@Category({"Database", "Fluent JDBC"})
+@Description("Statement executed by a fluent query builder and finished on another thread")
+@StackTrace(false)
+final class DetachedStatementExecutionEvent extends Event {
+
+    static final String NAME = "com.clevergang.jdbc.DetachedStatementExecution";
+
+    @Label("SQL")
+    @Description("SQL of the statement, truncated")
+    String sql;
+
+    @Label("Kind")
+    @Description("QUERY or UPDATE")
+    String kind;
+
+    @Label("Row Count")
+    @Description("Rows read by the query or affected by the update")
+    int rowCount;
+
+    @Label("Total Time")
+    @Description("Time from the start of the statement until it finished")
+    @Timespan(Timespan.NANOSECONDS)
+    long totalTime;
+
+    @Label("Acquisition Time")
+    @Description("Time needed to obtain the connection and prepare the statement")
+    @Timespan(Timespan.NANOSECONDS)
+    long acquisitionTime;
+
+    @Label("Execution Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long executionTime;
+
+    @Label("Mapping Time")
+    @Description("Time of reading and mapping the rows, or reading generated keys")
+    @Timespan(Timespan.NANOSECONDS)
+    long mappingTime;
+
+    @Label("Failure")
+    @Description("Exception thrown by the statement")
+    String failure;
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.clevergang.jdbc.monitoring;
+
+import com.clevergang.jdbc.fluent.ExecutionListener;
+import com.clevergang.jdbc.fluent.StatementExecution;
+import org.springframework.util.Assert;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Listener emitting a Java Flight Recorder event {@code com.clevergang.jdbc.StatementExecution} for every statement,
+ * so the time spent in the database shows up in the flight recordings next to CPU and allocation profiles. The event
+ * carries the (truncated) SQL, row count and the acquisition/execution/mapping time split, and is recorded with
+ * the stack trace of the executing thread. Example:
+ * <pre>{@code
+ * if (JfrExecutionListener.isAvailable()) {
+ *     jdbc.addExecutionListener(new JfrExecutionListener());
+ * }
+ * }</pre>
+ * The event is enabled with threshold 10 ms by default; both can be changed by the recording settings like
+ * for any other JFR event (e.g. {@code <event name="com.clevergang.jdbc.StatementExecution"><setting name="threshold">1 ms</setting></event>}
+ * in a .jfc file). JFR API is available in Java 8u262+ and Java 11+, see {@link #isAvailable()}.
+ *
+ * <p>A statement finishing on another thread than it started on (a subscription of {@code fetchPublisher()} is read by
+ * executor threads) cannot be timed by the event. It is recorded as an instant event
+ * {@code com.clevergang.jdbc.DetachedStatementExecution} without threshold, which carries the total time in a field.
+ *
+ * <p><b>NOTE: An instance of this class is thread-safe.</b>
+ */
+public class JfrExecutionListener implements ExecutionListener {
+
+    /**
+     * Default maximum length of the SQL recorded in the events.
+     */
+    public static final int DEFAULT_MAX_SQL_LENGTH = 1000;
+
+    private static final int MAX_NESTED_EVENTS = 32;
+
+    private final int maxSqlLength;
+    private final ThreadLocal<Deque<StatementExecutionEvent>> startedEvents = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Creates listener recording at most {@link #DEFAULT_MAX_SQL_LENGTH} characters of the SQL.
+     */
+    public JfrExecutionListener() {
+        this(DEFAULT_MAX_SQL_LENGTH);
+    }
+
+    /**
+     * @param maxSqlLength maximum length of the SQL recorded in the events
+     * @throws IllegalStateException if the runtime does not support JFR events
+     */
+    public JfrExecutionListener(int maxSqlLength) {
+        Assert.isTrue(maxSqlLength > 0, "maxSqlLength must be positive");
+        if (!isAvailable()) {
+            throw new IllegalStateException("Java Flight Recorder API (jdk.jfr) is not available in this runtime");
+        }
+        this.maxSqlLength = maxSqlLength;
+    }
+
+    /**
+     * @return true if the runtime supports JFR events (Java 8u262+, Java 11+)
+     */
+    public static boolean isAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, JfrExecutionListener.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void beforeExecution(String sql) {
+        StatementExecutionEvent event = new StatementExecutionEvent();
+        event.startedFor = sql;
+        event.begin();
+        Deque<StatementExecutionEvent> started = startedEvents.get();
+        if (started.size() == MAX_NESTED_EVENTS) {
+            // fetchPublisher() may finish on another thread, do not keep its event forever
+            started.removeLast();
+        }
+        started.push(event);
+    }
+
+    @Override
+    public void afterExecution(StatementExecution execution) {
+        StatementExecutionEvent event = startedEvents.get().peek();
+        if (event == null || event.startedFor != execution.getSql()) {
+            // started on another thread, the event of this thread could not measure it
+            commitDetached(execution);
+            return;
+        }
+        startedEvents.get().pop();
+        event.end();
+        if (event.shouldCommit()) {
+            event.sql = truncate(execution.getSql());
+            event.kind = execution.getKind().name();
+            event.rowCount = execution.getRowCount();
+            event.acquisitionTime = execution.getAcquisitionNanos();
+            event.executionTime = execution.getExecutionNanos();
+            event.mappingTime = execution.getMappingNanos();
+            event.failure = execution.getFailure() != null ? execution.getFailure().toString() : null;
+            event.commit();
+        }
+    }
+
+    private void commitDetached(StatementExecution execution) {
+        DetachedStatementExecutionEvent event = new DetachedStatementExecutionEvent();
+        if (event.shouldCommit()) {
+            event.sql = truncate(execution.getSql());
+            event.kind = execution.getKind().name();
+            event.rowCount = execution.getRowCount();
+            event.totalTime = execution.getTotalNanos();
+            event.acquisitionTime = execution.getAcquisitionNanos();
+            event.executionTime = execution.getExecutionNanos();
+            event.mappingTime = execution.getMappingNanos();
+            event.failure = execution.getFailure() != null ? execution.getFailure().toString() : null;
+            event.commit();
+        }
+    }
+
+    private String truncate(String sql) {
+        return sql.length() > maxSqlLength ? sql.substring(0, maxSqlLength) + "..." : sql;
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.clevergang.jdbc.monitoring;
+
+import com.clevergang.jdbc.fluent.ExecutionListener;
+import com.clevergang.jdbc.fluent.StatementExecution;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Listener detecting accidental query loops (N+1 selects and other repeated statements). It counts executions of each
+ * SQL shape (the SQL with literals replaced by {@code ?} and whitespace collapsed) within a scope - an explicit
+ * {@link #openScope(String) scope} opened on the current thread, or else the current transaction - and reports
+ * the shapes executed more than allowed, including samples of their call sites. In {@link Mode#WARN WARN} mode
+ * (the default) the shape is logged once per scope, in {@link Mode#FAIL FAIL} mode the statement exceeding the limit
+ * fails with {@link RepeatedQueryException}. Example:
+ * <pre>{@code
+ * RepeatedQueryDetector detector = new RepeatedQueryDetector(10);
+ * jdbc.addExecutionListener(detector);
+ *
+ * try (RepeatedQueryScope scope = detector.openScope("GET /orders")) {
+ *     ...
+ * }
+ * }</pre>
+ * Statements executed on executor threads (asynchronous terminals, parallel queries, hedged attempts and shards) are
+ * counted in the scope current on the thread which submitted them. Statements executed outside of any scope (and rows
+ * of publishers) are not counted.
+ *
+ * <p><b>NOTE: An instance of this class is thread-safe once configured.</b>
+ */
+public class RepeatedQueryDetector implements ExecutionListener {
+
+    private static final Log logger = LogFactory.getLog(RepeatedQueryDetector.class);
+
+    /**
+     * What happens when a statement exceeds the limit.
+     */
+    public enum Mode {
+        /**
+         * Log a warning with the report, once per SQL shape and scope.
+         */
+        WARN,
+        /**
+         * Throw {@link RepeatedQueryException} from the terminal which exceeded the limit - meant for tests.
+         */
+        FAIL
+    }
+
+    private static final int MAX_CACHED_SHAPES = 512;
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w:])\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final int maxExecutionsPerShape;
+    private final ThreadLocal<RepeatedQueryScope> currentScope = new ThreadLocal<>();
+    private final Map<String, String> shapes = new ConcurrentHashMap<>();
+    private volatile Mode mode = Mode.WARN;
+    private volatile boolean transactionScopes = true;
+
+    /**
+     * @param maxExecutionsPerShape maximum number of executions of one SQL shape within a scope
+     */
+    public RepeatedQueryDetector(int maxExecutionsPerShape) {
+        Assert.isTrue(maxExecutionsPerShape > 0, "maxExecutionsPerShape must be positive");
+        this.maxExecutionsPerShape = maxExecutionsPerShape;
+    }
+
+    /**
+     * @param mode what happens when a statement exceeds the limit, {@link Mode#WARN} by default
+     */
+    public void setMode(Mode mode) {
+        Assert.notNull(mode, "You HAVE TO provide mode");
+        this.mode = mode;
+    }
+
+    /**
+     * @param transactionScopes true (the default) if statements executed outside of an explicit scope are counted
+     *                          per Spring managed transaction
+     */
+    public void setTransactionScopes(boolean transactionScopes) {
+        this.transactionScopes = transactionScopes;
+    }
+
+    /**
+     * Opens an explicit scope on the current thread. Statements are counted in the innermost open scope. The scope
+     * must be closed by the same thread, preferably by try-with-resources.
+     *
+     * @param name name of the scope used in the reports, e.g. the name of the request
+     * @return the new scope
+     */
+    public RepeatedQueryScope openScope(String name) {
+        RepeatedQueryScope parent = currentScope.get();
+        RepeatedQueryScope[] holder = new RepeatedQueryScope[1];
+        holder[0] = new RepeatedQueryScope(name, maxExecutionsPerShape, () -> {
+            if (currentScope.get() == holder[0]) {
+                if (parent != null) {
+                    currentScope.set(parent);
+                } else {
+                    currentScope.remove();
+                }
+            }
+        });
+        currentScope.set(holder[0]);
+        return holder[0];
+    }
+
+    /**
+     * Runs given action in a new explicit scope and returns the closed scope, e.g. for assertions in tests.
+     *
+     * @param action action to run
+     * @return the closed scope with the counts of the executed statements
+     */
+    public RepeatedQueryScope run(Runnable action) {
+        try (RepeatedQueryScope scope = openScope("run")) {
+            action.run();
+            return scope;
+        }
+    }
+
+    @Override
+    public void afterExecution(StatementExecution execution) {
+        RepeatedQueryScope scope = currentScope();
+        if (scope == null) {
+            return;
+        }
+        String shape = shapeOf(execution.getSql());
+        int count = scope.record(shape);
+        if (count > maxExecutionsPerShape) {
+            if (mode == Mode.FAIL) {
+                throw new RepeatedQueryException(scope.report(Collections.singletonList(shape)));
+            } else if (count == maxExecutionsPerShape + 1 && logger.isWarnEnabled()) {
+                logger.warn(scope.report(Collections.singletonList(shape)));
+            }
+        }
+    }
+
+    /**
+     * Captures the current scope, so statements submitted by this thread to an executor are counted in it.
+     */
+    @Override
+    public Context captureContext() {
+        RepeatedQueryScope scope = currentScope();
+        if (scope == null) {
+            return null;
+        }
+        return () -> {
+            RepeatedQueryScope previous = currentScope.get();
+            currentScope.set(scope);
+            return () -> {
+                if (previous != null) {
+                    currentScope.set(previous);
+                } else {
+                    currentScope.remove();
+                }
+            };
+        };
+    }
+
+    /**
+     * @param sql SQL with named parameters
+     * @return Returns shape of the SQL - literals replaced by {@code ?} and whitespace collapsed
+     */
+    public String shapeOf(String sql) {
+        String shape = shapes.get(sql);
+        if (shape == null) {
+            shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+            shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+            shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+            if (shapes.size() < MAX_CACHED_SHAPES) {
+                shapes.put(sql, shape);
+            }
+        }
+        return shape;
+    }
+
+    private RepeatedQueryScope currentScope() {
+        RepeatedQueryScope scope = currentScope.get();
+        if (scope != null || !transactionScopes || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return scope;
+        }
+        scope = (RepeatedQueryScope) TransactionSynchronizationManager.getResource(this);
+        if (scope == null) {
+            String name = TransactionSynchronizationManager.getCurrentTransactionName();
+            RepeatedQueryScope transactionScope = new RepeatedQueryScope(name != null ? "transaction " + name : "transaction", maxExecutionsPerShape, () -> {
+            });
+            TransactionSynchronizationManager.bindResource(this, transactionScope);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RepeatedQueryDetector.this);
+                }
+            });
+            scope = transactionScope;
+        }
+        return scope;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.clevergang.jdbc.monitoring;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Scope in which {@link RepeatedQueryDetector} counts statement executions per SQL shape - opened explicitly
+ * by {@link RepeatedQueryDetector#openScope(String)}, or implicitly for a transaction. Besides the counts, the scope
+ * keeps a few distinct call sites of each shape. Closing an explicit scope makes the enclosing scope current again.
+ * Example of use in a test:
+ * <pre>{@code
+ * RepeatedQueryScope scope = detector.run(() -> orderService.loadOrders(customerId));
+ * scope.assertNoRepeatedQueries();
+ * }</pre>
+ *
+ * <p>A scope is opened and closed by one thread, the executions are counted also from the executor threads the thread
+ * submitted statements to.
+ */
+public class RepeatedQueryScope implements AutoCloseable {
+
+    private static final int MAX_CALL_SITES = 3;
+    private static final int SAMPLED_EXECUTIONS = 5;
+    private static final int CALL_SITE_DEPTH = 8;
+    private static final String[] INTERNAL_PACKAGES = {"com.clevergang.jdbc.fluent.", "com.clevergang.jdbc.monitoring.",
+            "com.clevergang.jdbc.FluentNamedParameterJdbcTemplate", "org.springframework.jdbc.", "java.", "sun.", "jdk."};
+
+    private final String name;
+    private final int maxExecutionsPerShape;
+    private final Runnable onClose;
+    private final Map<String, ShapeExecutions> shapes = new LinkedHashMap<>();
+    private boolean closed;
+
+    RepeatedQueryScope(String name, int maxExecutionsPerShape, Runnable onClose) {
+        this.name = name;
+        this.maxExecutionsPerShape = maxExecutionsPerShape;
+        this.onClose = onClose;
+    }
+
+    /**
+     * Counts one execution of given shape.
+     *
+     * @return Returns number of executions of the shape in this scope, including this one
+     */
+    synchronized int record(String shape) {
+        ShapeExecutions executions = shapes.computeIfAbsent(shape, key -> new ShapeExecutions());
+        executions.count++;
+        if (executions.count <= SAMPLED_EXECUTIONS && executions.callSites.size() < MAX_CALL_SITES) {
+            List<StackTraceElement> callSite = callSite(new Throwable().getStackTrace());
+            if (!executions.callSites.contains(callSite)) {
+                executions.callSites.add(callSite);
+            }
+        }
+        return executions.count;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return number of executions of given SQL shape in this scope
+     */
+    public synchronized int getExecutionCount(String shape) {
+        ShapeExecutions executions = shapes.get(shape);
+        return executions != null ? executions.count : 0;
+    }
+
+    /**
+     * @return number of executions per SQL shape, in the order the shapes were first executed
+     */
+    public synchronized Map<String, Integer> getExecutionCounts() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        shapes.forEach((shape, executions) -> counts.put(shape, executions.count));
+        return counts;
+    }
+
+    /**
+     * @return total number of statement executions in this scope
+     */
+    public synchronized int getTotalExecutionCount() {
+        return shapes.values().stream().mapToInt(executions -> executions.count).sum();
+    }
+
+    /**
+     * @return SQL shapes executed more times than allowed
+     */
+    public synchronized List<String> getRepeatedShapes() {
+        return shapes.entrySet().stream()
+                .filter(entry -> entry.getValue().count > maxExecutionsPerShape)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return distinct call sites (outermost frames of the library excluded) of the first executions of given shape
+     */
+    public synchronized List<List<StackTraceElement>> getCallSites(String shape) {
+        ShapeExecutions executions = shapes.get(shape);
+        return executions != null ? Collections.unmodifiableList(new ArrayList<>(executions.callSites)) : Collections.emptyList();
+    }
+
+    /**
+     * @throws AssertionError if any SQL shape was executed more times than allowed, with the report of such shapes
+     */
+    public void assertNoRepeatedQueries() {
+        List<String> repeated = getRepeatedShapes();
+        if (!repeated.isEmpty()) {
+            throw new AssertionError(report(repeated));
+        }
+    }
+
+    /**
+     * @throws AssertionError if more than given number of statements was executed in this scope
+     */
+    public void assertMaxExecutions(int maxExecutions) {
+        if (getTotalExecutionCount() > maxExecutions) {
+            throw new AssertionError("Expected at most " + maxExecutions + " statements in scope " + name + ", but "
+                    + getTotalExecutionCount() + " were executed: " + getExecutionCounts());
+        }
+    }
+
+    /**
+     * @return Returns human readable report of given shapes with their counts and call sites
+     */
+    synchronized String report(List<String> reportedShapes) {
+        StringBuilder report = new StringBuilder("Statements repeated more than " + maxExecutionsPerShape + " times in scope " + name + ":");
+        for (String shape : reportedShapes) {
+            report.append("\n  ").append(getExecutionCount(shape)).append("x ").append(shape);
+            for (List<StackTraceElement> callSite : getCallSites(shape)) {
+                report.append("\n    called from:");
+                for (StackTraceElement frame : callSite) {
+                    report.append("\n      at ").append(frame);
+                }
+            }
+        }
+        return report.toString();
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            onClose.run();
+        }
+    }
+
+    private static List<StackTraceElement> callSite(StackTraceElement[] stackTrace) {
+        int first = 0;
+        while (first < stackTrace.length && isInternal(stackTrace[first].getClassName())) {
+            first++;
+        }
+        return new ArrayList<>(Arrays.asList(stackTrace).subList(first, Math.min(stackTrace.length, first + CALL_SITE_DEPTH)));
+    }
+
+    private static boolean isInternal(String className) {
+        for (String internalPackage : INTERNAL_PACKAGES) {
+            if (className.startsWith(internalPackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class ShapeExecutions {
+        private int count;
+        private final List<List<StackTraceElement>> callSites = new ArrayList<>(MAX_CALL_SITES);
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.clevergang.jdbc.monitoring;
+
+import com.clevergang.jdbc.fluent.ExecutionListener;
+import com.clevergang.jdbc.fluent.SqlDialect;
+import com.clevergang.jdbc.fluent.StatementExecution;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Listener logging statements slower than a threshold (at WARN level, with their bound parameters) and capturing
+ * execution plans of a sample of the slow queries. Example:
+ * <pre>{@code
+ * SlowQueryLog slowQueryLog = new SlowQueryLog(500, TimeUnit.MILLISECONDS);
+ * slowQueryLog.setRedactedParameters("password", "token");
+ * slowQueryLog.enablePlanCapture(dataSource, SqlDialect.POSTGRESQL, 0.1);
+ * jdbc.addExecutionListener(slowQueryLog);
+ * ...
+ * slowQueryLog.getCapturedPlans().forEach(plan -> log.info("{}", plan));
+ * }</pre>
+ * The plans are obtained by {@link SqlDialect#explain(String)} (which does not execute the query) with the same
+ * parameters (their values are read right after the execution), on a separate connection of the given DataSource,
+ * asynchronously on a single background thread. At most 16 plans wait for capture, others are skipped. Captured plans
+ * are kept in a ring buffer of the given capacity. Plans of statements using session state are not available on the
+ * separate connection - e.g. queries with key tables ({@code bindKeyTable()}) fail to be explained; the first failure
+ * is logged at WARN level.
+ *
+ * <p><b>NOTE: An instance of this class is thread-safe once configured.</b>
+ */
+public class SlowQueryLog implements ExecutionListener {
+
+    private static final Log logger = LogFactory.getLog(SlowQueryLog.class);
+
+    /**
+     * Default number of captured plans kept in memory.
+     */
+    public static final int DEFAULT_PLAN_CAPACITY = 100;
+
+    /**
+     * Replacement of the values of redacted parameters.
+     */
+    public static final String REDACTED = "*****";
+
+    private static final int MAX_VALUE_LENGTH = 200;
+    private static final int MAX_PENDING_PLANS = 16;
+
+    private final long thresholdNanos;
+    private final AtomicLong slowStatementCount = new AtomicLong();
+    private final AtomicBoolean planFailureLogged = new AtomicBoolean();
+    private volatile Set<String> redactedParameters = Collections.emptySet();
+    private volatile boolean redactAll;
+
+    private volatile DataSource explainDataSource;
+    private volatile SqlDialect explainDialect;
+    private volatile double sampleRate;
+    private volatile Executor explainExecutor;
+    private final Deque<CapturedPlan> capturedPlans = new ArrayDeque<>();
+    private volatile int planCapacity = DEFAULT_PLAN_CAPACITY;
+
+    /**
+     * @param threshold statements taking at least this long are slow
+     * @param unit      unit of the threshold
+     */
+    public SlowQueryLog(long threshold, TimeUnit unit) {
+        Assert.isTrue(threshold >= 0, "Threshold must not be negative");
+        this.thresholdNanos = unit.toNanos(threshold);
+    }
+
+    /**
+     * Sets names of the parameters whose values are never logged nor kept with the captured plans (case insensitive).
+     *
+     * @param parameterNames names of the parameters
+     */
+    public void setRedactedParameters(String... parameterNames) {
+        Set<String> names = new HashSet<>();
+        for (String name : parameterNames) {
+            names.add(name.toLowerCase(Locale.ROOT));
+        }
+        this.redactedParameters = names;
+    }
+
+    /**
+     * @param redactAll true if values of all parameters are to be redacted
+     */
+    public void setRedactAll(boolean redactAll) {
+        this.redactAll = redactAll;
+    }
+
+    /**
+     * Enables capturing of execution plans of a sample of the slow queries.
+     *
+     * @param dataSource DataSource to obtain the separate connections for the plans from
+     * @param dialect    dialect providing the statement which returns the plan
+     * @param sampleRate fraction of the slow queries whose plan is captured, from 0 to 1
+     */
+    public void enablePlanCapture(DataSource dataSource, SqlDialect dialect, double sampleRate) {
+        Assert.notNull(dataSource, "You HAVE TO provide DataSource");
+        Assert.notNull(dialect, "You HAVE TO provide SQL dialect");
+        Assert.isTrue(sampleRate >= 0 && sampleRate <= 1, "Sample rate must be between 0 and 1");
+        if (explainExecutor == null) {
+            explainExecutor = newExplainExecutor();
+        }
+        this.explainDataSource = dataSource;
+        this.explainDialect = dialect;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Sets executor capturing the plans, instead of the default single background thread. Note that a plan captured
+     * on the thread which executed the statement is obtained in the caller's transaction, if there is any.
+     *
+     * @param explainExecutor executor capturing the plans
+     */
+    public void setExplainExecutor(Executor explainExecutor) {
+        Assert.notNull(explainExecutor, "You HAVE TO provide an executor");
+        this.explainExecutor = explainExecutor;
+    }
+
+    /**
+     * @param planCapacity number of the most recent captured plans kept in memory
+     */
+    public void setPlanCapacity(int planCapacity) {
+        Assert.isTrue(planCapacity > 0, "Plan capacity must be positive");
+        this.planCapacity = planCapacity;
+    }
+
+    /**
+     * @return number of slow statements seen so far
+     */
+    public long getSlowStatementCount() {
+        return slowStatementCount.get();
+    }
+
+    /**
+     * @return captured plans, the oldest first
+     */
+    public List<CapturedPlan> getCapturedPlans() {
+        synchronized (capturedPlans) {
+            return new ArrayList<>(capturedPlans);
+        }
+    }
+
+    /**
+     * @param sql SQL of the statement, with named parameters
+     * @return captured plans of given statement, the oldest first
+     */
+    public List<CapturedPlan> getCapturedPlans(String sql) {
+        return getCapturedPlans().stream().filter(plan -> plan.getSql().equals(sql)).collect(Collectors.toList());
+    }
+
+    @Override
+    public void afterExecution(StatementExecution execution) {
+        if (execution.getTotalNanos() < thresholdNanos) {
+            return;
+        }
+        slowStatementCount.incrementAndGet();
+        Map<String, String> parameters = renderParameters(execution);
+        if (logger.isWarnEnabled()) {
+            logger.warn("Slow statement (" + TimeUnit.NANOSECONDS.toMillis(execution.getTotalNanos()) + " ms"
+                    + (execution.getRowCount() >= 0 ? ", " + execution.getRowCount() + " rows" : "")
+                    + (execution.isFailed() ? ", failed" : "") + "): "
+                    + execution.getSql() + " " + parameters);
+        }
+        if (explainDataSource != null && execution.getKind() == StatementExecution.Kind.QUERY
+                && explainDialect.explain(execution.getSql()) != null && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            // the parameter values are read now, the caller may modify them once the statement is executed
+            ExplainStatement explainStatement;
+            try {
+                explainStatement = new ExplainStatement(explainDialect, execution.getSql(), execution.getParameters());
+            } catch (RuntimeException e) {
+                planCaptureFailed(execution.getSql(), e);
+                return;
+            }
+            explainExecutor.execute(() -> capturePlan(execution, parameters, explainStatement));
+        }
+    }
+
+    private void capturePlan(StatementExecution execution, Map<String, String> parameters, ExplainStatement explainStatement) {
+        try {
+            String plan = explain(explainStatement);
+            CapturedPlan capturedPlan = new CapturedPlan(execution.getSql(), parameters, execution.getTotalNanos(), System.currentTimeMillis(), plan);
+            synchronized (capturedPlans) {
+                while (capturedPlans.size() >= planCapacity) {
+                    capturedPlans.removeFirst();
+                }
+                capturedPlans.addLast(capturedPlan);
+            }
+        } catch (SQLException | RuntimeException e) {
+            planCaptureFailed(execution.getSql(), e);
+        }
+    }
+
+    /**
+     * Logs the first failure to capture a plan at WARN level (typically a misconfiguration, e.g. the DataSource cannot
+     * see the tables of the statement), the following ones at DEBUG level.
+     */
+    private void planCaptureFailed(String sql, Exception e) {
+        if (planFailureLogged.compareAndSet(false, true)) {
+            logger.warn("Failed to capture plan of " + sql + " (further failures are logged at DEBUG level)", e);
+        } else {
+            logger.debug("Failed to capture plan of " + sql, e);
+        }
+    }
+
+    private String explain(ExplainStatement explainStatement) throws SQLException {
+        try (Connection connection = explainDataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(explainStatement.sql)) {
+            // some databases (e.g. HSQLDB) do not accept parameters in the explained statement
+            if (explainStatement.values.length > 0 && statement.getParameterMetaData().getParameterCount() > 0) {
+                new PreparedStatementCreatorFactory(explainStatement.sql, explainStatement.declaredParameters)
+                        .newPreparedStatementSetter(explainStatement.values).setValues(statement);
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = statement.executeQuery()) {
+                int columnCount = rs.getMetaData().getColumnCount();
+                while (rs.next()) {
+                    if (plan.length() > 0) {
+                        plan.append('\n');
+                    }
+                    for (int i = 1; i <= columnCount; i++) {
+                        plan.append(i > 1 ? " | " : "").append(rs.getString(i));
+                    }
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    private Map<String, String> renderParameters(StatementExecution execution) {
+        SqlParameterSource source = execution.getParameters();
+        List<SqlParameter> parameters = NamedParameterUtils.buildSqlParameterList(NamedParameterUtils.parseSqlStatement(execution.getSql()), source);
+        Map<String, String> rendered = new LinkedHashMap<>();
+        for (SqlParameter parameter : parameters) {
+            String name = parameter.getName();
+            if (rendered.containsKey(name)) {
+                continue;
+            }
+            if (redactAll || redactedParameters.contains(name.toLowerCase(Locale.ROOT))) {
+                rendered.put(name, REDACTED);
+            } else {
+                rendered.put(name, render(source.hasValue(name) ? source.getValue(name) : null));
+            }
+        }
+        return rendered;
+    }
+
+    private static String render(Object value) {
+        Object plainValue = value instanceof SqlParameterValue ? ((SqlParameterValue) value).getValue() : value;
+        String text = String.valueOf(plainValue);
+        return text.length() > MAX_VALUE_LENGTH ? text.substring(0, MAX_VALUE_LENGTH) + "..." : text;
+    }
+
+    /**
+     * Statement returning the plan of a slow query, with the values of its parameters.
+     */
+    private static class ExplainStatement {
+
+        private final String sql;
+        private final List<SqlParameter> declaredParameters;
+        private final Object[] values;
+
+        ExplainStatement(SqlDialect dialect, String sql, SqlParameterSource parameters) {
+            ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(sql);
+            this.sql = dialect.explain(NamedParameterUtils.substituteNamedParameters(parsedSql, parameters));
+            this.declaredParameters = NamedParameterUtils.buildSqlParameterList(parsedSql, parameters);
+            this.values = NamedParameterUtils.buildValueArray(parsedSql, parameters, null);
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] instanceof Collection) {
+                    // the number of placeholders was given by the current size of the collection
+                    values[i] = new ArrayList<>((Collection<?>) values[i]);
+                }
+            }
+        }
+    }
+
+    private static Executor newExplainExecutor() {
+        return new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(MAX_PENDING_PLANS), runnable -> {
+            Thread thread = new Thread(runnable, "fluent-jdbc-explain");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+}
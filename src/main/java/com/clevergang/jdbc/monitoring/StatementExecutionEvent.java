@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.clevergang.jdbc.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * Java Flight Recorder event of one statement executed by a fluent builder, committed by {@link JfrExecutionListener}.
+ * The duration of the event is the total duration of the statement.
+ */
+@Name(StatementExecutionEvent.NAME)
+@Label("Fluent JDBC Statement")
+@Category({"Database", "Fluent JDBC"})
+@Description("Statement executed by a fluent query or update builder")
+@Threshold("10 ms")
+@StackTrace(true)
+final class StatementExecutionEvent extends Event {
+
+    static final String NAME = "com.clevergang.jdbc.StatementExecution";
+
+    @Label("SQL")
+    @Description("SQL of the statement, truncated")
+    String sql;
+
+    @Label("Kind")
+    @Description("QUERY or UPDATE")
+    String kind;
+
+    @Label("Row Count")
+    @Description("Rows read by the query or affected by the update")
+    int rowCount;
+
+    @Label("Acquisition Time")
+    @Description("Time needed to obtain the connection and prepare the statement")
+    @Timespan(Timespan.NANOSECONDS)
+    long acquisitionTime;
+
+    @Label("Execution Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long executionTime;
+
+    @Label("Mapping Time")
+    @Description("Time of reading and mapping the rows, or reading generated keys")
+    @Timespan(Timespan.NANOSECONDS)
+    long mappingTime;
+
+    @Label("Failure")
+    @Description("Exception thrown by the statement")
+    String failure;
+
+    /**
+     * SQL the event was started for, not recorded.
+     */
+    transient String startedFor;
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.clevergang.jdbc.monitoring;
+
+import com.clevergang.jdbc.fluent.ExecutionListener;
+import com.clevergang.jdbc.fluent.StatementExecution;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory aggregator of the statement executions, keeping {@link StatementStatistics} (counts, rows, time split and
+ * latency histogram) per SQL statement. Register it to a template and look at the most expensive statements
+ * once in a while:
+ * <pre>{@code
+ * StatementMetrics metrics = new StatementMetrics();
+ * jdbc.addExecutionListener(metrics);
+ * ...
+ * metrics.getStatistics().stream().limit(10).forEach(stats -> log.info("{}", stats));
+ * }</pre>
+ * Recording an execution does not take any lock. The number of tracked statements is limited, executions of statements
+ * over the limit are aggregated under {@link #OTHER_STATEMENTS}.
+ *
+ * <p><b>NOTE: An instance of this class is thread-safe.</b>
+ */
+public class StatementMetrics implements ExecutionListener {
+
+    /**
+     * Default maximum number of distinct statements tracked.
+     */
+    public static final int DEFAULT_MAX_STATEMENTS = 500;
+
+    /**
+     * SQL of the statistics aggregating statements over the tracking limit.
+     */
+    public static final String OTHER_STATEMENTS = "(other statements)";
+
+    private final int maxStatements;
+    private final Map<String, StatementStatistics> statistics = new ConcurrentHashMap<>();
+    private volatile StatementStatistics otherStatements = new StatementStatistics(OTHER_STATEMENTS);
+
+    /**
+     * Creates aggregator tracking at most {@link #DEFAULT_MAX_STATEMENTS} distinct statements.
+     */
+    public StatementMetrics() {
+        this(DEFAULT_MAX_STATEMENTS);
+    }
+
+    /**
+     * @param maxStatements maximum number of distinct statements tracked
+     */
+    public StatementMetrics(int maxStatements) {
+        Assert.isTrue(maxStatements > 0, "maxStatements must be positive");
+        this.maxStatements = maxStatements;
+    }
+
+    @Override
+    public void afterExecution(StatementExecution execution) {
+        statisticsFor(execution.getSql()).record(execution);
+    }
+
+    /**
+     * @param sql SQL of the statement, with named parameters
+     * @return statistics of given statement, or null if the statement was not executed (or is not tracked)
+     */
+    public StatementStatistics getStatistics(String sql) {
+        return statistics.get(sql);
+    }
+
+    /**
+     * @return statistics of all executed statements (including {@link #OTHER_STATEMENTS} if any), the ones with
+     * the highest total time first
+     */
+    public List<StatementStatistics> getStatistics() {
+        List<StatementStatistics> result = new ArrayList<>(statistics.values());
+        StatementStatistics other = otherStatements;
+        if (other.getExecutionCount() > 0) {
+            result.add(other);
+        }
+        result.sort(Comparator.comparingLong(StatementStatistics::getTotalNanos).reversed());
+        return result;
+    }
+
+    /**
+     * Forgets all collected statistics.
+     */
+    public void reset() {
+        statistics.clear();
+        otherStatements = new StatementStatistics(OTHER_STATEMENTS);
+    }
+
+    private StatementStatistics statisticsFor(String sql) {
+        StatementStatistics result = statistics.get(sql);
+        if (result == null) {
+            if (statistics.size() >= maxStatements) {
+                return otherStatements;
+            }
+            result = statistics.computeIfAbsent(sql, StatementStatistics::new);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.clevergang.jdbc.monitoring;
+
+import com.clevergang.jdbc.fluent.StatementExecution;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated executions of one SQL statement, collected by {@link StatementMetrics}. The values are live, they keep
+ * changing as the statement is executed.
+ *
+ * <p><b>NOTE: An instance of this class is thread-safe.</b>
+ */
+public class StatementStatistics {
+
+    private final String sql;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder rowCount = new LongAdder();
+    private final LongAdder acquisitionNanos = new LongAdder();
+    private final LongAdder executionNanos = new LongAdder();
+    private final LongAdder mappingNanos = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+
+    StatementStatistics(String sql) {
+        this.sql = sql;
+    }
+
+    void record(StatementExecution execution) {
+        latency.recordNanos(execution.getTotalNanos());
+        if (execution.isFailed()) {
+            failureCount.increment();
+        }
+        if (execution.getRowCount() > 0) {
+            rowCount.add(execution.getRowCount());
+        }
+        acquisitionNanos.add(execution.getAcquisitionNanos());
+        executionNanos.add(execution.getExecutionNanos());
+        mappingNanos.add(execution.getMappingNanos());
+        totalNanos.add(execution.getTotalNanos());
+    }
+
+    /**
+     * @return SQL of the statement, or {@link StatementMetrics#OTHER_STATEMENTS} for statements over the tracking limit
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    public long getExecutionCount() {
+        return latency.getCount();
+    }
+
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    /**
+     * @return total number of rows read by the query or affected by the update
+     */
+    public long getRowCount() {
+        return rowCount.sum();
+    }
+
+    /**
+     * @return histogram of total durations of the executions
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return sum of the times needed to obtain the connection and prepare the statement
+     */
+    public long getAcquisitionNanos() {
+        return acquisitionNanos.sum();
+    }
+
+    /**
+     * @return sum of the statement execution times
+     */
+    public long getExecutionNanos() {
+        return executionNanos.sum();
+    }
+
+    /**
+     * @return sum of the result mapping times
+     */
+    public long getMappingNanos() {
+        return mappingNanos.sum();
+    }
+
+    /**
+     * @return sum of the total durations of the executions
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "StatementStatistics[" + sql + ", executions=" + getExecutionCount() + ", failures=" + getFailureCount()
+                + ", rows=" + getRowCount() + ", totalMs=" + TimeUnit.NANOSECONDS.toMillis(getTotalNanos())
+                + ", p50Us=" + latency.getPercentileMicros(50) + ", p99Us=" + latency.getPercentileMicros(99)
+                + ", maxUs=" + latency.getMaxMicros() + "]";
+    }
+}
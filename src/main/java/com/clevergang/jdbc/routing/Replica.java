@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.routing;
+
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Replica DataSource together with the statistics used by {@link ReplicaSelectionPolicy policies} to choose between
+ * replicas: the number of connections currently checked out (outstanding requests) and the moving average of the time
+ * the connections were checked out for (which approximates the latency of the statements executed on the replica).
+ *
+ * <p><b>NOTE: An instance of this class is thread-safe.</b>
+ */
+public class Replica {
+
+    // weight of the latest sample in the exponentially weighted moving average of the latency
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    private final String name;
+    private final DataSource dataSource;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicLong averageLatencyNanos = new AtomicLong(-1);
+
+    /**
+     * Creates new Replica.
+     *
+     * @param name       name of the replica, used in logs and exceptions
+     * @param dataSource DataSource of the replica
+     */
+    public Replica(String name, DataSource dataSource) {
+        Assert.notNull(name, "You HAVE TO provide replica name");
+        Assert.notNull(dataSource, "You HAVE TO provide replica DataSource");
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * @return number of connections of this replica which are currently checked out
+     */
+    public int getOutstandingRequests() {
+        return outstanding.get();
+    }
+
+    /**
+     * @return moving average of the time the connections of this replica were checked out for, or -1 if no connection
+     * was returned yet
+     */
+    public long getAverageLatencyNanos() {
+        return averageLatencyNanos.get();
+    }
+
+    void requestStarted() {
+        outstanding.incrementAndGet();
+    }
+
+    void requestFinished(long latencyNanos) {
+        outstanding.decrementAndGet();
+        averageLatencyNanos.getAndUpdate(average -> average < 0
+                ? latencyNanos
+                : (long) (average + LATENCY_SMOOTHING * (latencyNanos - average)));
+    }
+
+    @Override
+    public String toString() {
+        return "Replica[" + name + ", outstanding=" + outstanding.get() + ", avgLatencyNanos=" + averageLatencyNanos.get() + "]";
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.routing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * One attempt to execute a statement, e.g. the original attempt or the hedge of a hedged query. The
+ * {@link ReplicaRoutingDataSource} remembers in the attempt the replica of the connection obtained by it, and an attempt
+ * can avoid the replica of another attempt - a hedge is not sent to the replica which is slow to answer the original.
+ * Example:
+ * <pre>{@code
+ * ReplicaAttempt original = new ReplicaAttempt(null);
+ * executor.submit(() -> original.run(() -> query.fetch(mapper)));
+ * ...
+ * ReplicaAttempt hedge = new ReplicaAttempt(original);
+ * executor.submit(() -> hedge.run(() -> query.fetch(mapper)));
+ * }</pre>
+ *
+ * <p><b>NOTE: An instance of this class is thread-safe.</b>
+ */
+public final class ReplicaAttempt {
+
+    private static final ThreadLocal<ReplicaAttempt> current = new ThreadLocal<>();
+
+    private final ReplicaAttempt avoided;
+    private volatile Replica replica;
+
+    /**
+     * Creates new ReplicaAttempt.
+     *
+     * @param avoided attempt whose replica this attempt should not use (unless it is the only one), or null
+     */
+    public ReplicaAttempt(ReplicaAttempt avoided) {
+        this.avoided = avoided;
+    }
+
+    /**
+     * Runs given action as this attempt - the connections the action obtains on the current thread from
+     * a ReplicaRoutingDataSource are routed with respect to this attempt.
+     *
+     * @param action action to run
+     * @param <T>    Return type
+     * @return Returns the result of the action
+     */
+    public <T> T run(Supplier<T> action) {
+        ReplicaAttempt previous = current.get();
+        current.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                current.set(previous);
+            } else {
+                current.remove();
+            }
+        }
+    }
+
+    /**
+     * @return Returns the replica of the last connection obtained by this attempt, null if it has not obtained any yet
+     */
+    public Replica getReplica() {
+        return replica;
+    }
+
+    /**
+     * @return Returns the attempt running on the current thread, null if there is none
+     */
+    static ReplicaAttempt current() {
+        return current.get();
+    }
+
+    /**
+     * @return Returns the replicas this attempt can use - all of them but the replica of the avoided attempt
+     */
+    List<Replica> candidates(List<Replica> replicas) {
+        Replica avoidedReplica = avoided != null ? avoided.replica : null;
+        if (avoidedReplica == null || replicas.size() < 2 || !replicas.contains(avoidedReplica)) {
+            return replicas;
+        }
+        List<Replica> candidates = new ArrayList<>(replicas);
+        candidates.remove(avoidedReplica);
+        return candidates;
+    }
+
+    void connected(Replica replica) {
+        this.replica = replica;
+    }
+}
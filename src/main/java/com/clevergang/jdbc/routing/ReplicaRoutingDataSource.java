@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.routing;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.util.Assert;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * DataSource load balancing among several replica DataSources. Each {@link #getConnection()} call asks the
+ * {@link ReplicaSelectionPolicy} for a replica and returns a connection of that replica. The returned connection
+ * reports back to the replica when it is closed, so the replica knows its outstanding requests and latency.
+ * Connections obtained within a {@link ReplicaAttempt} avoid the replica the attempt is told to avoid.
+ *
+ * <p><b>NOTE: An instance of this class is thread-safe.</b>
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final List<Replica> replicas;
+    private final ReplicaSelectionPolicy policy;
+
+    /**
+     * Creates new ReplicaRoutingDataSource.
+     *
+     * @param replicas replicas to balance the load among
+     * @param policy   policy choosing the replica for each connection
+     */
+    public ReplicaRoutingDataSource(List<Replica> replicas, ReplicaSelectionPolicy policy) {
+        Assert.notEmpty(replicas, "You HAVE TO provide at least one replica");
+        Assert.notNull(policy, "You HAVE TO provide replica selection policy");
+        this.replicas = Collections.unmodifiableList(new ArrayList<>(replicas));
+        this.policy = policy;
+    }
+
+    /**
+     * @return all replicas this DataSource balances the load among
+     */
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = selectReplica();
+        return track(replica, replica.getDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Replica replica = selectReplica();
+        return track(replica, replica.getDataSource().getConnection(username, password));
+    }
+
+    private Replica selectReplica() {
+        ReplicaAttempt attempt = ReplicaAttempt.current();
+        if (attempt == null) {
+            return policy.select(replicas);
+        }
+        Replica replica = policy.select(attempt.candidates(replicas));
+        attempt.connected(replica);
+        return replica;
+    }
+
+    private static Connection track(Replica replica, Connection target) {
+        long start = System.nanoTime();
+        replica.requestStarted();
+        boolean[] closed = new boolean[1];
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName())) {
+                        synchronized (closed) {
+                            if (!closed[0]) {
+                                closed[0] = true;
+                                replica.requestFinished(System.nanoTime() - start);
+                            }
+                        }
+                    } else if ("unwrap".equals(method.getName()) && ((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    } else if ("equals".equals(method.getName())) {
+                        return proxy == args[0];
+                    } else if ("hashCode".equals(method.getName())) {
+                        return System.identityHashCode(proxy);
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.routing;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Strategy choosing the replica which serves the next read. Implementations have to be thread safe.
+ */
+@FunctionalInterface
+public interface ReplicaSelectionPolicy {
+
+    /**
+     * Chooses replica for the next read.
+     *
+     * @param replicas all replicas, never empty
+     * @return the chosen replica
+     */
+    Replica select(List<Replica> replicas);
+
+    /**
+     * @return policy which uses the replicas one after another
+     */
+    static ReplicaSelectionPolicy roundRobin() {
+        AtomicInteger counter = new AtomicInteger();
+        return replicas -> replicas.get(Math.floorMod(counter.getAndIncrement(), replicas.size()));
+    }
+
+    /**
+     * @return policy which chooses the replica with the lowest number of outstanding requests (checked out connections)
+     */
+    static ReplicaSelectionPolicy leastOutstandingRequests() {
+        AtomicInteger counter = new AtomicInteger();
+        return replicas -> {
+            // start at a rotating offset, so ties are spread among the replicas
+            int offset = Math.floorMod(counter.getAndIncrement(), replicas.size());
+            Replica best = null;
+            for (int i = 0; i < replicas.size(); i++) {
+                Replica candidate = replicas.get((offset + i) % replicas.size());
+                if (best == null || candidate.getOutstandingRequests() < best.getOutstandingRequests()) {
+                    best = candidate;
+                }
+            }
+            return best;
+        };
+    }
+
+    /**
+     * @return policy which chooses the replica randomly, with probability inversely proportional to its average latency.
+     * Replicas without measured latency yet are treated as the fastest ones.
+     */
+    static ReplicaSelectionPolicy latencyWeighted() {
+        return replicas -> {
+            long fastest = Long.MAX_VALUE;
+            for (Replica replica : replicas) {
+                long latency = replica.getAverageLatencyNanos();
+                if (latency >= 0) {
+                    fastest = Math.min(fastest, latency);
+                }
+            }
+            if (fastest == Long.MAX_VALUE) {
+                return replicas.get(ThreadLocalRandom.current().nextInt(replicas.size()));
+            }
+            double[] weights = new double[replicas.size()];
+            double total = 0;
+            for (int i = 0; i < weights.length; i++) {
+                long latency = replicas.get(i).getAverageLatencyNanos();
+                weights[i] = 1.0 / Math.max(1, latency < 0 ? fastest : latency);
+                total += weights[i];
+            }
+            double random = ThreadLocalRandom.current().nextDouble(total);
+            for (int i = 0; i < weights.length; i++) {
+                random -= weights[i];
+                if (random < 0) {
+                    return replicas.get(i);
+                }
+            }
+            return replicas.get(weights.length - 1);
+        };
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.tests.fluent;
+
+import com.clevergang.jdbc.fluent.SqlDialect;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+/**
+ * Testing SQL generated by the dialects, which cannot be executed by the test database.
+ */
+public class SqlDialectTest {
+
+    private static final String ORDERED = "SELECT id, name FROM users WHERE name <> 'ORDER BY' ORDER BY name";
+    private static final String UNORDERED = "SELECT id FROM users WHERE id IN (SELECT user_id FROM orders ORDER BY created)";
+
+    @Test
+    public void testLimit() {
+        Assert.assertThat(SqlDialect.POSTGRESQL.limit(ORDERED, true), equalTo(ORDERED + " LIMIT :fluentLimit OFFSET :fluentOffset"));
+        Assert.assertThat(SqlDialect.HSQLDB.limit(ORDERED, false), equalTo(ORDERED + " LIMIT :fluentLimit"));
+        Assert.assertThat(SqlDialect.ORACLE.limit(UNORDERED, true), equalTo(UNORDERED + " OFFSET :fluentOffset ROWS FETCH NEXT :fluentLimit ROWS ONLY"));
+        Assert.assertThat(SqlDialect.DB2.limit(UNORDERED, false), equalTo(UNORDERED + " OFFSET 0 ROWS FETCH NEXT :fluentLimit ROWS ONLY"));
+        Assert.assertThat(SqlDialect.GENERIC.limit(ORDERED, true), nullValue());
+    }
+
+    @Test
+    public void testSqlServerLimitRequiresOrderBy() {
+        Assert.assertThat(SqlDialect.SQLSERVER.limit(ORDERED, true), equalTo(ORDERED + " OFFSET :fluentOffset ROWS FETCH NEXT :fluentLimit ROWS ONLY"));
+        Assert.assertThat(SqlDialect.SQLSERVER.limit(UNORDERED, false),
+                equalTo(UNORDERED + " ORDER BY (SELECT NULL) OFFSET 0 ROWS FETCH NEXT :fluentLimit ROWS ONLY"));
+    }
+
+    @Test
+    public void testExists() {
+        Assert.assertThat(SqlDialect.POSTGRESQL.exists(ORDERED),
+                equalTo("SELECT 1 FROM (SELECT id, name FROM users WHERE name <> 'ORDER BY') fluent_exists LIMIT :fluentLimit"));
+        Assert.assertThat(SqlDialect.ORACLE.exists(ORDERED),
+                equalTo("SELECT 1 FROM (SELECT id, name FROM users WHERE name <> 'ORDER BY') fluent_exists OFFSET 0 ROWS FETCH NEXT :fluentLimit ROWS ONLY"));
+        Assert.assertThat(SqlDialect.SQLSERVER.exists(ORDERED),
+                equalTo("SELECT 1 FROM (SELECT id, name FROM users WHERE name <> 'ORDER BY') fluent_exists ORDER BY (SELECT NULL) OFFSET 0 ROWS FETCH NEXT :fluentLimit ROWS ONLY"));
+        Assert.assertThat(SqlDialect.GENERIC.exists(UNORDERED), equalTo("SELECT 1 FROM (" + UNORDERED + ") fluent_exists"));
+    }
+
+    @Test
+    public void testWithTotalColumn() {
+        Assert.assertThat(SqlDialect.POSTGRESQL.withTotalColumn(ORDERED, "total"),
+                equalTo("SELECT id, name, COUNT(*) OVER() AS total FROM users WHERE name <> 'ORDER BY' ORDER BY name"));
+        Assert.assertThat(SqlDialect.POSTGRESQL.withTotalColumn("SELECT * FROM users ORDER BY name", "total"),
+                equalTo("SELECT *, COUNT(*) OVER() AS total FROM users ORDER BY name"));
+        Assert.assertThat(SqlDialect.ORACLE.withTotalColumn("SELECT * FROM users ORDER BY name", "total"), nullValue());
+        Assert.assertThat(SqlDialect.POSTGRESQL.withTotalColumn("SELECT DISTINCT name FROM users", "total"), nullValue());
+        Assert.assertThat(SqlDialect.POSTGRESQL.withTotalColumn("SELECT id FROM users UNION SELECT id FROM admins", "total"), nullValue());
+        Assert.assertThat(SqlDialect.HSQLDB.withTotalColumn(ORDERED, "total"), nullValue());
+    }
+
+    @Test
+    public void testWithoutOrderBy() {
+        Assert.assertThat(SqlDialect.withoutOrderBy("SELECT * FROM users /* ORDER BY id */ ORDER BY id DESC"), equalTo("SELECT * FROM users /* ORDER BY id */"));
+        Assert.assertThat(SqlDialect.withoutOrderBy(UNORDERED), equalTo(UNORDERED));
+        // the ORDER BY of a limited query decides which rows are returned
+        String limited = "SELECT * FROM users ORDER BY id LIMIT 10";
+        Assert.assertThat(SqlDialect.withoutOrderBy(limited), equalTo(limited));
+    }
+
+}
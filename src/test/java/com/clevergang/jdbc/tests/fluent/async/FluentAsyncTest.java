@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.tests.fluent.async;
+
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import com.clevergang.jdbc.fluent.FluentAsyncExecutor;
+import com.clevergang.jdbc.tests.TestSpringContext;
+import com.clevergang.jdbc.tests.model.User;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.*;
+
+/**
+ * Tests of the asynchronous terminals of the fluent builders. Asynchronous statements run outside of the test
+ * transaction, therefore these tests must not change the data.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = {TestSpringContext.class})
+public class FluentAsyncTest {
+
+    @Autowired
+    private FluentNamedParameterJdbcTemplate jdbc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    public void testFetchAsync() {
+        CompletableFuture<List<User>> users = jdbc.query("SELECT * FROM users ORDER BY id")
+                .fetchAsync(User.class);
+        CompletableFuture<List<String>> names = jdbc.query("SELECT name FROM users ORDER BY id")
+                .fetchAsync(String.class);
+        CompletableFuture<List<Integer>> ids = jdbc.query("SELECT id FROM users ORDER BY id")
+                .fetchAsync((rs, rowNum) -> rs.getInt("id"));
+
+        Assert.assertThat(users.join().size(), equalTo(3));
+        Assert.assertThat(users.join().get(0).getName(), equalTo("mkyong"));
+        Assert.assertThat(names.join().get(1), equalTo("alex"));
+        Assert.assertThat(ids.join().get(2), equalTo(3));
+    }
+
+    @Test
+    public void testFetchOneAsync() {
+        CompletableFuture<Integer> count = jdbc.query("SELECT count(*) FROM users")
+                .fetchOneAsync(Integer.class);
+        CompletableFuture<User> user = jdbc.query("SELECT * FROM users WHERE id = :id")
+                .bind("id", 2)
+                .fetchOneAsync(User.class);
+        CompletableFuture<String> email = jdbc.query("SELECT email FROM users WHERE id = :id")
+                .bind("id", 3)
+                .fetchOneAsync((rs, rowNum) -> rs.getString(1));
+
+        Assert.assertThat(count.join(), equalTo(3));
+        Assert.assertThat(user.join().getName(), equalTo("alex"));
+        Assert.assertThat(email.join(), equalTo("joel@gmail.com"));
+    }
+
+    @Test
+    public void testFetchOneAsyncFailureCompletesExceptionally() throws InterruptedException {
+        CompletableFuture<String> name = jdbc.query("SELECT name FROM users")
+                .fetchOneAsync(String.class);
+
+        try {
+            name.get();
+            Assert.fail("Exception expected");
+        } catch (ExecutionException e) {
+            Assert.assertThat(e.getCause(), is(instanceOf(IncorrectResultSizeDataAccessException.class)));
+        }
+    }
+
+    @Test
+    public void testExecuteAsync() {
+        // no-op update, async statements are not rolled back by the test transaction
+        CompletableFuture<Integer> updatedRows = jdbc.update("UPDATE users SET name = name WHERE id = :id")
+                .bind("id", 1)
+                .executeAsync();
+
+        Assert.assertThat(updatedRows.join(), equalTo(1));
+    }
+
+    @Test
+    public void testConcurrencyIsBounded() {
+        FluentNamedParameterJdbcTemplate template = new FluentNamedParameterJdbcTemplate(dataSource);
+        FluentAsyncExecutor executor = new FluentAsyncExecutor(Executors.newCachedThreadPool(), 2);
+        template.setAsyncExecutor(executor);
+
+        AtomicInteger maxActive = new AtomicInteger();
+        List<CompletableFuture<List<Integer>>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(template.query("SELECT id FROM users")
+                    .fetchAsync((rs, rowNum) -> {
+                        maxActive.accumulateAndGet(executor.getActiveCount(), Math::max);
+                        return rs.getInt(1);
+                    }));
+        }
+        futures.forEach(f -> Assert.assertThat(f.join().size(), equalTo(3)));
+
+        Assert.assertThat(maxActive.get() <= 2, is(true));
+        Assert.assertThat(executor.getActiveCount(), equalTo(0));
+    }
+
+}
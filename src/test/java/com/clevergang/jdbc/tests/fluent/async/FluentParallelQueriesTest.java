@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.tests.fluent.async;
+
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import com.clevergang.jdbc.fluent.FluentAsyncExecutor;
+import com.clevergang.jdbc.fluent.FluentParallelQueries;
+import com.clevergang.jdbc.fluent.FluentParallelResults;
+import com.clevergang.jdbc.fluent.FluentQueryBuilder;
+import com.clevergang.jdbc.fluent.ParallelQuery;
+import com.clevergang.jdbc.tests.TestSpringContext;
+import com.clevergang.jdbc.tests.model.User;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+/**
+ * Tests of concurrent execution of independent queries using FluentParallelQueries.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = {TestSpringContext.class})
+public class FluentParallelQueriesTest {
+
+    @Autowired
+    private FluentNamedParameterJdbcTemplate jdbc;
+
+    @Test
+    public void testCombinedResults() {
+        FluentParallelQueries parallel = jdbc.parallel();
+        ParallelQuery<List<User>> users = parallel.fetch(jdbc.query("SELECT * FROM users ORDER BY id"), User.class);
+        ParallelQuery<List<String>> names = parallel.fetch(jdbc.query("SELECT name FROM users ORDER BY id"),
+                (rs, rowNum) -> rs.getString(1));
+        ParallelQuery<Integer> count = parallel.fetchOne(jdbc.query("SELECT count(*) FROM users"), Integer.class);
+        ParallelQuery<String> email = parallel.fetchOne(jdbc.query("SELECT email FROM users WHERE id = :id").bind("id", 2),
+                (rs, rowNum) -> rs.getString(1));
+
+        FluentParallelResults results = parallel.timeout(10, TimeUnit.SECONDS).execute();
+
+        Assert.assertThat(results.size(), equalTo(4));
+        Assert.assertThat(results.get(users).size(), equalTo(3));
+        Assert.assertThat(results.get(names).get(2), equalTo("joel"));
+        Assert.assertThat(results.get(count), equalTo(3));
+        Assert.assertThat(results.get(email), equalTo("alex@yahoo.com"));
+    }
+
+    @Test(expected = BadSqlGrammarException.class)
+    public void testFailsFast() {
+        FluentParallelQueries parallel = jdbc.parallel();
+        parallel.fetch(jdbc.query("SELECT id FROM users"), (rs, rowNum) -> {
+            sleep(2000);
+            return rs.getInt(1);
+        });
+        parallel.fetchOne(jdbc.query("SELECT nonexisting_column FROM users"), Integer.class);
+
+        parallel.execute();
+    }
+
+    @Test(expected = QueryTimeoutException.class)
+    public void testDeadline() {
+        FluentParallelQueries parallel = jdbc.parallel().timeout(100, TimeUnit.MILLISECONDS);
+        parallel.fetchOne(jdbc.query("SELECT count(*) FROM users"), Integer.class);
+        parallel.fetch(jdbc.query("SELECT id FROM users"), (rs, rowNum) -> {
+            sleep(2000);
+            return rs.getInt(1);
+        });
+
+        parallel.execute();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testForeignQueryIsRejected() {
+        FluentParallelQueries parallel = jdbc.parallel();
+        parallel.fetchOne(jdbc.query("SELECT count(*) FROM users"), Integer.class);
+        FluentParallelResults results = parallel.execute();
+
+        ParallelQuery<Integer> other = jdbc.parallel().fetchOne(jdbc.query("SELECT count(*) FROM users"), Integer.class);
+        results.get(other);
+    }
+
+    @Test
+    public void testCancelledQueryCanBeExecutedAgain() {
+        // runs the queries on the registering thread one by one, so the first query finishes before the second fails
+        FluentParallelQueries parallel = new FluentParallelQueries(new FluentAsyncExecutor(Runnable::run, 1));
+        FluentQueryBuilder count = jdbc.query("SELECT count(*) FROM users");
+        parallel.fetchOne(count, Integer.class);
+        parallel.fetchOne(jdbc.query("SELECT nonexisting_column FROM users"), Integer.class);
+        try {
+            parallel.execute();
+            Assert.fail("Failure of the second query expected");
+        } catch (BadSqlGrammarException e) {
+            // expected, the first query was cancelled
+        }
+
+        Assert.assertThat(count.fetchOne(Integer.class), equalTo(3));
+    }
+
+    @Test
+    public void testNestedParallelQueriesRunInline() {
+        // single slot, which the outer query takes
+        FluentAsyncExecutor executor = FluentAsyncExecutor.createDefault(1);
+        FluentParallelQueries outer = new FluentParallelQueries(executor).timeout(10, TimeUnit.SECONDS);
+        ParallelQuery<List<Integer>> total = outer.fetch(jdbc.query("SELECT id FROM users WHERE id = 1"), (rs, rowNum) -> {
+            FluentParallelQueries inner = new FluentParallelQueries(executor);
+            ParallelQuery<Integer> first = inner.fetchOne(jdbc.query("SELECT count(*) FROM users"), Integer.class);
+            ParallelQuery<Integer> second = inner.fetchOne(jdbc.query("SELECT max(id) FROM users"), Integer.class);
+            FluentParallelResults results = inner.execute();
+            return results.get(first) + results.get(second);
+        });
+
+        Assert.assertThat(outer.execute().get(total), equalTo(Collections.singletonList(6)));
+    }
+
+    @Test
+    public void testTimeoutIsQueryTimeoutOfEachStatement() {
+        FluentParallelQueries parallel = jdbc.parallel().timeout(5, TimeUnit.SECONDS);
+        ParallelQuery<Integer> queryTimeout = parallel.fetchOne(jdbc.query("SELECT id FROM users WHERE id = 1"),
+                (rs, rowNum) -> rs.getStatement().getQueryTimeout());
+
+        int seconds = parallel.execute().get(queryTimeout);
+        Assert.assertThat(seconds > 0 && seconds <= 5, equalTo(true));
+    }
+
+    @Test
+    public void testTimeoutIsQueryTimeoutOfInlineStatements() {
+        FluentAsyncExecutor executor = FluentAsyncExecutor.createDefault(1);
+        FluentParallelQueries outer = new FluentParallelQueries(executor);
+        ParallelQuery<List<Integer>> queryTimeout = outer.fetch(jdbc.query("SELECT id FROM users WHERE id = 1"), (rs, rowNum) -> {
+            FluentParallelQueries inner = new FluentParallelQueries(executor).timeout(5, TimeUnit.SECONDS);
+            ParallelQuery<Integer> nested = inner.fetchOne(jdbc.query("SELECT id FROM users WHERE id = 1"),
+                    (nestedRs, nestedRowNum) -> nestedRs.getStatement().getQueryTimeout());
+            return inner.execute().get(nested);
+        });
+
+        int seconds = outer.execute().get(queryTimeout).get(0);
+        Assert.assertThat(seconds > 0 && seconds <= 5, equalTo(true));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.tests.fluent.async;
+
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import com.clevergang.jdbc.fluent.ConcurrencyLimiter;
+import com.clevergang.jdbc.fluent.FluentAsyncExecutor;
+import com.clevergang.jdbc.tests.TestSpringContext;
+import com.clevergang.jdbc.tests.model.User;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.hamcrest.CoreMatchers.*;
+
+/**
+ * Tests of the Reactive Streams publisher returned by FluentQueryBuilder.fetchPublisher().
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = {TestSpringContext.class})
+public class FluentQueryPublisherTest {
+
+    @Autowired
+    private FluentNamedParameterJdbcTemplate jdbc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    public void testRowsAreReadOnRequest() throws InterruptedException {
+        Publisher<User> publisher = jdbc.query("SELECT * FROM users ORDER BY id")
+                .fetchPublisher(User.class);
+
+        // request rows one by one
+        TestSubscriber<User> subscriber = new TestSubscriber<User>() {
+            @Override
+            public void onNext(User user) {
+                super.onNext(user);
+                subscription.request(1);
+            }
+        };
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        Assert.assertThat(subscriber.done.await(5, TimeUnit.SECONDS), is(true));
+        Assert.assertThat(subscriber.items.size(), equalTo(3));
+        Assert.assertThat(subscriber.items.get(2).getName(), equalTo("joel"));
+        Assert.assertThat(subscriber.completed, is(true));
+        Assert.assertThat(subscriber.error, is(nullValue()));
+    }
+
+    @Test
+    public void testDemandIsRespected() throws InterruptedException {
+        Publisher<Integer> publisher = jdbc.query("SELECT id FROM users ORDER BY id")
+                .fetchPublisher((rs, rowNum) -> rs.getInt(1));
+
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(2);
+
+        Thread.sleep(200);
+        Assert.assertThat(subscriber.items, equalTo(asList(1, 2)));
+        Assert.assertThat(subscriber.completed, is(false));
+
+        subscriber.subscription.request(5);
+        Assert.assertThat(subscriber.done.await(5, TimeUnit.SECONDS), is(true));
+        Assert.assertThat(subscriber.items, equalTo(asList(1, 2, 3)));
+    }
+
+    @Test
+    public void testCancel() throws InterruptedException {
+        Publisher<Integer> publisher = jdbc.query("SELECT id FROM users ORDER BY id")
+                .fetchPublisher(Integer.class);
+
+        TestSubscriber<Integer> subscriber = new TestSubscriber<Integer>() {
+            @Override
+            public void onNext(Integer item) {
+                super.onNext(item);
+                subscription.cancel();
+            }
+        };
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        Thread.sleep(200);
+        subscriber.subscription.request(1);
+        Thread.sleep(200);
+
+        Assert.assertThat(subscriber.items, equalTo(asList(1)));
+        Assert.assertThat(subscriber.completed, is(false));
+        Assert.assertThat(subscriber.error, is(nullValue()));
+    }
+
+    @Test
+    public void testOpenSubscriptionsAreBounded() throws InterruptedException {
+        FluentNamedParameterJdbcTemplate boundedJdbc = new FluentNamedParameterJdbcTemplate(dataSource);
+        boundedJdbc.setPublisherExecutor(FluentAsyncExecutor.createDefault(1));
+        Publisher<Integer> publisher = boundedJdbc.query("SELECT id FROM users ORDER BY id")
+                .fetchPublisher(Integer.class);
+
+        TestSubscriber<Integer> first = new TestSubscriber<>();
+        TestSubscriber<Integer> second = new TestSubscriber<>();
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+        first.subscription.request(1);
+        Thread.sleep(200);
+        second.subscription.request(1);
+        Thread.sleep(200);
+
+        // the first subscription keeps its connection open, the second one waits for its slot
+        Assert.assertThat(first.items, equalTo(asList(1)));
+        Assert.assertThat(second.items.isEmpty(), is(true));
+
+        first.subscription.cancel();
+        second.subscription.request(5);
+        Assert.assertThat(second.done.await(5, TimeUnit.SECONDS), is(true));
+        Assert.assertThat(second.items, equalTo(asList(1, 2, 3)));
+    }
+
+    @Test
+    public void testSubscriptionIsAdmittedByConcurrencyLimiter() throws InterruptedException {
+        FluentNamedParameterJdbcTemplate limitedJdbc = new FluentNamedParameterJdbcTemplate(dataSource);
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter();
+        limiter.setLimitBounds(1, 1);
+        limitedJdbc.setConcurrencyLimiter(limiter);
+        Publisher<Integer> publisher = limitedJdbc.query("SELECT id FROM users ORDER BY id")
+                .fetchPublisher((rs, rowNum) -> limitedJdbc.query("SELECT count(*) FROM users").fetchOne(Integer.class) + rs.getInt(1));
+
+        // the open subscription holds the only slot, statements of its row mapper are not limited
+        TestSubscriber<Integer> cancelled = new TestSubscriber<>();
+        publisher.subscribe(cancelled);
+        cancelled.subscription.request(1);
+        waitFor(() -> cancelled.items.size() == 1);
+        Assert.assertThat(limiter.getInFlight(), equalTo(1));
+        cancelled.subscription.cancel();
+        waitFor(() -> limiter.getInFlight() == 0);
+
+        TestSubscriber<Integer> completed = new TestSubscriber<>();
+        publisher.subscribe(completed);
+        completed.subscription.request(5);
+        Assert.assertThat(completed.done.await(5, TimeUnit.SECONDS), is(true));
+        Assert.assertThat(completed.items, equalTo(asList(4, 5, 6)));
+        Assert.assertThat(limiter.getInFlight(), equalTo(0));
+    }
+
+    @Test
+    public void testErrorIsSignalled() throws InterruptedException {
+        Publisher<Integer> publisher = jdbc.query("SELECT nonexisting_column FROM users")
+                .fetchPublisher(Integer.class);
+
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        Assert.assertThat(subscriber.done.await(5, TimeUnit.SECONDS), is(true));
+        Assert.assertThat(subscriber.error, is(instanceOf(BadSqlGrammarException.class)));
+    }
+
+    @Test
+    public void testInvalidRequestIsSignalled() throws InterruptedException {
+        Publisher<Integer> publisher = jdbc.query("SELECT id FROM users")
+                .fetchPublisher(Integer.class);
+
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(0);
+
+        Assert.assertThat(subscriber.done.await(5, TimeUnit.SECONDS), is(true));
+        Assert.assertThat(subscriber.error, is(instanceOf(IllegalArgumentException.class)));
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long end = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            Assert.assertTrue("Condition not met in time", System.currentTimeMillis() < end);
+            Thread.sleep(5);
+        }
+    }
+
+    private static List<Integer> asList(Integer... values) {
+        return java.util.Arrays.asList(values);
+    }
+
+    private static class TestSubscriber<T> implements Subscriber<T> {
+        final List<T> items = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = new CountDownLatch(1);
+        volatile Subscription subscription;
+        volatile boolean completed;
+        volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            done.countDown();
+        }
+    }
+
+}
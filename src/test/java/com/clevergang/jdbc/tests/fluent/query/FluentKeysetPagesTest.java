@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.tests.fluent.query;
+
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import com.clevergang.jdbc.fluent.SqlDialect;
+import com.clevergang.jdbc.tests.TestSpringContext;
+import com.clevergang.jdbc.tests.model.User;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.endsWith;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+
+/**
+ * FluentQueryBuilder tests of the keyset pagination (keysetPages).
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = {TestSpringContext.class})
+@Transactional
+@Rollback
+public class FluentKeysetPagesTest {
+
+    private static final String THOUSAND_ROWS = "SELECT n, MOD(n, 10) AS bucket FROM UNNEST(SEQUENCE_ARRAY(1, 1000, 1)) AS t(n) WHERE n > :min";
+
+    @Autowired
+    private FluentNamedParameterJdbcTemplate jdbc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    public void testPagesCoverAllRowsInOrder() {
+        List<List<Integer>> pages = jdbc.query(THOUSAND_ROWS)
+                .bind("min", 0)
+                .keysetPages(300, "n")
+                .stream((rs, rowNum) -> rs.getInt("n"))
+                .collect(Collectors.toList());
+
+        Assert.assertThat(pages.size(), equalTo(4));
+        Assert.assertThat(pages.get(3).size(), equalTo(100));
+        List<Integer> all = pages.stream().flatMap(List::stream).collect(Collectors.toList());
+        for (int i = 0; i < all.size(); i++) {
+            Assert.assertThat(all.get(i), equalTo(i + 1));
+        }
+    }
+
+    @Test
+    public void testCompositeDescendingKey() {
+        List<Integer> all = new ArrayList<>();
+        jdbc.query(THOUSAND_ROWS)
+                .bind("min", 900)
+                .keysetPages(7, "bucket", "n")
+                .descending()
+                .stream((rs, rowNum) -> rs.getInt("n"))
+                .forEach(all::addAll);
+
+        Assert.assertThat(all.size(), equalTo(100));
+        Assert.assertThat(all.subList(0, 3), equalTo(Arrays.asList(999, 989, 979)));
+        Assert.assertThat(all.get(99), equalTo(910));
+    }
+
+    @Test
+    public void testPagesAreLimitedInSql() {
+        FluentNamedParameterJdbcTemplate template = new FluentNamedParameterJdbcTemplate(dataSource);
+        List<String> executedSql = new ArrayList<>();
+        template.addExecutionListener(execution -> executedSql.add(execution.getSql()));
+
+        long pages = template.query(THOUSAND_ROWS)
+                .bind("min", 980)
+                .keysetPages(10, "bucket", "n")
+                .stream((rs, rowNum) -> rs.getInt("n"))
+                .count();
+
+        Assert.assertThat(pages, equalTo(2L));
+        Assert.assertThat(executedSql.get(0), endsWith(" LIMIT :" + SqlDialect.LIMIT_PARAMETER));
+        // HSQLDB does not support row value comparison with parameters
+        Assert.assertThat(executedSql.get(1), containsString("WHERE (fluent_page.bucket > :"));
+    }
+
+    @Test
+    public void testOrderOfQueryIsReplacedByKeyOrder() {
+        FluentNamedParameterJdbcTemplate template = new FluentNamedParameterJdbcTemplate(dataSource);
+        List<String> executedSql = new ArrayList<>();
+        template.addExecutionListener(execution -> executedSql.add(execution.getSql()));
+
+        List<Integer> all = new ArrayList<>();
+        template.query(THOUSAND_ROWS + " ORDER BY n DESC")
+                .bind("min", 980)
+                .keysetPages(15, "n")
+                .stream((rs, rowNum) -> rs.getInt("n"))
+                .forEach(all::addAll);
+
+        Assert.assertThat(all.size(), equalTo(20));
+        Assert.assertThat(all.get(0), equalTo(981));
+        Assert.assertThat(all.get(19), equalTo(1000));
+        Assert.assertThat(executedSql.get(0), not(containsString("DESC")));
+    }
+
+    @Test
+    public void testPagesAreFetchedLazily() {
+        AtomicInteger mappedRows = new AtomicInteger();
+        Iterator<List<Integer>> pages = jdbc.query(THOUSAND_ROWS)
+                .bind("min", 0)
+                .keysetPages(100, "n")
+                .iterator((rs, rowNum) -> {
+                    mappedRows.incrementAndGet();
+                    return rs.getInt("n");
+                });
+
+        Assert.assertThat(mappedRows.get(), equalTo(0));
+        Assert.assertThat(pages.next().get(0), equalTo(1));
+        Assert.assertThat(pages.next().get(0), equalTo(101));
+        Assert.assertThat(mappedRows.get(), equalTo(200));
+    }
+
+    @Test
+    public void testBeanMappingAndExactMultipleOfPageSize() {
+        Iterator<List<User>> pages = jdbc.query("SELECT * FROM users")
+                .keysetPages(3, "id")
+                .iterator(User.class);
+
+        Assert.assertThat(pages.next().stream().map(User::getName).collect(Collectors.toList()), equalTo(Arrays.asList("mkyong", "alex", "joel")));
+        Assert.assertThat(pages.hasNext(), equalTo(false));
+    }
+
+}
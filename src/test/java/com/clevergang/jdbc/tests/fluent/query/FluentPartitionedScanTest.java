@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.tests.fluent.query;
+
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import com.clevergang.jdbc.tests.TestSpringContext;
+import com.clevergang.jdbc.tests.model.User;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+
+/**
+ * Tests of range partitioned scans (FluentQueryBuilder.partitionedScan()). Partitions are executed outside of
+ * the test transaction, therefore these tests must not change the data.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = {TestSpringContext.class})
+public class FluentPartitionedScanTest {
+
+    private static final String THOUSAND_ROWS = "SELECT n FROM UNNEST(SEQUENCE_ARRAY(1, 1000, 1)) AS t(n) WHERE MOD(n, :modulo) = 0";
+
+    @Autowired
+    private FluentNamedParameterJdbcTemplate jdbc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    public void testOrderedScanWithDiscoveredBounds() {
+        List<Integer> numbers = jdbc.query(THOUSAND_ROWS)
+                .bind("modulo", 3)
+                .partitionedScan("n")
+                .partitions(7)
+                .fetch(Integer.class);
+
+        Assert.assertThat(numbers.size(), equalTo(333));
+        for (int i = 0; i < numbers.size(); i++) {
+            Assert.assertThat(numbers.get(i), equalTo((i + 1) * 3));
+        }
+    }
+
+    @Test
+    public void testOrderOfQueryIsNotRepeatedInPartitions() {
+        FluentNamedParameterJdbcTemplate template = new FluentNamedParameterJdbcTemplate(dataSource);
+        List<String> executedSql = Collections.synchronizedList(new ArrayList<>());
+        template.addExecutionListener(execution -> executedSql.add(execution.getSql()));
+
+        List<Integer> numbers = template.query(THOUSAND_ROWS + " ORDER BY n DESC")
+                .bind("modulo", 5)
+                .partitionedScan("n")
+                .partitions(4)
+                .fetch(Integer.class);
+
+        Assert.assertThat(numbers.size(), equalTo(200));
+        Assert.assertThat(numbers.get(0), equalTo(5));
+        Assert.assertThat(numbers.get(199), equalTo(1000));
+        Assert.assertThat(executedSql.size(), equalTo(5));
+        for (String sql : executedSql) {
+            Assert.assertThat(sql, not(containsString("DESC")));
+        }
+    }
+
+    @Test
+    public void testUnorderedScanWithExplicitBounds() {
+        List<Integer> numbers = new ArrayList<>(jdbc.query(THOUSAND_ROWS)
+                .bind("modulo", 1)
+                .partitionedScan("n")
+                .bounds(101, 200)
+                .partitions(4)
+                .ordered(false)
+                .fetch((rs, rowNum) -> rs.getInt("n")));
+
+        numbers.sort(Integer::compareTo);
+        Assert.assertThat(numbers.size(), equalTo(100));
+        Assert.assertThat(numbers.get(0), equalTo(101));
+        Assert.assertThat(numbers.get(99), equalTo(200));
+    }
+
+    @Test
+    public void testCollector() {
+        Long sum = jdbc.query(THOUSAND_ROWS)
+                .bind("modulo", 1)
+                .partitionedScan("n")
+                .partitions(3)
+                .collect((rs, rowNum) -> rs.getLong(1), Collectors.summingLong(n -> n));
+
+        Assert.assertThat(sum, equalTo(500500L));
+    }
+
+    @Test
+    public void testMorePartitionsThanKeys() {
+        List<User> users = jdbc.query("SELECT * FROM users")
+                .partitionedScan("id")
+                .partitions(10)
+                .fetch(User.class);
+
+        Assert.assertThat(users.size(), equalTo(3));
+        Assert.assertThat(users.get(0).getName(), equalTo("mkyong"));
+        Assert.assertThat(users.get(2).getName(), equalTo("joel"));
+    }
+
+    @Test
+    public void testTimestampKey() {
+        List<String> names = jdbc.query("SELECT name, time_of_death FROM users")
+                .partitionedScan("time_of_death")
+                .bounds(Timestamp.valueOf("2016-01-01 00:00:00"), Timestamp.valueOf("2016-10-22 17:41:00"))
+                .partitions(3)
+                .fetch((rs, rowNum) -> rs.getString("name"));
+
+        Assert.assertThat(names, equalTo(java.util.Arrays.asList("mkyong", "alex", "joel")));
+    }
+
+    @Test
+    public void testEmptyResult() {
+        List<Integer> numbers = jdbc.query("SELECT id FROM users WHERE id < 0")
+                .partitionedScan("id")
+                .fetch(Integer.class);
+
+        Assert.assertThat(numbers.size(), equalTo(0));
+    }
+
+    @Test(expected = InvalidDataAccessApiUsageException.class)
+    public void testInvalidKeyColumn() {
+        jdbc.query("SELECT id FROM users").partitionedScan("id; DROP TABLE users");
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.tests.fluent.query;
+
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import com.clevergang.jdbc.fluent.AdaptiveFetchSize;
+import com.clevergang.jdbc.tests.TestSpringContext;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+/**
+ * Tests of fetch size and result list capacity adapted by AdaptiveFetchSize.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = {TestSpringContext.class})
+@Transactional
+@Rollback
+public class FluentQueryAdaptiveFetchSizeTest {
+
+    private static final String NUMBERS = "SELECT n FROM UNNEST(SEQUENCE_ARRAY(1, :count, 1)) AS t(n)";
+
+    // reads the fetch size of the executing statement
+    private static final RowMapper<Integer> FETCH_SIZE = (rs, rowNum) -> rs.getStatement().getFetchSize();
+
+    @Autowired
+    private DataSource dataSource;
+
+    private FluentNamedParameterJdbcTemplate jdbc;
+    private AdaptiveFetchSize adaptiveFetchSize;
+
+    @Before
+    public void setUp() {
+        jdbc = new FluentNamedParameterJdbcTemplate(dataSource);
+        adaptiveFetchSize = new AdaptiveFetchSize();
+        adaptiveFetchSize.setFetchSizeBounds(1, 1000);
+        jdbc.setAdaptiveFetchSize(adaptiveFetchSize);
+    }
+
+    @Test
+    public void testFirstExecutionIsNotAdapted() {
+        List<Integer> fetchSizes = jdbc.query(NUMBERS).bind("count", 100).fetch(FETCH_SIZE);
+
+        Assert.assertThat(fetchSizes.size(), equalTo(100));
+        Assert.assertThat(fetchSizes.get(0), equalTo(0));
+        Assert.assertThat(adaptiveFetchSize.getAverageRows(NUMBERS), equalTo(100.0));
+        Assert.assertThat(adaptiveFetchSize.getRowWidth(NUMBERS), equalTo(4));
+    }
+
+    @Test
+    public void testFetchSizeCoversExpectedRows() {
+        jdbc.query(NUMBERS).bind("count", 100).fetch(FETCH_SIZE);
+
+        // average 100 rows with deviation 50 -> 200 expected rows, +1 to see the end of the results
+        List<Integer> fetchSizes = jdbc.query(NUMBERS).bind("count", 100).fetch(FETCH_SIZE);
+        Assert.assertThat(fetchSizes.get(0), equalTo(201));
+        Assert.assertThat(adaptiveFetchSize.getPresize(NUMBERS), equalTo((int) Math.ceil(100 + 2 * 37.5)));
+    }
+
+    @Test
+    public void testFetchSizeIsBounded() {
+        jdbc.query(NUMBERS).bind("count", 1000).fetch(Integer.class);
+
+        adaptiveFetchSize.setFetchSizeBounds(10, 500);
+        Assert.assertThat(adaptiveFetchSize.getFetchSize(NUMBERS), equalTo(500));
+
+        // wide rows are limited by the fetch buffer
+        adaptiveFetchSize.setFetchBufferBytes(400);
+        Assert.assertThat(adaptiveFetchSize.getFetchSize(NUMBERS), equalTo(100));
+        adaptiveFetchSize.setFetchBufferBytes(4);
+        Assert.assertThat(adaptiveFetchSize.getFetchSize(NUMBERS), equalTo(10));
+    }
+
+    @Test
+    public void testStatisticsFollowRowCounts() {
+        for (int i = 0; i < 20; i++) {
+            jdbc.query(NUMBERS).bind("count", 1000).fetch(Integer.class);
+        }
+        for (int i = 0; i < 40; i++) {
+            jdbc.query(NUMBERS).bind("count", 10).fetch(Integer.class);
+        }
+
+        Assert.assertThat(Math.round(adaptiveFetchSize.getAverageRows(NUMBERS)), equalTo(10L));
+        Assert.assertThat(adaptiveFetchSize.getFetchSize(NUMBERS) < 20, equalTo(true));
+
+        adaptiveFetchSize.setMaxPresize(5);
+        Assert.assertThat(adaptiveFetchSize.getPresize(NUMBERS), equalTo(5));
+    }
+
+    @Test
+    public void testWithoutAdaptiveFetchSizeNothingChanges() {
+        jdbc.query(NUMBERS).bind("count", 10).fetch(FETCH_SIZE);
+        jdbc.setAdaptiveFetchSize(null);
+
+        List<Integer> fetchSizes = jdbc.query(NUMBERS).bind("count", 10).fetch(FETCH_SIZE);
+
+        Assert.assertThat(fetchSizes.get(0), equalTo(0));
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.tests.fluent.query;
+
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import com.clevergang.jdbc.fluent.BatchedQuery;
+import com.clevergang.jdbc.fluent.ExecutionOptions;
+import com.clevergang.jdbc.fluent.FluentQueryBatch;
+import com.clevergang.jdbc.fluent.FluentQueryBatchResults;
+import com.clevergang.jdbc.fluent.StatementExecution;
+import com.clevergang.jdbc.tests.TestSpringContext;
+import com.clevergang.jdbc.tests.model.User;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+/**
+ * FluentQueryBatch tests. HSQLDB cannot execute several statements at once, so the combined execution is tested
+ * against a DataSource emulating such driver: it splits the combined statement and executes the parts one by one.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = {TestSpringContext.class})
+@Transactional
+@Rollback
+public class FluentQueryBatchTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    public void testFallbackToSequentialExecution() {
+        FluentNamedParameterJdbcTemplate template = new FluentNamedParameterJdbcTemplate(dataSource);
+        FluentQueryBatchResults results = executeBatch(template);
+
+        Assert.assertThat(results.isCombined(), equalTo(false));
+        Assert.assertThat(template.isCombinedQueryBatches(), equalTo(false));
+    }
+
+    @Test
+    public void testInvalidQueryDoesNotDisableCombinedExecution() {
+        FluentNamedParameterJdbcTemplate template = new FluentNamedParameterJdbcTemplate(dataSource);
+        FluentQueryBatch batch = template.queryBatch();
+        batch.fetchOne(template.query("SELECT name FROM users WHERE id = :id").bind("id", 1), String.class);
+        batch.fetchOne(template.query("SELECT nonexistent FROM users WHERE id = :id").bind("id", 2), String.class);
+
+        try {
+            batch.execute();
+            Assert.fail("Expected failure of the invalid query");
+        } catch (BadSqlGrammarException e) {
+            Assert.assertThat(e.getSql(), equalTo("SELECT nonexistent FROM users WHERE id = ?"));
+            Assert.assertThat(template.isCombinedQueryBatches(), equalTo(true));
+        }
+    }
+
+    @Test
+    public void testCombinedExecution() {
+        FluentNamedParameterJdbcTemplate multiStatementJdbc = new FluentNamedParameterJdbcTemplate(new MultiStatementDataSource(dataSource));
+
+        FluentQueryBatchResults results = executeBatch(multiStatementJdbc);
+
+        Assert.assertThat(results.isCombined(), equalTo(true));
+    }
+
+    @Test
+    public void testCombinedExecutionIsReported() {
+        FluentNamedParameterJdbcTemplate multiStatementJdbc = new FluentNamedParameterJdbcTemplate(new MultiStatementDataSource(dataSource));
+        List<StatementExecution> executions = new ArrayList<>();
+        multiStatementJdbc.addExecutionListener(executions::add);
+
+        executeBatch(multiStatementJdbc);
+
+        Assert.assertThat(executions.size(), equalTo(1));
+        Assert.assertThat(executions.get(0).getKind(), equalTo(StatementExecution.Kind.BATCH));
+        Assert.assertThat(executions.get(0).getSql().split(";\n").length, equalTo(3));
+    }
+
+    @Test
+    public void testQueryWithOptionsIsNotCombined() {
+        FluentNamedParameterJdbcTemplate multiStatementJdbc = new FluentNamedParameterJdbcTemplate(new MultiStatementDataSource(dataSource));
+        FluentQueryBatch batch = multiStatementJdbc.queryBatch();
+        batch.fetchOne(multiStatementJdbc.query("SELECT name FROM users WHERE id = :id").bind("id", 1), String.class);
+        batch.fetch(multiStatementJdbc.query("SELECT name FROM users").options(ExecutionOptions.create().withMaxRows(1)), String.class);
+
+        FluentQueryBatchResults results = batch.execute();
+
+        Assert.assertThat(results.isCombined(), equalTo(false));
+        Assert.assertThat(multiStatementJdbc.isCombinedQueryBatches(), equalTo(true));
+    }
+
+    @Test
+    public void testMissingParameterDoesNotDisableCombinedExecution() {
+        FluentNamedParameterJdbcTemplate multiStatementJdbc = new FluentNamedParameterJdbcTemplate(new MultiStatementDataSource(dataSource));
+        FluentQueryBatch batch = multiStatementJdbc.queryBatch();
+        batch.fetchOne(multiStatementJdbc.query("SELECT name FROM users WHERE id = :id").bind("id", 1), String.class);
+        batch.fetchOne(multiStatementJdbc.query("SELECT name FROM users WHERE id = :id"), String.class);
+
+        try {
+            batch.execute();
+            Assert.fail("Expected failure of the query without bound parameter");
+        } catch (InvalidDataAccessApiUsageException e) {
+            Assert.assertThat(multiStatementJdbc.isCombinedQueryBatches(), equalTo(true));
+        }
+    }
+
+    @Test(expected = EmptyResultDataAccessException.class)
+    public void testFetchOneWithoutResult() {
+        FluentNamedParameterJdbcTemplate multiStatementJdbc = new FluentNamedParameterJdbcTemplate(new MultiStatementDataSource(dataSource));
+        FluentQueryBatch batch = multiStatementJdbc.queryBatch();
+        batch.fetchOne(multiStatementJdbc.query("SELECT name FROM users WHERE id = :id").bind("id", 1), String.class);
+        batch.fetchOne(multiStatementJdbc.query("SELECT name FROM users WHERE id = :id").bind("id", 99), String.class);
+        batch.execute();
+    }
+
+    private FluentQueryBatchResults executeBatch(FluentNamedParameterJdbcTemplate template) {
+        FluentQueryBatch batch = template.queryBatch();
+        BatchedQuery<User> user = batch.fetchOne(template.query("SELECT * FROM users WHERE id = :id").bind("id", 2), User.class);
+        BatchedQuery<List<String>> names = batch.fetch(template.query("SELECT name FROM users WHERE email LIKE :domain ORDER BY id")
+                .bind("domain", "%gmail.com"), String.class);
+        BatchedQuery<Integer> count = batch.fetchOne(template.query("SELECT count(*) FROM users"), (rs, rowNum) -> rs.getInt(1));
+        FluentQueryBatchResults results = batch.execute();
+
+        Assert.assertThat(results.get(user).getName(), equalTo("alex"));
+        Assert.assertThat(results.get(names), equalTo(Arrays.asList("mkyong", "joel")));
+        Assert.assertThat(results.get(count), equalTo(3));
+        Assert.assertThat(results.size(), equalTo(3));
+        return results;
+    }
+
+    /**
+     * DataSource whose connections accept several statements separated by ";\n" in one PreparedStatement.
+     */
+    private static class MultiStatementDataSource extends DelegatingDataSource {
+
+        MultiStatementDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                if (method.getName().equals("prepareStatement") && args.length == 1 && ((String) args[0]).contains(";\n")) {
+                    return new MultiStatement(connection, ((String) args[0]).split(";\n")).proxy;
+                }
+                return invoke(method, connection, args);
+            });
+        }
+    }
+
+    private static class MultiStatement {
+
+        private final List<PreparedStatement> parts = new ArrayList<>();
+        private final List<Integer> firstParameters = new ArrayList<>();
+        private final Connection connection;
+        private final PreparedStatement proxy;
+        private int current;
+
+        MultiStatement(Connection connection, String[] sqls) throws SQLException {
+            this.connection = connection;
+            int parameterIndex = 1;
+            for (String sql : sqls) {
+                parts.add(connection.prepareStatement(sql));
+                firstParameters.add(parameterIndex);
+                parameterIndex += sql.length() - sql.replace("?", "").length();
+            }
+            proxy = (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{PreparedStatement.class}, (p, method, args) -> {
+                switch (method.getName()) {
+                    case "execute":
+                        return parts.get(current = 0).execute();
+                    case "getMoreResults":
+                        return ++current < parts.size() && parts.get(current).execute();
+                    case "getResultSet":
+                        return parts.get(current).getResultSet();
+                    case "getUpdateCount":
+                        return current < parts.size() ? parts.get(current).getUpdateCount() : -1;
+                    case "getConnection":
+                        return this.connection;
+                    case "close":
+                        for (PreparedStatement part : parts) {
+                            part.close();
+                        }
+                        return null;
+                    default:
+                        if (method.getName().startsWith("set") && args != null && args[0] instanceof Integer) {
+                            int index = (Integer) args[0];
+                            int part = firstParameters.size() - 1;
+                            while (firstParameters.get(part) > index) {
+                                part--;
+                            }
+                            args[0] = index - firstParameters.get(part) + 1;
+                            return invoke(method, parts.get(part), args);
+                        }
+                        return invoke(method, parts.get(0), args);
+                }
+            });
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.tests.fluent.query;
+
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import com.clevergang.jdbc.fluent.ConcurrencyLimiter;
+import com.clevergang.jdbc.fluent.Deadline;
+import com.clevergang.jdbc.fluent.DeadlineExceededException;
+import com.clevergang.jdbc.fluent.Priority;
+import com.clevergang.jdbc.fluent.StatementRejectedException;
+import com.clevergang.jdbc.tests.TestSpringContext;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+/**
+ * Tests of admission control of statements by ConcurrencyLimiter - priorities, load shedding and the adaptive limit.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = {TestSpringContext.class})
+@Transactional
+@Rollback
+public class FluentQueryConcurrencyLimiterTest {
+
+    private static final String USER_NAME = "SELECT name FROM users WHERE id = :id";
+
+    @Autowired
+    private DataSource dataSource;
+
+    private FluentNamedParameterJdbcTemplate jdbc;
+    private ConcurrencyLimiter limiter;
+    private CountDownLatch blocker;
+
+    @Before
+    public void setUp() {
+        jdbc = new FluentNamedParameterJdbcTemplate(dataSource);
+        limiter = new ConcurrencyLimiter();
+        jdbc.setConcurrencyLimiter(limiter);
+        blocker = new CountDownLatch(1);
+    }
+
+    @After
+    public void tearDown() {
+        blocker.countDown();
+    }
+
+    @Test
+    public void testInteractiveStatementsOvertakeBatchOnes() throws Exception {
+        limiter.setLimitBounds(1, 1);
+        List<String> completed = new CopyOnWriteArrayList<>();
+        CompletableFuture<String> blocking = occupySlot();
+
+        CompletableFuture<String> batch = jdbc.query(USER_NAME)
+                .bind("id", 2)
+                .priority(Priority.BATCH)
+                .fetchOneAsync((rs, rowNum) -> record(completed, rs.getString(1)));
+        waitFor(() -> limiter.getQueueLength(Priority.BATCH) == 1);
+        CompletableFuture<String> interactive = jdbc.query(USER_NAME)
+                .bind("id", 3)
+                .priority(Priority.INTERACTIVE)
+                .fetchOneAsync((rs, rowNum) -> record(completed, rs.getString(1)));
+        waitFor(() -> limiter.getQueueLength(Priority.INTERACTIVE) == 1);
+
+        blocker.countDown();
+        CompletableFuture.allOf(blocking, batch, interactive).get(10, TimeUnit.SECONDS);
+
+        Assert.assertThat(completed, equalTo(Arrays.asList("joel", "alex")));
+        Assert.assertThat(limiter.getInFlight(), equalTo(0));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void testStatementsAreRejectedWhenQueueIsFull() throws Exception {
+        limiter.setLimitBounds(1, 1);
+        limiter.setMaxQueueLength(Priority.BATCH, 0);
+        CompletableFuture<String> blocking = occupySlot();
+
+        try {
+            jdbc.update("UPDATE users SET name = 'rejected'").priority(Priority.BATCH).execute();
+            Assert.fail("Rejected statement expected");
+        } catch (StatementRejectedException e) {
+            Assert.assertThat(limiter.getRejectedCount(), equalTo(1L));
+        }
+
+        blocker.countDown();
+        blocking.get(10, TimeUnit.SECONDS);
+        Assert.assertThat(jdbc.query(USER_NAME).bind("id", 2).fetchOne(String.class), equalTo("alex"));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void testWaitingStopsAtDeadline() throws Exception {
+        limiter.setLimitBounds(1, 1);
+        CompletableFuture<String> blocking = occupySlot();
+
+        try {
+            jdbc.query(USER_NAME)
+                    .bind("id", 2)
+                    .deadline(Deadline.after(100, TimeUnit.MILLISECONDS))
+                    .fetchOne(String.class);
+            Assert.fail("Expired deadline expected");
+        } catch (DeadlineExceededException e) {
+            Assert.assertThat(limiter.getQueueLength(Priority.NORMAL), equalTo(0));
+        }
+
+        blocker.countDown();
+        blocking.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testStatementsHoldingTransactionalConnectionDoNotWait() throws Exception {
+        limiter.setLimitBounds(1, 1);
+        CompletableFuture<String> blocking = occupySlot();
+
+        // the test transaction holds a connection already, waiting for the slot would keep it from the pool
+        Assert.assertThat(jdbc.query(USER_NAME).bind("id", 2).fetchOne(String.class), equalTo("alex"));
+        Assert.assertThat(limiter.getInFlight(), equalTo(1));
+
+        blocker.countDown();
+        blocking.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testNestedStatementsAreNotLimited() {
+        limiter.setLimitBounds(1, 1);
+
+        // the row mapper executes a statement while the query holds the only slot
+        String name = jdbc.query(USER_NAME)
+                .bind("id", 1)
+                .fetchOne((rs, rowNum) -> jdbc.query(USER_NAME).bind("id", 3).fetchOne(String.class) + rs.getString(1));
+
+        Assert.assertThat(name, equalTo("joelmkyong"));
+    }
+
+    @Test
+    public void testLimitAdaptsToUtilizationAndTimeouts() {
+        limiter.setLimitBounds(1, 4);
+        limiter.setLimit(1);
+
+        // executions using at least half of the limit increase it, by one per round
+        for (int i = 0; i < 20 && limiter.getLimit() < 2; i++) {
+            jdbc.query(USER_NAME).bind("id", 1).fetchOne(String.class);
+        }
+        Assert.assertThat(limiter.getLimit(), equalTo(2));
+
+        // a timeout decreases the limit multiplicatively
+        limiter.setLimit(4);
+        try {
+            jdbc.query(USER_NAME).bind("id", 1).fetchOne((rs, rowNum) -> {
+                throw new QueryTimeoutException("Simulated timeout");
+            });
+            Assert.fail("Timeout expected");
+        } catch (QueryTimeoutException e) {
+            Assert.assertThat(limiter.getLimit(), equalTo(3));
+        }
+    }
+
+    private CompletableFuture<String> occupySlot() {
+        CompletableFuture<String> blocking = jdbc.query(USER_NAME)
+                .bind("id", 1)
+                .fetchOneAsync((rs, rowNum) -> {
+                    try {
+                        blocker.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return rs.getString(1);
+                });
+        waitFor(() -> limiter.getInFlight() == 1);
+        return blocking;
+    }
+
+    private static String record(List<String> completed, String name) {
+        completed.add(name);
+        return name;
+    }
+
+    private static void waitFor(BooleanSupplier condition) {
+        long end = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            Assert.assertTrue("Condition not met in time", System.currentTimeMillis() < end);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
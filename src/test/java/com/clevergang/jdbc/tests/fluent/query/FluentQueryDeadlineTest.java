@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.tests.fluent.query;
+
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import com.clevergang.jdbc.fluent.Deadline;
+import com.clevergang.jdbc.fluent.DeadlineExceededException;
+import com.clevergang.jdbc.tests.TestSpringContext;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+/**
+ * Tests of deadlines of the fluent builders - set explicitly or activated for the current thread.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = {TestSpringContext.class})
+@Transactional
+@Rollback
+public class FluentQueryDeadlineTest {
+
+    private static final String USER_NAME = "SELECT name FROM users WHERE id = :id";
+
+    private static final RowMapper<Integer> QUERY_TIMEOUT = (rs, rowNum) -> rs.getStatement().getQueryTimeout();
+
+    @Autowired
+    private DataSource dataSource;
+
+    private FluentNamedParameterJdbcTemplate jdbc;
+
+    @Before
+    public void setUp() {
+        jdbc = new FluentNamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Test
+    public void testQueryTimeoutIsRemainingTime() {
+        Integer timeout = jdbc.query(USER_NAME)
+                .bind("id", 1)
+                .deadline(Deadline.after(3, TimeUnit.SECONDS))
+                .fetchOne(QUERY_TIMEOUT);
+
+        Assert.assertThat(timeout >= 1 && timeout <= 3, equalTo(true));
+    }
+
+    @Test
+    public void testEarlierOfTimeoutAndDeadlineApplies() {
+        Integer shorterDeadline = jdbc.query(USER_NAME)
+                .bind("id", 1)
+                .timeout(1, TimeUnit.MINUTES)
+                .deadline(Deadline.after(5, TimeUnit.SECONDS))
+                .fetchOne(QUERY_TIMEOUT);
+        Integer shorterTimeout = jdbc.query(USER_NAME)
+                .bind("id", 1)
+                .timeout(2, TimeUnit.SECONDS)
+                .deadline(Deadline.after(1, TimeUnit.MINUTES))
+                .fetchOne(QUERY_TIMEOUT);
+
+        Assert.assertThat(shorterDeadline <= 5, equalTo(true));
+        Assert.assertThat(shorterTimeout, equalTo(2));
+    }
+
+    @Test
+    public void testThreadDeadlineAppliesToAllStatements() {
+        try (Deadline.Scope ignored = Deadline.after(4, TimeUnit.SECONDS).activate()) {
+            Integer queryTimeout = jdbc.query(USER_NAME).bind("id", 1).fetchOne(QUERY_TIMEOUT);
+            Integer asyncQueryTimeout = jdbc.query(USER_NAME).bind("id", 2).fetchOneAsync(QUERY_TIMEOUT).join();
+
+            Assert.assertThat(queryTimeout >= 1 && queryTimeout <= 4, equalTo(true));
+            Assert.assertThat(asyncQueryTimeout >= 1 && asyncQueryTimeout <= 4, equalTo(true));
+        }
+        Assert.assertNull(Deadline.current());
+        Assert.assertThat(jdbc.query(USER_NAME).bind("id", 1).fetchOne(QUERY_TIMEOUT), equalTo(0));
+    }
+
+    @Test
+    public void testNestedDeadlineDoesNotExtendOuterOne() {
+        Deadline outer = Deadline.after(2, TimeUnit.SECONDS);
+        try (Deadline.Scope ignored = outer.activate()) {
+            try (Deadline.Scope ignoredToo = Deadline.after(1, TimeUnit.MINUTES).activate()) {
+                Assert.assertSame(outer, Deadline.current());
+            }
+            Deadline inner = Deadline.after(1, TimeUnit.SECONDS);
+            try (Deadline.Scope ignoredToo = inner.activate()) {
+                Assert.assertSame(inner, Deadline.current());
+            }
+            Assert.assertSame(outer, Deadline.current());
+        }
+    }
+
+    @Test
+    public void testExpiredDeadlineFailsWithoutConnection() {
+        AtomicInteger connections = new AtomicInteger();
+        FluentNamedParameterJdbcTemplate countingJdbc = new FluentNamedParameterJdbcTemplate(new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                connections.incrementAndGet();
+                return super.getConnection();
+            }
+        });
+
+        try (Deadline.Scope ignored = Deadline.after(0, TimeUnit.SECONDS).activate()) {
+            countingJdbc.query(USER_NAME).bind("id", 1).fetchOne(String.class);
+            Assert.fail("Expired deadline expected");
+        } catch (DeadlineExceededException e) {
+            Assert.assertThat(connections.get(), equalTo(0));
+        }
+        try {
+            countingJdbc.update("UPDATE users SET name = 'late' WHERE id = :id")
+                    .bind("id", 1)
+                    .deadline(Deadline.after(0, TimeUnit.SECONDS))
+                    .execute();
+            Assert.fail("Expired deadline expected");
+        } catch (DeadlineExceededException e) {
+            Assert.assertThat(connections.get(), equalTo(0));
+        }
+        Assert.assertThat(jdbc.query(USER_NAME).bind("id", 1).fetchOne(String.class), equalTo("mkyong"));
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.tests.fluent.query;
+
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import com.clevergang.jdbc.fluent.ExecutionOptions;
+import com.clevergang.jdbc.tests.TestSpringContext;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+/**
+ * Tests of per-query execution options and named execution profiles.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = {TestSpringContext.class})
+@Transactional
+@Rollback
+public class FluentQueryExecutionOptionsTest {
+
+    private static final String NUMBERS = "SELECT n FROM UNNEST(SEQUENCE_ARRAY(1, 100, 1)) AS t(n)";
+
+    // reads the settings of the executing statement: fetch size, query timeout, max rows, result set type and concurrency
+    private static final RowMapper<List<Integer>> STATEMENT_SETTINGS = (rs, rowNum) -> Arrays.asList(
+            rs.getStatement().getFetchSize(), rs.getStatement().getQueryTimeout(), rs.getStatement().getMaxRows(),
+            rs.getType(), rs.getConcurrency());
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private FluentNamedParameterJdbcTemplate jdbc;
+
+    @Before
+    public void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbc = new FluentNamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Test
+    public void testOptionsAreAppliedToStatement() {
+        List<List<Integer>> settings = jdbc.query(NUMBERS)
+                .timeout(1500, TimeUnit.MILLISECONDS)
+                .fetchSize(25)
+                .maxRows(10)
+                .fetch(STATEMENT_SETTINGS);
+
+        Assert.assertThat(settings.size(), equalTo(10));
+        Assert.assertThat(settings.get(0), equalTo(Arrays.asList(25, 2, 10, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)));
+        // the shared JdbcTemplate is not modified
+        Assert.assertThat(jdbcTemplate.getFetchSize(), equalTo(-1));
+        Assert.assertThat(jdbcTemplate.getMaxRows(), equalTo(-1));
+        Assert.assertThat(jdbcTemplate.getQueryTimeout(), equalTo(-1));
+        Assert.assertThat(jdbc.query(NUMBERS).fetch(STATEMENT_SETTINGS).size(), equalTo(100));
+    }
+
+    @Test
+    public void testProfileIsAppliedAndCanBeOverridden() {
+        jdbc.registerExecutionProfile("report", ExecutionOptions.create()
+                .withTimeout(2, TimeUnit.MINUTES)
+                .withFetchSize(500)
+                .withMaxRows(50));
+
+        List<List<Integer>> settings = jdbc.query(NUMBERS)
+                .profile("report")
+                .fetchSize(20)
+                .fetch(STATEMENT_SETTINGS);
+
+        Assert.assertThat(settings.size(), equalTo(50));
+        Assert.assertThat(settings.get(0).subList(0, 3), equalTo(Arrays.asList(20, 120, 50)));
+    }
+
+    @Test(expected = InvalidDataAccessApiUsageException.class)
+    public void testUnknownProfileFails() {
+        jdbc.query(NUMBERS).profile("unknown");
+    }
+
+    @Test
+    public void testScrollableResultSet() {
+        List<List<Integer>> settings = jdbc.query(NUMBERS)
+                .options(ExecutionOptions.create().withForwardOnly(false).withReadOnly(true))
+                .fetchDirection(ResultSet.FETCH_REVERSE)
+                .fetch((rs, rowNum) -> {
+                    // scrollable result set can jump to the last row, which also ends the iteration
+                    rs.last();
+                    return Arrays.asList(rs.getInt(1), rs.getType(), rs.getConcurrency());
+                });
+
+        Assert.assertThat(settings, equalTo(Collections.singletonList(
+                Arrays.asList(100, ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY))));
+    }
+
+    @Test
+    public void testDerivedQueriesKeepOptions() {
+        List<Integer> settings = jdbc.query(NUMBERS)
+                .timeout(30, TimeUnit.SECONDS)
+                .fetchFirst(STATEMENT_SETTINGS)
+                .get();
+
+        // fetchFirst() limits the rows, the timeout is kept
+        Assert.assertThat(settings.subList(0, 3), equalTo(Arrays.asList(1, 30, 1)));
+    }
+
+    @Test
+    @Transactional(timeout = 5)
+    public void testTimeoutIsCappedByTransaction() {
+        List<Integer> settings = jdbc.query(NUMBERS)
+                .timeout(1, TimeUnit.MINUTES)
+                .fetchFirst(STATEMENT_SETTINGS)
+                .get();
+
+        Assert.assertThat(settings.get(1) <= 5, equalTo(true));
+    }
+}
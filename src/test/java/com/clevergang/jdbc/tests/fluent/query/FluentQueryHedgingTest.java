@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.tests.fluent.query;
+
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import com.clevergang.jdbc.fluent.HedgePolicy;
+import com.clevergang.jdbc.tests.TestSpringContext;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+/**
+ * Tests of hedged queries. Hedging is not applied inside transactions, therefore this test is not transactional.
+ * The first execution of the mapper is made artificially slow to simulate a slow replica.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = {TestSpringContext.class})
+public class FluentQueryHedgingTest {
+
+    @Autowired
+    private FluentNamedParameterJdbcTemplate jdbc;
+
+    @Test
+    public void testHedgeWinsOverSlowAttempt() {
+        HedgePolicy policy = new HedgePolicy(0.95, 0.1);
+        policy.setDelayBounds(10, 50, TimeUnit.MILLISECONDS);
+
+        long start = System.nanoTime();
+        String name = jdbc.query("SELECT name FROM users WHERE id = :id")
+                .bind("id", 1)
+                .hedge(policy)
+                .fetchOne(slowFirstCall());
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Assert.assertThat(name, equalTo("mkyong"));
+        Assert.assertThat(elapsedMillis < 1000, equalTo(true));
+        Assert.assertThat(policy.getHedgedCount(), equalTo(1L));
+        Assert.assertThat(policy.getHedgeWinCount(), equalTo(1L));
+    }
+
+    @Test
+    public void testFastQueryIsNotHedged() {
+        HedgePolicy policy = new HedgePolicy(0.95, 0.1);
+        // minimum delay well above the latency of the query, so that a GC pause on a busy machine does not hedge it
+        policy.setDelayBounds(200, 1000, TimeUnit.MILLISECONDS);
+
+        for (int i = 0; i < 20; i++) {
+            Integer count = jdbc.query("SELECT count(*) FROM users")
+                    .hedge(policy)
+                    .fetchOne(Integer.class);
+            Assert.assertThat(count, equalTo(3));
+        }
+
+        Assert.assertThat(policy.getHedgedCount(), equalTo(0L));
+        Assert.assertThat(policy.getDelayNanos("SELECT count(*) FROM users") <= TimeUnit.SECONDS.toNanos(1), equalTo(true));
+    }
+
+    @Test
+    public void testBudgetLimitsHedging() {
+        HedgePolicy policy = new HedgePolicy(0.95, 0);
+        policy.setDelayBounds(10, 50, TimeUnit.MILLISECONDS);
+
+        // spend all initially available tokens
+        for (int i = 0; i < HedgePolicy.MAX_TOKENS; i++) {
+            jdbc.query("SELECT name FROM users WHERE id = 1").hedge(policy).fetchOne(slowFirstCall());
+        }
+        Assert.assertThat(policy.getHedgedCount(), equalTo((long) HedgePolicy.MAX_TOKENS));
+
+        String name = jdbc.query("SELECT name FROM users WHERE id = 1").hedge(policy).fetchOne(slowFirstCall());
+
+        Assert.assertThat(name, equalTo("mkyong"));
+        Assert.assertThat(policy.getHedgedCount(), equalTo((long) HedgePolicy.MAX_TOKENS));
+        Assert.assertThat(policy.getBudgetExhaustedCount(), equalTo(1L));
+    }
+
+    private static RowMapper<String> slowFirstCall() {
+        AtomicInteger calls = new AtomicInteger();
+        return (rs, rowNum) -> {
+            if (calls.getAndIncrement() == 0) {
+                try {
+                    Thread.sleep(300);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return rs.getString(1);
+        };
+    }
+
+}
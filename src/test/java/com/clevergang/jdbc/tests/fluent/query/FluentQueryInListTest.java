@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.tests.fluent.query;
+
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import com.clevergang.jdbc.tests.TestSpringContext;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+/**
+ * Tests of IN lists bound by bindInList() - padding and chunked execution - and of SQL arrays bound by bindArray().
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = {TestSpringContext.class})
+@Transactional
+@Rollback
+public class FluentQueryInListTest {
+
+    private static final String THOUSAND_ROWS = "SELECT n FROM UNNEST(SEQUENCE_ARRAY(1, 1000, 1)) AS t(n) WHERE n IN (:numbers) ORDER BY n";
+
+    @Autowired
+    private FluentNamedParameterJdbcTemplate jdbc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private FluentNamedParameterJdbcTemplate chunkingJdbc;
+
+    @Before
+    public void setUp() {
+        chunkingJdbc = new FluentNamedParameterJdbcTemplate(dataSource);
+        chunkingJdbc.setInListChunkSize(4);
+    }
+
+    @Test
+    public void testListIsPaddedToPowerOfTwo() {
+        List<?> padded = (List<?>) jdbc.query(THOUSAND_ROWS)
+                .bindInList("numbers", Arrays.asList(5, 3, 3, 9))
+                .getBoundParameters()
+                .getValue("numbers");
+        Assert.assertThat(padded, equalTo(Arrays.asList(5, 3, 9, 9)));
+
+        List<Integer> numbers = jdbc.query(THOUSAND_ROWS)
+                .bindInList("numbers", Arrays.asList(5, 3, 9))
+                .fetch(Integer.class);
+        Assert.assertThat(numbers, equalTo(Arrays.asList(3, 5, 9)));
+    }
+
+    @Test
+    public void testLongListIsExecutedInChunks() {
+        Collection<Integer> values = IntStream.rangeClosed(1, 10).map(i -> i * 7).boxed().collect(Collectors.toList());
+
+        List<Integer> numbers = chunkingJdbc.query(THOUSAND_ROWS)
+                .bindInList("numbers", values)
+                .fetch(Integer.class);
+
+        Assert.assertThat(numbers, equalTo(values));
+        Assert.assertThat(chunkingJdbc.query(THOUSAND_ROWS).bindInList("numbers", Arrays.asList(2000, 3000, 4000, 5000, 6000, 7)).exists(), equalTo(true));
+        Assert.assertThat(chunkingJdbc.query(THOUSAND_ROWS).bindInList("numbers", Arrays.asList(2000, 3000, 4000, 5000, 6000)).exists(), equalTo(false));
+    }
+
+    @Test
+    public void testChunkedUpdate() {
+        int updated = chunkingJdbc.update("UPDATE users SET email = :email WHERE id IN (:ids)")
+                .bind("email", "nobody@nowhere.com")
+                .bindInList("ids", Arrays.asList(1, 2, 3, 4, 5, 6))
+                .execute();
+
+        Assert.assertThat(updated, equalTo(3));
+    }
+
+    @Test(expected = InvalidDataAccessApiUsageException.class)
+    public void testChunkedListRejectedBySingleResultTerminal() {
+        chunkingJdbc.query(THOUSAND_ROWS)
+                .bindInList("numbers", Arrays.asList(1, 2, 3, 4, 5))
+                .fetchOne(Integer.class);
+    }
+
+    @Test
+    public void testArrayOfPrimitives() {
+        List<Integer> numbers = jdbc.query("SELECT n FROM UNNEST(SEQUENCE_ARRAY(1, 1000, 1)) AS t(n) WHERE n IN (UNNEST(:numbers)) ORDER BY n")
+                .bindArray("numbers", new int[]{500, 3, 42})
+                .fetch(Integer.class);
+
+        Assert.assertThat(numbers, equalTo(Arrays.asList(3, 42, 500)));
+    }
+
+    @Test
+    public void testArrayOfCollection() {
+        List<String> names = jdbc.query("SELECT name FROM users WHERE name IN (UNNEST(:names)) ORDER BY id")
+                .bindArray("names", Arrays.asList("joel", "alex", "nobody"))
+                .fetch(String.class);
+
+        Assert.assertThat(names, equalTo(Arrays.asList("alex", "joel")));
+    }
+
+    @Test
+    public void testEmptyArrayWithExplicitType() {
+        List<Integer> numbers = jdbc.query("SELECT id FROM users WHERE id IN (UNNEST(:ids))")
+                .bindArray("ids", Collections.emptyList(), "INTEGER")
+                .fetch(Integer.class);
+
+        Assert.assertThat(numbers.size(), equalTo(0));
+    }
+
+    @Test(expected = InvalidDataAccessApiUsageException.class)
+    public void testEmptyArrayWithoutTypeIsRejected() {
+        jdbc.query("SELECT id FROM users WHERE id = ANY(:ids)").bindArray("ids", Collections.emptyList());
+    }
+
+}
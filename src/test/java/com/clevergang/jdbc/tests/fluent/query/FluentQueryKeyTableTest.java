@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.tests.fluent.query;
+
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import com.clevergang.jdbc.tests.TestSpringContext;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+/**
+ * Tests of keys bound as temporary tables by bindKeyTable().
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = {TestSpringContext.class})
+@Transactional
+@Rollback
+public class FluentQueryKeyTableTest {
+
+    private static final String JOINED_ROWS = "SELECT n FROM UNNEST(SEQUENCE_ARRAY(1, 10000, 1)) AS t(n) JOIN :numbers k ON k.key_value = t.n ORDER BY n";
+
+    @Autowired
+    private FluentNamedParameterJdbcTemplate jdbc;
+
+    @Test
+    public void testQueryIsJoinedWithKeys() {
+        List<Integer> numbers = IntStream.rangeClosed(1, 5000).map(i -> i * 2).boxed().collect(Collectors.toList());
+
+        List<Integer> result = jdbc.query(JOINED_ROWS)
+                .bindKeyTable("numbers", numbers)
+                .fetch(Integer.class);
+
+        Assert.assertThat(result, equalTo(numbers));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void testKeyTableWorksOutsideOfTransaction() {
+        List<Integer> result = jdbc.query(JOINED_ROWS)
+                .bindKeyTable("numbers", Arrays.asList(7, 3, 3, null, 20000))
+                .fetch(Integer.class);
+
+        Assert.assertThat(result, equalTo(Arrays.asList(3, 7)));
+    }
+
+    @Test
+    public void testKeyTableIsDroppedAfterQuery() {
+        List<String> emails = Arrays.asList("alex@yahoo.com", "joel@gmail.com");
+        String sql = "SELECT name FROM users WHERE email IN (SELECT key_value FROM :emails) ORDER BY name";
+
+        for (int i = 0; i < 2; i++) {
+            List<String> names = jdbc.query(sql).bindKeyTable("emails", emails).fetch(String.class);
+            Assert.assertThat(names, equalTo(Arrays.asList("alex", "joel")));
+        }
+
+        try {
+            jdbc.query("SELECT name FROM users WHERE id IN (SELECT key_value FROM :ids) AND no_such_column = 1")
+                    .bindKeyTable("ids", Collections.singletonList(1))
+                    .fetch(String.class);
+            Assert.fail("The query should fail");
+        } catch (DataAccessException e) {
+            // expected, the table must be dropped anyway
+        }
+        Assert.assertThat(jdbc.query("SELECT name FROM users WHERE id IN (SELECT key_value FROM :ids)")
+                .bindKeyTable("ids", Collections.singletonList(1))
+                .fetchOne(String.class), equalTo("mkyong"));
+    }
+
+    @Test
+    public void testKeyTableWithOtherParametersAndDerivedQueries() {
+        String sql = "SELECT u.name FROM users u JOIN :ids k ON k.key_value = u.id WHERE u.email LIKE :domain ORDER BY u.name";
+
+        Optional<String> first = jdbc.query(sql)
+                .bind("domain", "%gmail.com")
+                .bindKeyTable("ids", Arrays.asList(1L, 2L, 3L))
+                .fetchFirst(String.class);
+        boolean exists = jdbc.query(sql)
+                .bind("domain", "%yahoo.com")
+                .bindKeyTable("ids", Arrays.asList(1L, 3L))
+                .exists();
+
+        Assert.assertThat(first, equalTo(Optional.of("joel")));
+        Assert.assertFalse(exists);
+    }
+
+    @Test
+    public void testPlaceholderInLiteralsAndCommentsIsKept() {
+        String sql = "SELECT name || ':ids' FROM users /* :ids */ WHERE id IN (SELECT key_value FROM :ids) -- :ids\nORDER BY name";
+
+        List<String> names = jdbc.query(sql)
+                .bindKeyTable("ids", Arrays.asList(1, 3))
+                .fetch(String.class);
+
+        Assert.assertThat(names, equalTo(Arrays.asList("joel:ids", "mkyong:ids")));
+    }
+
+    @Test
+    public void testEmptyKeysWithExplicitType() {
+        List<String> names = jdbc.query("SELECT name FROM users WHERE id NOT IN (SELECT key_value FROM :ids) ORDER BY name")
+                .bindKeyTable("ids", Collections.emptyList(), "INTEGER")
+                .fetch(String.class);
+
+        Assert.assertThat(names, equalTo(Arrays.asList("alex", "joel", "mkyong")));
+    }
+
+    @Test(expected = InvalidDataAccessApiUsageException.class)
+    public void testEmptyKeysWithoutTypeAreRejected() {
+        jdbc.query("SELECT name FROM users WHERE id IN (SELECT key_value FROM :ids)")
+                .bindKeyTable("ids", Collections.emptyList());
+    }
+}
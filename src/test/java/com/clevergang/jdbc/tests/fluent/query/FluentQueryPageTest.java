@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.tests.fluent.query;
+
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import com.clevergang.jdbc.fluent.FluentPage;
+import com.clevergang.jdbc.fluent.PageTotal;
+import com.clevergang.jdbc.fluent.SqlDialect;
+import com.clevergang.jdbc.tests.TestSpringContext;
+import com.clevergang.jdbc.tests.model.User;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+/**
+ * FluentQueryBuilder tests of the fetchPage terminals.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = {TestSpringContext.class})
+@Transactional
+@Rollback
+public class FluentQueryPageTest {
+
+    private static final String THOUSAND_ROWS = "SELECT n FROM UNNEST(SEQUENCE_ARRAY(1, 1000, 1)) AS t(n) WHERE n > :min ORDER BY n";
+
+    @Autowired
+    private FluentNamedParameterJdbcTemplate jdbc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    public void testDialectIsDetected() {
+        Assert.assertThat(jdbc.getDialect(), equalTo(SqlDialect.HSQLDB));
+    }
+
+    @Test
+    public void testExactTotal() {
+        FluentPage<Integer> page = jdbc.query(THOUSAND_ROWS)
+                .bind("min", 100)
+                .fetchPage(20, 10, Integer.class);
+
+        Assert.assertThat(page.getContent(), equalTo(Arrays.asList(121, 122, 123, 124, 125, 126, 127, 128, 129, 130)));
+        Assert.assertThat(page.getTotal(), equalTo(900L));
+        Assert.assertThat(page.isTotalExact(), equalTo(true));
+        Assert.assertThat(page.hasNext(), equalTo(true));
+    }
+
+    @Test
+    public void testLastAndEmptyPages() {
+        FluentPage<User> last = jdbc.query("SELECT * FROM users ORDER BY id").fetchPage(2, 10, User.class);
+        Assert.assertThat(last.getContent().stream().map(User::getName).collect(Collectors.toList()), equalTo(Arrays.asList("joel")));
+        Assert.assertThat(last.getTotal(), equalTo(3L));
+        Assert.assertThat(last.hasNext(), equalTo(false));
+
+        FluentPage<User> beyond = jdbc.query("SELECT * FROM users ORDER BY id").fetchPage(10, 10, User.class);
+        Assert.assertThat(beyond.getContent().size(), equalTo(0));
+        Assert.assertThat(beyond.getTotal(), equalTo(3L));
+    }
+
+    @Test
+    public void testWithoutTotal() {
+        FluentPage<Integer> page = jdbc.query(THOUSAND_ROWS)
+                .bind("min", 0)
+                .fetchPage(990, 10, (rs, rowNum) -> rs.getInt(1), PageTotal.NONE);
+
+        Assert.assertThat(page.getContent().size(), equalTo(10));
+        Assert.assertThat(page.getTotal(), equalTo(-1L));
+        Assert.assertThat(page.hasNext(), equalTo(false));
+    }
+
+    @Test
+    public void testEstimatedTotal() {
+        FluentPage<Integer> page = jdbc.query(THOUSAND_ROWS)
+                .bind("min", 0)
+                .fetchPage(0, 10, Integer.class, PageTotal.ESTIMATED);
+
+        // HSQLDB provides no estimates, the total is the lower bound known from the look-ahead row
+        Assert.assertThat(page.getTotal(), equalTo(11L));
+        Assert.assertThat(page.isTotalExact(), equalTo(false));
+        Assert.assertThat(page.hasNext(), equalTo(true));
+    }
+
+    @Test
+    public void testGenericDialectSkipsRowsOnClient() {
+        FluentNamedParameterJdbcTemplate genericJdbc = new FluentNamedParameterJdbcTemplate(dataSource);
+        genericJdbc.setDialect(SqlDialect.GENERIC);
+
+        FluentPage<Integer> page = genericJdbc.query(THOUSAND_ROWS)
+                .bind("min", 0)
+                .fetchPage(500, 3, Integer.class);
+
+        Assert.assertThat(page.getContent(), equalTo(Arrays.asList(501, 502, 503)));
+        Assert.assertThat(page.getTotal(), equalTo(1000L));
+    }
+
+}
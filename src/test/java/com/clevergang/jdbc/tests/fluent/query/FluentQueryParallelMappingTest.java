@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.tests.fluent.query;
+
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import com.clevergang.jdbc.tests.TestSpringContext;
+import com.clevergang.jdbc.tests.model.User;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.*;
+
+/**
+ * FluentQueryBuilder tests of the parallel row mapping (fetchParallel).
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = {TestSpringContext.class})
+@Transactional
+@Rollback
+public class FluentQueryParallelMappingTest {
+
+    private static final String THOUSAND_ROWS = "SELECT n, 'row ' || n AS label FROM UNNEST(SEQUENCE_ARRAY(1, 1000, 1)) AS t(n) ORDER BY n";
+
+    @Autowired
+    private FluentNamedParameterJdbcTemplate jdbc;
+
+    @Test
+    public void testOrderIsPreserved() {
+        List<String> labels = jdbc.query(THOUSAND_ROWS)
+                .fetchParallel((rs, rowNum) -> rowNum + ":" + rs.getInt("n") + ":" + rs.getString(2));
+
+        Assert.assertThat(labels.size(), equalTo(1000));
+        for (int i = 0; i < labels.size(); i++) {
+            Assert.assertThat(labels.get(i), equalTo(i + ":" + (i + 1) + ":row " + (i + 1)));
+        }
+    }
+
+    @Test
+    public void testUnorderedContainsAllRows() {
+        List<Integer> numbers = new ArrayList<>(jdbc.query(THOUSAND_ROWS)
+                .fetchParallel((rs, rowNum) -> rs.getInt(1), false));
+
+        Assert.assertThat(numbers.size(), equalTo(1000));
+        numbers.sort(Integer::compareTo);
+        Assert.assertThat(numbers.get(0), equalTo(1));
+        Assert.assertThat(numbers.get(999), equalTo(1000));
+    }
+
+    @Test
+    public void testBeanPropertyRowMapperOnBufferedRows() {
+        List<User> users = jdbc.query("SELECT * FROM users ORDER BY id")
+                .fetchParallel(BeanPropertyRowMapper.newInstance(User.class));
+
+        Assert.assertThat(users.size(), equalTo(3));
+        Assert.assertThat(users.get(0).getName(), equalTo("mkyong"));
+        Assert.assertThat(users.get(0).getBirthDate(), equalTo(LocalDate.of(1980, 5, 20)));
+        Assert.assertThat(users.get(2).getEmail(), equalTo("joel@gmail.com"));
+    }
+
+    @Test
+    public void testNullValues() {
+        List<Integer> values = jdbc.query("SELECT CAST(NULL AS INTEGER) FROM users")
+                .fetchParallel((rs, rowNum) -> {
+                    int value = rs.getInt(1);
+                    return rs.wasNull() ? null : value;
+                });
+
+        Assert.assertThat(values.size(), equalTo(3));
+        Assert.assertThat(values.get(0), is(nullValue()));
+    }
+
+    @Test(expected = UncategorizedSQLException.class)
+    public void testMapperExceptionIsTranslated() {
+        jdbc.query(THOUSAND_ROWS)
+                .fetchParallel((rs, rowNum) -> {
+                    if (rowNum == 500) {
+                        throw new SQLException("Mapping failed");
+                    }
+                    return rowNum;
+                });
+    }
+
+}
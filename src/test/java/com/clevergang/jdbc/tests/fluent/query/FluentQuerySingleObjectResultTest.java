@@ -36,6 +36,8 @@ import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Month;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.*;
 
@@ -197,5 +199,33 @@ public class FluentQuerySingleObjectResultTest {
         Assert.assertThat(userName2, equalTo("mkyong mkyong@gmail.com"));
     }
 
+    @Test
+    public void testFetchFirst() {
+        Optional<User> first = jdbc.query("SELECT * FROM users ORDER BY id DESC").fetchFirst(User.class);
+        Assert.assertThat(first.map(User::getName), equalTo(Optional.of("joel")));
+
+        Optional<String> none = jdbc.query("SELECT name FROM users WHERE id = :id").bind("id", 99).fetchFirst(String.class);
+        Assert.assertThat(none.isPresent(), equalTo(false));
+    }
+
+    @Test
+    public void testFetchFirstStopsAfterFirstRow() {
+        AtomicInteger mappedRows = new AtomicInteger();
+        Optional<Integer> first = jdbc.query("SELECT n FROM UNNEST(SEQUENCE_ARRAY(1, 1000, 1)) AS t(n) ORDER BY n")
+                .fetchFirst((rs, rowNum) -> {
+                    mappedRows.incrementAndGet();
+                    Assert.assertThat(rs.isLast(), equalTo(true));
+                    return rs.getInt(1);
+                });
+
+        Assert.assertThat(first, equalTo(Optional.of(1)));
+        Assert.assertThat(mappedRows.get(), equalTo(1));
+    }
+
+    @Test
+    public void testExists() {
+        Assert.assertThat(jdbc.query("SELECT * FROM users WHERE email LIKE :domain").bind("domain", "%gmail.com").exists(), equalTo(true));
+        Assert.assertThat(jdbc.query("SELECT * FROM users WHERE email LIKE :domain").bind("domain", "%hotmail.com").exists(), equalTo(false));
+    }
 
-}
\ No newline at end of file
+}
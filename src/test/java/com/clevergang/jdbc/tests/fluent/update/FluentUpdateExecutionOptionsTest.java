@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.tests.fluent.update;
+
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import com.clevergang.jdbc.fluent.ExecutionOptions;
+import com.clevergang.jdbc.tests.TestSpringContext;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+/**
+ * Tests of execution options and execution profiles used with FluentUpdateBuilder
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = {TestSpringContext.class})
+@Transactional
+@Rollback
+public class FluentUpdateExecutionOptionsTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    private FluentNamedParameterJdbcTemplate jdbc;
+
+    @Before
+    public void setUp() {
+        jdbc = new FluentNamedParameterJdbcTemplate(dataSource);
+        jdbc.registerExecutionProfile("batch", ExecutionOptions.create().withTimeout(5, TimeUnit.MINUTES));
+    }
+
+    @Test
+    public void testUpdateWithProfile() {
+        int updatedRows = jdbc.update("UPDATE users SET name = 'updated' WHERE id = :id")
+                .profile("batch")
+                .timeout(10, TimeUnit.SECONDS)
+                .bind("id", 1)
+                .execute();
+
+        Assert.assertThat(updatedRows, equalTo(1));
+        Assert.assertThat(jdbc.query("SELECT name FROM users WHERE id = 1").fetchOne(String.class), equalTo("updated"));
+    }
+
+    @Test(expected = InvalidDataAccessApiUsageException.class)
+    public void testUpdateWithUnknownProfile() {
+        jdbc.update("DELETE FROM users").profile("unknown");
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.tests.monitoring;
+
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import com.clevergang.jdbc.fluent.StatementExecution;
+import com.clevergang.jdbc.monitoring.JfrExecutionListener;
+import com.clevergang.jdbc.tests.TestSpringContext;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.startsWith;
+
+/**
+ * Tests of the Java Flight Recorder events emitted by JfrExecutionListener.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = {TestSpringContext.class})
+@Transactional
+@Rollback
+public class JfrExecutionListenerTest {
+
+    private static final String EVENT_NAME = "com.clevergang.jdbc.StatementExecution";
+    private static final String DETACHED_EVENT_NAME = "com.clevergang.jdbc.DetachedStatementExecution";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    public void testStatementsAreRecorded() throws IOException {
+        Assume.assumeTrue(JfrExecutionListener.isAvailable());
+        FluentNamedParameterJdbcTemplate jdbc = new FluentNamedParameterJdbcTemplate(dataSource);
+        jdbc.addExecutionListener(new JfrExecutionListener(20));
+
+        List<RecordedEvent> events = record(EVENT_NAME, () -> {
+            jdbc.query("SELECT name FROM users WHERE email LIKE :domain").bind("domain", "%gmail.com").fetch(String.class);
+            jdbc.update("UPDATE users SET name = :name WHERE id = :id").bind("name", "alexander").bind("id", 2).execute();
+        });
+
+        Assert.assertThat(events.size(), equalTo(2));
+        RecordedEvent query = events.get(0);
+        Assert.assertThat(query.getString("sql"), equalTo("SELECT name FROM use..."));
+        Assert.assertThat(query.getString("kind"), equalTo("QUERY"));
+        Assert.assertThat(query.getInt("rowCount"), equalTo(2));
+        Assert.assertTrue(query.getDuration("executionTime").toNanos() > 0);
+        Assert.assertTrue(query.getDuration().compareTo(query.getDuration("executionTime")) >= 0);
+        Assert.assertThat(query.getStackTrace().getFrames().get(0).getMethod().getType().getName(), startsWith("com.clevergang.jdbc"));
+        Assert.assertThat(events.get(1).getString("kind"), equalTo("UPDATE"));
+        Assert.assertThat(events.get(1).getInt("rowCount"), equalTo(1));
+    }
+
+    @Test
+    public void testStatementFinishedOnAnotherThreadIsRecorded() throws Exception {
+        Assume.assumeTrue(JfrExecutionListener.isAvailable());
+        JfrExecutionListener listener = new JfrExecutionListener();
+        FluentNamedParameterJdbcTemplate jdbc = new FluentNamedParameterJdbcTemplate(dataSource);
+        AtomicReference<StatementExecution> execution = new AtomicReference<>();
+        jdbc.addExecutionListener(execution::set);
+        jdbc.query("SELECT name FROM users").fetch(String.class);
+
+        // the listener did not see the start of the statement on the finishing thread
+        List<RecordedEvent> events = record(DETACHED_EVENT_NAME, () -> {
+            Thread thread = new Thread(() -> listener.afterExecution(execution.get()));
+            thread.start();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        Assert.assertThat(events.size(), equalTo(1));
+        Assert.assertThat(events.get(0).getString("sql"), equalTo("SELECT name FROM users"));
+        Assert.assertThat(events.get(0).getInt("rowCount"), equalTo(3));
+        Assert.assertThat(events.get(0).getDuration("totalTime").toNanos(), equalTo(execution.get().getTotalNanos()));
+    }
+
+    private static List<RecordedEvent> record(String eventName, Runnable statements) throws IOException {
+        Path file = Files.createTempFile("fluent-jdbc", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+            recording.start();
+            statements.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(eventName))
+                    .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                    .collect(Collectors.toList());
+        } finally {
+            new File(file.toString()).delete();
+        }
+    }
+}
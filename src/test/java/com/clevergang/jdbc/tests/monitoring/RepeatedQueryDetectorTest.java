@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.tests.monitoring;
+
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import com.clevergang.jdbc.fluent.FluentParallelQueries;
+import com.clevergang.jdbc.monitoring.RepeatedQueryDetector;
+import com.clevergang.jdbc.monitoring.RepeatedQueryException;
+import com.clevergang.jdbc.monitoring.RepeatedQueryScope;
+import com.clevergang.jdbc.tests.TestSpringContext;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+
+/**
+ * Tests of RepeatedQueryDetector - counting of SQL shapes in explicit and transaction scopes.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = {TestSpringContext.class})
+@Transactional
+@Rollback
+public class RepeatedQueryDetectorTest {
+
+    private static final String USER_BY_ID = "SELECT name FROM users WHERE id = :id";
+
+    @Autowired
+    private DataSource dataSource;
+
+    private FluentNamedParameterJdbcTemplate jdbc;
+    private RepeatedQueryDetector detector;
+
+    @Before
+    public void setUp() {
+        jdbc = new FluentNamedParameterJdbcTemplate(dataSource);
+        detector = new RepeatedQueryDetector(2);
+        detector.setTransactionScopes(false);
+        jdbc.addExecutionListener(detector);
+    }
+
+    @Test
+    public void testRepeatedQueryIsReportedWithCallSite() {
+        RepeatedQueryScope scope = detector.run(this::loadUsersOneByOne);
+
+        Assert.assertThat(scope.getExecutionCount(USER_BY_ID), equalTo(3));
+        Assert.assertThat(scope.getRepeatedShapes(), equalTo(Collections.singletonList(USER_BY_ID)));
+        Assert.assertThat(scope.getCallSites(USER_BY_ID).size(), equalTo(1));
+        Assert.assertThat(scope.getCallSites(USER_BY_ID).get(0).get(0).getMethodName(), equalTo("loadUsersOneByOne"));
+        try {
+            scope.assertNoRepeatedQueries();
+            Assert.fail("The assertion should fail");
+        } catch (AssertionError e) {
+            Assert.assertThat(e.getMessage(), containsString("3x " + USER_BY_ID));
+            Assert.assertThat(e.getMessage(), containsString("RepeatedQueryDetectorTest.loadUsersOneByOne"));
+        }
+    }
+
+    @Test
+    public void testLiteralsAreNotPartOfShape() {
+        RepeatedQueryScope scope = detector.run(() -> {
+            for (int id = 1; id <= 3; id++) {
+                jdbc.query("SELECT name FROM users\n  WHERE id = " + id + " AND name <> 'x" + id + "'").fetchOne(String.class);
+            }
+        });
+
+        Assert.assertThat(scope.getExecutionCounts(), equalTo(Collections.singletonMap("SELECT name FROM users WHERE id = ? AND name <> ?", 3)));
+        scope.assertMaxExecutions(3);
+    }
+
+    @Test
+    public void testFailModeThrowsOnExceedingStatement() {
+        detector.setMode(RepeatedQueryDetector.Mode.FAIL);
+        try (RepeatedQueryScope scope = detector.openScope("test")) {
+            loadUsersOneByOne();
+            Assert.fail("The third query should fail");
+        } catch (RepeatedQueryException e) {
+            Assert.assertThat(e.getMessage(), containsString("scope test"));
+        }
+        // the scope is closed, nothing is counted anymore
+        loadUsersOneByOne();
+    }
+
+    @Test
+    public void testNestedScopeCountsSeparately() {
+        try (RepeatedQueryScope outer = detector.openScope("outer")) {
+            jdbc.query(USER_BY_ID).bind("id", 1).fetchOne(String.class);
+            try (RepeatedQueryScope inner = detector.openScope("inner")) {
+                jdbc.query(USER_BY_ID).bind("id", 2).fetchOne(String.class);
+                Assert.assertThat(inner.getExecutionCount(USER_BY_ID), equalTo(1));
+            }
+            jdbc.query(USER_BY_ID).bind("id", 3).fetchOne(String.class);
+            Assert.assertThat(outer.getExecutionCount(USER_BY_ID), equalTo(2));
+        }
+    }
+
+    @Test(expected = RepeatedQueryException.class)
+    public void testTransactionIsScope() {
+        detector.setTransactionScopes(true);
+        detector.setMode(RepeatedQueryDetector.Mode.FAIL);
+
+        loadUsersOneByOne();
+    }
+
+    @Test
+    public void testStatementsOnExecutorThreadsAreCountedInSubmittingScope() {
+        RepeatedQueryScope scope = detector.run(() -> {
+            jdbc.query(USER_BY_ID).bind("id", 1).fetchOneAsync(String.class).join();
+            jdbc.update("UPDATE users SET name = name WHERE id = 1").executeAsync().join();
+
+            FluentParallelQueries parallel = jdbc.parallel();
+            parallel.fetchOne(jdbc.query(USER_BY_ID).bind("id", 2), String.class);
+            parallel.fetchOne(jdbc.query(USER_BY_ID).bind("id", 3), String.class);
+            parallel.execute();
+        });
+
+        Assert.assertThat(scope.getExecutionCount(USER_BY_ID), equalTo(3));
+        Assert.assertThat(scope.getTotalExecutionCount(), equalTo(4));
+        Assert.assertThat(scope.getRepeatedShapes(), equalTo(Collections.singletonList(USER_BY_ID)));
+    }
+
+    private void loadUsersOneByOne() {
+        for (int id = 1; id <= 3; id++) {
+            jdbc.query(USER_BY_ID).bind("id", id).fetchOne(String.class);
+        }
+    }
+}
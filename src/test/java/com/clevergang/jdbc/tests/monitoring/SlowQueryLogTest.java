@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.tests.monitoring;
+
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import com.clevergang.jdbc.fluent.SqlDialect;
+import com.clevergang.jdbc.monitoring.CapturedPlan;
+import com.clevergang.jdbc.monitoring.SlowQueryLog;
+import com.clevergang.jdbc.tests.TestSpringContext;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+
+/**
+ * Tests of SlowQueryLog - detection of slow statements, redaction of parameters and plan capture.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = {TestSpringContext.class})
+@Transactional
+@Rollback
+public class SlowQueryLogTest {
+
+    private static final String USER_BY_EMAIL = "SELECT name FROM users WHERE email = :email AND name <> :password";
+
+    @Autowired
+    private DataSource dataSource;
+
+    private FluentNamedParameterJdbcTemplate jdbc;
+
+    @Before
+    public void setUp() {
+        jdbc = new FluentNamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Test
+    public void testOnlySlowStatementsAreReported() {
+        SlowQueryLog slowQueryLog = new SlowQueryLog(1, TimeUnit.HOURS);
+        jdbc.addExecutionListener(slowQueryLog);
+
+        jdbc.query("SELECT name FROM users WHERE id = 1").fetchOne(String.class);
+
+        Assert.assertThat(slowQueryLog.getSlowStatementCount(), equalTo(0L));
+    }
+
+    @Test
+    public void testPlansAreCapturedWithRedactedParameters() {
+        SlowQueryLog slowQueryLog = new SlowQueryLog(0, TimeUnit.MILLISECONDS);
+        slowQueryLog.setRedactedParameters("PASSWORD");
+        slowQueryLog.setExplainExecutor(Runnable::run);
+        slowQueryLog.enablePlanCapture(dataSource, SqlDialect.HSQLDB, 1.0);
+        jdbc.addExecutionListener(slowQueryLog);
+
+        String name = jdbc.query(USER_BY_EMAIL)
+                .bind("email", "alex@yahoo.com")
+                .bind("password", "secret")
+                .fetchOne(String.class);
+
+        Assert.assertThat(name, equalTo("alex"));
+        Assert.assertThat(slowQueryLog.getSlowStatementCount(), equalTo(1L));
+        List<CapturedPlan> plans = slowQueryLog.getCapturedPlans(USER_BY_EMAIL);
+        Assert.assertThat(plans.size(), equalTo(1));
+        Assert.assertThat(plans.get(0).getParameters().get("email"), equalTo("alex@yahoo.com"));
+        Assert.assertThat(plans.get(0).getParameters().get("password"), equalTo(SlowQueryLog.REDACTED));
+        Assert.assertThat(plans.get(0).getPlan(), containsString("USERS"));
+    }
+
+    @Test
+    public void testCapturedPlansAreBounded() {
+        SlowQueryLog slowQueryLog = new SlowQueryLog(0, TimeUnit.MILLISECONDS);
+        slowQueryLog.setExplainExecutor(Runnable::run);
+        slowQueryLog.enablePlanCapture(dataSource, SqlDialect.HSQLDB, 1.0);
+        slowQueryLog.setPlanCapacity(2);
+        jdbc.addExecutionListener(slowQueryLog);
+
+        for (int id = 1; id <= 3; id++) {
+            jdbc.query("SELECT name FROM users WHERE id = " + id).fetchOne(String.class);
+        }
+        jdbc.update("UPDATE users SET name = name WHERE id = 1").execute();
+
+        List<CapturedPlan> plans = slowQueryLog.getCapturedPlans();
+        Assert.assertThat(slowQueryLog.getSlowStatementCount(), equalTo(4L));
+        Assert.assertThat(plans.size(), equalTo(2));
+        Assert.assertThat(plans.get(0).getSql(), equalTo("SELECT name FROM users WHERE id = 2"));
+        Assert.assertThat(plans.get(1).getSql(), equalTo("SELECT name FROM users WHERE id = 3"));
+    }
+
+    @Test
+    public void testPlanIsCapturedWithValuesReadAtExecution() {
+        List<Runnable> pendingCaptures = new ArrayList<>();
+        SlowQueryLog slowQueryLog = new SlowQueryLog(0, TimeUnit.MILLISECONDS);
+        slowQueryLog.setExplainExecutor(pendingCaptures::add);
+        slowQueryLog.enablePlanCapture(dataSource, SqlDialect.HSQLDB, 1.0);
+        jdbc.addExecutionListener(slowQueryLog);
+
+        List<Integer> ids = new ArrayList<>(Arrays.asList(1, 2));
+        List<String> names = jdbc.query("SELECT name FROM users WHERE id IN (:ids) ORDER BY id")
+                .bind("ids", ids)
+                .fetch(String.class);
+        // the caller reuses the collection before the plan is captured
+        ids.clear();
+        pendingCaptures.forEach(Runnable::run);
+
+        Assert.assertThat(names, equalTo(Arrays.asList("mkyong", "alex")));
+        List<CapturedPlan> plans = slowQueryLog.getCapturedPlans();
+        Assert.assertThat(plans.size(), equalTo(1));
+        Assert.assertThat(plans.get(0).getPlan(), containsString("USERS"));
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.tests.monitoring;
+
+import com.clevergang.jdbc.FluentNamedParameterJdbcTemplate;
+import com.clevergang.jdbc.fluent.ExecutionListener;
+import com.clevergang.jdbc.fluent.StatementExecution;
+import com.clevergang.jdbc.monitoring.LatencyHistogram;
+import com.clevergang.jdbc.monitoring.StatementMetrics;
+import com.clevergang.jdbc.monitoring.StatementStatistics;
+import com.clevergang.jdbc.tests.TestSpringContext;
+import org.hsqldb.jdbc.JDBCResultSet;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+/**
+ * Tests of execution listeners and of the StatementMetrics aggregator.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = {TestSpringContext.class})
+@Transactional
+@Rollback
+public class StatementMetricsTest {
+
+    private static final String THOUSAND_ROWS = "SELECT n FROM UNNEST(SEQUENCE_ARRAY(1, 1000, 1)) AS t(n) WHERE n > :min";
+
+    @Autowired
+    private DataSource dataSource;
+
+    private FluentNamedParameterJdbcTemplate jdbc;
+    private StatementMetrics metrics;
+    private List<StatementExecution> executions;
+
+    @Before
+    public void setUp() {
+        jdbc = new FluentNamedParameterJdbcTemplate(dataSource);
+        metrics = new StatementMetrics();
+        executions = new ArrayList<>();
+        jdbc.addExecutionListener(metrics);
+        jdbc.addExecutionListener(executions::add);
+    }
+
+    @Test
+    public void testQueryExecutionIsReported() {
+        List<Integer> numbers = jdbc.query(THOUSAND_ROWS).bind("min", 100).fetch(Integer.class);
+
+        Assert.assertThat(executions.size(), equalTo(1));
+        StatementExecution execution = executions.get(0);
+        Assert.assertThat(execution.getKind(), equalTo(StatementExecution.Kind.QUERY));
+        Assert.assertThat(execution.getSql(), equalTo(THOUSAND_ROWS));
+        Assert.assertThat(execution.getParameterCount(), equalTo(1));
+        Assert.assertThat(execution.getRowCount(), equalTo(numbers.size()));
+        Assert.assertFalse(execution.isFailed());
+        Assert.assertTrue(execution.getAcquisitionNanos() + execution.getExecutionNanos() + execution.getMappingNanos() <= execution.getTotalNanos());
+        Assert.assertTrue(execution.getExecutionNanos() > 0 && execution.getMappingNanos() > 0);
+    }
+
+    @Test
+    public void testMapperReadsDriverResultSet() {
+        // the ResultSet is not wrapped to count the rows, driver specific casts keep working
+        List<Boolean> driverResultSet = jdbc.query(THOUSAND_ROWS)
+                .bind("min", 998)
+                .fetch((rs, rowNum) -> rs instanceof JDBCResultSet);
+
+        Assert.assertThat(driverResultSet, equalTo(Arrays.asList(true, true)));
+        Assert.assertThat(executions.get(0).getRowCount(), equalTo(2));
+        Assert.assertThat(jdbc.query(THOUSAND_ROWS).bind("min", 0).exists(), equalTo(true));
+        Assert.assertThat(executions.get(1).getRowCount(), equalTo(-1));
+    }
+
+    @Test
+    public void testUpdateExecutionIsReported() {
+        jdbc.update("UPDATE users SET name = :name WHERE email LIKE :domain")
+                .bind("name", "gmail user")
+                .bind("domain", "%gmail.com")
+                .execute();
+        Integer id = jdbc.update("INSERT INTO users (name, email) VALUES (:name, :email)")
+                .bind("name", "jane")
+                .bind("email", "jane@example.com")
+                .executeAndReturnKey("ID");
+
+        Assert.assertThat(executions.size(), equalTo(2));
+        Assert.assertThat(executions.get(0).getKind(), equalTo(StatementExecution.Kind.UPDATE));
+        Assert.assertThat(executions.get(0).getRowCount(), equalTo(2));
+        Assert.assertThat(executions.get(0).getParameterCount(), equalTo(2));
+        Assert.assertThat(executions.get(1).getRowCount(), equalTo(1));
+        Assert.assertThat(jdbc.query("SELECT name FROM users WHERE id = :id").bind("id", id).fetchOne(String.class), equalTo("jane"));
+    }
+
+    @Test
+    public void testFailureIsReported() {
+        try {
+            jdbc.query("SELECT no_such_column FROM users").fetch(String.class);
+            Assert.fail("The query should fail");
+        } catch (DataAccessException e) {
+            Assert.assertThat(executions.get(0).getFailure(), equalTo(e));
+            Assert.assertThat(executions.get(0).getExecutionNanos(), equalTo(0L));
+        }
+        Assert.assertThat(metrics.getStatistics("SELECT no_such_column FROM users").getFailureCount(), equalTo(1L));
+    }
+
+    @Test
+    public void testListenerFailureIsPropagated() {
+        IllegalStateException listenerFailure = new IllegalStateException("listener failed");
+        ExecutionListener failingListener = execution -> {
+            throw listenerFailure;
+        };
+        jdbc.addExecutionListener(failingListener);
+        try {
+            jdbc.query("SELECT name FROM users WHERE id = 1").fetchOne(String.class);
+            Assert.fail("The listener failure should be propagated");
+        } catch (IllegalStateException e) {
+            Assert.assertThat(e, equalTo(listenerFailure));
+        }
+        // the other listeners were notified anyway
+        Assert.assertThat(executions.size(), equalTo(1));
+
+        jdbc.removeExecutionListener(failingListener);
+        Assert.assertThat(jdbc.query("SELECT name FROM users WHERE id = 1").fetchOne(String.class), equalTo("mkyong"));
+    }
+
+    @Test
+    public void testStatisticsAreAggregatedPerStatement() {
+        for (int i = 0; i < 10; i++) {
+            jdbc.query(THOUSAND_ROWS).bind("min", 0).fetch(Integer.class);
+        }
+        jdbc.query("SELECT name FROM users WHERE id = 1").fetchOne(String.class);
+
+        List<StatementStatistics> statistics = metrics.getStatistics();
+        Assert.assertThat(statistics.size(), equalTo(2));
+        StatementStatistics thousandRows = metrics.getStatistics(THOUSAND_ROWS);
+        Assert.assertThat(statistics.get(0), equalTo(thousandRows));
+        Assert.assertThat(thousandRows.getExecutionCount(), equalTo(10L));
+        Assert.assertThat(thousandRows.getRowCount(), equalTo(10000L));
+        Assert.assertTrue(thousandRows.getLatency().getPercentileMicros(50) <= thousandRows.getLatency().getMaxMicros());
+
+        metrics.reset();
+        Assert.assertTrue(metrics.getStatistics().isEmpty());
+    }
+
+    @Test
+    public void testStatementsOverLimitAreAggregatedTogether() {
+        StatementMetrics limited = new StatementMetrics(1);
+        jdbc.addExecutionListener(limited);
+
+        jdbc.query("SELECT name FROM users WHERE id = 1").fetchOne(String.class);
+        jdbc.query("SELECT name FROM users WHERE id = 2").fetchOne(String.class);
+        jdbc.query("SELECT name FROM users WHERE id = 3").fetchOne(String.class);
+
+        Assert.assertThat(limited.getStatistics().size(), equalTo(2));
+        Assert.assertThat(limited.getStatistics(StatementMetrics.OTHER_STATEMENTS), equalTo(null));
+        Assert.assertThat(limited.getStatistics().stream()
+                .filter(stats -> stats.getSql().equals(StatementMetrics.OTHER_STATEMENTS))
+                .findFirst().get().getExecutionCount(), equalTo(2L));
+    }
+
+    @Test
+    public void testHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10000; i++) {
+            histogram.recordNanos(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+
+        Assert.assertThat(histogram.getCount(), equalTo(10000L));
+        Assert.assertThat(histogram.getMaxMicros(), equalTo(10000L));
+        Assert.assertThat(histogram.getPercentileMicros(100), equalTo(10000L));
+        assertWithinRelativeError(histogram.getPercentileMicros(50), 5000);
+        assertWithinRelativeError(histogram.getPercentileMicros(99), 9900);
+        assertWithinRelativeError(histogram.getPercentileMicros(0.1), 10);
+        Assert.assertThat(histogram.getMeanMicros(), equalTo(5000L));
+    }
+
+    private static void assertWithinRelativeError(long actual, long expected) {
+        Assert.assertTrue("Expected about " + expected + " but was " + actual, Math.abs(actual - expected) <= expected * 0.032);
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.tests.routing;
+
+import com.clevergang.jdbc.RoutingFluentNamedParameterJdbcTemplate;
+import com.clevergang.jdbc.fluent.HedgePolicy;
+import com.clevergang.jdbc.routing.Replica;
+import com.clevergang.jdbc.routing.ReplicaSelectionPolicy;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType.HSQL;
+
+/**
+ * Tests of RoutingFluentNamedParameterJdbcTemplate. Each database (primary and two replicas) renames the first user
+ * to its own name, so it's possible to tell which database served the query.
+ */
+public class RoutingFluentNamedParameterJdbcTemplateTest {
+
+    private static final String WHO_AM_I = "SELECT name FROM users WHERE id = 1";
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica1;
+    private EmbeddedDatabase replica2;
+
+    @Before
+    public void setUp() {
+        primary = createDatabase("primary");
+        replica1 = createDatabase("replica1");
+        replica2 = createDatabase("replica2");
+    }
+
+    @After
+    public void tearDown() {
+        primary.shutdown();
+        replica1.shutdown();
+        replica2.shutdown();
+    }
+
+    @Test
+    public void testQueriesGoToReplicasRoundRobin() {
+        RoutingFluentNamedParameterJdbcTemplate jdbc = new RoutingFluentNamedParameterJdbcTemplate(primary, Arrays.asList(replica1, replica2));
+
+        Assert.assertThat(jdbc.query(WHO_AM_I).fetchOne(String.class), equalTo("replica1"));
+        Assert.assertThat(jdbc.query(WHO_AM_I).fetchOne(String.class), equalTo("replica2"));
+        Assert.assertThat(jdbc.query(WHO_AM_I).fetchOne(String.class), equalTo("replica1"));
+    }
+
+    @Test
+    public void testReplicasUseStatementSettingsOfPrimaryTemplate() {
+        RoutingFluentNamedParameterJdbcTemplate jdbc = new RoutingFluentNamedParameterJdbcTemplate(primary, Arrays.asList(replica1, replica2));
+        ((JdbcTemplate) jdbc.getJdbcOperations()).setMaxRows(2);
+
+        List<String> names = jdbc.query("SELECT name FROM users ORDER BY id").fetch(String.class);
+
+        Assert.assertThat(names.size(), equalTo(2));
+    }
+
+    @Test
+    public void testUpdatesAndClassicMethodsGoToPrimary() {
+        RoutingFluentNamedParameterJdbcTemplate jdbc = new RoutingFluentNamedParameterJdbcTemplate(primary, Arrays.asList(replica1, replica2));
+
+        int updated = jdbc.update("UPDATE users SET email = :email WHERE name = :name")
+                .bind("email", "primary@primary.com")
+                .bind("name", "primary")
+                .execute();
+
+        Assert.assertThat(updated, equalTo(1));
+        Assert.assertThat(jdbc.getJdbcOperations().queryForObject(WHO_AM_I, String.class), equalTo("primary"));
+    }
+
+    @Test
+    public void testReadWriteTransactionStaysOnPrimary() {
+        RoutingFluentNamedParameterJdbcTemplate jdbc = new RoutingFluentNamedParameterJdbcTemplate(primary, Arrays.asList(replica1, replica2));
+        TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(primary));
+
+        String name = tx.execute(status -> jdbc.query(WHO_AM_I).fetchOne(String.class));
+        Assert.assertThat(name, equalTo("primary"));
+
+        tx.setReadOnly(true);
+        String readOnlyName = tx.execute(status -> jdbc.query(WHO_AM_I).fetchOne(String.class));
+        Assert.assertThat(readOnlyName.startsWith("replica"), equalTo(true));
+    }
+
+    @Test
+    public void testLeastOutstandingRequests() throws Exception {
+        RoutingFluentNamedParameterJdbcTemplate jdbc = new RoutingFluentNamedParameterJdbcTemplate(primary, Arrays.asList(replica1, replica2),
+                ReplicaSelectionPolicy.leastOutstandingRequests());
+
+        // keep one connection checked out, the following queries have to avoid its replica
+        try (Connection ignored = jdbc.getReplicaDataSource().getConnection()) {
+            Set<String> names = new HashSet<>();
+            for (int i = 0; i < 4; i++) {
+                names.add(jdbc.query(WHO_AM_I).fetchOne(String.class));
+            }
+            Assert.assertThat(names.size(), equalTo(1));
+            Assert.assertThat(jdbc.getReplicaDataSource().getReplicas().stream()
+                    .mapToInt(Replica::getOutstandingRequests).sum(), equalTo(1));
+        }
+        Assert.assertThat(jdbc.getReplicaDataSource().getReplicas().stream()
+                .mapToInt(Replica::getOutstandingRequests).sum(), equalTo(0));
+    }
+
+    @Test
+    public void testLatencyWeighted() {
+        RoutingFluentNamedParameterJdbcTemplate jdbc = new RoutingFluentNamedParameterJdbcTemplate(primary, Arrays.asList(replica1, replica2),
+                ReplicaSelectionPolicy.latencyWeighted());
+
+        for (int i = 0; i < 20; i++) {
+            Assert.assertThat(jdbc.query(WHO_AM_I).fetchOne(String.class).startsWith("replica"), equalTo(true));
+        }
+        jdbc.getReplicaDataSource().getReplicas()
+                .forEach(replica -> Assert.assertThat(replica.getOutstandingRequests(), equalTo(0)));
+    }
+
+    @Test
+    public void testHedgeAvoidsReplicaOfOriginalAttempt() {
+        // the policy prefers the first replica, which is slow
+        RoutingFluentNamedParameterJdbcTemplate jdbc = new RoutingFluentNamedParameterJdbcTemplate(primary, Arrays.asList(replica1, replica2),
+                replicas -> replicas.get(0));
+        HedgePolicy policy = new HedgePolicy(0.95, 0.1);
+        policy.setDelayBounds(10, 50, TimeUnit.MILLISECONDS);
+
+        String name = jdbc.query(WHO_AM_I)
+                .hedge(policy)
+                .fetchOne((rs, rowNum) -> {
+                    if (rs.getString(1).equals("replica1")) {
+                        try {
+                            Thread.sleep(500);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    return rs.getString(1);
+                });
+
+        Assert.assertThat(name, equalTo("replica2"));
+        Assert.assertThat(policy.getHedgeWinCount(), equalTo(1L));
+    }
+
+    private static EmbeddedDatabase createDatabase(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(HSQL)
+                .setName(name)
+                .addScript("schema.sql")
+                .addScript("data.sql")
+                .build();
+        new JdbcTemplate(database).update("UPDATE users SET name = ? WHERE id = 1", name);
+        return database;
+    }
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.clevergang.jdbc.tests.sharding;
+
+import com.clevergang.jdbc.ShardedFluentJdbcTemplate;
+import com.clevergang.jdbc.fluent.ShardResult;
+import com.clevergang.jdbc.fluent.ShardedResult;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType.HSQL;
+
+/**
+ * Tests of ShardedFluentJdbcTemplate. Users are sharded by id: shard 0 holds the user with even id (alex), shard 1
+ * holds the users with odd ids (mkyong, joel).
+ */
+public class ShardedFluentJdbcTemplateTest {
+
+    private EmbeddedDatabase shard0;
+    private EmbeddedDatabase shard1;
+    private ShardedFluentJdbcTemplate sharded;
+
+    @Before
+    public void setUp() {
+        shard0 = createShard("shard0", 0);
+        shard1 = createShard("shard1", 1);
+        sharded = new ShardedFluentJdbcTemplate(Arrays.asList(shard0, shard1), "id",
+                (shardKey, shardCount) -> ((Number) shardKey).intValue() % shardCount);
+    }
+
+    @After
+    public void tearDown() {
+        shard0.shutdown();
+        shard1.shutdown();
+    }
+
+    @Test
+    public void testSingleShardQuery() {
+        String name = sharded.query("SELECT name FROM users WHERE id = :id")
+                .bind("id", 2)
+                .fetchOne(String.class);
+        Assert.assertThat(name, equalTo("alex"));
+
+        List<String> names = sharded.query("SELECT name FROM users WHERE id >= :id ORDER BY id")
+                .bind("id", 1)
+                .fetch(String.class);
+        Assert.assertThat(names, equalTo(Arrays.asList("mkyong", "joel")));
+    }
+
+    @Test(expected = InvalidDataAccessApiUsageException.class)
+    public void testSingleShardQueryRequiresShardKey() {
+        sharded.query("SELECT name FROM users").fetch(String.class);
+    }
+
+    @Test
+    public void testAllShardsWithOrderAndLimit() {
+        ShardedResult<List<String>> result = sharded.query("SELECT name FROM users ORDER BY name")
+                .onAllShards()
+                .fetch(String.class, Comparator.naturalOrder());
+        Assert.assertThat(result.getResult(), equalTo(Arrays.asList("alex", "joel", "mkyong")));
+        Assert.assertThat(result.getShardResults().get(0).getRowCount(), equalTo(1));
+        Assert.assertThat(result.getShardResults().get(1).getRowCount(), equalTo(2));
+        Assert.assertThat(result.hasFailures(), equalTo(false));
+
+        ShardedResult<List<String>> limited = sharded.query("SELECT name FROM users ORDER BY name")
+                .onAllShards()
+                .limit(2)
+                .fetch(String.class, Comparator.naturalOrder());
+        Assert.assertThat(limited.getResult(), equalTo(Arrays.asList("alex", "joel")));
+    }
+
+    @Test
+    public void testAllShardsWithCollector() {
+        ShardedResult<String> result = sharded.query("SELECT name FROM users WHERE email LIKE :domain")
+                .bind("domain", "%gmail.com")
+                .onAllShards()
+                .collect((rs, rowNum) -> rs.getString("name"), Collectors.collectingAndThen(Collectors.toList(),
+                        names -> names.stream().sorted().collect(Collectors.joining(","))));
+        Assert.assertThat(result.getResult(), equalTo("joel,mkyong"));
+    }
+
+    @Test
+    public void testPartialResults() {
+        new JdbcTemplate(shard1).execute("DROP TABLE users");
+
+        ShardedResult<List<String>> result = sharded.query("SELECT name FROM users")
+                .onAllShards()
+                .allowPartialResults()
+                .fetch(String.class);
+
+        Assert.assertThat(result.getResult(), equalTo(Arrays.asList("alex")));
+        Assert.assertThat(result.hasFailures(), equalTo(true));
+        ShardResult failed = result.getShardResults().get(1);
+        Assert.assertThat(failed.getFailure(), instanceOf(DataAccessException.class));
+        Assert.assertThat(result.getShardResults().get(0).getFailure(), nullValue());
+    }
+
+    @Test
+    public void testPartialResultsOnTimeout() {
+        ShardedResult<List<String>> result = sharded.query("SELECT name FROM users")
+                .onAllShards()
+                .allowPartialResults()
+                .timeout(200, TimeUnit.MILLISECONDS)
+                .fetch((rs, rowNum) -> {
+                    String name = rs.getString("name");
+                    if (!"alex".equals(name)) {
+                        // rows of shard 1 are slow
+                        sleep(1000);
+                    }
+                    return name;
+                });
+
+        Assert.assertThat(result.getResult(), equalTo(Arrays.asList("alex")));
+        Assert.assertThat(result.getShardResults().get(0).isFailed(), equalTo(false));
+        Assert.assertThat(result.getShardResults().get(1).getFailure(), instanceOf(QueryTimeoutException.class));
+    }
+
+    @Test
+    public void testFailFastByDefault() {
+        new JdbcTemplate(shard1).execute("DROP TABLE users");
+
+        DataAccessException failure = null;
+        try {
+            sharded.query("SELECT name FROM users").onAllShards().fetch(String.class);
+        } catch (DataAccessException e) {
+            failure = e;
+        }
+        Assert.assertThat(failure, notNullValue());
+    }
+
+    @Test
+    public void testShardForUpdates() {
+        sharded.getShardFor(3).update("UPDATE users SET name = :name WHERE id = :id")
+                .bind("name", "joe")
+                .bind("id", 3)
+                .execute();
+
+        Assert.assertThat(sharded.query("SELECT name FROM users WHERE id = :id").bind("id", 3).fetchOne(String.class), equalTo("joe"));
+    }
+
+    private static EmbeddedDatabase createShard(String name, int remainder) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(HSQL)
+                .setName(name)
+                .addScript("schema.sql")
+                .addScript("data.sql")
+                .build();
+        new JdbcTemplate(database).update("DELETE FROM users WHERE MOD(id, 2) <> ?", remainder);
+        return database;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}